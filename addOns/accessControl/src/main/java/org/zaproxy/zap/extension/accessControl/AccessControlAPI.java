@@ -59,6 +59,7 @@ public class AccessControlAPI extends ApiImplementor {
     private static final String PARAM_RAISE_ALERT = "raiseAlert";
     private static final String PARAM_ALERT_RISK_LEVEL = "alertRiskLevel";
     private static final String PARAM_UNAUTH_USER = "scanAsUnAuthUser";
+    private static final String PARAM_THREAD_COUNT = "threadCount";
     private static final String PARAM_FILENAME = "fileName";
 
     private static final Logger LOGGER = LogManager.getLogger(AccessControlAPI.class);
@@ -75,7 +76,10 @@ public class AccessControlAPI extends ApiImplementor {
                         ACTION_SCAN,
                         new String[] {PARAM_CONTEXT_ID, PARAM_USER_ID},
                         new String[] {
-                            PARAM_UNAUTH_USER, PARAM_RAISE_ALERT, PARAM_ALERT_RISK_LEVEL
+                            PARAM_UNAUTH_USER,
+                            PARAM_RAISE_ALERT,
+                            PARAM_ALERT_RISK_LEVEL,
+                            PARAM_THREAD_COUNT
                         }));
 
         this.addApiAction(
@@ -166,6 +170,10 @@ public class AccessControlAPI extends ApiImplementor {
 
                 startOptions.setAlertRiskLevel(
                         params.optInt(PARAM_ALERT_RISK_LEVEL, Alert.RISK_HIGH));
+                startOptions.setThreadCount(
+                        params.optInt(
+                                PARAM_THREAD_COUNT,
+                                AccessControlScannerThread.DEFAULT_THREAD_COUNT));
                 if (!(startOptions.getAlertRiskLevel() >= Alert.RISK_INFO
                         && startOptions.getAlertRiskLevel() <= Alert.RISK_HIGH)) {
                     throw new ApiException(
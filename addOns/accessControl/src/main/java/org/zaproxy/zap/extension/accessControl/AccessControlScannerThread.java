@@ -20,9 +20,21 @@
 package org.zaproxy.zap.extension.accessControl;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
@@ -94,6 +106,12 @@ public class AccessControlScannerThread
 
     private static final Logger LOGGER = LogManager.getLogger(AccessControlScannerThread.class);
 
+    /** The default number of threads used to attack the nodes. */
+    public static final int DEFAULT_THREAD_COUNT = 4;
+
+    /** The number of nodes whose messages are read from the database at once. */
+    private static final int PREFETCH_BATCH_SIZE = 50;
+
     /** The HTTP sender used to effectively send the data. */
     private HttpSender httpSender;
 
@@ -106,6 +124,9 @@ public class AccessControlScannerThread
 
     private AccessControlAlertsProcessor alertsProcessor;
 
+    private final Object resultsLock = new Object();
+    private int progress;
+
     public AccessControlScannerThread(int contextId, ExtensionAccessControl extension) {
         super(contextId);
         this.extension = extension;
@@ -115,7 +136,6 @@ public class AccessControlScannerThread
     public void startScan() {
         this.scanResults = new LinkedList<>();
         this.alertsProcessor = new AccessControlAlertsProcessor(getStartOptions());
-        this.targetUsers = getStartOptions().targetUsers;
         this.accessRulesManager =
                 extension.getContextAccessRulesManager(getStartOptions().targetContext.getId());
         this.authorizationDetection =
@@ -143,33 +163,63 @@ public class AccessControlScannerThread
         }
     }
 
-    private void scanImpl() {
+    void scanImpl() {
 
         // Build the list of urls' which will be attacked
         List<SiteNode> targetNodes = getTargetUrlsList();
+        this.targetUsers = getStartOptions().targetUsers;
 
-        // And set up the state accordingly
-        this.setScanMaximumProgress(targetNodes.size() + 1);
+        // And set up the state accordingly, the progress is in node x user units
+        this.setScanMaximumProgress(targetNodes.size() * targetUsers.size() + 1);
+        this.progress = 0;
         LOGGER.debug(
                 "Starting Access Control scan for {} URLs and {} users",
                 targetNodes.size(),
                 targetUsers.size());
 
-        int progress = 0;
-
-        // For each of the users, attack each of the nodes in the context
-        // NOTE: In order to minimize the number of database reads for the 'original' message, cycle
-        // through the messages first and then through the users
-        for (SiteNode sn : targetNodes) {
-            // Check if it's paused
-            checkPausedAndWait();
+        // The requests of a user are sent one at a time, more threads than users would be idle.
+        int threadCount =
+                Math.max(1, Math.min(getStartOptions().getThreadCount(), targetUsers.size()));
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        threadCount, new ScannerThreadFactory("ZAP-AccessControl-" + contextId));
+        try {
+            // Each user is attacked by one thread at a time, to not interfere with the
+            // authentication state of the user.
+            List<Executor> userLanes = new ArrayList<>(targetUsers.size());
+            for (int i = 0; i < targetUsers.size(); i++) {
+                userLanes.add(new SerialExecutor(executor));
+            }
 
-            // Check if it's stopped
-            if (!isRunning()) {
-                break;
+            // The messages of the next batch of nodes are read from the database while the
+            // previous batch is being attacked.
+            List<CompletableFuture<Void>> previousBatch = List.of();
+            for (int i = 0; i < targetNodes.size(); i += PREFETCH_BATCH_SIZE) {
+                // Check if it's paused
+                checkPausedAndWait();
+
+                // Check if it's stopped
+                if (!isRunning()) {
+                    break;
+                }
+
+                List<SiteNode> batchNodes =
+                        targetNodes.subList(
+                                i, Math.min(targetNodes.size(), i + PREFETCH_BATCH_SIZE));
+                List<AttackTarget> batch = readMessages(batchNodes);
+
+                waitForCompletion(previousBatch);
+                previousBatch = attackNodes(batch, userLanes);
             }
+            waitForCompletion(previousBatch);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            // Actually do the attack
+    private List<AttackTarget> readMessages(List<SiteNode> nodes) {
+        List<AttackTarget> targets = new ArrayList<>(nodes.size());
+        for (SiteNode sn : nodes) {
             HttpMessage originalMessage = null;
             try {
                 originalMessage = sn.getHistoryReference().getHttpMessage();
@@ -182,20 +232,52 @@ public class AccessControlScannerThread
 
             // Check whether we should attack the node
             if (!shouldAttackNode(originalMessage)) {
+                increaseProgress(targetUsers.size());
                 continue;
             }
 
             // Convert the SiteNode to a SiteTreNode (for now, before we merge things)
             SiteTreeNode stn =
                     new SiteTreeNode(sn.getNodeName(), originalMessage.getRequestHeader().getURI());
+            targets.add(new AttackTarget(stn, originalMessage));
+        }
+        return targets;
+    }
 
+    private List<CompletableFuture<Void>> attackNodes(
+            List<AttackTarget> targets, List<Executor> userLanes) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (AttackTarget target : targets) {
             // For each of the users, attack the node
-            for (User user : targetUsers) {
-                attackNode(stn, originalMessage, user);
+            for (int i = 0; i < targetUsers.size(); i++) {
+                User user = targetUsers.get(i);
+                futures.add(
+                        CompletableFuture.runAsync(
+                                () -> {
+                                    checkPausedAndWait();
+                                    if (isRunning()) {
+                                        attackNode(target.node(), target.message(), user);
+                                    }
+                                    increaseProgress(1);
+                                },
+                                userLanes.get(i)));
             }
+        }
+        return futures;
+    }
 
-            // Make sure we update the progress
-            setScanProgress(++progress);
+    private static void waitForCompletion(List<CompletableFuture<Void>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException | CancellationException e) {
+            LOGGER.error("An error occurred while attacking the nodes:", e);
+        }
+    }
+
+    private void increaseProgress(int amount) {
+        synchronized (resultsLock) {
+            progress += amount;
+            setScanProgress(progress);
         }
     }
 
@@ -206,7 +288,7 @@ public class AccessControlScannerThread
         return originalMessage != null && !originalMessage.getResponseHeader().isEmpty();
     }
 
-    private void attackNode(SiteTreeNode stn, HttpMessage originalMessage, User user) {
+    void attackNode(SiteTreeNode stn, HttpMessage originalMessage, User user) {
         LOGGER.debug(
                 "Attacking node: '{}' as user: {}",
                 originalMessage.getRequestHeader().getURI(),
@@ -276,13 +358,15 @@ public class AccessControlScannerThread
         // And process the obtained result and notify any listeners
         AccessControlResultEntry resultEntry =
                 new AccessControlResultEntry(hRef, user, authorized, result, rule);
-        this.scanResults.add(resultEntry);
-        this.alertsProcessor.processScanResult(resultEntry);
+        synchronized (resultsLock) {
+            this.scanResults.add(resultEntry);
+            this.alertsProcessor.processScanResult(resultEntry);
 
-        notifyScanResultObtained(resultEntry);
+            notifyScanResultObtained(resultEntry);
+        }
     }
 
-    private List<SiteNode> getTargetUrlsList() {
+    List<SiteNode> getTargetUrlsList() {
         return Model.getSingleton()
                 .getSession()
                 .getNodesInContextFromSiteTree(getStartOptions().targetContext);
@@ -298,7 +382,74 @@ public class AccessControlScannerThread
         if (scanResults == null) {
             return null;
         }
-        return Collections.unmodifiableList(scanResults);
+        synchronized (resultsLock) {
+            return Collections.unmodifiableList(new ArrayList<>(scanResults));
+        }
+    }
+
+    /** A node to attack, with its original message. */
+    private record AttackTarget(SiteTreeNode node, HttpMessage message) {}
+
+    /** An executor that runs the tasks one at a time, in order, using another executor. */
+    static class SerialExecutor implements Executor {
+
+        private final Executor executor;
+        private final Deque<Runnable> tasks;
+        private boolean running;
+
+        SerialExecutor(Executor executor) {
+            this.executor = executor;
+            this.tasks = new ArrayDeque<>();
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            tasks.add(task);
+            if (!running) {
+                running = true;
+                executeNext();
+            }
+        }
+
+        private synchronized void executeNext() {
+            Runnable task = tasks.poll();
+            if (task == null) {
+                running = false;
+                return;
+            }
+            try {
+                executor.execute(
+                        () -> {
+                            try {
+                                task.run();
+                            } finally {
+                                executeNext();
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                // Scan stopped, the remaining tasks are discarded.
+                tasks.clear();
+                running = false;
+            }
+        }
+    }
+
+    private static class ScannerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber;
+        private final String namePrefix;
+
+        ScannerThreadFactory(String namePrefix) {
+            this.threadNumber = new AtomicInteger(1);
+            this.namePrefix = namePrefix + "-thread-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
     }
 
     /**
@@ -309,6 +460,7 @@ public class AccessControlScannerThread
         private Context targetContext;
         private List<User> targetUsers;
         private boolean raiseAlerts;
+        private int threadCount;
 
         /**
          * Defines the risk level with which alerts should be raised and corresponds to the alert
@@ -319,6 +471,7 @@ public class AccessControlScannerThread
         public AccessControlScanStartOptions() {
             super();
             this.targetUsers = new LinkedList<>();
+            this.threadCount = DEFAULT_THREAD_COUNT;
         }
 
         public Context getTargetContext() {
@@ -352,6 +505,26 @@ public class AccessControlScannerThread
         public void setAlertRiskLevel(int alertRiskLevel) {
             this.alertRiskLevel = alertRiskLevel;
         }
+
+        /**
+         * Gets the number of threads used to attack the nodes. The requests of a user are sent by
+         * one thread at a time, so no more threads than users are used, and a scan with a single
+         * user is not faster with more threads.
+         *
+         * @return the number of threads.
+         */
+        public int getThreadCount() {
+            return threadCount;
+        }
+
+        /**
+         * Sets the number of threads used to attack the nodes.
+         *
+         * @param threadCount the number of threads, values lower than 1 are converted to 1.
+         */
+        public void setThreadCount(int threadCount) {
+            this.threadCount = Math.max(1, threadCount);
+        }
     }
 
     /**
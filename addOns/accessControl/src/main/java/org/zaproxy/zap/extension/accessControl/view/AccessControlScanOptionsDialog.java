@@ -28,6 +28,7 @@ import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control;
 import org.parosproxy.paros.control.Control.Mode;
 import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.extension.accessControl.AccessControlScannerThread;
 import org.zaproxy.zap.extension.accessControl.AccessControlScannerThread.AccessControlScanStartOptions;
 import org.zaproxy.zap.extension.accessControl.ExtensionAccessControl;
 import org.zaproxy.zap.model.Context;
@@ -53,6 +54,7 @@ public class AccessControlScanOptionsDialog extends StandardFieldsDialog {
     private static final String FIELD_USERS = "accessControl.scanOptions.label.users";
     private static final String FIELD_RAISE_ALERTS = "accessControl.scanOptions.label.raiseAlerts";
     private static final String FIELD_ALERTS_RISK = "accessControl.scanOptions.label.alertsRisk";
+    private static final String FIELD_THREADS = "accessControl.scanOptions.label.threads";
     private static final String UNAUTHENTICATED_USER_NAME =
             Constant.messages.getString("accessControl.scanOptions.unauthenticatedUser");
 
@@ -79,6 +81,7 @@ public class AccessControlScanOptionsDialog extends StandardFieldsDialog {
         this.addTableField(FIELD_USERS, usersSelectTable);
         this.addCheckBoxField(FIELD_RAISE_ALERTS, true);
         this.addComboField(FIELD_ALERTS_RISK, Alert.MSG_RISK, Alert.MSG_RISK[Alert.RISK_HIGH]);
+        this.addNumberField(FIELD_THREADS, 1, 50, AccessControlScannerThread.DEFAULT_THREAD_COUNT);
     }
 
     @Override
@@ -105,6 +108,7 @@ public class AccessControlScanOptionsDialog extends StandardFieldsDialog {
         String selectedAlertRisk =
                 (String) ((JComboBox<String>) getField(FIELD_ALERTS_RISK)).getSelectedItem();
         startOptions.setAlertRiskLevel(ArrayUtils.indexOf(Alert.MSG_RISK, selectedAlertRisk));
+        startOptions.setThreadCount(getIntValue(FIELD_THREADS));
         extension.startScan(startOptions);
     }
 
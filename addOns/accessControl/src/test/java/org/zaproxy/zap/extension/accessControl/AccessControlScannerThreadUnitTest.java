@@ -0,0 +1,265 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.accessControl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.model.SiteNode;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.parosproxy.paros.network.HttpResponseHeader;
+import org.zaproxy.zap.extension.accessControl.AccessControlScannerThread.AccessControlScanStartOptions;
+import org.zaproxy.zap.extension.accessControl.AccessControlScannerThread.SerialExecutor;
+import org.zaproxy.zap.extension.accessControl.widgets.SiteTreeNode;
+import org.zaproxy.zap.users.User;
+
+/** Unit test for {@link AccessControlScannerThread}. */
+class AccessControlScannerThreadUnitTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldRunTasksOfSerialExecutorInOrderOneAtATime() throws Exception {
+        // Given
+        SerialExecutor serialExecutor = new SerialExecutor(executor);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int taskCount = 200;
+        CountDownLatch done = new CountDownLatch(taskCount);
+        // When
+        for (int i = 0; i < taskCount; i++) {
+            int task = i;
+            serialExecutor.execute(
+                    () -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        order.add(task);
+                        running.decrementAndGet();
+                        done.countDown();
+                    });
+        }
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(maxRunning.get(), is(equalTo(1)));
+        assertThat(order, is(equalTo(range(taskCount))));
+    }
+
+    @Test
+    void shouldAttackNodesInOrderForEachUser() {
+        // Given
+        List<User> users = List.of(mock(User.class), mock(User.class), mock(User.class));
+        List<SiteNode> nodes = createNodes(120, node -> true);
+        Map<User, List<String>> attacks = new HashMap<>();
+        TestScannerThread scannerThread =
+                new TestScannerThread(
+                        users,
+                        8,
+                        nodes,
+                        (node, user) -> {
+                            synchronized (attacks) {
+                                attacks.computeIfAbsent(user, k -> new ArrayList<>()).add(node);
+                            }
+                        });
+        // When
+        scannerThread.runScan();
+        // Then
+        List<String> names = nodes.stream().map(SiteNode::getNodeName).collect(Collectors.toList());
+        for (User user : users) {
+            assertThat(attacks.get(user), is(equalTo(names)));
+        }
+    }
+
+    @Test
+    void shouldIncreaseProgressForAttackedAndSkippedNodes() {
+        // Given
+        List<User> users = List.of(mock(User.class), mock(User.class));
+        List<SiteNode> nodes = createNodes(75, node -> node % 3 != 0);
+        AtomicInteger attackCount = new AtomicInteger();
+        TestScannerThread scannerThread =
+                new TestScannerThread(
+                        users, 4, nodes, (node, user) -> attackCount.incrementAndGet());
+        // When
+        scannerThread.runScan();
+        // Then
+        assertThat(attackCount.get(), is(equalTo(50 * 2)));
+        assertThat(scannerThread.getScanProgress(), is(equalTo(75 * 2)));
+        assertThat(scannerThread.getScanMaximumProgress(), is(equalTo(75 * 2 + 1)));
+    }
+
+    @Test
+    void shouldNotAttackMoreNodesWhenStoppedMidBatch() {
+        // Given
+        List<User> users = List.of(mock(User.class));
+        List<SiteNode> nodes = createNodes(120, node -> true);
+        AtomicInteger attackCount = new AtomicInteger();
+        TestScannerThread scannerThread = new TestScannerThread(users, 4, nodes);
+        scannerThread.setAttack(
+                (node, user) -> {
+                    if (attackCount.incrementAndGet() == 10) {
+                        scannerThread.stopScan();
+                    }
+                });
+        // When
+        scannerThread.runScan();
+        // Then
+        assertThat(attackCount.get(), is(equalTo(10)));
+        assertThat(scannerThread.getScanProgress(), is(greaterThanOrEqualTo(50)));
+        assertThat(scannerThread.getScanProgress(), is(lessThan(120)));
+    }
+
+    @Test
+    void shouldNotAttackMoreNodesWhilePausedMidBatch() throws Exception {
+        // Given
+        List<User> users = List.of(mock(User.class));
+        List<SiteNode> nodes = createNodes(20, node -> true);
+        AtomicInteger attackCount = new AtomicInteger();
+        CountDownLatch paused = new CountDownLatch(1);
+        TestScannerThread scannerThread = new TestScannerThread(users, 4, nodes);
+        scannerThread.setAttack(
+                (node, user) -> {
+                    if (attackCount.incrementAndGet() == 5) {
+                        scannerThread.pauseScan();
+                        paused.countDown();
+                    }
+                });
+        // When
+        CompletableFuture<Void> scan = CompletableFuture.runAsync(scannerThread::runScan);
+        assertThat(paused.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        Thread.sleep(250);
+        int attacksWhilePaused = attackCount.get();
+        scannerThread.resumeScan();
+        scan.get(5, TimeUnit.SECONDS);
+        // Then
+        assertThat(attacksWhilePaused, is(equalTo(5)));
+        assertThat(attackCount.get(), is(equalTo(20)));
+        assertThat(scannerThread.getScanProgress(), is(equalTo(20)));
+    }
+
+    private static List<Integer> range(int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+
+    private static List<SiteNode> createNodes(int count, IntPredicate response) {
+        List<SiteNode> nodes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            nodes.add(createNode(i, response.test(i)));
+        }
+        return nodes;
+    }
+
+    private static SiteNode createNode(int index, boolean withResponse) {
+        try {
+            HttpMessage message =
+                    new HttpMessage(
+                            new HttpRequestHeader(
+                                    "GET http://example.com/" + index + " HTTP/1.1\r\n\r\n"));
+            if (withResponse) {
+                message.setResponseHeader(new HttpResponseHeader("HTTP/1.1 200 OK\r\n\r\n"));
+            }
+            HistoryReference href = mock(HistoryReference.class);
+            given(href.getHttpMessage()).willReturn(message);
+            SiteNode node = mock(SiteNode.class);
+            given(node.getNodeName()).willReturn("node" + index);
+            given(node.getHistoryReference()).willReturn(href);
+            return node;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface Attack {
+
+        void attack(String node, User user);
+    }
+
+    private static class TestScannerThread extends AccessControlScannerThread {
+
+        private final List<SiteNode> nodes;
+        private Attack attack;
+
+        TestScannerThread(List<User> users, int threadCount, List<SiteNode> nodes) {
+            this(users, threadCount, nodes, null);
+        }
+
+        TestScannerThread(List<User> users, int threadCount, List<SiteNode> nodes, Attack attack) {
+            super(1, null);
+            this.nodes = nodes;
+            this.attack = attack;
+
+            AccessControlScanStartOptions startOptions = new AccessControlScanStartOptions();
+            startOptions.setTargetUsers(users);
+            startOptions.setThreadCount(threadCount);
+            setStartOptions(startOptions);
+        }
+
+        void setAttack(Attack attack) {
+            this.attack = attack;
+        }
+
+        void runScan() {
+            setRunningState(true);
+            scanImpl();
+        }
+
+        @Override
+        List<SiteNode> getTargetUrlsList() {
+            return nodes;
+        }
+
+        @Override
+        void attackNode(SiteTreeNode stn, HttpMessage originalMessage, User user) {
+            attack.attack(stn.getNodeName(), user);
+        }
+    }
+}
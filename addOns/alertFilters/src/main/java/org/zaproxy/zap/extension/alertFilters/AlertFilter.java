@@ -22,8 +22,11 @@ package org.zaproxy.zap.extension.alertFilters;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -55,6 +58,9 @@ public class AlertFilter extends Enableable {
     private boolean isEvidenceRegex;
     private Set<String> methods;
 
+    /** The compiled regular expressions, to not compile them for each alert. */
+    private final Map<String, Pattern> patterns = new ConcurrentHashMap<>(4);
+
     private static final Logger LOGGER = LogManager.getLogger(AlertFilter.class);
 
     public AlertFilter() {
@@ -424,11 +430,11 @@ public class AlertFilter extends Enableable {
         return true;
     }
 
-    private static boolean matchesStringOrRegex(
+    private boolean matchesStringOrRegex(
             String paramName, String paramValue, boolean isRegex, String targetValue) {
         if (paramValue != null && paramValue.length() > 0) {
             if (isRegex) {
-                if (!targetValue.matches(paramValue)) {
+                if (!matchesRegex(paramValue, targetValue)) {
                     LOGGER.debug(
                             "Filter didn't match {} regex: {} : {}",
                             paramName,
@@ -445,6 +451,22 @@ public class AlertFilter extends Enableable {
         return true;
     }
 
+    private boolean matchesRegex(String regex, String targetValue) {
+        if (isLiteral(regex)) {
+            return regex.equals(targetValue);
+        }
+        return patterns.computeIfAbsent(regex, Pattern::compile).matcher(targetValue).matches();
+    }
+
+    private static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if ("\\^$.|?*+()[]{}".indexOf(regex.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
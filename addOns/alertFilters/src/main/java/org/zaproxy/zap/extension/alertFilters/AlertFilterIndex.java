@@ -0,0 +1,134 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.alertFilters;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.parosproxy.paros.core.scanner.Alert;
+
+/**
+ * An index of alert filters by rule ID, to check only the filters that might apply to an alert.
+ *
+ * <p>The index is immutable, it is a snapshot of the filters, a new index should be created when
+ * the filters change (see {@link #isIndexOf(Collection)}).
+ */
+public final class AlertFilterIndex {
+
+    private static final int[] NO_FILTERS = {};
+
+    private final AlertFilter[] filters;
+    private final String[] ruleIds;
+    private final Map<String, int[]> filtersByRuleId;
+
+    private AlertFilterIndex(Collection<AlertFilter> filters) {
+        this.filters = filters.toArray(new AlertFilter[0]);
+        this.ruleIds = new String[this.filters.length];
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < this.filters.length; i++) {
+            ruleIds[i] = this.filters[i].getRuleId();
+            positions.computeIfAbsent(ruleIds[i], k -> new ArrayList<>()).add(i);
+        }
+
+        filtersByRuleId = new HashMap<>();
+        positions.forEach(
+                (k, v) -> filtersByRuleId.put(k, v.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    /**
+     * Creates an index of the given filters.
+     *
+     * @param filters the filters, in the order they should be checked.
+     * @return the index.
+     */
+    public static AlertFilterIndex of(Collection<AlertFilter> filters) {
+        return new AlertFilterIndex(filters);
+    }
+
+    /**
+     * Tells whether or not this index has the given filters, in the same order and with the same
+     * rule IDs.
+     *
+     * @param filters the filters.
+     * @return {@code true} if the index has the given filters, {@code false} otherwise.
+     */
+    public boolean isIndexOf(Collection<AlertFilter> filters) {
+        if (filters.size() != this.filters.length) {
+            return false;
+        }
+        Iterator<AlertFilter> it = filters.iterator();
+        for (int i = 0; i < this.filters.length; i++) {
+            AlertFilter filter = it.next();
+            if (filter != this.filters[i] || !Objects.equals(ruleIds[i], filter.getRuleId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the first filter that applies to the given alert, in the order of the filters.
+     *
+     * <p>Only the filters with the ID of the scan rule or the alert reference of the alert are
+     * checked.
+     *
+     * @param alert the alert.
+     * @param ignoreContext {@code true} if the context of the filters should be ignored, {@code
+     *     false} otherwise.
+     * @return the filter, or {@code null} if none applies.
+     * @see AlertFilter#appliesToAlert(Alert, boolean)
+     */
+    public AlertFilter getFirstApplicable(Alert alert, boolean ignoreContext) {
+        int[] byPluginId =
+                filtersByRuleId.getOrDefault(String.valueOf(alert.getPluginId()), NO_FILTERS);
+        int[] byAlertRef =
+                alert.getAlertRef() == null
+                        ? NO_FILTERS
+                        : filtersByRuleId.getOrDefault(alert.getAlertRef(), NO_FILTERS);
+        if (byPluginId == byAlertRef) {
+            byAlertRef = NO_FILTERS;
+        }
+
+        int i = 0;
+        int j = 0;
+        while (i < byPluginId.length || j < byAlertRef.length) {
+            int pos;
+            if (j == byAlertRef.length
+                    || (i < byPluginId.length && byPluginId[i] < byAlertRef[j])) {
+                pos = byPluginId[i++];
+            } else {
+                pos = byAlertRef[j++];
+            }
+            if (filters[pos].appliesToAlert(alert, ignoreContext)) {
+                return filters[pos];
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return filters.length;
+    }
+}
@@ -20,12 +20,14 @@
 package org.zaproxy.zap.extension.alertFilters;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.configuration.Configuration;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -90,6 +92,8 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
     /** The context managers, mapped to each context. */
     private Map<Integer, ContextAlertFilterManager> contextManagers = new HashMap<>();
 
+    private Map<Integer, AlertFilterIndex> filterIndexes = new ConcurrentHashMap<>();
+
     private ExtensionAlert extAlert = null;
     private ExtensionHistory extHistory = null;
     private AlertFilterAPI api = null;
@@ -328,12 +332,14 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
 
     private void clearAlertFiltersState() {
         this.contextManagers.clear();
+        this.filterIndexes.clear();
         this.alertFilterPanelsMap.clear();
     }
 
     @Override
     public void discardContext(Context ctx) {
         this.contextManagers.remove(ctx.getId());
+        this.filterIndexes.remove(ctx.getId());
         this.alertFilterPanelsMap.remove(ctx.getId());
     }
 
@@ -409,11 +415,12 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
         String uri = alert.getUri();
         LOGGER.debug("Alert: {} URL: {}", alert.getAlertId(), uri);
         // Loop through global rules and apply as necessary
-        for (AlertFilter filter : this.globalAlertFilterParam.getGlobalAlertFilters()) {
-            if (filter.appliesToAlert(alert, true)) {
-                updateAlert(alert, filter);
-                return;
-            }
+        AlertFilter filter =
+                getIndex(-1, this.globalAlertFilterParam.getGlobalAlertFilters())
+                        .getFirstApplicable(alert, true);
+        if (filter != null) {
+            updateAlert(alert, filter);
+            return;
         }
 
         // Loop through context rules and apply as necessary..
@@ -425,16 +432,33 @@ public class ExtensionAlertFilters extends ExtensionAdaptor
                         context.getId(),
                         mgr.getAlertFilters().size());
                 // Its in this context
-                for (AlertFilter filter : mgr.getAlertFilters()) {
-                    if (filter.appliesToAlert(alert, true)) {
-                        updateAlert(alert, filter);
-                        return;
-                    }
+                filter =
+                        getIndex(mgr.getContextId(), mgr.getAlertFilters())
+                                .getFirstApplicable(alert, true);
+                if (filter != null) {
+                    updateAlert(alert, filter);
+                    return;
                 }
             }
         }
     }
 
+    /**
+     * Gets the index of the given filters, creating a new one if the filters changed.
+     *
+     * @param contextId the ID of the context of the filters, {@code -1} for the global filters.
+     * @param filters the filters.
+     * @return the index.
+     */
+    AlertFilterIndex getIndex(int contextId, Collection<AlertFilter> filters) {
+        AlertFilterIndex index = filterIndexes.get(contextId);
+        if (index == null || !index.isIndexOf(filters)) {
+            index = AlertFilterIndex.of(filters);
+            filterIndexes.put(contextId, index);
+        }
+        return index;
+    }
+
     private void updateAlert(Alert alert, AlertFilter filter) {
         Alert updAlert = alert;
         Alert origAlert = updAlert.newInstance();
@@ -0,0 +1,113 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.alertFilters;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+
+/** Unit test for {@link AlertFilterIndex}. */
+class AlertFilterIndexUnitTest {
+
+    private static final int SCAN_RULE_ID = 420;
+    private static final String ALERT_REF = SCAN_RULE_ID + "-2";
+
+    private Alert alert;
+
+    @BeforeEach
+    void before() throws Exception {
+        alert = new Alert(SCAN_RULE_ID, Alert.RISK_INFO, Alert.CONFIDENCE_LOW, "Test alert");
+        alert.setAlertRef(ALERT_REF);
+        String uri = "https://www.example.com";
+        alert.setUri(uri);
+        alert.setParam("param");
+        alert.setAttack("attack");
+        alert.setEvidence("evidence");
+        alert.setMessage(new HttpMessage(new HttpRequestHeader("GET " + uri + " HTTP/1.1")));
+    }
+
+    @Test
+    void shouldNotGetFilterIfNoneForTheRule() {
+        // Given
+        AlertFilterIndex index = AlertFilterIndex.of(List.of(createFilter("1", null)));
+        // When
+        AlertFilter filter = index.getFirstApplicable(alert, true);
+        // Then
+        assertThat(filter, is(nullValue()));
+    }
+
+    @Test
+    void shouldGetFirstApplicableFilterInOrder() {
+        // Given
+        AlertFilter notApplicable = createFilter(String.valueOf(SCAN_RULE_ID), "other");
+        AlertFilter byAlertRef = createFilter(ALERT_REF, "param");
+        AlertFilter byRuleId = createFilter(String.valueOf(SCAN_RULE_ID), "param");
+        AlertFilterIndex index =
+                AlertFilterIndex.of(
+                        List.of(createFilter("1", null), notApplicable, byAlertRef, byRuleId));
+        // When
+        AlertFilter filter = index.getFirstApplicable(alert, true);
+        // Then
+        assertThat(filter, is(sameInstance(byAlertRef)));
+    }
+
+    @Test
+    void shouldMatchRegexAndLiteralParameters() {
+        // Given
+        AlertFilter regex = createFilter(String.valueOf(SCAN_RULE_ID), "p.r[a-z]+");
+        regex.setParameterRegex(true);
+        AlertFilterIndex index = AlertFilterIndex.of(List.of(regex));
+        // When
+        AlertFilter filter = index.getFirstApplicable(alert, true);
+        // Then
+        assertThat(filter, is(sameInstance(regex)));
+    }
+
+    @Test
+    void shouldBeIndexOfSameFilters() {
+        // Given
+        AlertFilter filter1 = createFilter("1", null);
+        AlertFilter filter2 = createFilter("2", null);
+        AlertFilterIndex index = AlertFilterIndex.of(List.of(filter1, filter2));
+        // When / Then
+        assertThat(index.isIndexOf(List.of(filter1, filter2)), is(equalTo(true)));
+        assertThat(index.isIndexOf(List.of(filter2, filter1)), is(equalTo(false)));
+        assertThat(index.isIndexOf(List.of(filter1)), is(equalTo(false)));
+        filter2.setRuleId("3");
+        assertThat(index.isIndexOf(List.of(filter1, filter2)), is(equalTo(false)));
+    }
+
+    private static AlertFilter createFilter(String ruleId, String parameter) {
+        AlertFilter filter = new AlertFilter();
+        filter.setEnabled(true);
+        filter.setRuleId(ruleId);
+        filter.setParameter(parameter);
+        return filter;
+    }
+}
@@ -42,6 +42,7 @@ import org.zaproxy.addon.commonlib.CommonAlertTag;
 import org.zaproxy.addon.commonlib.PolicyTag;
 import org.zaproxy.addon.commonlib.vulnerabilities.Vulnerabilities;
 import org.zaproxy.addon.commonlib.vulnerabilities.Vulnerability;
+import org.zaproxy.zap.extension.ascanrulesBeta.NotFoundBaselineCache.Baseline;
 
 /**
  * a scan rule that looks for backup files disclosed on the web server
@@ -446,10 +447,6 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
     private void findBackupFile(HttpMessage originalMessage) throws IOException {
 
         try {
-            boolean gives404s = true;
-            boolean parentgives404s = true;
-            byte[] nonexistparentmsgdata = null;
-
             URI originalURI = originalMessage.getRequestHeader().getURI();
 
             // request a file in the same directory to see how it handles "File not found". Using a
@@ -464,84 +461,66 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
             }
             String filename = originalMessage.getRequestHeader().getURI().getName();
 
-            String randomfilename = random(filename.length());
-            String randomfilepath = temppath.substring(0, slashposition) + "/" + randomfilename;
-
-            LOGGER.debug("Trying non-existent file: {}", randomfilepath);
-            HttpMessage nonexistfilemsg =
-                    new HttpMessage(
-                            new URI(
-                                    originalURI.getScheme(),
-                                    originalURI.getAuthority(),
-                                    randomfilepath,
-                                    null,
-                                    null));
-            nonexistfilemsg
-                    .getRequestHeader()
-                    .setVersion(getBaseMsg().getRequestHeader().getVersion());
-            setMessageCookies(nonexistfilemsg, originalMessage);
-            sendAndReceive(nonexistfilemsg, false);
-            byte[] nonexistfilemsgdata = nonexistfilemsg.getResponseBody().getBytes();
+            NotFoundBaselineCache cache = NotFoundBaselineCache.getInstance(getParent());
+            String directory = temppath.substring(0, slashposition);
+            Baseline nonexistfile =
+                    cache.getBaseline(
+                            "file:"
+                                    + originalURI.getScheme()
+                                    + "://"
+                                    + originalURI.getAuthority()
+                                    + directory,
+                            () -> {
+                                String randomfilepath = directory + "/" + random(filename.length());
+                                LOGGER.debug("Trying non-existent file: {}", randomfilepath);
+                                return requestBaseline(originalMessage, randomfilepath);
+                            });
             // does the server give a 404 for a non-existent file?
-            if (nonexistfilemsg.getResponseHeader().getStatusCode() != HttpStatusCode.NOT_FOUND) {
-                gives404s = false;
-                LOGGER.debug(
-                        "The server does not return a 404 status for a non-existent path: {}",
-                        nonexistfilemsg.getRequestHeader().getURI());
-            } else {
-                gives404s = true;
-                LOGGER.debug(
-                        "The server gives a 404 status for a non-existent path: {}",
-                        nonexistfilemsg.getRequestHeader().getURI());
-            }
+            LOGGER.debug(
+                    "The server {} a 404 status for a non-existent file in: {}",
+                    nonexistfile.isNotFound() ? "gives" : "does not return",
+                    directory);
 
             // now request a different (and non-existent) parent directory,
             // to see whether a non-existent parent folder causes a 404
             String[] pathbreak = temppath.split("/");
-            HttpMessage nonexistparentmsg = null;
+            Baseline nonexistparent = null;
             if (pathbreak.length
                     > 2) { // the file has a parent folder that is not the root folder (ie, there is
                 // a parent folder to mess with)
-                String[] temppathbreak = pathbreak;
+                String[] temppathbreak = pathbreak.clone();
                 String parentfoldername = pathbreak[pathbreak.length - 2];
-                // If the parent folder name is really short a collision is likely
-                // Default to a reasonable length, which may have the inverse effect but we'll
-                // chance it
-                String randomparentfoldername = random(Math.max(parentfoldername.length(), 4));
-
-                // replace the parent folder name with the random one, and build it back into a
-                // string
-                temppathbreak[pathbreak.length - 2] = randomparentfoldername;
-                String randomparentpath = String.join("/", temppathbreak);
-
-                LOGGER.debug("Trying non-existent parent path: {}", randomparentpath);
-                nonexistparentmsg =
-                        new HttpMessage(
-                                new URI(
-                                        originalURI.getScheme(),
-                                        originalURI.getAuthority(),
-                                        randomparentpath,
-                                        null,
-                                        null));
-                nonexistparentmsg
-                        .getRequestHeader()
-                        .setVersion(getBaseMsg().getRequestHeader().getVersion());
-                setMessageCookies(nonexistparentmsg, originalMessage);
-                sendAndReceive(nonexistparentmsg, false);
-                nonexistparentmsgdata = nonexistparentmsg.getResponseBody().getBytes();
+                String grandparentpath =
+                        String.join("/", Arrays.copyOf(pathbreak, pathbreak.length - 2));
+                nonexistparent =
+                        cache.getBaseline(
+                                "parent:"
+                                        + originalURI.getScheme()
+                                        + "://"
+                                        + originalURI.getAuthority()
+                                        + grandparentpath,
+                                () -> {
+                                    // If the parent folder name is really short a collision is
+                                    // likely. Default to a reasonable length, which may have the
+                                    // inverse effect but we'll chance it
+                                    String randomparentfoldername =
+                                            random(Math.max(parentfoldername.length(), 4));
+
+                                    // replace the parent folder name with the random one, and
+                                    // build it back into a string
+                                    temppathbreak[pathbreak.length - 2] = randomparentfoldername;
+                                    String randomparentpath = String.join("/", temppathbreak);
+
+                                    LOGGER.debug(
+                                            "Trying non-existent parent path: {}",
+                                            randomparentpath);
+                                    return requestBaseline(originalMessage, randomparentpath);
+                                });
                 // does the server give a 404 for a non-existent parent folder?
-                if (nonexistparentmsg.getResponseHeader().getStatusCode()
-                        != HttpStatusCode.NOT_FOUND) {
-                    parentgives404s = false;
-                    LOGGER.debug(
-                            "The server does not return a 404 status for a non-existent parent path: {}",
-                            nonexistparentmsg.getRequestHeader().getURI());
-                } else {
-                    parentgives404s = true;
-                    LOGGER.debug(
-                            "The server gives a 404 status for a non-existent parent path: {}",
-                            nonexistparentmsg.getRequestHeader().getURI());
-                }
+                LOGGER.debug(
+                        "The server {} a 404 status for a non-existent parent folder in: {}",
+                        nonexistparent.isNotFound() ? "gives" : "does not return",
+                        grandparentpath);
             }
 
             String actualfilename = originalURI.getName();
@@ -726,6 +705,10 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
             // user
             // try each candidate URI in turn.
             for (URI candidateBackupFileURI : candidateBackupFileURIs) {
+                if (!cache.markRequested(candidateBackupFileURI.toString())) {
+                    LOGGER.debug("Already tried backup file path: {}", candidateBackupFileURI);
+                    continue;
+                }
                 LOGGER.debug("Trying possible backup file path: {}", candidateBackupFileURI);
                 HttpMessage requestmsg = new HttpMessage(candidateBackupFileURI);
                 setMessageCookies(requestmsg, originalMessage);
@@ -742,11 +725,7 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
                 // but for a "Copy of" file, actually gives a 404 (for some unknown reason). We need
                 // to handle this case.
                 if (!isEmptyResponse(disclosedData)
-                        && ((gives404s && requestStatusCode != HttpStatusCode.NOT_FOUND)
-                                || ((!gives404s)
-                                        && nonexistfilemsg.getResponseHeader().getStatusCode()
-                                                != requestStatusCode
-                                        && (!Arrays.equals(disclosedData, nonexistfilemsgdata))))) {
+                        && nonexistfile.isExistent(requestStatusCode, disclosedData)) {
                     buildAlert(
                                     candidateBackupFileURI.toString(),
                                     originalMessage.getRequestHeader().getURI().toString())
@@ -764,6 +743,10 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
             // the logic here needs to check using the parent 404 logic, and the output for a
             // non-existent parent folder.
             for (URI candidateBackupFileURI : candidateBackupFileChangedFolderURIs) {
+                if (!cache.markRequested(candidateBackupFileURI.toString())) {
+                    LOGGER.debug("Already tried backup file path: {}", candidateBackupFileURI);
+                    continue;
+                }
                 LOGGER.debug(
                         "Trying possible backup file path (with changed parent folder): {}",
                         candidateBackupFileURI);
@@ -779,12 +762,7 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
                 // If the response is empty it's probably not really a backup
 
                 if (!isEmptyResponse(disclosedData)
-                        && ((parentgives404s && requestStatusCode != HttpStatusCode.NOT_FOUND)
-                                || ((!parentgives404s)
-                                        && nonexistparentmsg.getResponseHeader().getStatusCode()
-                                                != requestStatusCode
-                                        && (!Arrays.equals(
-                                                disclosedData, nonexistparentmsgdata))))) {
+                        && nonexistparent.isExistent(requestStatusCode, disclosedData)) {
                     buildAlert(
                                     candidateBackupFileURI.toString(),
                                     originalMessage.getRequestHeader().getURI().toString())
@@ -806,6 +784,23 @@ public class BackupFileDisclosureScanRule extends AbstractAppPlugin
         }
     }
 
+    private Baseline requestBaseline(HttpMessage originalMessage, String path) throws IOException {
+        URI originalURI = originalMessage.getRequestHeader().getURI();
+        HttpMessage msg =
+                new HttpMessage(
+                        new URI(
+                                originalURI.getScheme(),
+                                originalURI.getAuthority(),
+                                path,
+                                null,
+                                null));
+        msg.getRequestHeader().setVersion(getBaseMsg().getRequestHeader().getVersion());
+        setMessageCookies(msg, originalMessage);
+        sendAndReceive(msg, false);
+        return new Baseline(
+                msg.getResponseHeader().getStatusCode(), msg.getResponseBody().getBytes());
+    }
+
     private static String random(int count) {
         return RandomStringUtils.secure().next(count, "abcdefghijklmnopqrstuvwxyz0123456789");
     }
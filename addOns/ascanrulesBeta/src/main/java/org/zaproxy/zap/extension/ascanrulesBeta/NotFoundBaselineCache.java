@@ -0,0 +1,163 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.ascanrulesBeta;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.core.scanner.HostProcess;
+import org.parosproxy.paros.network.HttpStatusCode;
+
+/**
+ * A cache of the responses for non-existent resources (the "not found" baselines) and of the
+ * resources already requested, shared by all the messages scanned in a host.
+ *
+ * <p>The baselines are requested once per key (for example, per directory), even if requested
+ * concurrently by several scan rule instances. The cache is discarded once the scan of the host is
+ * no longer referenced.
+ */
+public class NotFoundBaselineCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(NotFoundBaselineCache.class);
+
+    private static final Map<HostProcess, NotFoundBaselineCache> CACHES = new WeakHashMap<>();
+
+    private final Map<String, CompletableFuture<Baseline>> baselines;
+    private final Set<String> requestedUris;
+
+    NotFoundBaselineCache() {
+        baselines = new ConcurrentHashMap<>();
+        requestedUris = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Gets the cache for the given host being scanned.
+     *
+     * @param hostProcess the host being scanned.
+     * @return the cache, never {@code null}.
+     */
+    public static synchronized NotFoundBaselineCache getInstance(HostProcess hostProcess) {
+        return CACHES.computeIfAbsent(hostProcess, e -> new NotFoundBaselineCache());
+    }
+
+    /**
+     * Gets the baseline with the given key, requesting it with the given supplier if not yet
+     * cached. If the baseline is being requested by another thread the call waits for it.
+     *
+     * @param key the key of the baseline, for example, the URI of the directory.
+     * @param supplier the supplier that requests the baseline.
+     * @return the baseline.
+     * @throws IOException if an error occurred while requesting the baseline.
+     */
+    public Baseline getBaseline(String key, BaselineSupplier supplier) throws IOException {
+        CompletableFuture<Baseline> future = new CompletableFuture<>();
+        CompletableFuture<Baseline> existing = baselines.putIfAbsent(key, future);
+        if (existing != null) {
+            LOGGER.debug("Using cached baseline for: {}", key);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw new IOException(e.getCause());
+            }
+        }
+
+        try {
+            Baseline baseline = supplier.get();
+            future.complete(baseline);
+            return baseline;
+        } catch (IOException | RuntimeException e) {
+            // Allow to request it again.
+            baselines.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Tells whether or not the given URI was not yet requested, marking it as requested.
+     *
+     * @param uri the URI that will be requested.
+     * @return {@code true} if the URI was not yet requested, {@code false} otherwise.
+     */
+    public boolean markRequested(String uri) {
+        return requestedUris.add(uri);
+    }
+
+    /** A function that requests a baseline. */
+    @FunctionalInterface
+    public interface BaselineSupplier {
+
+        /**
+         * Requests the baseline.
+         *
+         * @return the baseline.
+         * @throws IOException if an error occurred while requesting the baseline.
+         */
+        Baseline get() throws IOException;
+    }
+
+    /** The response for a non-existent resource. */
+    public static class Baseline {
+
+        private final int statusCode;
+        private final byte[] body;
+
+        public Baseline(int statusCode, byte[] body) {
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * Tells whether or not the server returns a 404 status for non-existent resources.
+         *
+         * @return {@code true} if the server returns a 404 status, {@code false} otherwise.
+         */
+        public boolean isNotFound() {
+            return statusCode == HttpStatusCode.NOT_FOUND;
+        }
+
+        /**
+         * Tells whether or not the given response indicates that the resource exists, that is,
+         * it's not a 404 if the server returns those for non-existent resources, or it has
+         * different status code and body from the baseline.
+         *
+         * @param statusCode the status code of the response.
+         * @param body the body of the response.
+         * @return {@code true} if the resource exists, {@code false} otherwise.
+         */
+        public boolean isExistent(int statusCode, byte[] body) {
+            if (isNotFound()) {
+                return statusCode != HttpStatusCode.NOT_FOUND;
+            }
+            return this.statusCode != statusCode && !Arrays.equals(body, this.body);
+        }
+    }
+}
@@ -28,6 +28,8 @@ import static org.hamcrest.Matchers.is;
 import fi.iki.elonen.NanoHTTPD;
 import fi.iki.elonen.NanoHTTPD.IHTTPSession;
 import fi.iki.elonen.NanoHTTPD.Response;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -291,6 +293,35 @@ class BackupFileDisclosureScanRuleUnitTest extends ActiveScannerTest<BackupFileD
         assertThat(alertsRaised, hasSize(1));
     }
 
+    @Test
+    void shouldReuseBaselinesAndNotRepeatRequestsInSameHost() throws Exception {
+        // Given
+        List<String> requestedPaths = Collections.synchronizedList(new ArrayList<>());
+        nano.addHandler(
+                new NanoServerHandler("/") {
+
+                    @Override
+                    protected Response serve(IHTTPSession session) {
+                        requestedPaths.add(session.getUri());
+                        return newFixedLengthResponse(
+                                Response.Status.NOT_FOUND, NanoHTTPD.MIME_HTML, "");
+                    }
+                });
+        rule.init(getHttpMessage("/dir/index.html"), parent);
+        rule.scan();
+        int firstScanRequests = requestedPaths.size();
+        requestedPaths.clear();
+        rule.init(getHttpMessage("/dir/index.html"), parent);
+        // When
+        rule.scan();
+        rule.init(getHttpMessage("/dir/other.html"), parent);
+        rule.scan();
+        // Then
+        assertThat(firstScanRequests > 2, is(equalTo(true)));
+        assertThat(requestedPaths, hasSize(firstScanRequests - 2));
+        assertThat(alertsRaised, hasSize(0));
+    }
+
     @Test
     void shouldReturnExpectedMappings() {
         // Given / When
@@ -0,0 +1,126 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.ascanrulesBeta;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.HostProcess;
+import org.zaproxy.zap.extension.ascanrulesBeta.NotFoundBaselineCache.Baseline;
+
+/** Unit test for {@link NotFoundBaselineCache}. */
+class NotFoundBaselineCacheUnitTest {
+
+    private NotFoundBaselineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NotFoundBaselineCache();
+    }
+
+    @Test
+    void shouldGetSameCacheForSameHostProcess() {
+        // Given
+        HostProcess hostProcess = mock(HostProcess.class);
+        // When
+        NotFoundBaselineCache cache1 = NotFoundBaselineCache.getInstance(hostProcess);
+        NotFoundBaselineCache cache2 = NotFoundBaselineCache.getInstance(hostProcess);
+        // Then
+        assertThat(cache1, is(sameInstance(cache2)));
+        assertThat(
+                NotFoundBaselineCache.getInstance(mock(HostProcess.class)),
+                is(not(sameInstance(cache1))));
+    }
+
+    @Test
+    void shouldRequestBaselineOnce() throws Exception {
+        // Given
+        AtomicInteger requests = new AtomicInteger();
+        NotFoundBaselineCache.BaselineSupplier supplier =
+                () -> {
+                    requests.incrementAndGet();
+                    return new Baseline(404, new byte[0]);
+                };
+        // When
+        Baseline baseline1 = cache.getBaseline("key", supplier);
+        Baseline baseline2 = cache.getBaseline("key", supplier);
+        // Then
+        assertThat(requests.get(), is(equalTo(1)));
+        assertThat(baseline1, is(sameInstance(baseline2)));
+    }
+
+    @Test
+    void shouldRequestBaselineAgainIfFailed() throws Exception {
+        // Given
+        assertThrows(
+                IOException.class,
+                () ->
+                        cache.getBaseline(
+                                "key",
+                                () -> {
+                                    throw new IOException();
+                                }));
+        Baseline expected = new Baseline(404, new byte[0]);
+        // When
+        Baseline baseline = cache.getBaseline("key", () -> expected);
+        // Then
+        assertThat(baseline, is(sameInstance(expected)));
+    }
+
+    @Test
+    void shouldMarkUriRequestedOnce() {
+        // Given
+        String uri = "https://example.com/file.bak";
+        // When
+        boolean first = cache.markRequested(uri);
+        boolean second = cache.markRequested(uri);
+        // Then
+        assertThat(first, is(equalTo(true)));
+        assertThat(second, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldConsiderExistentIfNot404WhenBaselineIs404() {
+        // Given
+        Baseline baseline = new Baseline(404, new byte[0]);
+        // When / Then
+        assertThat(baseline.isExistent(200, new byte[0]), is(equalTo(true)));
+        assertThat(baseline.isExistent(404, new byte[] {1}), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldConsiderExistentIfDifferentStatusAndBodyWhenBaselineIsNot404() {
+        // Given
+        Baseline baseline = new Baseline(200, new byte[] {1});
+        // When / Then
+        assertThat(baseline.isExistent(403, new byte[] {2}), is(equalTo(true)));
+        assertThat(baseline.isExistent(403, new byte[] {1}), is(equalTo(false)));
+        assertThat(baseline.isExistent(200, new byte[] {2}), is(equalTo(false)));
+    }
+}
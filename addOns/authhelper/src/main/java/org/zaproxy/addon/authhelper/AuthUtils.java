@@ -30,7 +30,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
@@ -213,8 +212,7 @@ public class AuthUtils {
      * These are session tokens that have been seen in responses but not yet seen in use. When they
      * are seen in use then they are removed.
      */
-    private static Map<String, SessionToken> knownTokenMap =
-            Collections.synchronizedMap(new HashMap<>());
+    private static SessionTokenIndex knownTokens = new SessionTokenIndex();
 
     /**
      * Session tokens used in authentication requests. We keep track of them so that we can reuse
@@ -1294,34 +1292,30 @@ public class AuthUtils {
     }
 
     public static void recordSessionToken(SessionToken token) {
-        knownTokenMap.put(token.getValue(), token);
-        Stats.setHighwaterMark(AUTH_SESSION_TOKENS_MAX, knownTokenMap.size());
+        knownTokens.add(token);
+        Stats.setHighwaterMark(AUTH_SESSION_TOKENS_MAX, knownTokens.size());
     }
 
     public static SessionToken getSessionToken(String value) {
-        return knownTokenMap.get(value);
+        return knownTokens.get(value);
     }
 
+    /**
+     * Gets a known session token whose value is contained in the given value.
+     *
+     * @param value the value that might contain a session token.
+     * @return the session token, or {@code null} if none.
+     */
     public static SessionToken containsSessionToken(String value) {
-        Optional<Entry<String, SessionToken>> entry;
-        synchronized (knownTokenMap) {
-            entry =
-                    knownTokenMap.entrySet().stream()
-                            .filter(m -> value.contains(m.getKey()))
-                            .findFirst();
-        }
-        if (entry.isPresent()) {
-            return entry.get().getValue();
-        }
-        return null;
+        return knownTokens.findContained(value);
     }
 
     static void removeSessionToken(SessionToken token) {
-        knownTokenMap.remove(token.getValue());
+        knownTokens.remove(token);
     }
 
     public static void clean() {
-        knownTokenMap.clear();
+        knownTokens.clear();
         contextVerifMap.clear();
         contextSessionMgmtMap.clear();
         contextVerificationCheckedMap.clear();
@@ -0,0 +1,390 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.authhelper;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * An index of the known session tokens, by value.
+ *
+ * <p>Allows to find the token whose value is contained in a given string without checking each
+ * token, using an Aho-Corasick automaton of the values. The automaton is immutable, the tokens
+ * added after it was built are checked one by one until there are enough of them to build it
+ * again. The reads do not lock.
+ *
+ * <p>The oldest tokens are evicted once the maximum number of tokens is reached, and the tokens
+ * are ignored once older than the maximum age. Evicted tokens can still be found again in the
+ * history.
+ */
+class SessionTokenIndex {
+
+    /** The default maximum number of tokens. */
+    static final int DEFAULT_MAX_TOKENS = 10_000;
+
+    /** The default maximum age of the tokens, in milliseconds. */
+    static final long DEFAULT_MAX_AGE_MS = TimeUnit.HOURS.toMillis(1);
+
+    /** The minimum number of tokens added before the automaton is built again. */
+    private static final int MIN_PENDING_TOKENS = 64;
+
+    private static final String EVICTED_STATS = "stats.auth.sessiontokens.evicted";
+
+    private final int maxTokens;
+    private final long maxAgeMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> tokens;
+
+    /** The tokens by age, oldest first. Only accessed while holding the lock. */
+    private final LinkedHashMap<String, Entry> tokensByAge;
+
+    private volatile Snapshot snapshot;
+
+    SessionTokenIndex() {
+        this(DEFAULT_MAX_TOKENS, DEFAULT_MAX_AGE_MS, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a {@code SessionTokenIndex} with the given limits.
+     *
+     * @param maxTokens the maximum number of tokens.
+     * @param maxAgeMs the maximum age of the tokens, in milliseconds.
+     * @param clock the source of the current time, in milliseconds.
+     */
+    SessionTokenIndex(int maxTokens, long maxAgeMs, LongSupplier clock) {
+        this.maxTokens = maxTokens;
+        this.maxAgeMs = maxAgeMs;
+        this.clock = clock;
+        tokens = new ConcurrentHashMap<>();
+        tokensByAge = new LinkedHashMap<>();
+        snapshot = Snapshot.EMPTY;
+    }
+
+    /**
+     * Adds the given token, replacing the token with the same value, if any.
+     *
+     * @param token the token to add.
+     */
+    synchronized void add(SessionToken token) {
+        String value = token.getValue();
+        if (value == null) {
+            return;
+        }
+
+        long now = clock.getAsLong();
+        Entry entry = new Entry(token, now);
+        tokens.put(value, entry);
+        boolean newValue = tokensByAge.remove(value) == null;
+        tokensByAge.put(value, entry);
+
+        evict(now);
+
+        if (newValue && !value.isEmpty() && tokens.containsKey(value)) {
+            Snapshot current = snapshot;
+            if (current.pending.length + 1 >= Math.max(MIN_PENDING_TOKENS, tokens.size() / 16)) {
+                rebuild();
+            } else {
+                snapshot = current.withPending(value);
+            }
+        }
+    }
+
+    private void evict(long now) {
+        Iterator<Entry> it = tokensByAge.values().iterator();
+        while (it.hasNext()) {
+            Entry oldest = it.next();
+            if (tokensByAge.size() <= maxTokens && !isExpired(oldest, now)) {
+                break;
+            }
+            it.remove();
+            tokens.remove(oldest.token.getValue());
+            Stats.incCounter(EVICTED_STATS);
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.time > maxAgeMs;
+    }
+
+    private void rebuild() {
+        snapshot = new Snapshot(Automaton.build(tokens.keySet()), new String[0]);
+    }
+
+    /**
+     * Gets the token with the given value.
+     *
+     * @param value the value of the token.
+     * @return the token, or {@code null} if not known.
+     */
+    SessionToken get(String value) {
+        Entry entry = getEntry(value);
+        return entry != null ? entry.token : null;
+    }
+
+    private Entry getEntry(String value) {
+        if (value == null) {
+            return null;
+        }
+        Entry entry = tokens.get(value);
+        if (entry == null || isExpired(entry, clock.getAsLong())) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Finds a token whose value is contained in the given string.
+     *
+     * @param value the string that might contain the value of a token.
+     * @return the token, or {@code null} if none.
+     */
+    SessionToken findContained(String value) {
+        String tokenValue = snapshot.find(value, e -> getEntry(e) != null);
+        return tokenValue != null ? get(tokenValue) : null;
+    }
+
+    /**
+     * Removes the given token.
+     *
+     * <p>The automaton is not built again, the value is ignored until then.
+     *
+     * @param token the token to remove.
+     */
+    synchronized void remove(SessionToken token) {
+        String value = token.getValue();
+        if (value != null && tokensByAge.remove(value) != null) {
+            tokens.remove(value);
+        }
+    }
+
+    /** Removes all the tokens. */
+    synchronized void clear() {
+        tokens.clear();
+        tokensByAge.clear();
+        snapshot = Snapshot.EMPTY;
+    }
+
+    /**
+     * Gets the number of tokens, including the ones expired but not yet evicted.
+     *
+     * @return the number of tokens.
+     */
+    int size() {
+        return tokens.size();
+    }
+
+    private record Entry(SessionToken token, long time) {}
+
+    /** The automaton and the values added after it was built. */
+    private static class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(Automaton.build(List.of()), new String[0]);
+
+        private final Automaton automaton;
+        private final String[] pending;
+
+        Snapshot(Automaton automaton, String[] pending) {
+            this.automaton = automaton;
+            this.pending = pending;
+        }
+
+        Snapshot withPending(String value) {
+            String[] newPending = Arrays.copyOf(pending, pending.length + 1);
+            newPending[pending.length] = value;
+            return new Snapshot(automaton, newPending);
+        }
+
+        String find(String text, Predicate<String> accept) {
+            String value = automaton.find(text, accept);
+            if (value != null) {
+                return value;
+            }
+            for (String p : pending) {
+                if (text.contains(p) && accept.test(p)) {
+                    return p;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * An Aho-Corasick automaton, to find which of the patterns are contained in a text in a single
+     * pass.
+     *
+     * <p>The trie is stored in arrays, each node with its first child and next sibling, as most
+     * nodes of random values have a single child.
+     */
+    static final class Automaton {
+
+        private static final int ROOT = 0;
+        private static final int NONE = -1;
+
+        private final char[] labels;
+        private final int[] firstChild;
+        private final int[] nextSibling;
+        private final int[] fail;
+        private final String[] output;
+        private final int[] outputLink;
+
+        private Automaton(
+                char[] labels,
+                int[] firstChild,
+                int[] nextSibling,
+                int[] fail,
+                String[] output,
+                int[] outputLink) {
+            this.labels = labels;
+            this.firstChild = firstChild;
+            this.nextSibling = nextSibling;
+            this.fail = fail;
+            this.output = output;
+            this.outputLink = outputLink;
+        }
+
+        /**
+         * Builds an automaton for the given patterns, empty patterns are ignored.
+         *
+         * @param patterns the patterns.
+         * @return the automaton.
+         */
+        static Automaton build(Collection<String> patterns) {
+            int capacity = 1;
+            for (String pattern : patterns) {
+                capacity += pattern.length();
+            }
+
+            char[] labels = new char[capacity];
+            int[] firstChild = new int[capacity];
+            int[] nextSibling = new int[capacity];
+            String[] output = new String[capacity];
+            Arrays.fill(firstChild, NONE);
+            Arrays.fill(nextSibling, NONE);
+
+            int size = 1;
+            for (String pattern : patterns) {
+                if (pattern.isEmpty()) {
+                    continue;
+                }
+                int node = ROOT;
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    int child = child(labels, firstChild, nextSibling, node, c);
+                    if (child == NONE) {
+                        child = size++;
+                        labels[child] = c;
+                        nextSibling[child] = firstChild[node];
+                        firstChild[node] = child;
+                    }
+                    node = child;
+                }
+                output[node] = pattern;
+            }
+
+            int[] fail = new int[size];
+            int[] outputLink = new int[size];
+            Queue<Integer> queue = new ArrayDeque<>();
+            for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+                fail[child] = ROOT;
+                outputLink[child] = ROOT;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.remove();
+                for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                    char c = labels[child];
+                    int state = fail[node];
+                    int target = child(labels, firstChild, nextSibling, state, c);
+                    while (target == NONE && state != ROOT) {
+                        state = fail[state];
+                        target = child(labels, firstChild, nextSibling, state, c);
+                    }
+                    fail[child] = target != NONE ? target : ROOT;
+                    outputLink[child] =
+                            output[fail[child]] != null ? fail[child] : outputLink[fail[child]];
+                    queue.add(child);
+                }
+            }
+
+            return new Automaton(
+                    Arrays.copyOf(labels, size),
+                    Arrays.copyOf(firstChild, size),
+                    Arrays.copyOf(nextSibling, size),
+                    fail,
+                    Arrays.copyOf(output, size),
+                    outputLink);
+        }
+
+        private static int child(
+                char[] labels, int[] firstChild, int[] nextSibling, int node, char c) {
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (labels[child] == c) {
+                    return child;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Finds the first accepted pattern contained in the given text.
+         *
+         * @param text the text to search.
+         * @param accept the predicate to accept the patterns found.
+         * @return the pattern, or {@code null} if none.
+         */
+        String find(String text, Predicate<String> accept) {
+            if (fail.length == 1) {
+                return null;
+            }
+
+            int state = ROOT;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                int next = child(labels, firstChild, nextSibling, state, c);
+                while (next == NONE && state != ROOT) {
+                    state = fail[state];
+                    next = child(labels, firstChild, nextSibling, state, c);
+                }
+                state = next != NONE ? next : ROOT;
+
+                int match = output[state] != null ? state : outputLink[state];
+                while (match != ROOT) {
+                    if (accept.test(output[match])) {
+                        return output[match];
+                    }
+                    match = outputLink[match];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.authhelper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zaproxy.addon.authhelper.SessionTokenIndex.Automaton;
+
+/** Unit test for {@link SessionTokenIndex}. */
+class SessionTokenIndexUnitTest {
+
+    private static final long MAX_AGE = 1000;
+
+    private AtomicLong time;
+    private SessionTokenIndex index;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        index = new SessionTokenIndex(100, MAX_AGE, time::get);
+    }
+
+    @Test
+    void shouldFindTokenContainedInValue() {
+        // Given
+        index.add(token("key1", "abc123"));
+        index.add(token("key2", "def456"));
+        // When
+        SessionToken token = index.findContained("Bearer def456");
+        // Then
+        assertThat(token.getKey(), is(equalTo("key2")));
+    }
+
+    @Test
+    void shouldNotFindTokenNotContainedInValue() {
+        // Given
+        index.add(token("key1", "abc123"));
+        // When
+        SessionToken token = index.findContained("abc12");
+        // Then
+        assertThat(token, is(nullValue()));
+    }
+
+    @Test
+    void shouldFindTokensAfterAutomatonBuilt() {
+        // Given
+        for (int i = 0; i < 99; i++) {
+            index.add(token("key" + i, "value-" + i + "-end"));
+        }
+        // When
+        SessionToken first = index.findContained("x value-0-end x");
+        SessionToken last = index.findContained("x value-98-end x");
+        // Then
+        assertThat(first.getKey(), is(equalTo("key0")));
+        assertThat(last.getKey(), is(equalTo("key98")));
+    }
+
+    @Test
+    void shouldNotFindRemovedToken() {
+        // Given
+        for (int i = 0; i < 99; i++) {
+            index.add(token("key" + i, "value-" + i + "-end"));
+        }
+        SessionToken token = index.get("value-5-end");
+        // When
+        index.remove(token);
+        // Then
+        assertThat(index.get("value-5-end"), is(nullValue()));
+        assertThat(index.findContained("value-5-end"), is(nullValue()));
+    }
+
+    @Test
+    void shouldEvictOldestTokensWhenFull() {
+        // Given
+        index = new SessionTokenIndex(2, MAX_AGE, time::get);
+        index.add(token("key1", "abc"));
+        index.add(token("key2", "def"));
+        // When
+        index.add(token("key3", "ghi"));
+        // Then
+        assertThat(index.size(), is(equalTo(2)));
+        assertThat(index.findContained("abc"), is(nullValue()));
+        assertThat(index.findContained("ghi").getKey(), is(equalTo("key3")));
+    }
+
+    @Test
+    void shouldIgnoreExpiredTokens() {
+        // Given
+        index.add(token("key1", "abc"));
+        // When
+        time.set(MAX_AGE + 1);
+        // Then
+        assertThat(index.get("abc"), is(nullValue()));
+        assertThat(index.findContained("abc"), is(nullValue()));
+    }
+
+    @Test
+    void shouldClearTokens() {
+        // Given
+        index.add(token("key1", "abc"));
+        // When
+        index.clear();
+        // Then
+        assertThat(index.size(), is(equalTo(0)));
+        assertThat(index.findContained("abc"), is(nullValue()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"xbcx", "abcd", "ab-bcd-cd", "aaaaab"})
+    void shouldFindPatternsWithAutomaton(String text) {
+        // Given
+        Automaton automaton = Automaton.build(List.of("abcd", "bc", "aab"));
+        // When
+        String pattern = automaton.find(text, e -> true);
+        // Then
+        assertThat(text.contains(pattern), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotFindPatternsNotAccepted() {
+        // Given
+        Automaton automaton = Automaton.build(List.of("abcd", "bc"));
+        // When
+        String pattern = automaton.find("abcd", e -> !"bc".equals(e));
+        // Then
+        assertThat(pattern, is(equalTo("abcd")));
+    }
+
+    private static SessionToken token(String key, String value) {
+        return new SessionToken(SessionToken.HEADER_SOURCE, key, value);
+    }
+}
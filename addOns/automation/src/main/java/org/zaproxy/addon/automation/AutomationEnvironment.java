@@ -470,6 +470,16 @@ public class AutomationEnvironment {
         return this.getData().getParameters().getMaxDuration();
     }
 
+    /**
+     * Gets the maximum number of jobs that can run in parallel.
+     *
+     * @return the maximum number of jobs, 1 if the jobs should run one after the other.
+     * @since 0.61.0
+     */
+    public int getMaxParallelJobs() {
+        return this.getData().getParameters().getMaxParallelJobs();
+    }
+
     public void showDialog() {
         new EnvironmentDialog(this).setVisible(true);
     }
@@ -549,6 +559,7 @@ public class AutomationEnvironment {
         private boolean progressToStdout = true;
         private boolean continueOnFailure = false;
         private int maxDuration;
+        private int maxParallelJobs = 1;
 
         public Parameters() {}
 
@@ -584,6 +595,10 @@ public class AutomationEnvironment {
             return maxDuration;
         }
 
+        public int getMaxParallelJobs() {
+            return maxParallelJobs;
+        }
+
         public void setFailOnError(boolean failOnError) {
             this.failOnError = failOnError;
         }
@@ -603,6 +618,10 @@ public class AutomationEnvironment {
         public void setMaxDuration(int maxDuration) {
             this.maxDuration = Math.max(0, maxDuration);
         }
+
+        public void setMaxParallelJobs(int maxParallelJobs) {
+            this.maxParallelJobs = Math.max(1, maxParallelJobs);
+        }
     }
 
     public static class Proxy extends AutomationData {
@@ -65,6 +65,7 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
     private long timeFinished;
     private boolean enabled = true;
     private boolean alwaysRun = false;
+    private List<String> needs = List.of();
 
     public enum Order {
         RUN_FIRST,
@@ -142,6 +143,28 @@ public abstract class AutomationJob implements Comparable<AutomationJob> {
         this.alwaysRun = alwaysRun;
     }
 
+    /**
+     * Gets the names of the jobs that need to finish before this job is run, when the plan runs
+     * jobs in parallel.
+     *
+     * @return the names of the jobs, never {@code null}.
+     * @since 0.61.0
+     */
+    public List<String> getNeeds() {
+        return needs;
+    }
+
+    /**
+     * Sets the names of the jobs that need to finish before this job is run, when the plan runs
+     * jobs in parallel.
+     *
+     * @param needs the names of the jobs, might be {@code null}.
+     * @since 0.61.0
+     */
+    public void setNeeds(List<String> needs) {
+        this.needs = needs != null ? List.copyOf(needs) : List.of();
+    }
+
     public int addDefaultTests(AutomationProgress progress) {
         return ZERO_TESTS;
     }
@@ -172,6 +172,20 @@ public class AutomationPlan {
                         }
                     }
 
+                    Object needs = jobData.remove("needs");
+                    if (needs != null) {
+                        if (needs instanceof String needsString) {
+                            job.setNeeds(List.of(needsString));
+                        } else if (needs instanceof List<?> needsList
+                                && needsList.stream().allMatch(String.class::isInstance)) {
+                            job.setNeeds(needsList.stream().map(String.class::cast).toList());
+                        } else {
+                            progress.warn(
+                                    Constant.messages.getString(
+                                            "automation.error.job.needs", needs));
+                        }
+                    }
+
                     job.setEnv(env);
                     job.setJobData(jobData);
                     job.verifyParameters(progress);
@@ -33,19 +33,28 @@ public class AutomationProgress {
     private List<String> infos = new ArrayList<>();
     private List<String> allMessages = new ArrayList<>();
     private List<AutomationJob> runJobs = new ArrayList<>();
-    private boolean outputToStdout = false;
+    private volatile boolean outputToStdout = false;
     private Map<String, JobResultData> jobResultDataMap = new HashMap<>();
     private Map<AutomationJob, JobResults> jobResults = new HashMap<>();
-    private int errorMark;
-    private int warningMark;
-    private int infoMark;
-    private boolean quietMode;
+
+    /** The messages of the jobs running, by job. */
+    private Map<AutomationJob, JobResults> runningJobResults = new HashMap<>();
+
+    /** The messages not (yet) attributed to a job, taken by the next job started or run. */
+    private JobResults unassignedResults = createJobResults();
+
+    /** The job run by the current thread, inherited by the threads the job creates. */
+    private final ThreadLocal<AutomationJob> currentJob = new InheritableThreadLocal<>();
+
+    private volatile boolean quietMode;
+    private volatile long parallelTimeSaved;
 
     public AutomationProgress() {}
 
-    public void error(String error) {
+    public synchronized void error(String error) {
         this.errors.add(error);
         this.allMessages.add(error);
+        getCurrentJobResults().errors.add(error);
         if (outputToStdout) {
             CommandLine.error(error);
         }
@@ -53,9 +62,10 @@ public class AutomationProgress {
                 AutomationEventPublisher.PLAN_ERROR_MESSAGE, error);
     }
 
-    public void warn(String warning) {
+    public synchronized void warn(String warning) {
         this.warnings.add(warning);
         this.allMessages.add(warning);
+        getCurrentJobResults().warnings.add(warning);
         if (outputToStdout) {
             CommandLine.info(warning);
         }
@@ -67,9 +77,10 @@ public class AutomationProgress {
         infoImpl(info, true);
     }
 
-    private void infoImpl(String info, boolean toStdout) {
+    private synchronized void infoImpl(String info, boolean toStdout) {
         this.infos.add(info);
         this.allMessages.add(info);
+        getCurrentJobResults().infos.add(info);
         if (toStdout && outputToStdout && !quietMode) {
             CommandLine.info(info);
         }
@@ -81,27 +92,41 @@ public class AutomationProgress {
         infoImpl(info, false);
     }
 
-    public List<String> getErrors() {
-        return errors;
+    /**
+     * Gets the results of the job the messages belong to: the job run by the current thread, or
+     * the only job running if the thread does not run a job (for example, a thread of a shared
+     * pool), otherwise the unassigned results.
+     */
+    private JobResults getCurrentJobResults() {
+        AutomationJob job = currentJob.get();
+        JobResults results = job != null ? runningJobResults.get(job) : null;
+        if (results == null && runningJobResults.size() == 1) {
+            results = runningJobResults.values().iterator().next();
+        }
+        return results != null ? results : unassignedResults;
     }
 
-    public List<String> getWarnings() {
-        return warnings;
+    public synchronized List<String> getErrors() {
+        return new ArrayList<>(errors);
     }
 
-    public List<String> getInfos() {
-        return infos;
+    public synchronized List<String> getWarnings() {
+        return new ArrayList<>(warnings);
     }
 
-    public List<String> getAllMessages() {
-        return allMessages;
+    public synchronized List<String> getInfos() {
+        return new ArrayList<>(infos);
     }
 
-    public boolean hasErrors() {
+    public synchronized List<String> getAllMessages() {
+        return new ArrayList<>(allMessages);
+    }
+
+    public synchronized boolean hasErrors() {
         return !errors.isEmpty();
     }
 
-    public boolean hasWarnings() {
+    public synchronized boolean hasWarnings() {
         return !warnings.isEmpty();
     }
 
@@ -118,53 +143,87 @@ public class AutomationProgress {
         this.quietMode = quietMode;
     }
 
-    public void addJobResultData(JobResultData data) {
+    public synchronized void addJobResultData(JobResultData data) {
         this.jobResultDataMap.put(data.getKey(), data);
     }
 
-    public void addJobResultData(List<JobResultData> list) {
+    public synchronized void addJobResultData(List<JobResultData> list) {
         for (JobResultData data : list) {
             this.jobResultDataMap.put(data.getKey(), data);
         }
     }
 
-    public JobResultData getJobResultData(String key) {
+    public synchronized JobResultData getJobResultData(String key) {
         return this.jobResultDataMap.get(key);
     }
 
-    public Collection<JobResultData> getAllJobResultData() {
-        return this.jobResultDataMap.values();
+    public synchronized Collection<JobResultData> getAllJobResultData() {
+        return new ArrayList<>(this.jobResultDataMap.values());
+    }
+
+    /**
+     * Starts recording the messages of the given job, those of the current thread (and the threads
+     * it creates) are recorded for the job until it is added as run. The messages not yet
+     * attributed to a job are recorded for the job as well.
+     *
+     * @param job the job started.
+     * @see #addRunJob(AutomationJob)
+     */
+    synchronized void startJob(AutomationJob job) {
+        currentJob.set(job);
+        runningJobResults.put(job, unassignedResults);
+        unassignedResults = createJobResults();
     }
 
-    void addRunJob(AutomationJob job) {
+    synchronized void addRunJob(AutomationJob job) {
         this.runJobs.add(job);
 
-        // Record any new errors, warnings or infos which will have been generated by this job
-        this.jobResults.put(
-                job,
-                new JobResults(
-                        new ArrayList<>(errors.subList(errorMark, errors.size())),
-                        new ArrayList<>(warnings.subList(warningMark, warnings.size())),
-                        new ArrayList<>(infos.subList(infoMark, infos.size()))));
+        // Record the errors, warnings or infos generated by this job, or, if not started, the ones
+        // generated since the previous job
+        JobResults results = runningJobResults.remove(job);
+        if (results == null) {
+            results = unassignedResults;
+            unassignedResults = createJobResults();
+        }
+        this.jobResults.put(job, results);
+
+        if (currentJob.get() == job) {
+            currentJob.remove();
+        }
+    }
 
-        errorMark = errors.size();
-        warningMark = warnings.size();
-        infoMark = infos.size();
+    public synchronized List<AutomationJob> getRunJobs() {
+        return new ArrayList<>(this.runJobs);
     }
 
-    public List<AutomationJob> getRunJobs() {
-        return this.runJobs;
+    /**
+     * Gets the time saved by running the jobs in parallel, that is, the time the jobs took in total
+     * less the time the plan took.
+     *
+     * @return the time saved, in milliseconds, 0 if the jobs did not run in parallel.
+     * @since 0.61.0
+     */
+    public long getParallelTimeSaved() {
+        return parallelTimeSaved;
     }
 
-    public JobResults getJobResults(AutomationJob job) {
+    void setParallelTimeSaved(long parallelTimeSaved) {
+        this.parallelTimeSaved = parallelTimeSaved;
+    }
+
+    public synchronized JobResults getJobResults(AutomationJob job) {
         JobResults res = this.jobResults.get(job);
         if (res == null) {
-            return new JobResults(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+            return createJobResults();
         }
         return res;
     }
 
-    public List<String> getErrors(AutomationJob job) {
+    private JobResults createJobResults() {
+        return new JobResults(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    public synchronized List<String> getErrors(AutomationJob job) {
         JobResults results = this.jobResults.get(job);
         if (results != null) {
             return results.getErrors();
@@ -172,7 +231,7 @@ public class AutomationProgress {
         return new ArrayList<>();
     }
 
-    public List<String> getWarnings(AutomationJob job) {
+    public synchronized List<String> getWarnings(AutomationJob job) {
         JobResults results = this.jobResults.get(job);
         if (results != null) {
             return results.getWarnings();
@@ -180,7 +239,7 @@ public class AutomationProgress {
         return new ArrayList<>();
     }
 
-    public List<String> getInfos(AutomationJob job) {
+    public synchronized List<String> getInfos(AutomationJob job) {
         JobResults results = this.jobResults.get(job);
         if (results != null) {
             return results.getInfos();
@@ -188,7 +247,7 @@ public class AutomationProgress {
         return new ArrayList<>();
     }
 
-    public Map<String, String> toMap() {
+    public synchronized Map<String, String> toMap() {
         Map<String, String> map = new HashMap<>();
         map.put("errors.count", Integer.toString(this.errors.size()));
         map.put("warnings.count", Integer.toString(this.warnings.size()));
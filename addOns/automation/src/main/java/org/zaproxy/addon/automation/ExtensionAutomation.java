@@ -50,6 +50,7 @@ import javax.swing.Timer;
 import org.apache.commons.httpclient.URI;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.CommandLine;
@@ -624,62 +625,99 @@ public class ExtensionAutomation extends ExtensionAdaptor implements CommandLine
             AutomationEnvironment env,
             AutomationProgress progress,
             List<AutomationJob> jobsToRun) {
-        for (AutomationJob job : jobsToRun) {
-
-            if ((plan.isStopping() || env.isTimeToQuit())
-                    && (plan.isHardStopping() || !job.isAlwaysRun())) {
-                continue;
+        int maxParallelJobs = env.getMaxParallelJobs();
+        if (maxParallelJobs <= 1 || jobsToRun.size() <= 1) {
+            for (AutomationJob job : jobsToRun) {
+                runJob(plan, env, progress, job);
             }
+            return;
+        }
 
-            if (job.isAlwaysRun()) {
-                Thread.interrupted();
-            }
+        progress.info(Constant.messages.getString("automation.info.parallel", maxParallelJobs));
+        long start = System.currentTimeMillis();
+        new ParallelJobRunner(maxParallelJobs)
+                .run(
+                        ParallelJobRunner.getDependencies(jobsToRun, env, progress),
+                        job -> runJob(plan, env, progress, job));
+        long planTime = System.currentTimeMillis() - start;
+
+        long jobsTime =
+                progress.getRunJobs().stream()
+                        .mapToLong(AutomationJob::getTimeTaken)
+                        .filter(t -> t > 0)
+                        .sum();
+        progress.setParallelTimeSaved(Math.max(0, jobsTime - planTime));
+        progress.info(
+                Constant.messages.getString(
+                        "automation.info.parallel.saved",
+                        formatDuration(progress.getParallelTimeSaved()),
+                        formatDuration(jobsTime),
+                        formatDuration(planTime)));
+    }
 
-            if (!job.isEnabled()) {
-                progress.info(
-                        Constant.messages.getString("automation.info.jobdisabled", job.getType()));
-                job.setStatus(AutomationJob.Status.NOT_ENABLED);
-                continue;
-            }
+    private static String formatDuration(long millis) {
+        return DurationFormatUtils.formatDuration(millis, "HH:mm:ss");
+    }
 
-            job.applyParameters(progress);
-            progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
-            job.setStatus(AutomationJob.Status.RUNNING);
-            AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
-            job.setTimeStarted();
-            Timer timer = null;
-            if (View.isInitialised()) {
-                timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
-                timer.start();
-            }
-            try {
-                if (job.isLongRunningJob()) {
-                    registerLongRunningJob(job);
-                }
-                job.runJob(env, progress);
-            } catch (Exception e) {
-                LOGGER.error(e.getMessage(), e);
-                progress.error(
-                        Constant.messages.getString(
-                                "automation.error.unexpected.internal", e.getMessage()));
-            }
-            job.setTimeFinished();
-            if (timer != null) {
-                timer.stop();
-            }
-            Stats.incCounter(TOTAL_JOBS_RUN_STATS);
-            Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
-            job.logTestsToProgress(progress);
-            job.setStatus(AutomationJob.Status.COMPLETED);
-            AutomationEventPublisher.publishEvent(
-                    AutomationEventPublisher.JOB_FINISHED,
-                    job,
-                    job.getPlan().getProgress().getJobResults(job).toMap());
+    private void runJob(
+            AutomationPlan plan,
+            AutomationEnvironment env,
+            AutomationProgress progress,
+            AutomationJob job) {
+        if ((plan.isStopping() || env.isTimeToQuit())
+                && (plan.isHardStopping() || !job.isAlwaysRun())) {
+            return;
+        }
+
+        if (job.isAlwaysRun()) {
+            Thread.interrupted();
+        }
+
+        if (!job.isEnabled()) {
             progress.info(
+                    Constant.messages.getString("automation.info.jobdisabled", job.getType()));
+            job.setStatus(AutomationJob.Status.NOT_ENABLED);
+            return;
+        }
+
+        progress.startJob(job);
+        job.applyParameters(progress);
+        progress.info(Constant.messages.getString("automation.info.jobstart", job.getType()));
+        job.setStatus(AutomationJob.Status.RUNNING);
+        AutomationEventPublisher.publishEvent(AutomationEventPublisher.JOB_STARTED, job, null);
+        job.setTimeStarted();
+        Timer timer = null;
+        if (View.isInitialised()) {
+            timer = new Timer(1000, e -> getAutomationPanel().updateJob(job));
+            timer.start();
+        }
+        try {
+            if (job.isLongRunningJob()) {
+                registerLongRunningJob(job);
+            }
+            job.runJob(env, progress);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            progress.error(
                     Constant.messages.getString(
-                            "automation.info.jobend", job.getType(), job.getFormattedTimeTaken()));
-            progress.addRunJob(job);
+                            "automation.error.unexpected.internal", e.getMessage()));
         }
+        job.setTimeFinished();
+        if (timer != null) {
+            timer.stop();
+        }
+        Stats.incCounter(TOTAL_JOBS_RUN_STATS);
+        Stats.incCounter(JOBS_RUN_STATS_PREFIX + job.getType() + JOBS_RUN_STATS_POSTFIX);
+        job.logTestsToProgress(progress);
+        job.setStatus(AutomationJob.Status.COMPLETED);
+        AutomationEventPublisher.publishEvent(
+                AutomationEventPublisher.JOB_FINISHED,
+                job,
+                job.getPlan().getProgress().getJobResults(job).toMap());
+        progress.info(
+                Constant.messages.getString(
+                        "automation.info.jobend", job.getType(), job.getFormattedTimeTaken()));
+        progress.addRunJob(job);
     }
 
     public void runPlanAsync(AutomationPlan plan) {
@@ -0,0 +1,204 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.automation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.Constant;
+
+/**
+ * Runs the jobs of a plan in parallel, respecting the dependencies between them.
+ *
+ * <p>A job depends on the jobs named in its {@code needs} option, if any. Otherwise, a job with a
+ * {@code context} parameter depends on the earlier jobs with the same context and on the earlier
+ * jobs without context, and a job without context depends on all the earlier jobs. As such the
+ * jobs can only depend on earlier jobs, which prevents cycles.
+ */
+class ParallelJobRunner {
+
+    private static final Logger LOGGER = LogManager.getLogger(ParallelJobRunner.class);
+
+    private static final String CONTEXT_PARAM = "context";
+
+    private final int maxParallelJobs;
+
+    ParallelJobRunner(int maxParallelJobs) {
+        this.maxParallelJobs = Math.max(1, maxParallelJobs);
+    }
+
+    /**
+     * Gets the dependencies of the given jobs.
+     *
+     * @param jobs the jobs, in the order of the plan.
+     * @param env the environment, to resolve the variables of the contexts.
+     * @param progress the progress, to warn of unknown needs.
+     * @return the dependencies of each job, in the order of the plan.
+     */
+    static Map<AutomationJob, Set<AutomationJob>> getDependencies(
+            List<AutomationJob> jobs, AutomationEnvironment env, AutomationProgress progress) {
+        Map<AutomationJob, Set<AutomationJob>> dependencies = new LinkedHashMap<>();
+        Map<String, AutomationJob> earlierJobsByName = new HashMap<>();
+        Map<AutomationJob, String> contexts = new IdentityHashMap<>();
+
+        for (AutomationJob job : jobs) {
+            Set<AutomationJob> jobDependencies = new LinkedHashSet<>();
+            if (!job.getNeeds().isEmpty()) {
+                for (String need : job.getNeeds()) {
+                    AutomationJob needed = earlierJobsByName.get(need);
+                    if (needed == null) {
+                        progress.warn(
+                                Constant.messages.getString(
+                                        "automation.warn.job.needs", job.getName(), need));
+                    } else {
+                        jobDependencies.add(needed);
+                    }
+                }
+            } else {
+                String context = getContext(job, env);
+                for (AutomationJob earlierJob : dependencies.keySet()) {
+                    String earlierContext = contexts.get(earlierJob);
+                    if (context == null
+                            || earlierContext == null
+                            || context.equals(earlierContext)) {
+                        jobDependencies.add(earlierJob);
+                    }
+                }
+                contexts.put(job, context);
+            }
+            dependencies.put(job, jobDependencies);
+            earlierJobsByName.putIfAbsent(job.getName(), job);
+        }
+        return dependencies;
+    }
+
+    private static String getContext(AutomationJob job, AutomationEnvironment env) {
+        if (job.getJobData() == null
+                || !(job.getJobData().get("parameters") instanceof Map<?, ?> params)) {
+            return null;
+        }
+        Object context = params.get(CONTEXT_PARAM);
+        if (context == null) {
+            return null;
+        }
+        String name = env != null ? env.replaceVars(context) : Objects.toString(context);
+        return StringUtils.isEmpty(name) ? null : name;
+    }
+
+    /**
+     * Runs the given jobs, starting them in the order of the plan once their dependencies have
+     * finished.
+     *
+     * <p>If the calling thread is interrupted the running jobs are interrupted as well, the
+     * remaining jobs are still given to the job runner which decides whether or not to run them.
+     *
+     * @param dependencies the jobs and their dependencies, in the order of the plan.
+     * @param jobRunner the function that runs a job.
+     */
+    void run(
+            Map<AutomationJob, Set<AutomationJob>> dependencies,
+            Consumer<AutomationJob> jobRunner) {
+        Map<AutomationJob, Set<AutomationJob>> pending = new LinkedHashMap<>();
+        dependencies.forEach((job, deps) -> pending.put(job, new LinkedHashSet<>(deps)));
+
+        BlockingQueue<AutomationJob> finished = new LinkedBlockingQueue<>();
+        Set<AutomationJob> running = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<AutomationJob, Thread> jobThreads = new ConcurrentHashMap<>();
+        ExecutorService executor =
+                Executors.newFixedThreadPool(maxParallelJobs, new JobThreadFactory());
+        try {
+            while (!pending.isEmpty() || !running.isEmpty()) {
+                List<AutomationJob> ready = new ArrayList<>();
+                for (Map.Entry<AutomationJob, Set<AutomationJob>> entry : pending.entrySet()) {
+                    if (running.size() + ready.size() >= maxParallelJobs) {
+                        break;
+                    }
+                    if (entry.getValue().isEmpty()) {
+                        ready.add(entry.getKey());
+                    }
+                }
+                for (AutomationJob job : ready) {
+                    pending.remove(job);
+                    LOGGER.debug("Starting job {}", job.getName());
+                    running.add(job);
+                    executor.execute(
+                            () -> {
+                                jobThreads.put(job, Thread.currentThread());
+                                try {
+                                    jobRunner.accept(job);
+                                } finally {
+                                    jobThreads.remove(job);
+                                    finished.add(job);
+                                }
+                            });
+                }
+
+                if (running.isEmpty()) {
+                    // Should not happen, the jobs depend only on earlier jobs.
+                    LOGGER.error("No job can be started, remaining: {}", pending.keySet());
+                    break;
+                }
+
+                AutomationJob job;
+                try {
+                    job = finished.take();
+                } catch (InterruptedException e) {
+                    LOGGER.debug("Interrupted, interrupting the running jobs.");
+                    jobThreads.values().forEach(Thread::interrupt);
+                    continue;
+                }
+                running.remove(job);
+                pending.values().forEach(deps -> deps.remove(job));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class JobThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "ZAP-Automation-Job-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
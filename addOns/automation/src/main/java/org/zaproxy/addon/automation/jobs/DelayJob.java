@@ -40,6 +40,7 @@ public class DelayJob extends AutomationJob {
 
     private Data data;
     private Parameters parameters = new Parameters();
+    private static final Object END_JOB_LOCK = new Object();
     private static boolean endJob;
 
     public DelayJob() {
@@ -85,12 +86,16 @@ public class DelayJob extends AutomationJob {
         }
         long end = System.currentTimeMillis() + hhmmss.getTimeInMs();
         try {
-            while (System.currentTimeMillis() < end
-                    && !endJob
-                    && !(file != null && file.exists())) {
-                Thread.sleep(TimeUnit.SECONDS.toMillis(1));
+            // Woken up when the job is ended, the file is still checked every second.
+            synchronized (END_JOB_LOCK) {
+                long remaining;
+                while ((remaining = end - System.currentTimeMillis()) > 0
+                        && !endJob
+                        && !(file != null && file.exists())) {
+                    END_JOB_LOCK.wait(Math.min(remaining, TimeUnit.SECONDS.toMillis(1)));
+                }
             }
-            if (endJob) {
+            if (isEndJob()) {
                 progress.info(
                         Constant.messages.getString(
                                 "automation.info.delay.endjob", this.getName()));
@@ -117,12 +122,21 @@ public class DelayJob extends AutomationJob {
     }
 
     public static void setEndJob(boolean bool) {
-        endJob = bool;
+        synchronized (END_JOB_LOCK) {
+            endJob = bool;
+            END_JOB_LOCK.notifyAll();
+        }
+    }
+
+    private static boolean isEndJob() {
+        synchronized (END_JOB_LOCK) {
+            return endJob;
+        }
     }
 
     @Override
     public void stop() {
-        endJob = true;
+        setEndJob(true);
     }
 
     @Override
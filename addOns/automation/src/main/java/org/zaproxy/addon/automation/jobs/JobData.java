@@ -71,6 +71,15 @@ public abstract class JobData extends AutomationData {
         return this.job.isAlwaysRun();
     }
 
+    public List<String> getNeeds() {
+        List<String> needs = this.job.getNeeds();
+        if (needs.isEmpty()) {
+            // So that no needs element included in the YAML
+            return null;
+        }
+        return needs;
+    }
+
     public List<AutomationData> getTests() {
         List<AbstractAutomationTest> tests = this.job.getTests();
         if (tests.isEmpty()) {
@@ -726,6 +726,36 @@ class AutomationEnvironmentUnitTest extends TestUtils {
         assertThat(ae.getMaxDuration(), is(equalTo(expected)));
     }
 
+    @ParameterizedTest
+    @CsvSource({"-1, 1", "0, 1", "1, 1", "3, 3"})
+    void shouldSetMaxParallelJobsParam(int value, int expected) {
+        // Given
+        String contextStr =
+                """
+                env:
+                  contexts:
+                    - name: context 1
+                      urls:
+                      - https://www.example.com
+                  parameters:
+                    maxParallelJobs: %s
+                """
+                        .formatted(value);
+        Yaml yaml = new Yaml();
+        LinkedHashMap<?, ?> data =
+                yaml.load(new ByteArrayInputStream(contextStr.getBytes(StandardCharsets.UTF_8)));
+        LinkedHashMap<?, ?> contextData = (LinkedHashMap<?, ?>) data.get("env");
+        AutomationProgress progress = new AutomationProgress();
+
+        // When
+        AutomationEnvironment ae = new AutomationEnvironment(contextData, progress);
+
+        // Then
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(ae.getMaxParallelJobs(), is(equalTo(expected)));
+    }
+
     @Test
     void shouldWarnOnUnrecognisedEnvParams() {
         // Given
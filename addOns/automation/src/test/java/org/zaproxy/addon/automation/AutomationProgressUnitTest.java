@@ -24,6 +24,15 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -218,6 +227,85 @@ class AutomationProgressUnitTest extends TestUtils {
         assertThat(progress.getInfos(job3).size(), is(0));
     }
 
+    @Test
+    void shouldReturnMessagesOfJobsRunInParallel() throws Exception {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        try {
+            Future<?> run1 = executor.submit(() -> runJob(job1, barrier, "job1"));
+            Future<?> run2 = executor.submit(() -> runJob(job2, barrier, "job2"));
+            run1.get(5, TimeUnit.SECONDS);
+            run2.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(progress.getErrors().size(), is(10));
+        assertThat(progress.getErrors(job1), is(jobMessages("job1")));
+        assertThat(progress.getErrors(job2), is(jobMessages("job2")));
+        assertThat(progress.getInfos(job1), is(List.of("job1")));
+        assertThat(progress.getInfos(job2), is(List.of("job2")));
+    }
+
+    @Test
+    void shouldReturnMessagesOfThreadsCreatedByJob() throws Exception {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        AutomationJob job2 = mock(AutomationJob.class);
+        progress.startJob(job1);
+        CompletableFuture.runAsync(() -> progress.startJob(job2)).get(5, TimeUnit.SECONDS);
+
+        // When
+        Thread thread = new Thread(() -> progress.warn("warn"));
+        thread.start();
+        thread.join();
+        progress.addRunJob(job1);
+
+        // Then
+        assertThat(progress.getWarnings(job1), is(List.of("warn")));
+    }
+
+    @Test
+    void shouldReturnMessagesOfOtherThreadsToOnlyJobRunning() throws Exception {
+        // Given
+        AutomationJob job1 = mock(AutomationJob.class);
+        progress.startJob(job1);
+
+        // When
+        CompletableFuture.runAsync(() -> progress.warn("warn")).get(5, TimeUnit.SECONDS);
+        progress.addRunJob(job1);
+
+        // Then
+        assertThat(progress.getWarnings(job1), is(List.of("warn")));
+    }
+
+    private void runJob(AutomationJob job, CyclicBarrier barrier, String name) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            progress.startJob(job);
+            progress.info(name);
+            barrier.await(5, TimeUnit.SECONDS);
+            for (String message : jobMessages(name)) {
+                progress.error(message);
+                Thread.yield();
+            }
+            barrier.await(5, TimeUnit.SECONDS);
+            progress.addRunJob(job);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<String> jobMessages(String name) {
+        return IntStream.range(0, 5).mapToObj(i -> name + "error" + i).collect(Collectors.toList());
+    }
+
     @Test
     void shouldReturnEmptyResultsForUnrunJobs() {
         // Given
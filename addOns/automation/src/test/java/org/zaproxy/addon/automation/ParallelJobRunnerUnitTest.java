@@ -0,0 +1,183 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.automation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.Constant;
+import org.zaproxy.zap.utils.I18N;
+
+/** Unit test for {@link ParallelJobRunner}. */
+class ParallelJobRunnerUnitTest {
+
+    private AutomationProgress progress;
+
+    @BeforeEach
+    void setUp() {
+        Constant.messages = new I18N(Locale.ENGLISH);
+        progress = new AutomationProgress();
+    }
+
+    @Test
+    void shouldDependOnEarlierJobsWithSameContextOrWithoutContext() {
+        // Given
+        AutomationJob spider1 = new JobImpl("spider1", "ctx1");
+        AutomationJob spider2 = new JobImpl("spider2", "ctx2");
+        AutomationJob scan1 = new JobImpl("scan1", "ctx1");
+        AutomationJob report = new JobImpl("report", null);
+        AutomationJob scan2 = new JobImpl("scan2", "ctx2");
+        List<AutomationJob> jobs = List.of(spider1, spider2, scan1, report, scan2);
+        // When
+        Map<AutomationJob, Set<AutomationJob>> dependencies =
+                ParallelJobRunner.getDependencies(jobs, null, progress);
+        // Then
+        assertThat(dependencies.get(spider1), is(empty()));
+        assertThat(dependencies.get(spider2), is(empty()));
+        assertThat(dependencies.get(scan1), contains(spider1));
+        assertThat(dependencies.get(report), contains(spider1, spider2, scan1));
+        assertThat(dependencies.get(scan2), contains(spider2, report));
+    }
+
+    @Test
+    void shouldDependOnlyOnNeededJobs() {
+        // Given
+        AutomationJob spider1 = new JobImpl("spider1", null);
+        AutomationJob spider2 = new JobImpl("spider2", null);
+        AutomationJob scan = new JobImpl("scan", null);
+        scan.setNeeds(List.of("spider1"));
+        // When
+        Map<AutomationJob, Set<AutomationJob>> dependencies =
+                ParallelJobRunner.getDependencies(List.of(spider1, spider2, scan), null, progress);
+        // Then
+        assertThat(dependencies.get(scan), contains(spider1));
+        assertThat(progress.getWarnings(), is(empty()));
+    }
+
+    @Test
+    void shouldWarnOfNeedsOfLaterOrUnknownJobs() {
+        // Given
+        AutomationJob spider = new JobImpl("spider", null);
+        spider.setNeeds(List.of("scan", "unknown"));
+        AutomationJob scan = new JobImpl("scan", null);
+        // When
+        Map<AutomationJob, Set<AutomationJob>> dependencies =
+                ParallelJobRunner.getDependencies(List.of(spider, scan), null, progress);
+        // Then
+        assertThat(dependencies.get(spider), is(empty()));
+        assertThat(progress.getWarnings(), hasSize(2));
+    }
+
+    @Test
+    void shouldRunIndependentJobsConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AutomationJob spider1 = new JobImpl("spider1", "ctx1");
+        AutomationJob spider2 = new JobImpl("spider2", "ctx2");
+        AutomationJob report = new JobImpl("report", null);
+        List<AutomationJob> jobs = List.of(spider1, spider2, report);
+        List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        long start = System.currentTimeMillis();
+        // When
+        new ParallelJobRunner(2)
+                .run(
+                        ParallelJobRunner.getDependencies(jobs, null, progress),
+                        job -> {
+                            if (job != report) {
+                                bothStarted.countDown();
+                                await(bothStarted);
+                            }
+                            finished.add(job.getName());
+                        });
+        // Then
+        assertThat(System.currentTimeMillis() - start, is(lessThan(5000L)));
+        assertThat(finished, hasSize(3));
+        assertThat(finished.get(2), is("report"));
+    }
+
+    @Test
+    void shouldRunJobsInPlanOrderWithOneJobAtATime() {
+        // Given
+        List<AutomationJob> jobs =
+                List.of(new JobImpl("job1", "ctx1"), new JobImpl("job2", "ctx2"));
+        List<String> finished = Collections.synchronizedList(new ArrayList<>());
+        // When
+        new ParallelJobRunner(1)
+                .run(
+                        ParallelJobRunner.getDependencies(jobs, null, progress),
+                        job -> finished.add(job.getName()));
+        // Then
+        assertThat(finished, contains("job1", "job2"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class JobImpl extends AutomationJob {
+
+        JobImpl(String name, String context) {
+            setName(name);
+            setJobData(
+                    context != null ? Map.of("parameters", Map.of("context", context)) : Map.of());
+        }
+
+        @Override
+        public void runJob(AutomationEnvironment env, AutomationProgress progress) {}
+
+        @Override
+        public String getType() {
+            return "test";
+        }
+
+        @Override
+        public Order getOrder() {
+            return Order.EXPLORE;
+        }
+
+        @Override
+        public Object getParamMethodObject() {
+            return null;
+        }
+
+        @Override
+        public String getParamMethodName() {
+            return null;
+        }
+    }
+}
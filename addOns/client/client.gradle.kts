@@ -60,7 +60,7 @@ zapAddOn {
                     version.set(">=1.43.0")
                 }
                 register("database") {
-                    version.set(">=0.9.0 & < 1.0.0")
+                    version.set(">=0.10.0 & < 1.0.0")
                 }
                 addOns {
                     register("pscan") {
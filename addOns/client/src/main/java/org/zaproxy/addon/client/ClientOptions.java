@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
 import org.zaproxy.addon.client.spider.ClientSpiderOptions;
 import org.zaproxy.zap.common.VersionedAbstractParam;
 
@@ -45,9 +46,14 @@ public class ClientOptions extends VersionedAbstractParam {
     private static final String CONFIG_VERSION_KEY = CLIENT_BASE_KEY + VERSION_ATTRIBUTE;
     private static final String PSCAN_ENABLED_KEY = CLIENT_BASE_KEY + ".pscanEnabled";
     private static final String PSCAN_DISABLED_RULES_KEY = CLIENT_BASE_KEY + ".pscanRulesDisabled";
+    private static final String HISTORY_BATCH_SIZE_KEY = CLIENT_BASE_KEY + ".historyBatchSize";
+    private static final String HISTORY_FLUSH_INTERVAL_KEY =
+            CLIENT_BASE_KEY + ".historyFlushInterval";
 
     private boolean pscanEnabled;
     private List<Integer> pscanRulesDisabled;
+    private int historyBatchSize;
+    private int historyFlushInterval;
 
     @Override
     protected void parseImpl() {
@@ -63,6 +69,15 @@ public class ClientOptions extends VersionedAbstractParam {
             LOGGER.warn(e.getMessage(), e);
             pscanRulesDisabled = new ArrayList<>();
         }
+
+        historyBatchSize =
+                Math.max(1, getInt(HISTORY_BATCH_SIZE_KEY, ClientHistoryWriter.DEFAULT_BATCH_SIZE));
+        historyFlushInterval =
+                Math.max(
+                        1,
+                        getInt(
+                                HISTORY_FLUSH_INTERVAL_KEY,
+                                ClientHistoryWriter.DEFAULT_FLUSH_INTERVAL_MS));
     }
 
     @Override
@@ -97,4 +112,32 @@ public class ClientOptions extends VersionedAbstractParam {
         this.pscanRulesDisabled = pscanDisabled;
         getConfig().setProperty(PSCAN_DISABLED_RULES_KEY, pscanDisabled);
     }
+
+    /**
+     * Gets the maximum number of client history entries persisted in a single transaction.
+     *
+     * @return the batch size.
+     */
+    public int getHistoryBatchSize() {
+        return historyBatchSize;
+    }
+
+    public void setHistoryBatchSize(int historyBatchSize) {
+        this.historyBatchSize = Math.max(1, historyBatchSize);
+        getConfig().setProperty(HISTORY_BATCH_SIZE_KEY, this.historyBatchSize);
+    }
+
+    /**
+     * Gets the maximum time, in milliseconds, that client history entries wait to be persisted.
+     *
+     * @return the flush interval.
+     */
+    public int getHistoryFlushInterval() {
+        return historyFlushInterval;
+    }
+
+    public void setHistoryFlushInterval(int historyFlushInterval) {
+        this.historyFlushInterval = Math.max(1, historyFlushInterval);
+        getConfig().setProperty(HISTORY_FLUSH_INTERVAL_KEY, this.historyFlushInterval);
+    }
 }
@@ -71,6 +71,7 @@ import org.zaproxy.addon.client.internal.ClientSideComponent;
 import org.zaproxy.addon.client.internal.ClientSideDetails;
 import org.zaproxy.addon.client.internal.ReportedObject;
 import org.zaproxy.addon.client.internal.db.ClientHistoryDao;
+import org.zaproxy.addon.client.internal.db.ClientHistoryWriter;
 import org.zaproxy.addon.client.internal.db.TableJdo;
 import org.zaproxy.addon.client.pscan.ClientPassiveScanController;
 import org.zaproxy.addon.client.pscan.ClientPassiveScanHelper;
@@ -150,6 +151,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     private ClientHistoryPanel clientHistoryPanel;
     private ClientSpiderPanel clientSpiderPanel;
     private ClientHistoryTableModel clientHistoryTableModel;
+    private ClientHistoryWriter clientHistoryWriter;
     private RedirectScript redirectScript;
     private ClientZestRecorder clientHandler;
     private SpiderScanController spiderScanController;
@@ -182,6 +184,8 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     public void initModel(Model model) {
         super.initModel(model);
         clientHistoryTableModel = new ClientHistoryTableModel();
+        clientHistoryWriter = new ClientHistoryWriter();
+        clientHistoryWriter.start();
         clientTree =
                 new ClientMap(
                         new ClientNode(
@@ -344,6 +348,8 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     public void optionsLoaded() {
         passiveScanController.setEnabled(getClientParam().isPscanEnabled());
         passiveScanController.setDisabledScanRules(getClientParam().getPscanRulesDisabled());
+        clientHistoryWriter.setBatchSize(getClientParam().getHistoryBatchSize());
+        clientHistoryWriter.setFlushInterval(getClientParam().getHistoryFlushInterval());
     }
 
     @Override
@@ -436,11 +442,27 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     private void loadClientHistory() {
         if (clientHistoryTableModel != null) {
+            clientHistoryWriter.flush();
             clientHistoryTableModel.clear();
             clientHistoryTableModel.addReportedObjects(ClientHistoryDao.loadAll());
         }
     }
 
+    /**
+     * Gets the number of client history entries waiting to be persisted.
+     *
+     * @return the number of entries waiting to be persisted.
+     */
+    public int getClientHistoryBacklog() {
+        return clientHistoryWriter.getBacklog();
+    }
+
+    private void clearClientHistory() {
+        clientHistoryTableModel.clear();
+        clientHistoryWriter.clear();
+        ClientHistoryDao.deleteAll();
+    }
+
     public ClientOptions getClientParam() {
         if (clientParam == null) {
             clientParam = new ClientOptions();
@@ -500,6 +522,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     @Override
     public void unload() {
+        clientHistoryWriter.stop();
         if (redirectScript != null) {
             ExtensionSelenium extSelenium =
                     Control.getSingleton()
@@ -535,6 +558,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
     @Override
     public void destroy() {
         this.spiderScanController.stopAllScans();
+        clientHistoryWriter.stop();
         if (tableJdo != null) {
             tableJdo.unload();
         }
@@ -589,7 +613,8 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
 
     private ClientHistoryPanel getClientHistoryPanel() {
         if (clientHistoryPanel == null) {
-            clientHistoryPanel = new ClientHistoryPanel(clientHistoryTableModel);
+            clientHistoryPanel =
+                    new ClientHistoryPanel(clientHistoryTableModel, this::clearClientHistory);
         }
         return clientHistoryPanel;
     }
@@ -616,7 +641,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         }
 
         this.clientHistoryTableModel.addReportedObject(obj);
-        ClientHistoryDao.persist(obj);
+        clientHistoryWriter.add(obj);
         incPscanCount();
         this.passiveScanController
                 .getEnabledScanRules()
@@ -863,6 +888,7 @@ public class ExtensionClientIntegration extends ExtensionAdaptor {
         public void sessionAboutToChange(Session session) {
             spiderScanController.stopAllScans();
             spiderScanController.reset();
+            clientHistoryWriter.flush();
 
             if (api != null) {
                 api.clear();
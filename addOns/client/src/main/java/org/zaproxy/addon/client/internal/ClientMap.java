@@ -25,6 +25,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import javax.swing.tree.DefaultTreeModel;
@@ -43,6 +44,7 @@ import org.zaproxy.zap.eventBus.Event;
 import org.zaproxy.zap.eventBus.EventPublisher;
 import org.zaproxy.zap.extension.api.API;
 import org.zaproxy.zap.model.Target;
+import org.zaproxy.zap.utils.Stats;
 import org.zaproxy.zap.utils.ThreadUtils;
 
 @SuppressWarnings("serial")
@@ -62,6 +64,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private final List<ClientMapListener> listeners = new CopyOnWriteArrayList<>();
     private final Graph<ClientGraphVertex, DefaultEdge> graph =
             new DirectedMultigraph<>(DefaultEdge.class);
+    private final Map<NodeKey, ClientNode> nodeCache = new ConcurrentHashMap<>();
 
     public ClientMap(ClientNode root) {
         super(root);
@@ -96,12 +99,12 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         return this.getNode(url, visited, storage, false, false, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url, boolean visited, boolean storage, boolean add, boolean publishEvent) {
         return getNode(url, visited, storage, add, publishEvent, 0);
     }
 
-    private synchronized ClientNode getNode(
+    private ClientNode getNode(
             String url,
             boolean visited,
             boolean storage,
@@ -111,6 +114,30 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
         if (url == null) {
             throw new IllegalArgumentException("The url parameter should not be null");
         }
+
+        // Most reported events are for existing nodes, find them without locking the whole map
+        NodeKey key = new NodeKey(url, storage);
+        ClientNode node = nodeCache.get(key);
+        if (node != null && node.getRoot() == root) {
+            return node;
+        }
+
+        synchronized (this) {
+            node = getNodeImpl(url, visited, storage, add, publishEvent, source);
+        }
+        if (node != null) {
+            nodeCache.put(key, node);
+        }
+        return node;
+    }
+
+    private ClientNode getNodeImpl(
+            String url,
+            boolean visited,
+            boolean storage,
+            boolean add,
+            boolean publishEvent,
+            int source) {
         List<String> nodeNames =
                 ClientUtils.urlToNodes(url, root.getSession().getUrlParamParser(url));
 
@@ -184,6 +211,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     }
 
     public void deleteNodes(List<ClientNode> nodes) {
+        nodeCache.clear();
         for (ClientNode node : nodes) {
             if (!node.isRoot()) {
                 removeNodeFromParent(node);
@@ -192,6 +220,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     }
 
     public void clear() {
+        nodeCache.clear();
         root.removeAllChildren();
         this.nodeStructureChanged(root);
         synchronized (graph) {
@@ -318,6 +347,7 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
 
     public void handleReportObject(String jsonStr, int source) {
         LOGGER.debug("Got object: {}", jsonStr);
+        Stats.incCounter("stats.client.map.events");
         JSONObject json = JSONObject.fromObject(jsonStr);
         ReportedElement rnode = new ReportedElement(json);
         notifyReportedObjectConsumer(rnode);
@@ -433,6 +463,8 @@ public class ClientMap extends SortedTreeModel implements EventPublisher {
     private static boolean isApiUrl(String url) {
         return url != null && (url.startsWith(API.API_URL) || url.startsWith(API.API_URL_S));
     }
+
+    private record NodeKey(String url, boolean storage) {}
 }
 
 /**
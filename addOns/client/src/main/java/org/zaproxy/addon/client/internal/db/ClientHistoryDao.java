@@ -31,6 +31,7 @@ import org.apache.logging.log4j.Logger;
 import org.zaproxy.addon.client.internal.ReportedElement;
 import org.zaproxy.addon.client.internal.ReportedEvent;
 import org.zaproxy.addon.client.internal.ReportedObject;
+import org.zaproxy.addon.database.Database;
 
 public class ClientHistoryDao {
 
@@ -62,6 +63,30 @@ public class ClientHistoryDao {
         }
     }
 
+    /**
+     * Persists the given objects, in transactions of {@link Database#DEFAULT_BATCH_SIZE} objects.
+     *
+     * @param objs the objects to persist.
+     */
+    public static void persistAll(List<ReportedObject> objs) {
+        if (objs.isEmpty()) {
+            return;
+        }
+        PersistenceManagerFactory pmf = TableJdo.getPmf();
+        if (pmf == null) {
+            return;
+        }
+        List<ClientHistoryEntry> entries = new ArrayList<>(objs.size());
+        for (ReportedObject obj : objs) {
+            entries.add(toEntry(obj));
+        }
+        try {
+            Database.persistEntities(pmf, entries, Database.DEFAULT_BATCH_SIZE);
+        } catch (Exception e) {
+            LOGGER.warn("Failed to persist client history entries:", e);
+        }
+    }
+
     public static List<ReportedObject> loadAll() {
         PersistenceManagerFactory pmf = TableJdo.getPmf();
         if (pmf == null) {
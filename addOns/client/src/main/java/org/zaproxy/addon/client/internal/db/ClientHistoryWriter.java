@@ -0,0 +1,239 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.addon.client.internal.ReportedObject;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A write-behind queue for the client history.
+ *
+ * <p>The reported objects are queued and persisted in batches, in a single transaction, by a
+ * background thread. A batch is written once it reaches the batch size or when the flush interval
+ * elapses, whichever happens first. If the queue is full the callers block until there's space,
+ * to not lose history.
+ */
+public class ClientHistoryWriter {
+
+    public static final int DEFAULT_BATCH_SIZE = 200;
+    public static final int DEFAULT_FLUSH_INTERVAL_MS = 500;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 50_000;
+
+    private static final Logger LOGGER = LogManager.getLogger(ClientHistoryWriter.class);
+
+    private static final String STATS_PREFIX = "stats.client.history.";
+
+    private final BlockingQueue<ReportedObject> queue;
+    private final Consumer<List<ReportedObject>> persister;
+    private final Object writeLock = new Object();
+
+    private long generation;
+    private volatile int batchSize;
+    private volatile int flushInterval;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public ClientHistoryWriter() {
+        this(DEFAULT_MAX_QUEUE_SIZE, ClientHistoryDao::persistAll);
+    }
+
+    ClientHistoryWriter(int maxQueueSize, Consumer<List<ReportedObject>> persister) {
+        this.queue = new LinkedBlockingQueue<>(maxQueueSize);
+        this.persister = persister;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.flushInterval = DEFAULT_FLUSH_INTERVAL_MS;
+    }
+
+    /**
+     * Sets the maximum number of objects persisted in a single transaction.
+     *
+     * @param batchSize the batch size, values lower than 1 are converted to 1.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, that objects stay in the queue before being
+     * persisted.
+     *
+     * @param flushInterval the flush interval, values lower than 1 are converted to 1.
+     */
+    public void setFlushInterval(int flushInterval) {
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::run, "ZAP-ClientHistoryWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /** Stops the background thread, persisting all the queued objects. */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+        flush();
+    }
+
+    /**
+     * Queues the given object to be persisted.
+     *
+     * <p>If the writer is not running the object is persisted immediately.
+     *
+     * @param obj the object to persist.
+     */
+    public void add(ReportedObject obj) {
+        Stats.incCounter(STATS_PREFIX + "queued");
+        if (!running) {
+            write(List.of(obj), getGeneration());
+            return;
+        }
+        if (queue.offer(obj)) {
+            return;
+        }
+        Stats.incCounter(STATS_PREFIX + "queue.full");
+        try {
+            queue.put(obj);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write(List.of(obj), getGeneration());
+        }
+    }
+
+    /**
+     * Gets the number of objects waiting to be persisted.
+     *
+     * @return the number of queued objects.
+     */
+    public int getBacklog() {
+        return queue.size();
+    }
+
+    /** Persists all the queued objects, in the calling thread. */
+    public void flush() {
+        List<ReportedObject> batch = new ArrayList<>();
+        long batchGeneration = getGeneration();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch, batchGeneration);
+            batch = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Discards all the queued objects, for example, when the history is deleted.
+     *
+     * <p>Batches already being persisted are completed before returning, the ones still being
+     * gathered are discarded.
+     */
+    public void clear() {
+        synchronized (writeLock) {
+            generation++;
+            queue.clear();
+        }
+    }
+
+    private long getGeneration() {
+        synchronized (writeLock) {
+            return generation;
+        }
+    }
+
+    private void run() {
+        List<ReportedObject> batch = new ArrayList<>();
+        long batchGeneration = 0;
+        while (running) {
+            try {
+                batchGeneration = getGeneration();
+                ReportedObject first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) {
+                        break;
+                    }
+                    ReportedObject next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // Stopping, the remaining objects are flushed.
+            }
+            if (!batch.isEmpty()) {
+                write(batch, batchGeneration);
+                batch = new ArrayList<>();
+            }
+        }
+    }
+
+    private void write(List<ReportedObject> batch, long batchGeneration) {
+        synchronized (writeLock) {
+            if (batchGeneration != generation) {
+                return;
+            }
+            try {
+                persister.accept(batch);
+                Stats.incCounter(STATS_PREFIX + "batches");
+                Stats.incCounter(STATS_PREFIX + "persisted", batch.size());
+            } catch (Exception e) {
+                LOGGER.warn("Failed to persist client history entries:", e);
+            }
+        }
+    }
+}
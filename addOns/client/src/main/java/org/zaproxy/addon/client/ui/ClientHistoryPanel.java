@@ -37,7 +37,6 @@ import org.parosproxy.paros.view.View;
 import org.zaproxy.addon.client.ClientHistoryTableModel;
 import org.zaproxy.addon.client.ExtensionClientIntegration;
 import org.zaproxy.addon.client.internal.ReportedObject;
-import org.zaproxy.addon.client.internal.db.ClientHistoryDao;
 import org.zaproxy.zap.utils.DisplayUtils;
 import org.zaproxy.zap.utils.FontUtils;
 import org.zaproxy.zap.view.ZapTable;
@@ -50,11 +49,14 @@ public class ClientHistoryPanel extends AbstractPanel {
 
     private ClientHistoryTableModel clientHistoryTableModel;
     private ZapTable historyTable;
+    private final Runnable clearHistoryAction;
 
-    public ClientHistoryPanel(ClientHistoryTableModel clientHistoryTableModel) {
+    public ClientHistoryPanel(
+            ClientHistoryTableModel clientHistoryTableModel, Runnable clearHistoryAction) {
         setName(Constant.messages.getString(ExtensionClientIntegration.PREFIX + ".history.title"));
         setIcon(ExtensionClientIntegration.getIcon("calendar-browser.png"));
         this.clientHistoryTableModel = clientHistoryTableModel;
+        this.clearHistoryAction = clearHistoryAction;
 
         setLayout(new BorderLayout(0, 0));
 
@@ -78,11 +80,7 @@ public class ClientHistoryPanel extends AbstractPanel {
         clearButton.setIcon(
                 DisplayUtils.getScaledIcon(
                         ClientHistoryPanel.class.getResource("/resource/icon/fugue/broom.png")));
-        clearButton.addActionListener(
-                e -> {
-                    clientHistoryTableModel.clear();
-                    ClientHistoryDao.deleteAll();
-                });
+        clearButton.addActionListener(e -> clearHistoryAction.run());
         toolBar.add(clearButton);
 
         return toolBar;
@@ -49,6 +49,8 @@ class ClientParamUnitTest extends TestUtils {
         // Then
         assertThat(clientParam.isPscanEnabled(), is(true));
         assertThat(clientParam.getPscanRulesDisabled().size(), is(0));
+        assertThat(clientParam.getHistoryBatchSize(), is(200));
+        assertThat(clientParam.getHistoryFlushInterval(), is(500));
     }
 
     @Test
@@ -102,4 +104,28 @@ class ClientParamUnitTest extends TestUtils {
         assertThat(prop.get(1), is(4));
         assertThat(prop.get(2), is(8));
     }
+
+    @Test
+    void shouldLoadHistoryWriteOptions() {
+        // Given
+        config.addProperty("client.historyBatchSize", 50);
+        config.addProperty("client.historyFlushInterval", 1000);
+        // When
+        clientParam.load(config);
+        // Then
+        assertThat(clientParam.getHistoryBatchSize(), is(50));
+        assertThat(clientParam.getHistoryFlushInterval(), is(1000));
+    }
+
+    @Test
+    void shouldSetHistoryWriteOptions() {
+        // Given
+        clientParam.load(config);
+        // When
+        clientParam.setHistoryBatchSize(10);
+        clientParam.setHistoryFlushInterval(0);
+        // Then
+        assertThat(config.getProperty("client.historyBatchSize"), is(10));
+        assertThat(config.getProperty("client.historyFlushInterval"), is(1));
+    }
 }
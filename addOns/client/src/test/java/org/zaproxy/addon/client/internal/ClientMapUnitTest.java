@@ -38,6 +38,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -458,6 +459,48 @@ class ClientMapUnitTest extends TestUtils {
         assertThat(map.getRoot().getChildCount(), is(0));
     }
 
+    @Test
+    void shouldNotGetNodeAfterClearingTheMap() {
+        // Given
+        map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+        map.clear();
+
+        // When
+        ClientNode node = map.getNode(BBB_DDD_URL + "/", false, false);
+
+        // Then
+        assertNull(node);
+    }
+
+    @Test
+    void shouldNotGetDeletedNode() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+        map.getOrAddNode(BBB_CCC_URL + "/", false, false);
+        map.deleteNodes(List.of(node));
+
+        // When
+        ClientNode deleted = map.getNode(BBB_DDD_URL + "/", false, false);
+
+        // Then
+        assertNull(deleted);
+        assertThat(map.getNode(BBB_CCC_URL + "/", false, false), is(notNullValue()));
+    }
+
+    @Test
+    void shouldAddNewNodeAfterDeletingPrevious() {
+        // Given
+        ClientNode node = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+        map.deleteNodes(List.of(node));
+
+        // When
+        ClientNode newNode = map.getOrAddNode(BBB_DDD_URL + "/", false, false);
+
+        // Then
+        assertThat(newNode == node, is(false));
+        assertThat(newNode.getRoot(), is(root));
+    }
+
     @Test
     void shouldSetKnownRedirectDetails() {
         // Given
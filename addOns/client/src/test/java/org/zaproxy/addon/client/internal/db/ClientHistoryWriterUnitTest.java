@@ -0,0 +1,127 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.client.internal.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.addon.client.internal.ReportedObject;
+
+/** Unit tests for {@link ClientHistoryWriter}. */
+class ClientHistoryWriterUnitTest {
+
+    private List<List<ReportedObject>> batches;
+    private ClientHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        batches = Collections.synchronizedList(new ArrayList<>());
+        writer = new ClientHistoryWriter(10, batch -> batches.add(new ArrayList<>(batch)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        writer.stop();
+    }
+
+    @Test
+    void shouldPersistImmediatelyIfNotRunning() {
+        // Given
+        ReportedObject obj = mock(ReportedObject.class);
+        // When
+        writer.add(obj);
+        // Then
+        assertThat(batches, contains(List.of(obj)));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldPersistQueuedObjectsInBatchesWhenFlushed() throws Exception {
+        // Given
+        writer.setBatchSize(2);
+        writer.setFlushInterval(60_000);
+        ReportedObject obj1 = mock(ReportedObject.class);
+        ReportedObject obj2 = mock(ReportedObject.class);
+        ReportedObject obj3 = mock(ReportedObject.class);
+        // When
+        writer.start();
+        writer.add(obj1);
+        writer.add(obj2);
+        writer.add(obj3);
+        writer.stop();
+        // Then
+        List<ReportedObject> persisted = new ArrayList<>();
+        batches.forEach(persisted::addAll);
+        assertThat(persisted, contains(obj1, obj2, obj3));
+        batches.forEach(batch -> assertThat(batch.size() <= 2, is(equalTo(true))));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldPersistInBackgroundAfterFlushInterval() throws Exception {
+        // Given
+        writer.setFlushInterval(10);
+        writer.start();
+        ReportedObject obj = mock(ReportedObject.class);
+        // When
+        writer.add(obj);
+        // Then
+        for (int i = 0; i < 500 && batches.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(batches, contains(List.of(obj)));
+    }
+
+    @Test
+    void shouldDiscardQueuedObjectsWhenCleared() {
+        // Given
+        writer.setFlushInterval(60_000);
+        writer.setBatchSize(100);
+        writer.start();
+        writer.add(mock(ReportedObject.class));
+        writer.add(mock(ReportedObject.class));
+        // When
+        writer.clear();
+        writer.stop();
+        // Then
+        assertThat(batches, is(empty()));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotAllowBatchSizeOrFlushIntervalLowerThanOne() {
+        // Given / When
+        writer.setBatchSize(0);
+        writer.setFlushInterval(-5);
+        // Then
+        assertThat(writer.getBatchSize(), is(equalTo(1)));
+        assertThat(writer.getFlushInterval(), is(equalTo(1)));
+    }
+}
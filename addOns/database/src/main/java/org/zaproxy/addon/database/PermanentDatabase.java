@@ -33,7 +33,21 @@ public class PermanentDatabase extends Database {
     private static final String PERMANENT_DB_PASS = "";
 
     public PermanentDatabase(String persistenceUnitName, ClassLoader classLoader) {
-        super(persistenceUnitName, classLoader);
+        this(persistenceUnitName, classLoader, DEFAULT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * Constructs a {@code PermanentDatabase} with the given maximum number of connections in the
+     * pool.
+     *
+     * @param persistenceUnitName the name of the persistence unit.
+     * @param classLoader the class loader of the entities.
+     * @param maxPoolSize the maximum number of connections in the pool.
+     * @throws IllegalArgumentException if the {@code maxPoolSize} is less than 1.
+     * @since 0.10.0
+     */
+    public PermanentDatabase(String persistenceUnitName, ClassLoader classLoader, int maxPoolSize) {
+        super(persistenceUnitName, classLoader, maxPoolSize);
         migrate();
     }
 
@@ -0,0 +1,305 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.database;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import javax.jdo.FetchPlan;
+import javax.jdo.JDOException;
+import javax.jdo.JDOHelper;
+import javax.jdo.PersistenceManager;
+import javax.jdo.PersistenceManagerFactory;
+import javax.jdo.Query;
+import javax.jdo.Transaction;
+import org.datanucleus.store.rdbms.RDBMSPropertyNames;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+
+/** Unit test for {@link Database}. */
+class DatabaseUnitTest {
+
+    private MockedStatic<JDOHelper> jdoHelper;
+    private PersistenceManagerFactory pmf;
+    private PersistenceManager pm;
+    private Transaction tx;
+    private List<List<?>> persistedBatches;
+
+    @BeforeEach
+    void setUp() {
+        pmf = mock(PersistenceManagerFactory.class);
+        pm = mock(PersistenceManager.class);
+        tx = mock(Transaction.class);
+        given(pmf.getPersistenceManager()).willReturn(pm);
+        given(pm.currentTransaction()).willReturn(tx);
+
+        persistedBatches = new ArrayList<>();
+        doAnswer(
+                        invocation -> {
+                            // The batch is reused, copy it.
+                            persistedBatches.add(
+                                    new ArrayList<>(invocation.<Collection<?>>getArgument(0)));
+                            return null;
+                        })
+                .when(pm)
+                .makePersistentAll(anyCollection());
+
+        jdoHelper = mockStatic(JDOHelper.class);
+        jdoHelper
+                .when(
+                        () ->
+                                JDOHelper.getPersistenceManagerFactory(
+                                        any(Properties.class), any(ClassLoader.class)))
+                .thenReturn(pmf);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdoHelper.close();
+    }
+
+    @Test
+    void shouldUseDefaultMaxPoolSize() {
+        // Given / When
+        new TestDatabase();
+        // Then
+        assertThat(
+                getJdoProperties().get(RDBMSPropertyNames.PROPERTY_CONNECTION_POOL_MAX_POOL_SIZE),
+                is(equalTo(Database.DEFAULT_MAX_POOL_SIZE)));
+    }
+
+    @Test
+    void shouldUseGivenMaxPoolSize() {
+        // Given / When
+        new TestDatabase(8);
+        // Then
+        assertThat(
+                getJdoProperties().get(RDBMSPropertyNames.PROPERTY_CONNECTION_POOL_MAX_POOL_SIZE),
+                is(equalTo(8)));
+    }
+
+    @Test
+    void shouldThrowIfMaxPoolSizeLessThanOne() {
+        assertThrows(IllegalArgumentException.class, () -> new TestDatabase(0));
+    }
+
+    @Test
+    void shouldPersistEntitiesInBatches() {
+        // Given
+        Database db = new TestDatabase();
+        List<Object> entities = List.of("a", "b", "c", "d", "e");
+        // When
+        db.persistEntities(entities, 2);
+        // Then
+        assertBatches(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        verify(pmf, times(1)).getPersistenceManager();
+        verify(tx, times(3)).begin();
+        verify(tx, times(3)).commit();
+        verify(pm).close();
+    }
+
+    @Test
+    void shouldPersistEntitiesInDefaultBatchSize() {
+        // Given
+        Database db = new TestDatabase();
+        List<Integer> entities = new ArrayList<>();
+        for (int i = 0; i < Database.DEFAULT_BATCH_SIZE + 1; i++) {
+            entities.add(i);
+        }
+        // When
+        db.persistEntities(entities);
+        // Then
+        assertBatches(
+                entities.subList(0, Database.DEFAULT_BATCH_SIZE),
+                List.of(Database.DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    void shouldSkipNullEntities() {
+        // Given
+        Database db = new TestDatabase();
+        // When
+        db.persistEntities(Arrays.asList("a", null, "b"), 10);
+        // Then
+        assertBatches(List.of("a", "b"));
+    }
+
+    @Test
+    void shouldNotPersistNullOrEmptyEntities() {
+        // Given
+        Database db = new TestDatabase();
+        // When
+        db.persistEntities(null);
+        db.persistEntities(List.of());
+        // Then
+        verify(pmf, never()).getPersistenceManager();
+    }
+
+    @Test
+    void shouldThrowIfBatchSizeLessThanOne() {
+        // Given
+        Database db = new TestDatabase();
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> db.persistEntities(List.of("a"), 0));
+    }
+
+    @Test
+    void shouldRollbackAndCloseIfBatchFails() {
+        // Given
+        Database db = new TestDatabase();
+        doThrow(JDOException.class).when(tx).commit();
+        given(tx.isActive()).willReturn(true);
+        // When
+        assertThrows(JDOException.class, () -> db.persistEntities(List.of("a", "b"), 1));
+        // Then
+        verify(tx, times(1)).begin();
+        verify(tx).rollback();
+        verify(pm).close();
+    }
+
+    @Test
+    void shouldPersistEntitiesWithGivenFactory() {
+        // Given
+        List<Object> entities = List.of("a", "b", "c");
+        // When
+        Database.persistEntities(pmf, entities, 2);
+        // Then
+        assertBatches(List.of("a", "b"), List.of("c"));
+        verify(pm).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPassEntitiesToConsumerFetchingGivenSize() throws Exception {
+        // Given
+        Database db = new TestDatabase();
+        Query<String> query = mock(Query.class);
+        FetchPlan fetchPlan = mock(FetchPlan.class);
+        given(pm.newQuery(String.class)).willReturn(query);
+        given(query.getFetchPlan()).willReturn(fetchPlan);
+        given(query.executeList()).willReturn(List.of("a", "b", "c"));
+        List<String> consumed = new ArrayList<>();
+        // When
+        db.forEach(String.class, 25, consumed::add);
+        // Then
+        assertThat(consumed, contains("a", "b", "c"));
+        verify(fetchPlan).setFetchSize(25);
+        verify(query).addExtension("datanucleus.query.resultCacheType", "none");
+        verify(tx).begin();
+        verify(tx).commit();
+        verify(query).close();
+        verify(pm).close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldUseDefaultFetchSize() {
+        // Given
+        Database db = new TestDatabase();
+        Query<String> query = mock(Query.class);
+        FetchPlan fetchPlan = mock(FetchPlan.class);
+        given(pm.newQuery(String.class)).willReturn(query);
+        given(query.getFetchPlan()).willReturn(fetchPlan);
+        given(query.executeList()).willReturn(List.of());
+        // When
+        db.forEach(String.class, e -> {});
+        // Then
+        verify(fetchPlan).setFetchSize(Database.DEFAULT_FETCH_SIZE);
+    }
+
+    @Test
+    void shouldThrowIfForEachClassNullOrFetchSizeLessThanOne() {
+        // Given
+        Database db = new TestDatabase();
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> db.forEach(null, e -> {}));
+        assertThrows(IllegalArgumentException.class, () -> db.forEach(String.class, 0, e -> {}));
+    }
+
+    private void assertBatches(List<?>... batches) {
+        assertThat(persistedBatches, is(equalTo(List.of(batches))));
+    }
+
+    private Properties getJdoProperties() {
+        ArgumentCaptor<Properties> properties = ArgumentCaptor.forClass(Properties.class);
+        jdoHelper.verify(
+                () ->
+                        JDOHelper.getPersistenceManagerFactory(
+                                properties.capture(), any(ClassLoader.class)));
+        return properties.getValue();
+    }
+
+    private static class TestDatabase extends Database {
+
+        TestDatabase() {
+            super("test", DatabaseUnitTest.class.getClassLoader());
+        }
+
+        TestDatabase(int maxPoolSize) {
+            super("test", DatabaseUnitTest.class.getClassLoader(), maxPoolSize);
+        }
+
+        @Override
+        protected String getDbType() {
+            return "hsql";
+        }
+
+        @Override
+        protected String getDbDriver() {
+            return "org.hsqldb.jdbcDriver";
+        }
+
+        @Override
+        protected String getDbUrl() {
+            return "jdbc:hsqldb:mem:test";
+        }
+
+        @Override
+        protected String getDbUsername() {
+            return "sa";
+        }
+
+        @Override
+        protected String getDbPass() {
+            return "";
+        }
+    }
+}
@@ -24,14 +24,12 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Stack;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.apache.commons.configuration.ConversionException;
@@ -54,6 +52,7 @@ import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.core.scanner.Category;
 import org.parosproxy.paros.core.scanner.NameValuePair;
 import org.parosproxy.paros.core.scanner.Plugin;
+import org.parosproxy.paros.core.scanner.ScannerParam;
 import org.parosproxy.paros.model.Model;
 import org.parosproxy.paros.network.HtmlParameter;
 import org.parosproxy.paros.network.HttpMessage;
@@ -68,6 +67,8 @@ import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
 import org.zaproxy.addon.network.server.Server;
 import org.zaproxy.zap.extension.selenium.Browser;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
+import org.zaproxy.zap.extension.selenium.PooledWebDriver;
+import org.zaproxy.zap.extension.selenium.WebDriverPool;
 import org.zaproxy.zap.model.Context;
 import org.zaproxy.zap.utils.Stats;
 
@@ -143,18 +144,18 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         ALERT_TAGS = Collections.unmodifiableMap(alertTags);
     }
 
-    private static Map<Browser, Stack<WebDriverWrapper>> freeDrivers = new HashMap<>();
-    private static List<WebDriverWrapper> takenDrivers = new ArrayList<>();
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final Duration DRIVER_HANG_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DRIVER_IDLE_TIMEOUT = Duration.ofMinutes(5);
 
-    private static Thread reaperThread = null;
-    private static Object reaperThreadSync = new Object();
+    private static final Map<Browser, WebDriverPool> DRIVER_POOLS = new ConcurrentHashMap<>();
 
     static ExtensionNetwork extensionNetwork;
 
     static Server proxy = null;
     private static int proxyPort = -1;
 
-    private WebDriverWrapper driver;
+    private PooledWebDriver driver;
     private boolean vulnerable = false;
     private Browser browser;
     private List<String> steps;
@@ -217,6 +218,10 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
 
         LOGGER.debug("Using browser: {}", browser);
         steps = new ArrayList<>();
+
+        if (proxyPort != -1) {
+            getDriverPool().prewarm(getPoolSize());
+        }
     }
 
     private static boolean isSupportedBrowser(Browser browser) {
@@ -285,7 +290,7 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         return false;
     }
 
-    private WebDriver createWebDriver() {
+    private static WebDriver createWebDriver(Browser browser) {
         WebDriver webDriver =
                 ExtensionSelenium.getWebDriver(
                         HttpSender.ACTIVE_SCANNER_INITIATOR,
@@ -304,89 +309,46 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         return webDriver;
     }
 
-    private WebDriverWrapper getWebDriver() {
-        WebDriverWrapper driver = null;
-        try {
-            driver = freeDrivers.get(browser).pop();
-            if (!driver.getBrowser().equals(browser)) {
-                driver.getDriver().quit();
-                driver = null;
-            }
-        } catch (Exception e) {
-            // Ignore
-        }
-        if (driver == null) {
-            driver = new WebDriverWrapper(createWebDriver(), browser);
-        }
-        synchronized (takenDrivers) {
-            takenDrivers.add(driver);
-        }
-
-        if (reaperThread == null) {
-            synchronized (reaperThreadSync) {
-                if (reaperThread == null) {
-                    reaperThread =
-                            new Thread(
-                                    () -> {
-                                        LOGGER.info("Reaper thread starting");
-                                        reaperThread.setName("ZAP-DomXssReaper");
-                                        do {
-                                            try {
-                                                Thread.sleep(5000);
-                                            } catch (InterruptedException e) {
-                                                // Ignore
-                                            }
-                                            Date now = new Date();
-                                            // concurrent modification exception :(
-                                            synchronized (takenDrivers) {
-                                                Iterator<WebDriverWrapper> iter =
-                                                        takenDrivers.iterator();
-                                                while (iter.hasNext()) {
-                                                    WebDriverWrapper wrapper = iter.next();
-                                                    if ((now.getTime()
-                                                                            - wrapper.getLastAccessed()
-                                                                                    .getTime())
-                                                                    / 1000
-                                                            > 10) {
-                                                        LOGGER.debug(
-                                                                "Driver hung {}",
-                                                                wrapper.getDriver().hashCode());
-                                                        wrapper.getDriver().quit();
-                                                        wrapper.setDriver(createWebDriver());
-                                                        LOGGER.debug(
-                                                                "New driver {}",
-                                                                wrapper.getDriver().hashCode());
-                                                    }
-                                                }
-                                            }
-                                        } while (takenDrivers.size() > 0);
-                                        LOGGER.info(
-                                                "Reaper thread exiting {}", takenDrivers.size());
-
-                                        reaperThread = null;
-                                    });
-                    reaperThread.start();
-                }
-            }
+    private WebDriverPool getDriverPool() {
+        int poolSize = getPoolSize();
+        WebDriverPool pool =
+                DRIVER_POOLS.computeIfAbsent(
+                        browser,
+                        b -> {
+                            WebDriverPool newPool =
+                                    new WebDriverPool(
+                                            "domxss.pool", () -> createWebDriver(b), poolSize);
+                            newPool.setHangTimeout(DRIVER_HANG_TIMEOUT);
+                            newPool.setIdleTimeout(DRIVER_IDLE_TIMEOUT);
+                            return newPool;
+                        });
+        if (pool.getMaxSize() < poolSize) {
+            pool.setMaxSize(poolSize);
+        }
+        return pool;
+    }
+
+    /**
+     * Gets the size of the pool of browsers, enough for all the threads of the scan.
+     *
+     * @return the size of the pool.
+     */
+    private int getPoolSize() {
+        ScannerParam scannerParam = getParent() != null ? getParent().getScannerParam() : null;
+        if (scannerParam == null) {
+            return DEFAULT_POOL_SIZE;
         }
-        return driver;
+        return Math.max(
+                1, scannerParam.getThreadPerHost() * Math.max(1, scannerParam.getHostPerScan()));
     }
 
-    private void returnDriver(WebDriverWrapper driver) {
-        synchronized (takenDrivers) {
-            try {
-                driver.getDriver().switchTo().alert().accept();
-            } catch (Exception e) {
-                // ignore
-            }
-            driver.getDriver().get("about:blank");
-            if (takenDrivers.remove(driver)) {
-                freeDrivers.computeIfAbsent(driver.getBrowser(), k -> new Stack<>()).push(driver);
+    private PooledWebDriver getWebDriver() throws InterruptedException {
+        // Do not share the cookies and storage of a host with others.
+        return getDriverPool().acquire(getBaseMsg().getRequestHeader().getHostName());
+    }
 
-            } else {
-                LOGGER.debug("Driver not in 'taken' list");
-            }
-        }
+    private void returnDriver(PooledWebDriver driver) {
+        getDriverPool().release(driver);
     }
 
     @Override
@@ -396,26 +358,31 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
     }
 
     static void tidyUp() {
-        // Tidy up...
-        // Dont kill drivers in the 'taken' list as there may be multiple scans
-        WebDriverWrapper driver;
-        for (Entry<Browser, Stack<WebDriverWrapper>> map : freeDrivers.entrySet()) {
-            while (!map.getValue().isEmpty()) {
-                try {
-                    driver = map.getValue().pop();
-                    driver.getDriver().quit();
-                } catch (Exception e) {
-                    // Ignore
-                }
-            }
+        // Replace the browsers used with the host, keeping the pool warm for other hosts, the ones
+        // in use are kept as there may be multiple scans.
+        for (Entry<Browser, WebDriverPool> entry : DRIVER_POOLS.entrySet()) {
+            WebDriverPool pool = entry.getValue();
+            LOGGER.debug(
+                    "Browser {} pool: acquired {}, started {}, reuse rate {}, wait time {} ms",
+                    entry.getKey(),
+                    pool.getAcquisitionCount(),
+                    pool.getCreatedCount(),
+                    pool.getReuseRate(),
+                    pool.getTotalWaitTime());
+            pool.recycleIdle();
         }
     }
 
-    private void getHelper(WebDriverWrapper wrapper, String url) {
+    static void closeDriverPools() {
+        DRIVER_POOLS.values().forEach(WebDriverPool::close);
+        DRIVER_POOLS.clear();
+    }
+
+    private void getHelper(PooledWebDriver wrapper, String url) {
         this.getHelper(wrapper, url, 3);
     }
 
-    private void getHelper(WebDriverWrapper wrapper, String url, int retry) {
+    private void getHelper(PooledWebDriver wrapper, String url, int retry) {
         try {
             Stats.incCounter("domxss.gets.count");
             steps.add(Constant.messages.getString("domxss.step.access", url));
@@ -452,11 +419,11 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
         }
     }
 
-    private List<WebElement> findHelper(WebDriverWrapper wrapper, By by) {
+    private List<WebElement> findHelper(PooledWebDriver wrapper, By by) {
         return this.findHelper(wrapper, by, 3);
     }
 
-    private List<WebElement> findHelper(WebDriverWrapper wrapper, By by, int retry) {
+    private List<WebElement> findHelper(PooledWebDriver wrapper, By by, int retry) {
         try {
             Stats.incCounter("domxss.gets.count");
             return wrapper.getDriver().findElements(by);
@@ -674,6 +641,10 @@ public class DomXssScanRule extends AbstractAppParamPlugin {
 
         try {
             driver = getWebDriver();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting for a browser, the scan was stopped.");
+            return;
         } catch (Exception e) {
             LOGGER.warn("Skipping scanner, failed to start browser: {}", e.getMessage());
             getParent()
@@ -86,6 +86,7 @@ public class ExtensionDomXSS extends ExtensionAdaptor {
         super.unload();
 
         PluginFactory.unloadedPlugin(scanner);
+        DomXssScanRule.closeDriverPools();
     }
 
     @Override
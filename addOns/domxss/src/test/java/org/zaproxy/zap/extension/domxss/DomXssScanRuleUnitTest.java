@@ -93,7 +93,7 @@ class DomXssScanRuleUnitTest extends ActiveScannerTestUtils<DomXssScanRule> {
 
     @AfterAll
     static void tidyUp() {
-        DomXssScanRule.tidyUp();
+        DomXssScanRule.closeDriverPools();
         extensionNetwork.stop();
     }
 
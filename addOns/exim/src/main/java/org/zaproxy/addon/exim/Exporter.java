@@ -134,7 +134,9 @@ public class Exporter {
      * @return the result of the export.
      */
     public ExporterResult export(ExporterOptions options) {
+        long start = System.currentTimeMillis();
         ExporterResult result = exportImpl(options);
+        result.setDuration(System.currentTimeMillis() - start);
         Stats.incCounter(
                 ExtensionExim.STATS_PREFIX + "exporter." + options.getType() + ".count",
                 result.getCount());
@@ -34,6 +34,7 @@ public class ExporterResult {
     private List<String> errors;
     private Throwable cause;
     private int count;
+    private long duration;
 
     /**
      * Gets the count of exported messages.
@@ -52,6 +53,39 @@ public class ExporterResult {
         this.count += n;
     }
 
+    /**
+     * Gets the time it took to export, in milliseconds.
+     *
+     * @return the duration of the export.
+     * @since 0.23.0
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Sets the time it took to export, in milliseconds.
+     *
+     * @param duration the duration of the export.
+     * @since 0.23.0
+     */
+    public void setDuration(long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the number of exported messages (or nodes) per second.
+     *
+     * @return the count per second, or 0 if the duration is not known.
+     * @since 0.23.0
+     */
+    public double getCountPerSecond() {
+        if (duration <= 0) {
+            return 0;
+        }
+        return count * 1000.0 / duration;
+    }
+
     /**
      * Gets the errors that happened while exporting, if any.
      *
@@ -0,0 +1,161 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.exim.sites;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMalformedHeaderException;
+import org.parosproxy.paros.network.HttpMessage;
+
+/**
+ * Reads the messages of history references ahead of their use, in the order they will be used.
+ *
+ * <p>Keeps a bounded window of reads in progress, filled as the messages are used, so that the
+ * reads from the session database overlap with the processing of the previous messages.
+ */
+class HistoryPrefetcher implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(HistoryPrefetcher.class);
+
+    /** The default maximum number of messages read ahead. */
+    static final int DEFAULT_WINDOW_SIZE = 64;
+
+    /** The default number of threads reading the messages. */
+    static final int DEFAULT_THREADS = 2;
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final Iterator<HistoryReference> references;
+    private final int windowSize;
+    private final Deque<Prefetch> window;
+    private final ExecutorService executor;
+
+    HistoryPrefetcher(Iterator<HistoryReference> references) {
+        this(references, DEFAULT_WINDOW_SIZE, DEFAULT_THREADS);
+    }
+
+    /**
+     * Constructs a {@code HistoryPrefetcher} with the given references, in the order they will be
+     * used.
+     *
+     * @param references the references whose messages will be read.
+     * @param windowSize the maximum number of messages read ahead.
+     * @param threads the number of threads reading the messages.
+     */
+    HistoryPrefetcher(Iterator<HistoryReference> references, int windowSize, int threads) {
+        this.references = references;
+        this.windowSize = windowSize;
+        this.window = new ArrayDeque<>(windowSize);
+        this.executor =
+                Executors.newFixedThreadPool(
+                        threads,
+                        r -> {
+                            Thread thread =
+                                    new Thread(
+                                            r,
+                                            "ZAP-exim-history-prefetch-"
+                                                    + THREAD_NUMBER.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    /**
+     * Gets the message of the given reference, read ahead if it was expected, otherwise read
+     * directly.
+     *
+     * @param href the history reference.
+     * @return the message.
+     * @throws HttpMalformedHeaderException if the message could not be parsed.
+     * @throws DatabaseException if an error occurred while reading the message.
+     */
+    HttpMessage getHttpMessage(HistoryReference href)
+            throws HttpMalformedHeaderException, DatabaseException {
+        fill();
+
+        Prefetch prefetch = take(href);
+        fill();
+        if (prefetch == null) {
+            LOGGER.debug("Message {} not prefetched, reading directly.", href.getHistoryId());
+            return href.getHttpMessage();
+        }
+        return prefetch.get();
+    }
+
+    private Prefetch take(HistoryReference href) {
+        boolean expected = window.stream().anyMatch(e -> e.href == href);
+        if (!expected) {
+            return null;
+        }
+        // Discard the ones that will no longer be used, e.g. the tree changed.
+        Prefetch prefetch;
+        while ((prefetch = window.removeFirst()).href != href) {
+            prefetch.future.cancel(false);
+        }
+        return prefetch;
+    }
+
+    private void fill() {
+        while (window.size() < windowSize && references.hasNext()) {
+            HistoryReference href = references.next();
+            Callable<HttpMessage> read = href::getHttpMessage;
+            window.addLast(new Prefetch(href, executor.submit(read)));
+        }
+    }
+
+    @Override
+    public void close() {
+        window.forEach(e -> e.future.cancel(false));
+        window.clear();
+        executor.shutdown();
+    }
+
+    private record Prefetch(HistoryReference href, Future<HttpMessage> future) {
+
+        HttpMessage get() throws HttpMalformedHeaderException, DatabaseException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return href.getHttpMessage();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof HttpMalformedHeaderException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof DatabaseException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
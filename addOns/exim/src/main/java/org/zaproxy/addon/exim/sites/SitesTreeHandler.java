@@ -42,6 +42,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Spliterator;
@@ -129,15 +130,18 @@ public class SitesTreeHandler {
     public static void exportSitesTree(
             Writer fw, SiteMap sites, ExporterResult result, ExporterOptions options)
             throws IOException {
-        try (BufferedWriter bw = new BufferedWriter(fw)) {
+        long start = System.currentTimeMillis();
+        SiteNodeSerializer serializer = new SiteNodeSerializer(options, result);
+        try (BufferedWriter bw = new BufferedWriter(fw);
+                HistoryPrefetcher prefetcher =
+                        new HistoryPrefetcher(serializer.getPostReferences(sites.getRoot()))) {
+            serializer.setPrefetcher(prefetcher);
             YAML_MAPPER
                     .copy()
-                    .registerModule(
-                            new SimpleModule()
-                                    .addSerializer(
-                                            SiteNode.class,
-                                            new SiteNodeSerializer(options, result)))
+                    .registerModule(new SimpleModule().addSerializer(SiteNode.class, serializer))
                     .writeValue(bw, List.of(sites.getRoot()));
+        } finally {
+            result.setDuration(System.currentTimeMillis() - start);
         }
     }
 
@@ -232,6 +236,7 @@ public class SitesTreeHandler {
 
         private Context context;
         private ExporterResult result;
+        private HistoryPrefetcher prefetcher;
 
         public SiteNodeSerializer(ExporterOptions options, ExporterResult result) {
             super(SiteNode.class);
@@ -240,6 +245,29 @@ public class SitesTreeHandler {
             this.result = result;
         }
 
+        void setPrefetcher(HistoryPrefetcher prefetcher) {
+            this.prefetcher = prefetcher;
+        }
+
+        /**
+         * Gets the history references whose messages are read when serialising the given node,
+         * that is, the ones of the POST nodes in scope, in the order they are serialised.
+         *
+         * @param root the root node.
+         * @return the history references.
+         */
+        Iterator<HistoryReference> getPostReferences(SiteNode root) {
+            return StreamSupport.stream(
+                            Spliterators.spliteratorUnknownSize(
+                                    root.preorderEnumeration().asIterator(), Spliterator.ORDERED),
+                            false)
+                    .map(SiteNode.class::cast)
+                    .filter(this::isInScope)
+                    .map(SiteNode::getHistoryReference)
+                    .filter(e -> e != null && HttpRequestHeader.POST.equals(e.getMethod()))
+                    .iterator();
+        }
+
         @Override
         public void serialize(SiteNode value, JsonGenerator gen, SerializerProvider provider)
                 throws IOException, JsonProcessingException {
@@ -291,7 +319,10 @@ public class SitesTreeHandler {
 
                 if (HttpRequestHeader.POST.equals(href.getMethod())) {
                     try {
-                        HttpMessage msg = href.getHttpMessage();
+                        HttpMessage msg =
+                                prefetcher != null
+                                        ? prefetcher.getHttpMessage(href)
+                                        : href.getHttpMessage();
                         if (msg.getRequestHeader()
                                 .hasContentType(HttpHeader.FORM_MULTIPART_CONTENT_TYPE)) {
                             VariantMultipartFormParameters mfp =
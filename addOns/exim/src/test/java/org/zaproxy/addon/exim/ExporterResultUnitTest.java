@@ -98,4 +98,28 @@ class ExporterResultUnitTest {
         assertThat(result.getErrors(), contains("Error A", "Error B"));
         assertThat(result.getCause(), is(equalTo(exceptionB)));
     }
+
+    @Test
+    void shouldHaveZeroCountPerSecondIfNoDuration() {
+        // Given
+        ExporterResult result = new ExporterResult();
+        result.incrementCount();
+        // When
+        double countPerSecond = result.getCountPerSecond();
+        // Then
+        assertThat(result.getDuration(), is(equalTo(0L)));
+        assertThat(countPerSecond, is(equalTo(0.0)));
+    }
+
+    @Test
+    void shouldHaveCountPerSecond() {
+        // Given
+        ExporterResult result = new ExporterResult();
+        result.addCount(50);
+        // When
+        result.setDuration(2000);
+        // Then
+        assertThat(result.getDuration(), is(equalTo(2000L)));
+        assertThat(result.getCountPerSecond(), is(equalTo(25.0)));
+    }
 }
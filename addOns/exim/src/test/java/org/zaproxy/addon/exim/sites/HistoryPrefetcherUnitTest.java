@@ -0,0 +1,120 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.exim.sites;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.db.DatabaseException;
+import org.parosproxy.paros.model.HistoryReference;
+import org.parosproxy.paros.network.HttpMessage;
+
+/** Unit test for {@link HistoryPrefetcher}. */
+class HistoryPrefetcherUnitTest {
+
+    @Test
+    void shouldReadMessagesAheadInWindow() throws Exception {
+        // Given
+        List<HistoryReference> hrefs = createReferences(5);
+        try (HistoryPrefetcher prefetcher = new HistoryPrefetcher(hrefs.iterator(), 2, 1)) {
+            // When
+            prefetcher.getHttpMessage(hrefs.get(0));
+            // Then
+            verify(hrefs.get(2), timeout(5000)).getHttpMessage();
+            verify(hrefs.get(3), times(0)).getHttpMessage();
+        }
+    }
+
+    @Test
+    void shouldGetMessagesInOrder() throws Exception {
+        // Given
+        List<HistoryReference> hrefs = createReferences(10);
+        try (HistoryPrefetcher prefetcher = new HistoryPrefetcher(hrefs.iterator(), 3, 2)) {
+            for (HistoryReference href : hrefs) {
+                // When
+                HttpMessage msg = prefetcher.getHttpMessage(href);
+                // Then
+                assertThat(msg, is(sameInstance(href.getHttpMessage())));
+            }
+        }
+    }
+
+    @Test
+    void shouldReadDirectlyMessagesNotExpected() throws Exception {
+        // Given
+        List<HistoryReference> hrefs = createReferences(3);
+        HistoryReference other = createReferences(1).get(0);
+        try (HistoryPrefetcher prefetcher = new HistoryPrefetcher(hrefs.iterator(), 2, 1)) {
+            // When
+            HttpMessage msg = prefetcher.getHttpMessage(other);
+            // Then
+            assertThat(msg, is(sameInstance(other.getHttpMessage())));
+            assertThat(
+                    prefetcher.getHttpMessage(hrefs.get(0)),
+                    is(sameInstance(hrefs.get(0).getHttpMessage())));
+        }
+    }
+
+    @Test
+    void shouldSkipMessagesNoLongerExpected() throws Exception {
+        // Given
+        List<HistoryReference> hrefs = createReferences(4);
+        try (HistoryPrefetcher prefetcher = new HistoryPrefetcher(hrefs.iterator(), 3, 1)) {
+            // When
+            HttpMessage msg = prefetcher.getHttpMessage(hrefs.get(2));
+            // Then
+            assertThat(msg, is(sameInstance(hrefs.get(2).getHttpMessage())));
+            assertThat(
+                    prefetcher.getHttpMessage(hrefs.get(3)),
+                    is(sameInstance(hrefs.get(3).getHttpMessage())));
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionOfRead() throws Exception {
+        // Given
+        HistoryReference href = mock(HistoryReference.class);
+        given(href.getHttpMessage()).willThrow(DatabaseException.class);
+        try (HistoryPrefetcher prefetcher = new HistoryPrefetcher(List.of(href).iterator())) {
+            // When / Then
+            assertThrows(DatabaseException.class, () -> prefetcher.getHttpMessage(href));
+        }
+    }
+
+    private static List<HistoryReference> createReferences(int count) throws Exception {
+        List<HistoryReference> hrefs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HistoryReference href = mock(HistoryReference.class);
+            given(href.getHttpMessage()).willReturn(new HttpMessage());
+            hrefs.add(href);
+        }
+        return hrefs;
+    }
+}
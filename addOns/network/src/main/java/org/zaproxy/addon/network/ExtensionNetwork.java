@@ -54,6 +54,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -117,6 +118,7 @@ import org.zaproxy.addon.network.internal.server.http.LocalServerConfig;
 import org.zaproxy.addon.network.internal.server.http.LocalServerHandler;
 import org.zaproxy.addon.network.internal.server.http.MainProxyHandler;
 import org.zaproxy.addon.network.internal.server.http.MainServerHandler;
+import org.zaproxy.addon.network.internal.server.http.ServerExecutor;
 import org.zaproxy.addon.network.internal.server.http.handlers.BrowserRequestHandler;
 import org.zaproxy.addon.network.internal.server.http.handlers.CloseOnRecursiveRequestHandler;
 import org.zaproxy.addon.network.internal.server.http.handlers.ConnectReceivedHandler;
@@ -125,6 +127,7 @@ import org.zaproxy.addon.network.internal.server.http.handlers.HttpSenderHandler
 import org.zaproxy.addon.network.internal.server.http.handlers.LegacyNoCacheRequestHandler;
 import org.zaproxy.addon.network.internal.server.http.handlers.LegacyProxyListenerHandler;
 import org.zaproxy.addon.network.internal.server.http.handlers.RemoveAcceptEncodingHandler;
+import org.zaproxy.addon.network.internal.server.http.handlers.StaticResourceCacheHandler;
 import org.zaproxy.addon.network.internal.server.http.handlers.ZapApiHandler;
 import org.zaproxy.addon.network.internal.ui.LocalServerInfoLabel;
 import org.zaproxy.addon.network.internal.ui.PromptHttpProxyPasswordDialog;
@@ -132,6 +135,7 @@ import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpServerConfig;
 import org.zaproxy.addon.network.server.Server;
 import org.zaproxy.addon.network.server.ServerInfo;
+import org.zaproxy.addon.network.server.StaticResourceCache;
 import org.zaproxy.zap.ZAP;
 import org.zaproxy.zap.extension.api.API;
 import org.zaproxy.zap.extension.api.ApiElement;
@@ -197,7 +201,8 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
     private BrowserRequestHandler browserRequestHandler;
     private AliasChecker aliasChecker;
     private Map<String, LocalServer> localServers;
-    private ExecutorService blockingServerExecutor;
+    private ExecutorService blockingServerThreads;
+    private ScheduledExecutorService serverHoldChecker;
     private LocalServer mainProxyServer;
     private ServerInfo mainProxyServerInfo;
     private BreakSerialiseState serialiseForBreak;
@@ -367,9 +372,12 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
         rateLimitExtensionHelper.init(httpSenderNetwork);
 
         localServers = Collections.synchronizedMap(new HashMap<>());
-        blockingServerExecutor =
+        blockingServerThreads =
                 Executors.newCachedThreadPool(
                         new DefaultThreadFactory("ZAP-IO-Server", Thread.MAX_PRIORITY));
+        serverHoldChecker =
+                Executors.newSingleThreadScheduledExecutor(
+                        new DefaultThreadFactory("ZAP-IO-Server-Hold", true));
 
         extensionBreak =
                 Control.getSingleton().getExtensionLoader().getExtension(ExtensionBreak.class);
@@ -543,7 +551,9 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
      * <p>The CONNECT requests are automatically handled as is the possible TLS upgrade.
      *
      * <p>A configuration with an {@link HttpSender} creates a proxy. The connection is
-     * automatically closed on recursive requests.
+     * automatically closed on recursive requests. If the configuration has a {@link
+     * StaticResourceCache} the proxy serves the cached static resources before notifying the
+     * message handler.
      *
      * @param config the server configuration.
      * @return the server.
@@ -554,10 +564,11 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
         Objects.requireNonNull(config);
 
         Supplier<MainServerHandler> mainServerHandler;
+        ServerExecutor serverExecutor = createServerExecutor();
         boolean addApiHandler = config.isServeZapApi();
         HttpSender httpSender = config.getHttpSender();
         if (httpSender != null) {
-            List<HttpMessageHandler> handlers = new ArrayList<>(addApiHandler ? 8 : 7);
+            List<HttpMessageHandler> handlers = new ArrayList<>(addApiHandler ? 9 : 8);
             handlers.add(ConnectReceivedHandler.getSetAndOverrideInstance());
             handlers.add(RemoveAcceptEncodingHandler.getEnabledInstance());
             handlers.add(DecodeResponseHandler.getEnabledInstance());
@@ -565,6 +576,9 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
                 handlers.add(ZapApiHandler.getEnabledInstance());
             }
             handlers.add(browserRequestHandler);
+            if (config.getStaticResourceCache() != null) {
+                handlers.add(new StaticResourceCacheHandler(config.getStaticResourceCache()));
+            }
 
             handlers.add(config.getHttpMessageHandler());
             handlers.add(CloseOnRecursiveRequestHandler.getInstance());
@@ -572,7 +586,7 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
             mainServerHandler =
                     () ->
                             new MainProxyHandler(
-                                    blockingServerExecutor, legacyProxyListenerHandler, handlers);
+                                    serverExecutor, legacyProxyListenerHandler, handlers);
         } else {
             List<HttpMessageHandler> handlers = new ArrayList<>(addApiHandler ? 4 : 3);
             handlers.add(ConnectReceivedHandler.getSetAndOverrideInstance());
@@ -582,7 +596,7 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
             handlers.add(browserRequestHandler);
 
             handlers.add(config.getHttpMessageHandler());
-            mainServerHandler = () -> new MainServerHandler(blockingServerExecutor, handlers);
+            mainServerHandler = () -> new MainServerHandler(serverExecutor, handlers);
         }
 
         TlsConfig tlsConfig = null;
@@ -931,11 +945,25 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
         return true;
     }
 
+    /**
+     * Creates the executor of a server, each server has its own bound so that the messages of one
+     * do not delay the messages of the others, while sharing the threads.
+     *
+     * @return a new {@code ServerExecutor}.
+     */
+    private ServerExecutor createServerExecutor() {
+        return new ServerExecutor(
+                blockingServerThreads,
+                serverHoldChecker,
+                ServerExecutor.DEFAULT_MAX_IN_FLIGHT,
+                ServerExecutor.DEFAULT_HOLD_THRESHOLD_MS);
+    }
+
     private LocalServer createLocalServer(LocalServerConfig config) {
         return new LocalServer(
                 getMainEventLoopGroup(),
                 getMainEventExecutorGroup(),
-                blockingServerExecutor,
+                createServerExecutor(),
                 serverCertificateService,
                 legacyProxyListenerHandler,
                 passThroughHandler,
@@ -1404,7 +1432,8 @@ public class ExtensionNetwork extends ExtensionAdaptor implements CommandLineLis
     public void destroy() {
         shutdownEventGroups();
 
-        blockingServerExecutor.shutdownNow();
+        serverHoldChecker.shutdownNow();
+        blockingServerThreads.shutdownNow();
 
         if (httpSenderNetwork != null) {
             httpSenderNetwork.close();
@@ -75,8 +75,17 @@ public class MainServerHandler extends SimpleChannelInboundHandler<HttpMessage>
             throw (Exception) msg.getUserObject();
         }
 
+        // Stop reading from the client while the message waits to be processed.
+        boolean pauseReads = executor instanceof ServerExecutor se && se.isSaturated();
+        if (pauseReads) {
+            ctx.channel().config().setAutoRead(false);
+        }
+
         executor.execute(
                 () -> {
+                    if (pauseReads) {
+                        ctx.channel().config().setAutoRead(true);
+                    }
                     ctx.channel().attr(ChannelAttributes.PROCESSING_MESSAGE).set(Boolean.TRUE);
                     try {
                         process(ctx, msg);
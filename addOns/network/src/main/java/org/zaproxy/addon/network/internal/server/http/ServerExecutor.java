@@ -0,0 +1,303 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.server.http;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * The executor that processes the HTTP messages of a server, including forwarding them to the
+ * target servers, off the event loops.
+ *
+ * <p>Runs up to a maximum number of messages at the same time, further messages are queued and run
+ * as soon as others finish, which allows the server to apply backpressure on the clients (see
+ * {@link #isSaturated()}) instead of creating an unbounded number of threads. Each server should
+ * have its own {@code ServerExecutor}, the threads can be shared through the delegate.
+ *
+ * <p>The messages that take longer than the hold threshold to process (for example, held in a
+ * breakpoint, waiting for a slow target, or a request to a server that is processed by the same
+ * server) are no longer accounted in the maximum, so that they do not prevent the queued messages
+ * from being processed.
+ *
+ * <p>The number of messages queued and held are counted in the {@link Stats}, along with the peak
+ * number of messages in flight, held, and queued, for all the servers. The current numbers are
+ * available through the getters of each executor.
+ */
+public class ServerExecutor implements Executor {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 1_000;
+
+    public static final long DEFAULT_HOLD_THRESHOLD_MS = 5_000;
+
+    private static final Logger LOGGER = LogManager.getLogger(ServerExecutor.class);
+
+    private static final String STATS_PREFIX = "stats.network.server.executor.";
+    private static final String STATS_QUEUED = STATS_PREFIX + "queued";
+    private static final String STATS_HELD = STATS_PREFIX + "held";
+    private static final String STATS_IN_FLIGHT_MAX = STATS_PREFIX + "inflight.max";
+    private static final String STATS_HELD_MAX = STATS_PREFIX + "held.max";
+    private static final String STATS_QUEUE_SIZE_MAX = STATS_PREFIX + "queue.max";
+
+    private final ExecutorService delegate;
+    private final ScheduledExecutorService scheduler;
+    private final int maxInFlight;
+    private final long holdThresholdNanos;
+    private final Queue<Runnable> queue;
+    private final Set<Slot> running;
+
+    private int inFlight;
+    private int held;
+    private boolean holdCheckScheduled;
+
+    /**
+     * Constructs a {@code ServerExecutor} with the given delegate and maximum number of messages
+     * processed at the same time, without releasing the held messages.
+     *
+     * @param delegate the executor that runs the tasks, should be able to create as many threads
+     *     as the maximum.
+     * @param maxInFlight the maximum number of tasks running at the same time.
+     * @throws IllegalArgumentException if the maximum is lower than 1.
+     */
+    public ServerExecutor(ExecutorService delegate, int maxInFlight) {
+        this(delegate, null, maxInFlight, 0);
+    }
+
+    /**
+     * Constructs a {@code ServerExecutor} with the given delegate, maximum number of messages
+     * processed at the same time, and hold threshold.
+     *
+     * @param delegate the executor that runs the tasks, should be able to create as many threads
+     *     as the tasks running, including the held ones.
+     * @param scheduler the scheduler used to check for held tasks, might be {@code null} if the
+     *     threshold is not positive.
+     * @param maxInFlight the maximum number of tasks running at the same time.
+     * @param holdThresholdMs the time, in milliseconds, after which a running task is considered
+     *     held and no longer accounted in the maximum, not positive to always account it.
+     * @throws IllegalArgumentException if the maximum is lower than 1, or if the threshold is
+     *     positive and no scheduler is given.
+     */
+    public ServerExecutor(
+            ExecutorService delegate,
+            ScheduledExecutorService scheduler,
+            int maxInFlight,
+            long holdThresholdMs) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("The maximum must be greater than zero.");
+        }
+        if (holdThresholdMs > 0 && scheduler == null) {
+            throw new IllegalArgumentException("The scheduler is required to check held tasks.");
+        }
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.maxInFlight = maxInFlight;
+        this.holdThresholdNanos =
+                holdThresholdMs > 0 ? TimeUnit.MILLISECONDS.toNanos(holdThresholdMs) : 0;
+        this.queue = new ArrayDeque<>();
+        this.running = new HashSet<>();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Slot slot;
+        synchronized (this) {
+            if (inFlight >= maxInFlight) {
+                queue.add(task);
+                Stats.incCounter(STATS_QUEUED);
+                Stats.setHighwaterMark(STATS_QUEUE_SIZE_MAX, queue.size());
+                scheduleHoldCheck();
+                return;
+            }
+            slot = acquireSlot();
+        }
+        submit(slot, task);
+    }
+
+    private Slot acquireSlot() {
+        inFlight++;
+        Stats.setHighwaterMark(STATS_IN_FLIGHT_MAX, inFlight);
+        Slot slot = new Slot();
+        slot.start = System.nanoTime();
+        running.add(slot);
+        return slot;
+    }
+
+    private void releaseSlot(Slot slot) {
+        inFlight--;
+        running.remove(slot);
+    }
+
+    private void submit(Slot slot, Runnable task) {
+        try {
+            delegate.execute(() -> run(slot, task));
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                releaseSlot(slot);
+            }
+            throw e;
+        }
+    }
+
+    private void run(Slot slot, Runnable task) {
+        Runnable current = task;
+        while (current != null) {
+            slot.start = System.nanoTime();
+            try {
+                current.run();
+            } catch (Throwable e) {
+                LOGGER.error("An error occurred while processing the message:", e);
+            }
+            synchronized (this) {
+                if (slot.held) {
+                    slot.held = false;
+                    held--;
+                    running.remove(slot);
+                    if (inFlight >= maxInFlight) {
+                        // Others took its place meanwhile.
+                        return;
+                    }
+                    slot = acquireSlot();
+                }
+                current = delegate.isShutdown() ? null : queue.poll();
+                if (current == null) {
+                    releaseSlot(slot);
+                }
+            }
+        }
+    }
+
+    private void scheduleHoldCheck() {
+        if (holdThresholdNanos == 0 || holdCheckScheduled) {
+            return;
+        }
+        try {
+            scheduler.schedule(this::releaseHeld, holdThresholdNanos / 2, TimeUnit.NANOSECONDS);
+            holdCheckScheduled = true;
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Not checking held tasks, the scheduler is shutdown.");
+        }
+    }
+
+    /**
+     * Stops accounting the tasks running for longer than the hold threshold and runs the queued
+     * tasks in their place.
+     */
+    void releaseHeld() {
+        List<Slot> slots = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        synchronized (this) {
+            holdCheckScheduled = false;
+            long now = System.nanoTime();
+            for (Slot slot : running) {
+                if (!slot.held && now - slot.start > holdThresholdNanos) {
+                    slot.held = true;
+                    held++;
+                    inFlight--;
+                    Stats.incCounter(STATS_HELD);
+                    Stats.setHighwaterMark(STATS_HELD_MAX, held);
+                }
+            }
+            while (inFlight < maxInFlight && !queue.isEmpty()) {
+                tasks.add(queue.poll());
+                slots.add(acquireSlot());
+            }
+            if (!queue.isEmpty()) {
+                scheduleHoldCheck();
+            }
+        }
+
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                submit(slots.get(i), tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                LOGGER.debug("Discarding queued message, the executor is shutdown.");
+            }
+        }
+    }
+
+    /**
+     * Tells whether or not new tasks would be queued, because the maximum number of tasks are
+     * already running.
+     *
+     * @return {@code true} if the executor is saturated, {@code false} otherwise.
+     */
+    public synchronized boolean isSaturated() {
+        return inFlight >= maxInFlight;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Gets the number of tasks running, not including the held ones.
+     *
+     * @return the number of tasks running.
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Gets the number of tasks running for longer than the hold threshold.
+     *
+     * @return the number of tasks held.
+     */
+    public synchronized int getHeld() {
+        return held;
+    }
+
+    /**
+     * Gets the number of tasks waiting to run.
+     *
+     * @return the number of tasks queued.
+     */
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+
+    /** Discards the queued tasks, for example, when the server is stopped. */
+    public synchronized void clearQueue() {
+        queue.clear();
+    }
+
+    /** Shuts down the executor, discarding the queued tasks and interrupting the running ones. */
+    public void shutdownNow() {
+        clearQueue();
+        delegate.shutdownNow();
+    }
+
+    private static class Slot {
+
+        private volatile long start;
+        private boolean held;
+    }
+}
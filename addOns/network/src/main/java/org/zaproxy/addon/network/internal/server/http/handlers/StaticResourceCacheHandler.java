@@ -0,0 +1,64 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.server.http.handlers;
+
+import java.util.Objects;
+import org.parosproxy.paros.network.HttpMessage;
+import org.zaproxy.addon.network.server.HttpMessageHandler;
+import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
+import org.zaproxy.addon.network.server.StaticResourceCache;
+
+/**
+ * A {@link HttpMessageHandler} that serves the static resources from a {@link StaticResourceCache},
+ * {@link HttpMessageHandlerContext#overridden() overriding} the message, and caches the responses
+ * received.
+ *
+ * <p>The messages served from the cache are not sent nor notified to the following handlers.
+ */
+public class StaticResourceCacheHandler implements HttpMessageHandler {
+
+    private final StaticResourceCache cache;
+
+    /**
+     * Constructs a {@code StaticResourceCacheHandler} with the given cache.
+     *
+     * @param cache the cache.
+     * @throws NullPointerException if the given cache is {@code null}.
+     */
+    public StaticResourceCacheHandler(StaticResourceCache cache) {
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public void handleMessage(HttpMessageHandlerContext ctx, HttpMessage msg) {
+        if (ctx.isExcluded() || ctx.isRecursive()) {
+            return;
+        }
+
+        if (!ctx.isFromClient()) {
+            cache.store(msg);
+            return;
+        }
+
+        if (msg.getResponseHeader().isEmpty() && cache.serve(msg)) {
+            ctx.overridden();
+        }
+    }
+}
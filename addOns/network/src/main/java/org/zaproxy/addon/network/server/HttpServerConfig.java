@@ -35,16 +35,19 @@ public class HttpServerConfig {
     private final HttpSender httpSender;
     private final boolean serveZapApi;
     private final X509TrustManager trustManager;
+    private final StaticResourceCache staticResourceCache;
 
     private HttpServerConfig(
             HttpMessageHandler httpMessageHandler,
             HttpSender httpSender,
             boolean serveZapApi,
-            X509TrustManager trustManager) {
+            X509TrustManager trustManager,
+            StaticResourceCache staticResourceCache) {
         this.httpMessageHandler = httpMessageHandler;
         this.httpSender = httpSender;
         this.serveZapApi = serveZapApi;
         this.trustManager = trustManager;
+        this.staticResourceCache = staticResourceCache;
     }
 
     public HttpMessageHandler getHttpMessageHandler() {
@@ -70,6 +73,17 @@ public class HttpServerConfig {
         return trustManager;
     }
 
+    /**
+     * Gets the cache of static resources, or {@code null} if the static resources should not be
+     * cached.
+     *
+     * @return the cache, or {@code null}.
+     * @since 0.30.0
+     */
+    public StaticResourceCache getStaticResourceCache() {
+        return staticResourceCache;
+    }
+
     /**
      * Creates a builder of {@link HttpServerConfig}.
      *
@@ -94,6 +108,8 @@ public class HttpServerConfig {
 
         private X509TrustManager trustManager;
 
+        private StaticResourceCache staticResourceCache;
+
         /**
          * Sets the HTTP message handler.
          *
@@ -142,6 +158,25 @@ public class HttpServerConfig {
             return this;
         }
 
+        /**
+         * Sets the cache used to serve the static resources already requested through the server,
+         * instead of sending the requests again. Only used if the server acts as a proxy. Pass
+         * {@code null} to not cache the static resources.
+         *
+         * <p>The same cache can be used by several servers, for example, by all the servers of the
+         * browsers used in a crawl. The cache is not cleared when the servers are closed, that is
+         * left to the caller, once the cache is no longer needed.
+         *
+         * @param staticResourceCache the cache, or {@code null} to not cache the static resources.
+         * @return the builder for chaining.
+         * @since 0.30.0
+         * @see #setHttpSender(HttpSender)
+         */
+        public Builder setStaticResourceCache(StaticResourceCache staticResourceCache) {
+            this.staticResourceCache = staticResourceCache;
+            return this;
+        }
+
         /**
          * Builds the {@link HttpServerConfig} with properties set.
          *
@@ -153,7 +188,8 @@ public class HttpServerConfig {
                 throw new IllegalStateException("The httpMessageHandler was not set.");
             }
 
-            return new HttpServerConfig(httpMessageHandler, httpSender, serveZapApi, trustManager);
+            return new HttpServerConfig(
+                    httpMessageHandler, httpSender, serveZapApi, trustManager, staticResourceCache);
         }
     }
 }
@@ -0,0 +1,556 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.server;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.network.HttpHeader;
+import org.parosproxy.paros.network.HttpMalformedHeaderException;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.parosproxy.paros.network.HttpResponseHeader;
+import org.parosproxy.paros.network.HttpStatusCode;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A cache of static resources (for example, scripts, style sheets, fonts, and images) requested
+ * through one or more servers, to serve them again without sending the requests.
+ *
+ * <p>Meant to be used for the duration of a scan, for example, by the browsers of a crawl, which
+ * would otherwise request the same resources again on each reload. Only the successful responses
+ * to {@code GET} requests without credentials or cookies and with a static content type are
+ * cached, taking into account the {@code Vary} header. The responses that set cookies or are not
+ * meant to be stored ({@code Cache-Control: no-store}) are not cached.
+ *
+ * <p>The responses are kept in memory up to the given size, the least recently used are then moved
+ * to disk, also up to the given size, after which they are discarded. The files are written and
+ * deleted without holding the lock of the cache. The cache should be {@link #clear() cleared} once
+ * no longer needed, otherwise the files are deleted only when the JVM exits.
+ *
+ * @since 0.30.0
+ * @see HttpServerConfig.Builder#setStaticResourceCache(StaticResourceCache)
+ */
+public class StaticResourceCache {
+
+    private static final Logger LOGGER = LogManager.getLogger(StaticResourceCache.class);
+
+    private static final String STATS_PREFIX = "stats.network.cache.static.";
+
+    private static final String VARY = "Vary";
+
+    private static final String RANGE = "Range";
+
+    private static final Set<String> STATIC_CONTENT_TYPES =
+            Set.of(
+                    "application/ecmascript",
+                    "application/font-woff",
+                    "application/javascript",
+                    "application/vnd.ms-fontobject",
+                    "application/x-javascript",
+                    "text/css",
+                    "text/javascript");
+
+    private static final List<String> STATIC_CONTENT_TYPE_PREFIXES = List.of("font/", "image/");
+
+    private final long maxMemorySize;
+    private final long maxDiskSize;
+    private final Predicate<HttpMessage> exclusion;
+
+    private final Map<String, List<String>> varyHeaders;
+    private final LinkedHashMap<String, Entry> memoryEntries;
+    private final LinkedHashMap<String, Entry> diskEntries;
+    private long memorySize;
+    private long diskSize;
+    private long diskFileCount;
+
+    private final Object diskDirectoryLock;
+    private Path diskDirectory;
+    private Thread diskDirectoryCleaner;
+
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+
+    /**
+     * Constructs a {@code StaticResourceCache} with the given sizes.
+     *
+     * @param maxMemorySize the maximum size of the responses kept in memory, in bytes.
+     * @param maxDiskSize the maximum size of the responses kept on disk, in bytes, zero to not use
+     *     the disk.
+     * @param exclusion the predicate that tells whether or not a message should not be cached, for
+     *     example, for dynamic resources of the target. Might be {@code null}.
+     * @throws IllegalArgumentException if any of the sizes is negative.
+     */
+    public StaticResourceCache(
+            long maxMemorySize, long maxDiskSize, Predicate<HttpMessage> exclusion) {
+        if (maxMemorySize < 0) {
+            throw new IllegalArgumentException("The maxMemorySize must not be negative.");
+        }
+        if (maxDiskSize < 0) {
+            throw new IllegalArgumentException("The maxDiskSize must not be negative.");
+        }
+        this.maxMemorySize = maxMemorySize;
+        this.maxDiskSize = maxDiskSize;
+        this.exclusion = exclusion != null ? exclusion : msg -> false;
+
+        varyHeaders = new HashMap<>();
+        memoryEntries = new LinkedHashMap<>(16, 0.75f, true);
+        diskEntries = new LinkedHashMap<>(16, 0.75f, true);
+        diskDirectoryLock = new Object();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    /**
+     * Sets the cached response for the request of the given message, if any.
+     *
+     * @param msg the message with the request.
+     * @return {@code true} if the response was set, {@code false} otherwise.
+     */
+    public boolean serve(HttpMessage msg) {
+        if (!isCacheableRequest(msg) || exclusion.test(msg)) {
+            return false;
+        }
+
+        String uri = getUri(msg);
+        Entry entry;
+        synchronized (this) {
+            List<String> vary = varyHeaders.get(uri);
+            String key = vary != null ? createKey(uri, vary, msg.getRequestHeader()) : null;
+            entry = key != null ? getEntry(key) : null;
+        }
+
+        byte[] body = entry != null ? entry.readBody() : null;
+        if (body == null) {
+            misses.incrementAndGet();
+            Stats.incCounter(STATS_PREFIX + "miss");
+            return false;
+        }
+
+        try {
+            msg.setResponseHeader(new HttpResponseHeader(entry.responseHeader));
+        } catch (HttpMalformedHeaderException e) {
+            LOGGER.warn("Failed to restore the cached response header: {}", e.getMessage());
+            return false;
+        }
+        msg.setResponseBody(body);
+        msg.setTimeSentMillis(System.currentTimeMillis());
+        msg.setTimeElapsedMillis(0);
+
+        hits.incrementAndGet();
+        Stats.incCounter(STATS_PREFIX + "hit");
+        return true;
+    }
+
+    /**
+     * Caches the response of the given message, if cacheable.
+     *
+     * @param msg the message with the request and response.
+     * @return {@code true} if the response was cached, {@code false} otherwise.
+     */
+    public boolean store(HttpMessage msg) {
+        if (!isCacheableRequest(msg) || !isCacheableResponse(msg) || exclusion.test(msg)) {
+            return false;
+        }
+
+        List<String> vary = getVaryHeaders(msg.getResponseHeader());
+        if (vary == null) {
+            return false;
+        }
+
+        String uri = getUri(msg);
+        byte[] body = msg.getResponseBody().getBytes();
+        Entry entry = new Entry(msg.getResponseHeader().toString(), body);
+        DiskChanges diskChanges = new DiskChanges();
+        boolean stored = true;
+        synchronized (this) {
+            if (!vary.equals(varyHeaders.put(uri, vary))) {
+                removeEntries(uri, diskChanges);
+            }
+            String key = createKey(uri, vary, msg.getRequestHeader());
+            removeEntry(key, diskChanges);
+            if (entry.size > maxMemorySize) {
+                stored = moveToDisk(key, entry, diskChanges);
+            } else {
+                memoryEntries.put(key, entry);
+                memorySize += entry.size;
+                evictFromMemory(diskChanges);
+            }
+        }
+        applyDiskChanges(diskChanges);
+
+        if (stored) {
+            Stats.incCounter(STATS_PREFIX + "stored");
+        }
+        return stored;
+    }
+
+    private static boolean isCacheableRequest(HttpMessage msg) {
+        HttpRequestHeader requestHeader = msg.getRequestHeader();
+        return HttpRequestHeader.GET.equals(requestHeader.getMethod())
+                && requestHeader.getHeader(HttpHeader.AUTHORIZATION) == null
+                && requestHeader.getHeader(HttpHeader.COOKIE) == null
+                && requestHeader.getHeader(RANGE) == null;
+    }
+
+    private static boolean isCacheableResponse(HttpMessage msg) {
+        HttpResponseHeader responseHeader = msg.getResponseHeader();
+        if (responseHeader.getStatusCode() != HttpStatusCode.OK
+                || responseHeader.getHeader(HttpHeader.SET_COOKIE) != null) {
+            return false;
+        }
+
+        String cacheControl = responseHeader.getHeader(HttpHeader.CACHE_CONTROL);
+        if (cacheControl != null && cacheControl.toLowerCase(Locale.ROOT).contains("no-store")) {
+            return false;
+        }
+
+        String contentType = responseHeader.getNormalisedContentTypeValue();
+        if (contentType == null) {
+            return false;
+        }
+        return STATIC_CONTENT_TYPES.contains(contentType)
+                || STATIC_CONTENT_TYPE_PREFIXES.stream().anyMatch(contentType::startsWith);
+    }
+
+    /**
+     * Gets the names of the request headers that the response varies on.
+     *
+     * @param responseHeader the response header.
+     * @return the names of the request headers, lower cased and sorted, or {@code null} if the
+     *     response varies on all the request headers.
+     */
+    private static List<String> getVaryHeaders(HttpResponseHeader responseHeader) {
+        List<String> names = new ArrayList<>();
+        for (String value : responseHeader.getHeaderValues(VARY)) {
+            for (String name : value.split(",")) {
+                name = name.trim().toLowerCase(Locale.ROOT);
+                if ("*".equals(name)) {
+                    return null;
+                }
+                if (!name.isEmpty() && !names.contains(name)) {
+                    names.add(name);
+                }
+            }
+        }
+        names.sort(null);
+        return names;
+    }
+
+    private static String getUri(HttpMessage msg) {
+        return msg.getRequestHeader().getURI().toString();
+    }
+
+    private static String createKey(
+            String uri, List<String> varyHeaders, HttpRequestHeader requestHeader) {
+        if (varyHeaders.isEmpty()) {
+            return uri;
+        }
+        StringBuilder key = new StringBuilder(uri);
+        for (String name : varyHeaders) {
+            key.append('\n').append(name).append(':');
+            key.append(Objects.toString(requestHeader.getHeader(name), ""));
+        }
+        return key.toString();
+    }
+
+    private Entry getEntry(String key) {
+        Entry entry = memoryEntries.get(key);
+        if (entry != null) {
+            return entry;
+        }
+        return diskEntries.get(key);
+    }
+
+    private void removeEntries(String uri, DiskChanges diskChanges) {
+        memorySize -= removeEntries(memoryEntries, uri, null);
+        diskSize -= removeEntries(diskEntries, uri, diskChanges);
+    }
+
+    private static long removeEntries(
+            Map<String, Entry> entries, String uri, DiskChanges diskChanges) {
+        long size = 0;
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Entry> entry = it.next();
+            String key = entry.getKey();
+            if (key.equals(uri) || key.startsWith(uri + "\n")) {
+                it.remove();
+                size += entry.getValue().size;
+                if (diskChanges != null) {
+                    diskChanges.deletes.add(entry.getValue());
+                }
+            }
+        }
+        return size;
+    }
+
+    private void removeEntry(String key, DiskChanges diskChanges) {
+        Entry entry = memoryEntries.remove(key);
+        if (entry != null) {
+            memorySize -= entry.size;
+            return;
+        }
+        entry = diskEntries.remove(key);
+        if (entry != null) {
+            diskSize -= entry.size;
+            diskChanges.deletes.add(entry);
+        }
+    }
+
+    private void evictFromMemory(DiskChanges diskChanges) {
+        Iterator<Map.Entry<String, Entry>> it = memoryEntries.entrySet().iterator();
+        while (memorySize > maxMemorySize && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            it.remove();
+            memorySize -= eldest.getValue().size;
+            moveToDisk(eldest.getKey(), eldest.getValue(), diskChanges);
+            Stats.incCounter(STATS_PREFIX + "evicted.memory");
+        }
+    }
+
+    /**
+     * Moves the given entry to disk, the file is written later, once the lock of the cache is
+     * released.
+     */
+    private boolean moveToDisk(String key, Entry entry, DiskChanges diskChanges) {
+        if (entry.size > maxDiskSize) {
+            return false;
+        }
+
+        entry.fileName = Long.toString(diskFileCount++);
+        diskEntries.put(key, entry);
+        diskSize += entry.size;
+        diskChanges.writes.add(entry);
+
+        Iterator<Map.Entry<String, Entry>> it = diskEntries.entrySet().iterator();
+        while (diskSize > maxDiskSize && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            diskSize -= eldest.size;
+            diskChanges.deletes.add(eldest);
+            Stats.incCounter(STATS_PREFIX + "evicted.disk");
+        }
+        return true;
+    }
+
+    /** Deletes and writes the files, without holding the lock of the cache. */
+    private void applyDiskChanges(DiskChanges diskChanges) {
+        diskChanges.deletes.forEach(Entry::discard);
+        if (diskChanges.writes.isEmpty()) {
+            return;
+        }
+
+        Path directory = getDiskDirectory();
+        for (Entry entry : diskChanges.writes) {
+            if (directory == null) {
+                entry.discard();
+            } else {
+                entry.write(directory);
+            }
+        }
+    }
+
+    private Path getDiskDirectory() {
+        synchronized (diskDirectoryLock) {
+            if (diskDirectory == null) {
+                try {
+                    diskDirectory = Files.createTempDirectory("zap-static-resource-cache");
+                } catch (IOException e) {
+                    LOGGER.warn("Failed to create the cache directory: {}", e.getMessage());
+                    return null;
+                }
+                Path directory = diskDirectory;
+                diskDirectoryCleaner =
+                        new Thread(
+                                () -> FileUtils.deleteQuietly(directory.toFile()),
+                                "ZAP-StaticResourceCache-Cleaner");
+                Runtime.getRuntime().addShutdownHook(diskDirectoryCleaner);
+            }
+            return diskDirectory;
+        }
+    }
+
+    private void deleteDiskDirectory() {
+        synchronized (diskDirectoryLock) {
+            if (diskDirectory == null) {
+                return;
+            }
+            FileUtils.deleteQuietly(diskDirectory.toFile());
+            try {
+                Runtime.getRuntime().removeShutdownHook(diskDirectoryCleaner);
+            } catch (IllegalStateException e) {
+                // Already shutting down.
+            }
+            diskDirectory = null;
+            diskDirectoryCleaner = null;
+        }
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Gets the number of cacheable requests not served from the cache.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the ratio of cacheable requests served from the cache.
+     *
+     * @return the hit rate, between 0 and 1.
+     */
+    public double getHitRate() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Gets the size of the responses kept in memory.
+     *
+     * @return the size, in bytes.
+     */
+    public synchronized long getMemorySize() {
+        return memorySize;
+    }
+
+    /**
+     * Gets the size of the responses kept on disk.
+     *
+     * @return the size, in bytes.
+     */
+    public synchronized long getDiskSize() {
+        return diskSize;
+    }
+
+    /** Removes all the cached responses, including the ones on disk. */
+    public void clear() {
+        List<Entry> discarded;
+        synchronized (this) {
+            varyHeaders.clear();
+            memoryEntries.clear();
+            memorySize = 0;
+            discarded = new ArrayList<>(diskEntries.values());
+            diskEntries.clear();
+            diskSize = 0;
+        }
+        discarded.forEach(Entry::discard);
+        deleteDiskDirectory();
+    }
+
+    /** The changes to the files of the entries, applied once the lock of the cache is released. */
+    private static class DiskChanges {
+
+        private final List<Entry> writes = new ArrayList<>();
+        private final List<Entry> deletes = new ArrayList<>();
+    }
+
+    private static class Entry {
+
+        private final String responseHeader;
+        private final long size;
+
+        /** The name of the file, set (with the lock of the cache) when moved to disk. */
+        private String fileName;
+
+        private byte[] body;
+        private Path file;
+        private boolean discarded;
+
+        Entry(String responseHeader, byte[] body) {
+            this.responseHeader = responseHeader;
+            this.body = body;
+            this.size = (long) responseHeader.length() + body.length;
+        }
+
+        byte[] readBody() {
+            Path path;
+            synchronized (this) {
+                if (body != null) {
+                    return body;
+                }
+                path = file;
+            }
+            if (path == null) {
+                return null;
+            }
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException e) {
+                LOGGER.debug("Failed to read the response from disk: {}", e.getMessage());
+                return null;
+            }
+        }
+
+        synchronized void write(Path directory) {
+            if (discarded) {
+                return;
+            }
+            Path path = directory.resolve(fileName);
+            try {
+                Files.write(path, body);
+                file = path;
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write the response to disk: {}", e.getMessage());
+                discarded = true;
+            }
+            body = null;
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            body = null;
+            if (file == null) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOGGER.debug("Failed to delete the response from disk: {}", e.getMessage());
+            }
+            file = null;
+        }
+    }
+}
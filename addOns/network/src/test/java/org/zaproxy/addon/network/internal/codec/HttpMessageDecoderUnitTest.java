@@ -157,6 +157,21 @@ abstract class HttpMessageDecoderUnitTest {
         assertChannelState();
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, MAX_CHUNK_SIZE - 1, MAX_CHUNK_SIZE, MAX_CHUNK_SIZE + 1})
+    void shouldReadFixedLengthBodyIncrementally(int batchSize) {
+        // Given
+        String body = StringUtils.repeat("A", MAX_CHUNK_SIZE * 3 + 7);
+        written(getPrimeHeader() + "content-length: " + body.length() + "\r\n\r\n", false);
+        // When
+        writtenIncrementally(body, batchSize);
+        // Then
+        HttpMessage message = channel.readInbound();
+        assertThat(message, is(notNullValue()));
+        assertThat(extractBody(message).toString(), is(equalTo(body)));
+        assertChannelState();
+    }
+
     @Test
     void shouldProduceMessageWithExceptionIfChannelClosedBeforeSendingFullFixedLengthBody() {
         // Given / When
@@ -170,6 +185,22 @@ abstract class HttpMessageDecoderUnitTest {
         assertChannelState();
     }
 
+    @Test
+    void shouldKeepTruncatedFixedLengthBodyReadIncrementally() {
+        // Given
+        String body = StringUtils.repeat("A", MAX_CHUNK_SIZE * 2 + 7);
+        written(getPrimeHeader() + "content-length: " + (body.length() + 10) + "\r\n\r\n", false);
+        writtenIncrementally(body, MAX_CHUNK_SIZE - 1);
+        // When
+        channel.close();
+        // Then
+        HttpMessage message = channel.readInbound();
+        assertThat(message, is(notNullValue()));
+        assertThat(message.getUserObject(), is(instanceOf(HttpMalformedHeaderException.class)));
+        assertThat(extractBody(message).toString(), is(equalTo(body)));
+        assertChannelState();
+    }
+
     @Test
     void shouldReadBodyUsingLastContentLengthHeader() {
         // Given
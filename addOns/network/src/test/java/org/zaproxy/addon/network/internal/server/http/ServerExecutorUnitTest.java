@@ -0,0 +1,235 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.server.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.utils.Stats;
+import org.zaproxy.zap.utils.StatsListener;
+
+/** Unit test for {@link ServerExecutor}. */
+class ServerExecutorUnitTest {
+
+    private ServerExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ServerExecutor(Executors.newCachedThreadPool(), 1);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotAllowMaximumLowerThanOne() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ServerExecutor(Executors.newCachedThreadPool(), 0));
+    }
+
+    @Test
+    void shouldRunTask() throws Exception {
+        // Given
+        CountDownLatch ran = new CountDownLatch(1);
+        // When
+        executor.execute(ran::countDown);
+        // Then
+        assertThat(ran.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldQueueTasksWhenSaturated() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    await(release);
+                    order.add(1);
+                    done.countDown();
+                });
+        started.await(5, TimeUnit.SECONDS);
+        // When
+        executor.execute(
+                () -> {
+                    order.add(2);
+                    done.countDown();
+                });
+        // Then
+        assertThat(executor.isSaturated(), is(equalTo(true)));
+        assertThat(executor.getInFlight(), is(equalTo(1)));
+        assertThat(executor.getQueued(), is(equalTo(1)));
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        assertThat(order, contains(1, 2));
+    }
+
+    @Test
+    void shouldCountQueuedAndPeaksWithoutDecrementingStats() throws Exception {
+        // Given
+        StatsListener listener = mock(StatsListener.class);
+        Stats.addListener(listener);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        try {
+            executor.execute(
+                    () -> {
+                        started.countDown();
+                        await(release);
+                        done.countDown();
+                    });
+            started.await(5, TimeUnit.SECONDS);
+            // When
+            executor.execute(done::countDown);
+            release.countDown();
+            assertThat(done.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+            // Then
+            verify(listener).counterInc("stats.network.server.executor.queued");
+            verify(listener).highwaterMarkSet("stats.network.server.executor.queue.max", 1);
+            verify(listener).highwaterMarkSet("stats.network.server.executor.inflight.max", 1);
+            verify(listener, never()).counterInc(anyString(), longThat(value -> value < 0));
+        } finally {
+            Stats.removeListener(listener);
+        }
+    }
+
+    @Test
+    void shouldReleaseSlotWhenTasksFinish() throws Exception {
+        // Given
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    throw new RuntimeException();
+                });
+        executor.execute(done::countDown);
+        // When
+        done.await(5, TimeUnit.SECONDS);
+        // Then
+        for (int i = 0; i < 500 && executor.getInFlight() != 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(executor.getInFlight(), is(equalTo(0)));
+        assertThat(executor.getQueued(), is(equalTo(0)));
+        assertThat(executor.isSaturated(), is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotAllowHoldThresholdWithoutScheduler() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new ServerExecutor(Executors.newCachedThreadPool(), null, 1, 100));
+    }
+
+    @Test
+    void shouldRunQueuedTasksWhenRunningTasksAreHeld() throws Exception {
+        // Given
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ServerExecutor executor =
+                new ServerExecutor(Executors.newCachedThreadPool(), scheduler, 1, 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+        try {
+            executor.execute(
+                    () -> {
+                        started.countDown();
+                        await(release);
+                    });
+            started.await(5, TimeUnit.SECONDS);
+            // When
+            executor.execute(queuedRan::countDown);
+            // Then
+            assertThat(queuedRan.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+            assertThat(executor.getHeld(), is(equalTo(1)));
+            assertThat(executor.getQueued(), is(equalTo(0)));
+            release.countDown();
+            for (int i = 0; i < 500 && executor.getHeld() != 0; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(executor.getHeld(), is(equalTo(0)));
+            assertThat(executor.getInFlight(), is(equalTo(0)));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBoundEachExecutorIndependently() throws Exception {
+        // Given
+        ExecutorService threads = Executors.newCachedThreadPool();
+        ServerExecutor executor1 = new ServerExecutor(threads, 1);
+        ServerExecutor executor2 = new ServerExecutor(threads, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherRan = new CountDownLatch(1);
+        try {
+            executor1.execute(
+                    () -> {
+                        started.countDown();
+                        await(release);
+                    });
+            started.await(5, TimeUnit.SECONDS);
+            // When
+            executor2.execute(otherRan::countDown);
+            // Then
+            assertThat(executor1.isSaturated(), is(equalTo(true)));
+            assertThat(otherRan.await(5, TimeUnit.SECONDS), is(equalTo(true)));
+        } finally {
+            release.countDown();
+            threads.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
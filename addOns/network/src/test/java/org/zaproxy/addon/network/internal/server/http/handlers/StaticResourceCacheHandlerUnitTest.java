@@ -0,0 +1,110 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.internal.server.http.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
+import org.zaproxy.addon.network.server.StaticResourceCache;
+
+/** Unit test for {@link StaticResourceCacheHandler}. */
+class StaticResourceCacheHandlerUnitTest {
+
+    private HttpMessageHandlerContext ctx;
+    private HttpMessage message;
+    private StaticResourceCache cache;
+    private StaticResourceCacheHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ctx = mock(HttpMessageHandlerContext.class, withSettings().strictness(Strictness.LENIENT));
+        given(ctx.isFromClient()).willReturn(true);
+        message = new HttpMessage(new HttpRequestHeader("GET https://example.com/ HTTP/1.1"));
+        cache = mock(StaticResourceCache.class);
+        handler = new StaticResourceCacheHandler(cache);
+    }
+
+    @Test
+    void shouldThrowIfCacheIsNull() {
+        assertThrows(NullPointerException.class, () -> new StaticResourceCacheHandler(null));
+    }
+
+    @Test
+    void shouldOverrideIfServedFromCache() {
+        // Given
+        given(cache.serve(message)).willReturn(true);
+        // When
+        handler.handleMessage(ctx, message);
+        // Then
+        verify(ctx).overridden();
+    }
+
+    @Test
+    void shouldNotOverrideIfNotServedFromCache() {
+        // Given
+        given(cache.serve(message)).willReturn(false);
+        // When
+        handler.handleMessage(ctx, message);
+        // Then
+        verify(cache).serve(message);
+        verify(ctx, never()).overridden();
+    }
+
+    @Test
+    void shouldStoreResponse() {
+        // Given
+        given(ctx.isFromClient()).willReturn(false);
+        // When
+        handler.handleMessage(ctx, message);
+        // Then
+        verify(cache).store(message);
+    }
+
+    @Test
+    void shouldIgnoreExcludedMessages() {
+        // Given
+        given(ctx.isExcluded()).willReturn(true);
+        // When
+        handler.handleMessage(ctx, message);
+        // Then
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    void shouldIgnoreRecursiveMessages() {
+        // Given
+        given(ctx.isRecursive()).willReturn(true);
+        // When
+        handler.handleMessage(ctx, message);
+        // Then
+        verifyNoInteractions(cache);
+    }
+}
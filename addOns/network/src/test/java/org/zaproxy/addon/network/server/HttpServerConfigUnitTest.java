@@ -153,4 +153,25 @@ class HttpServerConfigUnitTest {
         // Then
         assertThat(retrievedTrustManager, is(nullValue()));
     }
+
+    @Test
+    void shouldDefaultToNullStaticResourceCache() {
+        // Given
+        config = builderWithRequiredProperties().build();
+        // When
+        StaticResourceCache cache = config.getStaticResourceCache();
+        // Then
+        assertThat(cache, is(nullValue()));
+    }
+
+    @Test
+    void shouldRetrieveStaticResourceCacheSet() {
+        // Given
+        StaticResourceCache cache = mock(StaticResourceCache.class);
+        config = builderWithRequiredProperties().setStaticResourceCache(cache).build();
+        // When
+        StaticResourceCache retrievedCache = config.getStaticResourceCache();
+        // Then
+        assertThat(retrievedCache, is(equalTo(cache)));
+    }
 }
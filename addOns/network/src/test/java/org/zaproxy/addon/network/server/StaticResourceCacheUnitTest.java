@@ -0,0 +1,250 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.network.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.parosproxy.paros.network.HttpMessage;
+import org.parosproxy.paros.network.HttpRequestHeader;
+
+/** Unit test for {@link StaticResourceCache}. */
+class StaticResourceCacheUnitTest {
+
+    private static final String URL = "https://example.com/app.js";
+    private static final String BODY = "var a = 1;";
+
+    private StaticResourceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StaticResourceCache(1024, 1024, null);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        cache.clear();
+    }
+
+    @Test
+    void shouldThrowIfSizesNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new StaticResourceCache(-1, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new StaticResourceCache(0, -1, null));
+    }
+
+    @Test
+    void shouldServeStoredStaticResource() throws Exception {
+        // Given
+        cache.store(createMessage(URL, "Content-Type: application/javascript\r\n", BODY));
+        HttpMessage msg = createRequest(URL);
+        // When
+        boolean served = cache.serve(msg);
+        // Then
+        assertThat(served, is(equalTo(true)));
+        assertThat(msg.getResponseHeader().getStatusCode(), is(equalTo(200)));
+        assertThat(msg.getResponseBody().toString(), is(equalTo(BODY)));
+        assertThat(cache.getHits(), is(equalTo(1L)));
+        assertThat(cache.getMisses(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldNotServeNotStoredResource() throws Exception {
+        // Given
+        HttpMessage msg = createRequest(URL);
+        // When
+        boolean served = cache.serve(msg);
+        // Then
+        assertThat(served, is(equalTo(false)));
+        assertThat(msg.getResponseHeader().isEmpty(), is(equalTo(true)));
+        assertThat(cache.getMisses(), is(equalTo(1L)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "Content-Type: text/html\r\n",
+                "Content-Type: application/json\r\n",
+                "Content-Type: text/css\r\nSet-Cookie: a=b\r\n",
+                "Content-Type: text/css\r\nCache-Control: no-cache, no-store\r\n",
+                "Content-Type: text/css\r\nVary: *\r\n",
+                ""
+            })
+    void shouldNotStoreDynamicOrNotStorableResponses(String headers) throws Exception {
+        // Given
+        HttpMessage msg = createMessage(URL, headers, BODY);
+        // When
+        boolean stored = cache.store(msg);
+        // Then
+        assertThat(stored, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotStoreRequestsWithCredentials() throws Exception {
+        // Given
+        HttpMessage msg = createMessage(URL, "Content-Type: image/png\r\n", BODY);
+        msg.getRequestHeader().setHeader("Authorization", "Basic YTpi");
+        // When
+        boolean stored = cache.store(msg);
+        // Then
+        assertThat(stored, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotStoreRequestsWithCookies() throws Exception {
+        // Given
+        HttpMessage msg = createMessage(URL, "Content-Type: image/png\r\n", BODY);
+        msg.getRequestHeader().setHeader("Cookie", "session=a");
+        // When
+        boolean stored = cache.store(msg);
+        // Then
+        assertThat(stored, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotServeRequestsWithCookies() throws Exception {
+        // Given
+        cache.store(createMessage(URL, "Content-Type: image/png\r\n", BODY));
+        HttpMessage msg = createRequest(URL);
+        msg.getRequestHeader().setHeader("Cookie", "session=a");
+        // When
+        boolean served = cache.serve(msg);
+        // Then
+        assertThat(served, is(equalTo(false)));
+        assertThat(msg.getResponseHeader().isEmpty(), is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotStoreExcludedResources() throws Exception {
+        // Given
+        cache = new StaticResourceCache(1024, 0, msg -> true);
+        HttpMessage msg = createMessage(URL, "Content-Type: text/css\r\n", BODY);
+        // When
+        boolean stored = cache.store(msg);
+        // Then
+        assertThat(stored, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldServeOnlyVariantWithSameVaryHeaders() throws Exception {
+        // Given
+        HttpMessage msg = createMessage(URL, "Content-Type: text/css\r\nVary: Origin\r\n", BODY);
+        msg.getRequestHeader().setHeader("Origin", "https://example.com");
+        cache.store(msg);
+        HttpMessage sameOrigin = createRequest(URL);
+        sameOrigin.getRequestHeader().setHeader("Origin", "https://example.com");
+        HttpMessage otherOrigin = createRequest(URL);
+        otherOrigin.getRequestHeader().setHeader("Origin", "https://example.org");
+        // When
+        boolean servedSameOrigin = cache.serve(sameOrigin);
+        boolean servedOtherOrigin = cache.serve(otherOrigin);
+        // Then
+        assertThat(servedSameOrigin, is(equalTo(true)));
+        assertThat(servedOtherOrigin, is(equalTo(false)));
+        assertThat(cache.getHitRate(), is(closeTo(0.5, 0.001)));
+    }
+
+    @Test
+    void shouldMoveLeastRecentlyUsedToDiskAndStillServe() throws Exception {
+        // Given
+        cache = new StaticResourceCache(80, 1024, null);
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", BODY));
+        cache.store(createMessage(URL + "?v=2", "Content-Type: text/css\r\n", BODY));
+        HttpMessage msg = createRequest(URL);
+        // When
+        boolean served = cache.serve(msg);
+        // Then
+        assertThat(cache.getDiskSize(), is(greaterThan(0L)));
+        assertThat(served, is(equalTo(true)));
+        assertThat(msg.getResponseBody().toString(), is(equalTo(BODY)));
+    }
+
+    @Test
+    void shouldDiscardResponsesThatDoNotFit() throws Exception {
+        // Given
+        cache = new StaticResourceCache(80, 0, null);
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", BODY));
+        cache.store(createMessage(URL + "?v=2", "Content-Type: text/css\r\n", BODY));
+        // When
+        boolean served = cache.serve(createRequest(URL));
+        // Then
+        assertThat(served, is(equalTo(false)));
+        assertThat(cache.serve(createRequest(URL + "?v=2")), is(equalTo(true)));
+        assertThat(cache.getDiskSize(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldClearResponses() throws Exception {
+        // Given
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", BODY));
+        // When
+        cache.clear();
+        // Then
+        assertThat(cache.serve(createRequest(URL)), is(equalTo(false)));
+        assertThat(cache.getMemorySize(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldClearResponsesOnDisk() throws Exception {
+        // Given
+        cache = new StaticResourceCache(0, 1024, null);
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", BODY));
+        assertThat(cache.getDiskSize(), is(greaterThan(0L)));
+        // When
+        cache.clear();
+        // Then
+        assertThat(cache.serve(createRequest(URL)), is(equalTo(false)));
+        assertThat(cache.getDiskSize(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldServeAgainAfterReplacingResponseOnDisk() throws Exception {
+        // Given
+        cache = new StaticResourceCache(0, 1024, null);
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", "a"));
+        cache.store(createMessage(URL, "Content-Type: text/css\r\n", BODY));
+        HttpMessage msg = createRequest(URL);
+        // When
+        boolean served = cache.serve(msg);
+        // Then
+        assertThat(served, is(equalTo(true)));
+        assertThat(msg.getResponseBody().toString(), is(equalTo(BODY)));
+    }
+
+    private static HttpMessage createRequest(String url) throws Exception {
+        return new HttpMessage(new HttpRequestHeader("GET " + url + " HTTP/1.1\r\n\r\n"));
+    }
+
+    private static HttpMessage createMessage(String url, String headers, String body)
+            throws Exception {
+        HttpMessage msg = createRequest(url);
+        msg.setResponseHeader("HTTP/1.1 200 OK\r\n" + headers + "\r\n");
+        msg.setResponseBody(body);
+        return msg;
+    }
+}
@@ -17,7 +17,7 @@ zapAddOn {
         dependencies {
             addOns {
                 register("database") {
-                    version.set(">= 0.6.0")
+                    version.set(">= 0.10.0")
                 }
                 register("network") {
                     version.set(">= 0.1.0")
@@ -43,6 +43,7 @@ import org.zaproxy.addon.network.ExtensionNetwork;
 import org.zaproxy.addon.oast.OastState.OastStateEventType;
 import org.zaproxy.addon.oast.internal.AlertEntity;
 import org.zaproxy.addon.oast.internal.MessageEntity;
+import org.zaproxy.addon.oast.internal.OastAlertIndex;
 import org.zaproxy.addon.oast.internal.OastPermanentDatabase;
 import org.zaproxy.addon.oast.services.boast.BoastEntity;
 import org.zaproxy.addon.oast.services.boast.BoastOptionsPanelTab;
@@ -82,6 +83,7 @@ public class ExtensionOast extends ExtensionAdaptor {
     private CallbackService callbackService;
     private InteractshService interactshService;
     private OastPermanentDatabase permanentDatabase;
+    private OastAlertIndex alertIndex;
     private boolean wasUsePermanentDatabase;
 
     public ExtensionOast() {
@@ -164,10 +166,13 @@ public class ExtensionOast extends ExtensionAdaptor {
     }
 
     public void trimDatabase(int days) {
+        getAlertIndex().flush();
+        getAlertIndex().expire(days);
         getPermanentDatabase().trim(days);
     }
 
     public void clearAllRecords() {
+        getAlertIndex().clear();
         getPermanentDatabase().clearAllRecords();
         boastService.clearRegisteredServers();
         if (hasView()) {
@@ -238,7 +243,7 @@ public class ExtensionOast extends ExtensionAdaptor {
         getOastServices().values().forEach(OastService::poll);
     }
 
-    private OastPermanentDatabase getPermanentDatabase() {
+    private synchronized OastPermanentDatabase getPermanentDatabase() {
         if (permanentDatabase == null) {
             permanentDatabase =
                     new OastPermanentDatabase(
@@ -247,6 +252,14 @@ public class ExtensionOast extends ExtensionAdaptor {
         return permanentDatabase;
     }
 
+    private synchronized OastAlertIndex getAlertIndex() {
+        if (alertIndex == null) {
+            alertIndex = new OastAlertIndex(this::getPermanentDatabase);
+            alertIndex.start();
+        }
+        return alertIndex;
+    }
+
     private OastOptionsPanel getOastOptionsPanel() {
         if (oastOptionsPanel == null) {
             oastOptionsPanel = new OastOptionsPanel();
@@ -312,7 +325,7 @@ public class ExtensionOast extends ExtensionAdaptor {
 
     private void persistAlert(String payload, Alert alert) {
         var messageEntity = new MessageEntity(alert.getMessage());
-        getPermanentDatabase().persistEntity(new AlertEntity(payload, messageEntity, alert));
+        getAlertIndex().register(payload, new AlertEntity(payload, messageEntity, alert));
     }
 
     private void activeScanAlertOastRequestHandler(OastRequest request) {
@@ -320,16 +333,27 @@ public class ExtensionOast extends ExtensionAdaptor {
             HttpMessage oastReceivedMsg = request.getHistoryReference().getHttpMessage();
             String uri = oastReceivedMsg.getRequestHeader().getURI().toString();
 
-            AlertEntity alertEntity = getPermanentDatabase().getAlertForPayload(uri);
-            if (alertEntity == null) {
-                LOGGER.warn(
-                        "Not raising alert, the interaction {} through '{}' from {} was not found.",
-                        uri,
-                        request.getHandler(),
-                        request.getSource());
-                return;
-            }
+            getAlertIndex()
+                    .remove(uri)
+                    .thenAccept(
+                            alertEntity -> raiseAlert(request, oastReceivedMsg, uri, alertEntity));
+        } catch (Exception e) {
+            LOGGER.error("Could not handle OAST request.", e);
+        }
+    }
+
+    private static void raiseAlert(
+            OastRequest request, HttpMessage oastReceivedMsg, String uri, AlertEntity alertEntity) {
+        if (alertEntity == null) {
+            LOGGER.warn(
+                    "Not raising alert, the interaction {} through '{}' from {} was not found.",
+                    uri,
+                    request.getHandler(),
+                    request.getSource());
+            return;
+        }
 
+        try {
             Alert alert = alertEntity.toAlert();
             StringBuilder otherInfo = new StringBuilder(alert.getOtherInfo());
             if (otherInfo.length() > 0) {
@@ -389,6 +413,14 @@ public class ExtensionOast extends ExtensionAdaptor {
         unregisterOastService(boastService);
         unregisterOastService(callbackService);
         unregisterOastService(interactshService);
+        OastAlertIndex oldAlertIndex;
+        synchronized (this) {
+            oldAlertIndex = alertIndex;
+            alertIndex = null;
+        }
+        if (oldAlertIndex != null) {
+            oldAlertIndex.stop();
+        }
         getPermanentDatabase().close();
     }
 
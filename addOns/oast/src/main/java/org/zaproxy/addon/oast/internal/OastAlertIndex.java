@@ -0,0 +1,380 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * An in-memory index of the alerts registered for OAST payloads, backed by the permanent database.
+ *
+ * <p>The alerts are kept in memory, up to a maximum number, so that the interactions can be
+ * correlated without querying the database. The alerts are written to the database in batches, in
+ * the background, to be able to correlate interactions received after the index evicted them (or
+ * after a restart).
+ *
+ * <p>The alerts are looked up only with the substrings of the interaction URI that are likely to be
+ * a payload. The interactions not found in memory are looked up in the database in the background,
+ * and the ones not found there either are remembered for a while, so that unknown interactions
+ * (for example, scanners probing the OAST server) do not query the database each time.
+ */
+public class OastAlertIndex {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private static final Logger LOGGER = LogManager.getLogger(OastAlertIndex.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final long FLUSH_INTERVAL_MS = 1_000;
+    private static final int MAX_MISSES = 1_000;
+    private static final long MISS_TTL_MS = TimeUnit.MINUTES.toMillis(5);
+
+    private final Supplier<OastPermanentDatabase> databaseSupplier;
+    private final int maxSize;
+
+    private final Map<String, IndexEntry> entries;
+    private final Map<String, AlertEntity> pendingWrites;
+    private final Set<Integer> pendingDeletes;
+    private final Set<AlertEntity> removedWhileWriting;
+    private final Map<String, Long> misses;
+
+    private ScheduledExecutorService executor;
+
+    public OastAlertIndex(Supplier<OastPermanentDatabase> databaseSupplier) {
+        this(databaseSupplier, DEFAULT_MAX_SIZE);
+    }
+
+    public OastAlertIndex(Supplier<OastPermanentDatabase> databaseSupplier, int maxSize) {
+        this.databaseSupplier = databaseSupplier;
+        this.maxSize = maxSize;
+        entries = new LinkedHashMap<>();
+        pendingWrites = new LinkedHashMap<>();
+        pendingDeletes = new LinkedHashSet<>();
+        removedWhileWriting = new HashSet<>();
+        misses =
+                new LinkedHashMap<>(16, 0.75f, true) {
+
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                        return size() > MAX_MISSES;
+                    }
+                };
+    }
+
+    /** Starts writing the alerts to the database in the background. */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "ZAP-OastAlertIndex");
+                            t.setDaemon(true);
+                            return t;
+                        });
+        executor.scheduleWithFixedDelay(
+                this::flushHandled, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops the background writes, writing all the pending changes to the database. */
+    public void stop() {
+        ScheduledExecutorService oldExecutor;
+        synchronized (this) {
+            oldExecutor = executor;
+            executor = null;
+        }
+        if (oldExecutor != null) {
+            oldExecutor.shutdown();
+            try {
+                oldExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushHandled();
+    }
+
+    /**
+     * Registers the given alert for the given payload.
+     *
+     * @param payload the payload.
+     * @param alertEntity the alert to raise when an interaction for the payload is received.
+     */
+    public void register(String payload, AlertEntity alertEntity) {
+        boolean flush;
+        synchronized (this) {
+            entries.put(payload, new IndexEntry(alertEntity));
+            pendingWrites.put(payload, alertEntity);
+            evictExcess();
+            flush = pendingWrites.size() >= BATCH_SIZE;
+        }
+        Stats.incCounter("stats.oast.index.registered");
+        if (flush) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Gets and removes the alert whose payload is contained in the given interaction URI.
+     *
+     * <p>The alert is looked up in memory with the {@link #getCandidates(String) candidates} of the
+     * URI, if not found the database is queried in the background, unless the URI was recently not
+     * found.
+     *
+     * @param uri the URI of the interaction.
+     * @return a future with the alert, or with {@code null} if none.
+     */
+    public CompletableFuture<AlertEntity> remove(String uri) {
+        List<String> candidates = getCandidates(uri);
+        Executor lookupExecutor;
+        synchronized (this) {
+            AlertEntity alertEntity = removeFromMemory(candidates);
+            if (alertEntity != null) {
+                Stats.incCounter("stats.oast.index.hit");
+                return CompletableFuture.completedFuture(alertEntity);
+            }
+
+            Long missed = misses.get(uri);
+            if (missed != null && System.currentTimeMillis() - missed < MISS_TTL_MS) {
+                Stats.incCounter("stats.oast.index.miss.cached");
+                return CompletableFuture.completedFuture(null);
+            }
+            // Same thread as the writes, the alerts being written are already in the database.
+            lookupExecutor = executor != null ? executor : Runnable::run;
+        }
+
+        Stats.incCounter("stats.oast.index.miss");
+        try {
+            return CompletableFuture.supplyAsync(() -> removeFromDatabase(uri), lookupExecutor);
+        } catch (RejectedExecutionException e) {
+            // Stopping, query on the caller thread.
+            return CompletableFuture.completedFuture(removeFromDatabase(uri));
+        }
+    }
+
+    private AlertEntity removeFromMemory(List<String> candidates) {
+        for (String candidate : candidates) {
+            IndexEntry entry = entries.remove(candidate);
+            if (entry != null) {
+                AlertEntity alertEntity = entry.getAlertEntity();
+                if (pendingWrites.remove(candidate) == null) {
+                    if (alertEntity.getId() != null) {
+                        pendingDeletes.add(alertEntity.getId());
+                    } else {
+                        removedWhileWriting.add(alertEntity);
+                    }
+                }
+                return alertEntity;
+            }
+
+            // Evicted but not yet written.
+            AlertEntity alertEntity = pendingWrites.remove(candidate);
+            if (alertEntity != null) {
+                return alertEntity;
+            }
+        }
+        return null;
+    }
+
+    private AlertEntity removeFromDatabase(String uri) {
+        AlertEntity alertEntity = databaseSupplier.get().getAlertForPayload(uri);
+        if (alertEntity == null) {
+            synchronized (this) {
+                misses.put(uri, System.currentTimeMillis());
+            }
+        }
+        return alertEntity;
+    }
+
+    /**
+     * Gets the substrings of the URI that are likely to be a payload: the URI itself, its
+     * prefixes ending before a slash, and its host with and without each of the leading labels.
+     */
+    static List<String> getCandidates(String uri) {
+        List<String> candidates = new ArrayList<>();
+        candidates.add(uri);
+
+        int authorityStart = uri.indexOf("://");
+        authorityStart = authorityStart == -1 ? 0 : authorityStart + 3;
+        int pathStart = uri.indexOf('/', authorityStart);
+        for (int i = pathStart; i != -1; i = uri.indexOf('/', i + 1)) {
+            candidates.add(uri.substring(0, i));
+            candidates.add(uri.substring(0, i + 1));
+        }
+
+        String authority =
+                pathStart == -1
+                        ? uri.substring(authorityStart)
+                        : uri.substring(authorityStart, pathStart);
+        int userInfoEnd = authority.lastIndexOf('@');
+        String host = authority.substring(userInfoEnd + 1);
+        int portStart = host.lastIndexOf(':');
+        if (portStart != -1 && host.indexOf(']') < portStart) {
+            host = host.substring(0, portStart);
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        while (!host.isEmpty()) {
+            candidates.add(host);
+            int dot = host.indexOf('.');
+            if (dot == -1) {
+                break;
+            }
+            host = host.substring(dot + 1);
+        }
+        return candidates;
+    }
+
+    /**
+     * Removes the alerts older than the given number of days, matching the trim of the database.
+     *
+     * @param days the number of days to keep the alerts.
+     */
+    public synchronized void expire(int days) {
+        if (days <= 0) {
+            return;
+        }
+        long oldest = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(days);
+        Iterator<IndexEntry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            IndexEntry entry = it.next();
+            if (entry.getRegistered() >= oldest) {
+                // Insertion order, the remaining are newer.
+                break;
+            }
+            it.remove();
+        }
+    }
+
+    /** Removes all the alerts, including the ones pending to be written. */
+    public synchronized void clear() {
+        entries.clear();
+        pendingWrites.clear();
+        pendingDeletes.clear();
+        removedWhileWriting.clear();
+        misses.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the number of alerts and deletions not yet written to the database.
+     *
+     * @return the number of pending changes.
+     */
+    public synchronized int getBacklog() {
+        return pendingWrites.size() + pendingDeletes.size();
+    }
+
+    private void evictExcess() {
+        Iterator<IndexEntry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            Stats.incCounter("stats.oast.index.evicted");
+        }
+    }
+
+    private synchronized void scheduleFlush() {
+        if (executor != null) {
+            executor.execute(this::flushHandled);
+        }
+    }
+
+    private void flushHandled() {
+        try {
+            flush();
+        } catch (Exception e) {
+            LOGGER.error("Failed to write the OAST alerts to the database:", e);
+        }
+    }
+
+    /** Writes the pending alerts and deletions to the database. */
+    public void flush() {
+        List<AlertEntity> writes;
+        List<Integer> deletes;
+        synchronized (this) {
+            if (pendingWrites.isEmpty() && pendingDeletes.isEmpty()) {
+                return;
+            }
+            writes = new ArrayList<>(pendingWrites.values());
+            deletes = new ArrayList<>(pendingDeletes);
+            pendingWrites.clear();
+            pendingDeletes.clear();
+        }
+
+        OastPermanentDatabase db = databaseSupplier.get();
+        db.persistEntities(writes, BATCH_SIZE);
+        db.deleteAlerts(deletes);
+        Stats.incCounter("stats.oast.index.persisted", writes.size());
+
+        List<Integer> removedSinceWrite = new ArrayList<>();
+        synchronized (this) {
+            for (AlertEntity alertEntity : writes) {
+                if (removedWhileWriting.remove(alertEntity) && alertEntity.getId() != null) {
+                    removedSinceWrite.add(alertEntity.getId());
+                }
+            }
+        }
+        if (!removedSinceWrite.isEmpty()) {
+            db.deleteAlerts(removedSinceWrite);
+        }
+    }
+
+    private static class IndexEntry {
+
+        private final AlertEntity alertEntity;
+        private final long registered;
+
+        IndexEntry(AlertEntity alertEntity) {
+            this.alertEntity = alertEntity;
+            this.registered = System.currentTimeMillis();
+        }
+
+        AlertEntity getAlertEntity() {
+            return alertEntity;
+        }
+
+        long getRegistered() {
+            return registered;
+        }
+    }
+}
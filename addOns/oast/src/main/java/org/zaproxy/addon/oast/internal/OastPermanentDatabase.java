@@ -19,7 +19,9 @@
  */
 package org.zaproxy.addon.oast.internal;
 
+import java.util.Collection;
 import javax.jdo.JDOObjectNotFoundException;
+import javax.jdo.PersistenceManager;
 import javax.jdo.Query;
 import javax.jdo.Transaction;
 import org.apache.logging.log4j.LogManager;
@@ -69,6 +71,35 @@ public class OastPermanentDatabase extends PermanentDatabase {
         return null;
     }
 
+    /**
+     * Deletes the alerts with the given IDs, and their messages, in a single transaction.
+     *
+     * @param ids the IDs of the alerts.
+     */
+    public void deleteAlerts(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        PersistenceManager pm = getPm();
+        Transaction tx = pm.currentTransaction();
+        try {
+            tx.begin();
+            for (Integer id : ids) {
+                try {
+                    pm.deletePersistent(pm.getObjectById(AlertEntity.class, id));
+                } catch (JDOObjectNotFoundException e) {
+                    // Already trimmed.
+                }
+            }
+            tx.commit();
+        } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            pm.close();
+        }
+    }
+
     public void trim(int days) {
         if (days <= 0) {
             return;
@@ -0,0 +1,222 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.oast.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link OastAlertIndex}. */
+class OastAlertIndexUnitTests {
+
+    private OastPermanentDatabase db;
+    private OastAlertIndex index;
+
+    @BeforeEach
+    void setUp() {
+        db = mock(OastPermanentDatabase.class);
+        index = new OastAlertIndex(() -> db, 2);
+    }
+
+    @Test
+    void shouldGetCandidatesFromUri() {
+        // Given
+        String uri = "http://abc.def.oast.example:8080/uuid/path?a=b";
+        // When
+        List<String> candidates = OastAlertIndex.getCandidates(uri);
+        // Then
+        assertThat(
+                candidates,
+                hasItems(
+                        uri,
+                        "http://abc.def.oast.example:8080",
+                        "http://abc.def.oast.example:8080/uuid",
+                        "http://abc.def.oast.example:8080/uuid/",
+                        "abc.def.oast.example",
+                        "def.oast.example"));
+    }
+
+    @Test
+    void shouldFindHostPayloadWithoutQueryingDatabase() {
+        // Given
+        AlertEntity alert = alertEntity("x.abcdef.oast.example", null);
+        index.register("x.abcdef.oast.example", alert);
+        // When
+        AlertEntity found = index.remove("http://X.abcdef.oast.example/some/path").join();
+        // Then
+        assertThat(found, is(sameInstance(alert)));
+        assertThat(index.size(), is(equalTo(0)));
+        verify(db, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldFindUrlPayloadWithoutQueryingDatabase() {
+        // Given
+        String payload = "http://localhost:8080/0123-4567";
+        AlertEntity alert = alertEntity(payload, null);
+        index.register(payload, alert);
+        // When
+        AlertEntity found = index.remove(payload + "/extra").join();
+        // Then
+        assertThat(found, is(sameInstance(alert)));
+        verify(db, never()).getAlertForPayload(any());
+    }
+
+    @Test
+    void shouldQueryDatabaseForPayloadNotInCandidates() {
+        // Given
+        AlertEntity alert = alertEntity("payload123", null);
+        index.register("payload123", alert);
+        String uri = "http://example.com/?q=xpayload123x";
+        // When
+        AlertEntity found = index.remove(uri).join();
+        // Then
+        assertThat(found, is(nullValue()));
+        assertThat(index.size(), is(equalTo(1)));
+        verify(db).getAlertForPayload(uri);
+    }
+
+    @Test
+    void shouldNotQueryDatabaseAgainForRecentMiss() {
+        // Given
+        String uri = "http://unknown.oast.example/";
+        index.remove(uri).join();
+        // When
+        AlertEntity found = index.remove(uri).join();
+        // Then
+        assertThat(found, is(nullValue()));
+        verify(db, times(1)).getAlertForPayload(uri);
+    }
+
+    @Test
+    void shouldFindEvictedAlertNotYetWrittenWithoutQueryingDatabase() {
+        // Given
+        AlertEntity alert = alertEntity("x.a.oast.example", null);
+        index.register("x.a.oast.example", alert);
+        index.register("x.b.oast.example", alertEntity("x.b.oast.example", null));
+        index.register("x.c.oast.example", alertEntity("x.c.oast.example", null));
+        // When
+        AlertEntity found = index.remove("http://x.a.oast.example/").join();
+        // Then
+        assertThat(found, is(sameInstance(alert)));
+        verify(db, never()).getAlertForPayload(any());
+        verify(db, never()).persistEntities(any(), anyInt());
+    }
+
+    @Test
+    void shouldNotDeleteEvictedAlertsOnFlush() {
+        // Given
+        index.register("x.a.oast.example", alertEntity("x.a.oast.example", 1));
+        index.register("x.b.oast.example", alertEntity("x.b.oast.example", 2));
+        index.register("x.c.oast.example", alertEntity("x.c.oast.example", 3));
+        // When
+        index.flush();
+        // Then
+        verify(db, never()).deleteAlerts(List.of(1));
+    }
+
+    @Test
+    void shouldNotWriteAlertRemovedBeforeFlush() {
+        // Given
+        AlertEntity alert = alertEntity("x.abc.oast.example", null);
+        index.register("x.abc.oast.example", alert);
+        index.remove("http://x.abc.oast.example/").join();
+        // When
+        index.flush();
+        // Then
+        verify(db, never()).persistEntities(any(), anyInt());
+        assertThat(index.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldWriteAlertsAndDeleteRemovedOnFlush() {
+        // Given
+        AlertEntity alert1 = alertEntity("x.a.oast.example", 1);
+        AlertEntity alert2 = alertEntity("x.b.oast.example", 2);
+        index.register("x.a.oast.example", alert1);
+        index.register("x.b.oast.example", alert2);
+        index.flush();
+        // When
+        index.remove("http://x.a.oast.example/").join();
+        index.flush();
+        // Then
+        verify(db).persistEntities(eq(List.of(alert1, alert2)), anyInt());
+        verify(db).deleteAlerts(List.of(1));
+    }
+
+    @Test
+    void shouldFallBackToDatabaseWhenNotInMemory() {
+        // Given
+        AlertEntity alert = alertEntity("x.old.oast.example", 3);
+        given(db.getAlertForPayload("http://x.old.oast.example/")).willReturn(alert);
+        // When
+        AlertEntity found = index.remove("http://x.old.oast.example/").join();
+        // Then
+        assertThat(found, is(sameInstance(alert)));
+    }
+
+    @Test
+    void shouldEvictOldestAlertsWhenFull() {
+        // Given
+        index.register("x.a.oast.example", alertEntity("x.a.oast.example", null));
+        index.register("x.b.oast.example", alertEntity("x.b.oast.example", null));
+        // When
+        index.register("x.c.oast.example", alertEntity("x.c.oast.example", null));
+        index.flush();
+        // Then
+        assertThat(index.size(), is(equalTo(2)));
+        assertThat(index.remove("http://x.a.oast.example/").join(), is(nullValue()));
+        verify(db).getAlertForPayload("http://x.a.oast.example/");
+    }
+
+    @Test
+    void shouldDiscardPendingWritesWhenCleared() {
+        // Given
+        index.register("x.a.oast.example", alertEntity("x.a.oast.example", null));
+        // When
+        index.clear();
+        index.flush();
+        // Then
+        assertThat(index.size(), is(equalTo(0)));
+        verify(db, never()).persistEntities(any(), anyInt());
+    }
+
+    private static AlertEntity alertEntity(String payload, Integer id) {
+        AlertEntity alertEntity = mock(AlertEntity.class);
+        given(alertEntity.getPayload()).willReturn(payload);
+        given(alertEntity.getId()).willReturn(id);
+        return alertEntity;
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.zaproxy.addon.paramdigger;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -58,7 +59,10 @@ public class UrlBruteForce implements Callable<ParamReasons> {
     private List<String> wordlist;
     private List<ParamGuessResult> guessedParams;
     private List<Integer> ERRORCODES = Arrays.asList(400, 413, 418, 429, 503);
+    // Payload Too Large, URI Too Long, and Request Header Fields Too Large.
+    private static final List<Integer> TOO_LARGE_CODES = List.of(413, 414, 431);
     private String baseValue;
+    private Status status;
     private static final Logger LOGGER = LogManager.getLogger(UrlBruteForce.class);
 
     public UrlBruteForce(
@@ -95,8 +99,12 @@ public class UrlBruteForce implements Callable<ParamReasons> {
             return null;
         }
         ComparableResponse response = new ComparableResponse(msg, valueSent);
-        Status status = errorHandler(base, response);
+        status = errorHandler(base, response);
 
+        if (status.equals(Status.TOO_LARGE)) {
+            guesser.reduceMaxPayloadLength(method, valueSent.length());
+            return null;
+        }
         if (status.equals(Status.KILL)) {
             return null;
         }
@@ -117,10 +125,14 @@ public class UrlBruteForce implements Callable<ParamReasons> {
      *
      * @param base the base response
      * @param response the response to check
-     * @return Status.OK if the response is valid, false otherwise.
+     * @return Status.OK if the response is valid, Status.TOO_LARGE if the request was rejected
+     *     for being too large, Status.KILL otherwise.
      */
     public Status errorHandler(ComparableResponse base, ComparableResponse response) {
         int status = response.getStatusCode();
+        if (TOO_LARGE_CODES.contains(status) && base.getStatusCode() != status) {
+            return Status.TOO_LARGE;
+        }
         if (ERRORCODES.contains(status)) {
             if (status == 503) {
                 // TODO Display on out panel "Taget unable to process requests"
@@ -173,7 +185,7 @@ public class UrlBruteForce implements Callable<ParamReasons> {
                         headers.setHeader(header.getName(), header.getValue());
                     }
                     msg.setRequestHeader(headers);
-                    httpSender.sendAndReceive(msg);
+                    send(msg);
                     ThreadUtils.invokeAndWaitHandled(
                             () -> {
                                 try {
@@ -215,7 +227,7 @@ public class UrlBruteForce implements Callable<ParamReasons> {
                     msg.setRequestHeader(headers);
                     msg.setRequestBody(xmlPayload);
                     msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-                    httpSender.sendAndReceive(msg);
+                    send(msg);
                     table.addHistoryReference(
                             new HistoryReference(
                                     Model.getSingleton().getSession(),
@@ -261,7 +273,7 @@ public class UrlBruteForce implements Callable<ParamReasons> {
                     msg.setRequestHeader(headers);
                     msg.setRequestBody(jsonPayload);
                     msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-                    httpSender.sendAndReceive(msg);
+                    send(msg);
                     table.addHistoryReference(
                             new HistoryReference(
                                     Model.getSingleton().getSession(),
@@ -292,7 +304,7 @@ public class UrlBruteForce implements Callable<ParamReasons> {
                     msg.setRequestHeader(headers);
                     msg.setRequestBody(postPayload);
                     msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-                    httpSender.sendAndReceive(msg);
+                    send(msg);
                     table.addHistoryReference(
                             new HistoryReference(
                                     Model.getSingleton().getSession(),
@@ -311,6 +323,20 @@ public class UrlBruteForce implements Callable<ParamReasons> {
         return null;
     }
 
+    private void send(HttpMessage msg) throws IOException {
+        httpSender.sendAndReceive(msg);
+        guesser.requestSent();
+    }
+
+    /**
+     * Gets the status of the response, after the task is called.
+     *
+     * @return the status, or {@code null} if the request was not sent.
+     */
+    public Status getStatus() {
+        return status;
+    }
+
     /**
      * Comapres two responses and finds if a paramter is vulnerable or not.
      *
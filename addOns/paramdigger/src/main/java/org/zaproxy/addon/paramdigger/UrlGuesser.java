@@ -23,6 +23,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,12 +31,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpSender;
 import org.zaproxy.addon.commonlib.http.ComparableResponse;
+import org.zaproxy.zap.utils.Stats;
 
 public class UrlGuesser implements Runnable {
 
@@ -48,8 +51,17 @@ public class UrlGuesser implements Runnable {
         OK,
         RETRY,
         KILL,
+        TOO_LARGE,
     }
 
+    /** The initial maximum length of the query string of the GET requests. */
+    static final int DEFAULT_MAX_QUERY_LENGTH = 4096;
+
+    /** The initial maximum length of the body of the other requests. */
+    static final int DEFAULT_MAX_BODY_LENGTH = 65536;
+
+    private static final int MIN_PAYLOAD_LENGTH = 256;
+
     private HttpSender httpSender;
     private int id;
     // TODO should pass id to bruteforce task
@@ -78,6 +90,9 @@ public class UrlGuesser implements Runnable {
     private float lineCountHeuristicThreshold;
     private float wordCountHeuristic;
 
+    private final Map<Method, Integer> maxPayloadLengths;
+    private final AtomicInteger requestCount;
+
     private static final Logger LOGGER = LogManager.getLogger(UrlGuesser.class);
 
     public UrlGuesser(int id, GuesserScan scan, HttpSender httpSender, ExecutorService executor) {
@@ -86,6 +101,8 @@ public class UrlGuesser implements Runnable {
         this.scan = scan;
         this.httpSender = httpSender;
         this.executor = executor;
+        this.maxPayloadLengths = new EnumMap<>(Method.class);
+        this.requestCount = new AtomicInteger();
 
         if (config.getUsePredefinedUrlWordlists()) {
             defaultWordListFile = Paths.get(DEFAULTWORDLISTPATH);
@@ -136,6 +153,12 @@ public class UrlGuesser implements Runnable {
         for (ParamGuessResult paramGuessResult : paramGuessResults) {
             scan.addParamGuessResult(paramGuessResult);
         }
+        Stats.incCounter("stats.paramdigger.url.found", paramGuessResults.size());
+        LOGGER.debug(
+                "Sent {} requests, found {} parameters ({} requests per parameter)",
+                requestCount.get(),
+                paramGuessResults.size(),
+                getRequestsPerParameter());
         completeGuess();
     }
 
@@ -161,8 +184,11 @@ public class UrlGuesser implements Runnable {
         this.scan.notifyListenersProgress();
         // TODO Add heuristic method to mine parameters from base response.
 
-        List<Map<String, String>> paramGroups =
-                Utils.slice(Utils.populate(wordlist), config.getUrlGuessChunkSize());
+        List<Map<String, String>> paramGroups = new ArrayList<>();
+        for (Map<String, String> slice :
+                Utils.slice(Utils.populate(wordlist), config.getUrlGuessChunkSize())) {
+            paramGroups.addAll(Utils.sliceByLength(slice, getMaxPayloadLength(method)));
+        }
         this.scan.setMaximum(paramGroups.size());
         List<Map<String, String>> usableParams = new ArrayList<>();
 
@@ -217,31 +243,55 @@ public class UrlGuesser implements Runnable {
     private List<Map<String, String>> narrowDownParams(
             ComparableResponse base, Method method, List<Map<String, String>> paramGroups) {
         List<Map<String, String>> narrowedParamGroups = new ArrayList<>();
+        List<Map<String, String>> pendingGroups = paramGroups;
+        // The groups resliced for being too large were not compared yet, test them again.
+        while (!pendingGroups.isEmpty() && !this.scan.isStopped()) {
+            pendingGroups = bruteForce(base, method, pendingGroups, narrowedParamGroups);
+        }
+        return narrowedParamGroups;
+    }
+
+    /**
+     * Tests the given groups of parameters, adding to the narrowed groups the (sliced) groups that
+     * show differences.
+     *
+     * @return the groups resliced after being rejected for being too large, to be tested again.
+     */
+    private List<Map<String, String>> bruteForce(
+            ComparableResponse base,
+            Method method,
+            List<Map<String, String>> paramGroups,
+            List<Map<String, String>> narrowedParamGroups) {
+        List<Map<String, String>> reslicedParamGroups = new ArrayList<>();
+        List<UrlBruteForce> tasks = new ArrayList<>();
         List<Future<ParamReasons>> futures = new ArrayList<>();
 
         for (Map<String, String> param : paramGroups) {
             if (this.scan.isStopped()) {
-                return narrowedParamGroups;
+                return List.of();
             }
-            futures.add(
-                    executor.submit(
-                            new UrlBruteForce(
-                                    base,
-                                    INIT_VALUE_2,
-                                    method,
-                                    param,
-                                    Mode.BRUTEFORCE,
-                                    scan,
-                                    this,
-                                    this.httpSender,
-                                    wordlist,
-                                    null)));
+            UrlBruteForce task =
+                    new UrlBruteForce(
+                            base,
+                            INIT_VALUE_2,
+                            method,
+                            param,
+                            Mode.BRUTEFORCE,
+                            scan,
+                            this,
+                            this.httpSender,
+                            wordlist,
+                            null);
+            tasks.add(task);
+            futures.add(executor.submit(task));
         }
 
-        for (Future<ParamReasons> future : futures) {
+        for (int i = 0; i < futures.size(); i++) {
             try {
-                ParamReasons narrowedParam = future.get();
-                if (narrowedParam != null && !narrowedParam.isEmpty()) {
+                ParamReasons narrowedParam = futures.get(i).get();
+                if (tasks.get(i).getStatus() == Status.TOO_LARGE) {
+                    reslicedParamGroups.addAll(resliceTooLarge(method, paramGroups.get(i)));
+                } else if (narrowedParam != null && !narrowedParam.isEmpty()) {
                     List<Map<String, String>> slices = Utils.slice(narrowedParam.getParams(), 2);
                     for (Map<String, String> slice : slices) {
                         narrowedParamGroups.add(slice);
@@ -253,7 +303,76 @@ public class UrlGuesser implements Runnable {
                 LOGGER.error(e, e);
             }
         }
-        return narrowedParamGroups;
+        return reslicedParamGroups;
+    }
+
+    /**
+     * Slices again a group of parameters whose request was rejected for being too large, to fit
+     * the (already reduced) maximum payload length. The group is always divided, at least, in
+     * two, groups with a single parameter are discarded.
+     */
+    private List<Map<String, String>> resliceTooLarge(Method method, Map<String, String> params) {
+        if (params.size() == 1) {
+            LOGGER.debug("Discarding parameter, request too large: {}", params.keySet());
+            return List.of();
+        }
+        List<Map<String, String>> slices = Utils.sliceByLength(params, getMaxPayloadLength(method));
+        if (slices.size() == 1) {
+            slices = Utils.slice(params, 2);
+        }
+        return slices;
+    }
+
+    private int getMaxPayloadLength(Method method) {
+        synchronized (maxPayloadLengths) {
+            return maxPayloadLengths.computeIfAbsent(
+                    method,
+                    k -> k == Method.GET ? DEFAULT_MAX_QUERY_LENGTH : DEFAULT_MAX_BODY_LENGTH);
+        }
+    }
+
+    /**
+     * Reduces the maximum length of the payloads of the given method, after a request with a
+     * payload of the given length was rejected by the target for being too large.
+     *
+     * @param method the method of the request.
+     * @param rejectedLength the length of the payload rejected.
+     */
+    void reduceMaxPayloadLength(Method method, int rejectedLength) {
+        Stats.incCounter("stats.paramdigger.url.toolarge");
+        synchronized (maxPayloadLengths) {
+            int current = getMaxPayloadLength(method);
+            int reduced = Math.max(MIN_PAYLOAD_LENGTH, Math.min(current, rejectedLength / 2));
+            if (reduced < current) {
+                LOGGER.debug("Reducing max payload length of {} to {}", method, reduced);
+                maxPayloadLengths.put(method, reduced);
+            }
+        }
+    }
+
+    void requestSent() {
+        requestCount.incrementAndGet();
+        Stats.incCounter("stats.paramdigger.url.requests");
+    }
+
+    /**
+     * Gets the number of requests sent to the target.
+     *
+     * @return the number of requests.
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Gets the number of requests sent per parameter found, or the number of requests sent if no
+     * parameter was found.
+     *
+     * @return the number of requests per parameter.
+     */
+    public double getRequestsPerParameter() {
+        int found = paramGuessResults != null ? paramGuessResults.size() : 0;
+        return found == 0 ? requestCount.get() : (double) requestCount.get() / found;
     }
 
     public ComparableResponse firstRequest(Method method, String param, String value) {
@@ -106,6 +106,55 @@ public class Utils {
         return list;
     }
 
+    /**
+     * Divides a given Map of parameters into parts whose estimated payload length does not exceed
+     * the given maximum. A parameter longer than the maximum is placed in a part on its own.
+     *
+     * @param map the Map of parameters to be divided.
+     * @param maxLength the maximum estimated payload length of each part.
+     * @return a List<Map<String, String>> of parameters divided by payload length.
+     * @see #estimateLength(Map)
+     */
+    public static List<Map<String, String>> sliceByLength(Map<String, String> map, int maxLength) {
+        List<Map<String, String>> list = new ArrayList<>();
+        Map<String, String> part = new HashMap<>();
+        int partLength = 0;
+        for (Entry<String, String> entry : map.entrySet()) {
+            int length = estimateLength(entry.getKey(), entry.getValue());
+            if (!part.isEmpty() && partLength + length > maxLength) {
+                list.add(part);
+                part = new HashMap<>();
+                partLength = 0;
+            }
+            part.put(entry.getKey(), entry.getValue());
+            partLength += length;
+        }
+        if (!part.isEmpty()) {
+            list.add(part);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the estimated length of the payload created with the given parameters, that is, the
+     * length of the query string without the leading question mark.
+     *
+     * @param map the Map of parameters.
+     * @return the estimated length of the payload.
+     */
+    public static int estimateLength(Map<String, String> map) {
+        int length = 0;
+        for (Entry<String, String> entry : map.entrySet()) {
+            length += estimateLength(entry.getKey(), entry.getValue());
+        }
+        return Math.max(0, length - 1);
+    }
+
+    private static int estimateLength(String name, String value) {
+        // name=value&
+        return name.length() + value.length() + 2;
+    }
+
     /**
      * Returns a query string from a given parameter map. The query string is not encoded.
      *
@@ -87,6 +87,54 @@ class UtilsUnitTest extends TestUtils {
         assertThat(sliced.get(0).size(), equalTo(30));
     }
 
+    @Test
+    void shouldSliceByLengthWithoutExceedingMaxLength() {
+        // Given
+        List<String> params = Utils.read(this.file);
+        Map<String, String> map = Utils.populate(params);
+        int maxLength = 100;
+
+        // When
+        List<Map<String, String>> sliced = Utils.sliceByLength(map, maxLength);
+
+        // Then
+        assertThat(sliced.size() > 1, equalTo(true));
+        int total = 0;
+        for (Map<String, String> slice : sliced) {
+            assertThat(Utils.estimateLength(slice) <= maxLength, equalTo(true));
+            total += slice.size();
+        }
+        assertThat(total, equalTo(60));
+    }
+
+    @Test
+    void shouldSliceByLengthParamLongerThanMaxLengthOnItsOwn() {
+        // Given
+        Map<String, String> map = new HashMap<>();
+        map.put("q", "test");
+        map.put("longparametername", "111111");
+
+        // When
+        List<Map<String, String>> sliced = Utils.sliceByLength(map, 10);
+
+        // Then
+        assertThat(sliced, hasSize(2));
+    }
+
+    @Test
+    void shouldEstimateLengthAsQueryString() {
+        // Given
+        Map<String, String> map = new HashMap<>();
+        map.put("q", "test");
+        map.put("admin", "true");
+
+        // When
+        int length = Utils.estimateLength(map);
+
+        // Then
+        assertThat(length, equalTo("q=test&admin=true".length()));
+    }
+
     @Test
     void shouldGetQueryStringWithoutErrors() {
         // Given
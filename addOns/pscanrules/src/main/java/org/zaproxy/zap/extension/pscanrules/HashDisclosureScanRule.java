@@ -243,6 +243,10 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
         // being retrieved from a database??? => Dangerous.
     }
 
+    /** Tells which hash patterns might match, to not run all of them against each response. */
+    private static final MultiPatternPrefilter HASH_PREFILTER =
+            new MultiPatternPrefilter(hashPatterns.keySet());
+
     private static final Logger LOGGER = LogManager.getLogger(HashDisclosureScanRule.class);
 
     /** Prefix for internationalized messages used by this rule */
@@ -325,6 +329,11 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
                 break;
         }
 
+        List<List<Pattern>> candidates = new ArrayList<>(haystacks.length);
+        for (String haystack : haystacks) {
+            candidates.add(HASH_PREFILTER.getCandidates(haystack));
+        }
+
         while (patternIterator.hasNext()) {
             Pattern hashPattern = patternIterator.next();
             HashAlert hashalert = hashPatterns.get(hashPattern);
@@ -335,8 +344,11 @@ public class HashDisclosureScanRule extends PluginPassiveScanner
                     "Trying Hash Pattern: {} for hash type {}",
                     hashPattern,
                     hashalert.getDescription());
-            for (String haystack : haystacks) {
-                Matcher matcher = hashPattern.matcher(haystack);
+            for (int i = 0; i < haystacks.length; i++) {
+                if (!candidates.get(i).contains(hashPattern)) {
+                    continue;
+                }
+                Matcher matcher = hashPattern.matcher(haystacks[i]);
                 while (matcher.find()) {
                     String evidence = matcher.group();
                     LOGGER.debug(
@@ -28,8 +28,10 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 import net.htmlparser.jericho.Source;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -66,7 +68,8 @@ public class InformationDisclosureDebugErrorsScanRule extends PluginPassiveScann
     private static final String debugErrorFile = "xml/debug-error-messages.txt";
     private static final Logger LOGGER =
             LogManager.getLogger(InformationDisclosureDebugErrorsScanRule.class);
-    private List<String> errors = null;
+    private Map<Pattern, String> errors = null;
+    private MultiPatternPrefilter errorsPrefilter;
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
@@ -97,10 +100,11 @@ public class InformationDisclosureDebugErrorsScanRule extends PluginPassiveScann
 
     private String doesResponseContainsDebugErrorMessage(HttpBody body) {
         if (this.errors == null) {
-            this.errors = loadFile(Paths.get(Constant.getZapHome(), debugErrorFile));
+            setErrors(loadFile(Paths.get(Constant.getZapHome(), debugErrorFile)));
         }
         String sBody = body.toString().toLowerCase();
-        for (String error : this.errors) {
+        for (Pattern pattern : errorsPrefilter.getCandidates(sBody)) {
+            String error = errors.get(pattern);
             int start = sBody.indexOf(error);
             if (start >= 0) {
                 // Return the original (case exact) string so we can match it in the response
@@ -140,8 +144,15 @@ public class InformationDisclosureDebugErrorsScanRule extends PluginPassiveScann
         return strings;
     }
 
+    private void setErrors(List<String> errors) {
+        Map<Pattern, String> errorPatterns = new LinkedHashMap<>();
+        errors.forEach(error -> errorPatterns.put(MultiPatternPrefilter.literal(error), error));
+        this.errors = errorPatterns;
+        this.errorsPrefilter = new MultiPatternPrefilter(errorPatterns.keySet());
+    }
+
     public void setDebugErrorFile(Path path) {
-        this.errors = loadFile(path);
+        setErrors(loadFile(path));
     }
 
     @Override
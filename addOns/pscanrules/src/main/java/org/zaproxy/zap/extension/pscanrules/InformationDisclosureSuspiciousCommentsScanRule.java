@@ -95,6 +95,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
     private List<Pattern> patterns = null;
+    private MultiPatternPrefilter prefilter;
 
     @Override
     public void scanHttpResponseReceive(HttpMessage msg, int id, Source source) {
@@ -176,7 +177,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
 
     private void searchSuspiciousComments(
             Map<String, List<AlertSummary>> alertMap, String comment) {
-        for (Pattern pattern : patterns) {
+        for (Pattern pattern : prefilter.getCandidates(comment)) {
             Matcher m = pattern.matcher(comment);
             if (m.find()) {
                 int contextStart = Math.max(0, m.start() - EVIDENCE_CONTEXT_CHARS);
@@ -224,6 +225,7 @@ public class InformationDisclosureSuspiciousCommentsScanRule extends PluginPassi
     private List<Pattern> getPatterns() {
         if (patterns == null) {
             patterns = initPatterns();
+            prefilter = new MultiPatternPrefilter(patterns);
         }
         return patterns;
     }
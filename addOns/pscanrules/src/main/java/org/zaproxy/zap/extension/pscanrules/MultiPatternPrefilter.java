@@ -0,0 +1,273 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A prefilter of several patterns, which tells which of them might match an input with a single
+ * pass over it.
+ *
+ * <p>The patterns are combined into a single RE2J pattern, which runs in linear time, that matches
+ * (at least) everything that the patterns match. If the combined pattern does not match the input
+ * none of the patterns needs to be run, which is the most common case for the rules that look for
+ * specific content (for example, hashes or suspicious comments). The patterns that can not be
+ * converted to RE2J (for example, with lookarounds or back references) are always run.
+ *
+ * <p>When the combined pattern matches, only the patterns whose alternative matched are returned,
+ * selected by the groups captured while finding the matches from each position that something
+ * matches. RE2J reports a single alternative per match, the first one that matches at that
+ * position, so only the following alternatives are checked, anchored at the same position. The
+ * returned patterns are not run over the whole input again, that is done once by the caller.
+ */
+final class MultiPatternPrefilter {
+
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+
+    private final List<Pattern> patterns;
+    private final List<Pattern> unfiltered;
+    private final List<Alternative> alternatives;
+    private final int alternativesCount;
+    private final com.google.re2j.Pattern combined;
+
+    /**
+     * Constructs a {@code MultiPatternPrefilter} for the given patterns.
+     *
+     * @param patterns the patterns, in the order they should be run.
+     */
+    MultiPatternPrefilter(Collection<Pattern> patterns) {
+        this.patterns = List.copyOf(patterns);
+        this.unfiltered = new ArrayList<>();
+        this.alternatives = new ArrayList<>(this.patterns.size());
+
+        List<String> converted = new ArrayList<>();
+        int group = 1;
+        for (Pattern pattern : this.patterns) {
+            String regex = convert(pattern);
+            if (regex == null) {
+                unfiltered.add(pattern);
+                alternatives.add(null);
+            } else {
+                com.google.re2j.Pattern re2jPattern = com.google.re2j.Pattern.compile(regex);
+                alternatives.add(new Alternative(group, re2jPattern));
+                converted.add("(" + regex + ")");
+                group += 1 + re2jPattern.groupCount();
+            }
+        }
+        alternativesCount = converted.size();
+        combined =
+                converted.isEmpty()
+                        ? null
+                        : com.google.re2j.Pattern.compile(String.join("|", converted));
+    }
+
+    /**
+     * Gets the patterns that might match the given input, in the order they were provided.
+     *
+     * @param input the input that will be matched.
+     * @return the patterns that might match.
+     */
+    List<Pattern> getCandidates(CharSequence input) {
+        if (combined == null) {
+            return patterns;
+        }
+        com.google.re2j.Matcher matcher = combined.matcher(input);
+        if (!matcher.find()) {
+            return unfiltered;
+        }
+
+        boolean[] matched = new boolean[patterns.size()];
+        int remaining = alternativesCount;
+        int start;
+        do {
+            start = matcher.start();
+            int first = getMatchedAlternative(matcher);
+            if (!matched[first]) {
+                matched[first] = true;
+                remaining--;
+            }
+
+            CharSequence fromStart = null;
+            for (int i = first + 1; i < matched.length && remaining > 0; i++) {
+                Alternative alternative = alternatives.get(i);
+                if (alternative == null || matched[i]) {
+                    continue;
+                }
+                if (fromStart == null) {
+                    fromStart = CharBuffer.wrap(input, start, input.length());
+                }
+                if (alternative.pattern().matcher(fromStart).lookingAt()) {
+                    matched[i] = true;
+                    remaining--;
+                }
+            }
+        } while (remaining > 0 && start < input.length() && matcher.find(start + 1));
+
+        List<Pattern> candidates = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i] || alternatives.get(i) == null) {
+                candidates.add(patterns.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    private int getMatchedAlternative(com.google.re2j.Matcher matcher) {
+        for (int i = 0; i < alternatives.size(); i++) {
+            Alternative alternative = alternatives.get(i);
+            if (alternative != null && matcher.start(alternative.group()) != -1) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No alternative matched.");
+    }
+
+    /**
+     * Creates a pattern that matches the given string literally, which (unlike {@link
+     * Pattern#quote(String)}) can be converted.
+     *
+     * @param literal the string to match.
+     * @return the pattern.
+     */
+    static Pattern literal(String literal) {
+        StringBuilder strBuilder = new StringBuilder(literal.length() + 8);
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (!Character.isLetterOrDigit(c) && !Character.isWhitespace(c) && c < 128) {
+                strBuilder.append('\\');
+            }
+            strBuilder.append(c);
+        }
+        return Pattern.compile(strBuilder.toString());
+    }
+
+    /**
+     * Converts the given pattern to an RE2J regular expression that matches at least the same
+     * input.
+     *
+     * @param pattern the pattern to convert.
+     * @return the regular expression, or {@code null} if not possible to convert.
+     */
+    static String convert(Pattern pattern) {
+        if ((pattern.flags() & ~SUPPORTED_FLAGS) != 0) {
+            return null;
+        }
+
+        String regex = pattern.pattern();
+        StringBuilder strBuilder = new StringBuilder(regex.length() + 8);
+        boolean inClass = false;
+        for (int i = 0; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (++i == regex.length()) {
+                    return null;
+                }
+                char escaped = regex.charAt(i);
+                if (!inClass && (escaped == 'b' || escaped == 'B')) {
+                    // Java and RE2J consider different word chars, drop the boundaries.
+                    continue;
+                }
+                if (Character.isLetterOrDigit(escaped) && "dDwWStnrfx".indexOf(escaped) == -1) {
+                    // Back references, other classes, quotations, and anchors.
+                    return null;
+                }
+                strBuilder.append(c).append(escaped);
+                continue;
+            }
+
+            if (inClass) {
+                if (c == '[' || (c == '&' && regex.startsWith("&&", i))) {
+                    // Unions and intersections.
+                    return null;
+                }
+                if (c == ']') {
+                    inClass = false;
+                }
+            } else if (c == '[') {
+                inClass = true;
+                strBuilder.append(c);
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == '^') {
+                    strBuilder.append('^');
+                    i++;
+                }
+                if (i + 1 < regex.length() && regex.charAt(i + 1) == ']') {
+                    strBuilder.append(']');
+                    i++;
+                }
+                continue;
+            } else if (c == '^' || c == '$') {
+                // Java also matches before line terminators.
+                return null;
+            } else if (isLookaround(regex, i)) {
+                // Not supported by RE2J, matching without them is less strict.
+                i = skipGroup(regex, i);
+                if (i == -1) {
+                    return null;
+                }
+                continue;
+            }
+            strBuilder.append(c);
+        }
+
+        String converted =
+                ((pattern.flags() & Pattern.CASE_INSENSITIVE) != 0 ? "(?i:" : "(?:")
+                        + strBuilder
+                        + ")";
+        try {
+            com.google.re2j.Pattern.compile(converted);
+        } catch (com.google.re2j.PatternSyntaxException e) {
+            return null;
+        }
+        return converted;
+    }
+
+    private static boolean isLookaround(String regex, int i) {
+        return regex.startsWith("(?=", i)
+                || regex.startsWith("(?!", i)
+                || regex.startsWith("(?<=", i)
+                || regex.startsWith("(?<!", i);
+    }
+
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = start; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Alternative(int group, com.google.re2j.Pattern pattern) {}
+}
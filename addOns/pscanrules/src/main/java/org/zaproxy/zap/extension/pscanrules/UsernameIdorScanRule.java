@@ -22,9 +22,13 @@ package org.zaproxy.zap.extension.pscanrules;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -73,15 +77,40 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
 
     private static Supplier<Iterable<String>> payloadProvider = DEFAULT_PAYLOAD_PROVIDER;
 
-    private List<User> getUsers() {
-        List<User> usersList = new ArrayList<>();
+    /**
+     * The hash types and how to compute them, in the order the alerts are raised for each user.
+     */
+    private static final List<HashType> HASH_TYPES =
+            List.of(
+                    new HashType("SHA256", DigestUtils::sha256Hex),
+                    new HashType("SHA1", DigestUtils::sha1Hex),
+                    new HashType("SHA384", DigestUtils::sha384Hex),
+                    new HashType("MD2", DigestUtils::md2Hex),
+                    new HashType("SHA512", DigestUtils::sha512Hex),
+                    new HashType("MD5", DigestUtils::md5Hex));
+
+    private volatile HashDictionary dictionary;
+
+    private List<String> getUsernames() {
+        List<String> usernames = new ArrayList<>();
 
         for (String payload : getUsernameIdorPayloads().get()) {
-            usersList.add(new User(-1, payload));
+            usernames.add(payload);
+        }
+
+        for (User user : getHelper().getUsers()) {
+            usernames.add(user.getName());
         }
+        return usernames;
+    }
 
-        usersList.addAll(getHelper().getUsers());
-        return usersList;
+    private HashDictionary getDictionary(List<String> usernames) {
+        HashDictionary current = dictionary;
+        if (current == null || !current.getUsernames().equals(usernames)) {
+            current = new HashDictionary(usernames);
+            dictionary = current;
+        }
+        return current;
     }
 
     @Override
@@ -89,8 +118,8 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
         if (!msg.getResponseHeader().isText()) {
             return;
         }
-        List<User> scanUsers = getUsers();
-        if (scanUsers.isEmpty()) { // Should continue if not empty
+        List<String> usernames = getUsernames();
+        if (usernames.isEmpty()) { // Should continue if not empty
             LOGGER.debug("There does not appear to be any contexts with configured users.");
             return;
         }
@@ -98,22 +127,14 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
         long start = System.currentTimeMillis();
 
         String response = msg.getResponseHeader().toString() + msg.getResponseBody().toString();
-        String username;
-
-        for (User user : scanUsers) {
-            username = user.getName();
-            Map<String, String> hashes = new HashMap<>();
-            hashes.put("MD2", DigestUtils.md2Hex(username));
-            hashes.put("MD5", DigestUtils.md5Hex(username));
-            hashes.put("SHA1", DigestUtils.sha1Hex(username));
-            hashes.put("SHA256", DigestUtils.sha256Hex(username));
-            hashes.put("SHA384", DigestUtils.sha384Hex(username));
-            hashes.put("SHA512", DigestUtils.sha512Hex(username));
-            for (Map.Entry<String, String> entry : hashes.entrySet()) {
-                String hash = entry.getValue();
-                String evidence = match(response, Pattern.compile(hash, Pattern.CASE_INSENSITIVE));
+        String[][] evidences = getDictionary(usernames).find(response);
+
+        for (int i = 0; i < usernames.size(); i++) {
+            for (int j = 0; j < HASH_TYPES.size(); j++) {
+                String evidence = evidences[i][j];
                 if (evidence != null) {
-                    this.raiseAlert(username, evidence, entry.getKey(), id, msg);
+                    this.raiseAlert(
+                            usernames.get(i), evidence, HASH_TYPES.get(j).getName(), id, msg);
                 }
             }
         }
@@ -168,6 +189,180 @@ public class UsernameIdorScanRule extends PluginPassiveScanner
         return ALERT_TAGS;
     }
 
+    private static class HashType {
+        private final String name;
+        private final Function<String, String> digest;
+
+        HashType(String name, Function<String, String> digest) {
+            this.name = name;
+            this.digest = digest;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String digest(String value) {
+            return digest.apply(value);
+        }
+    }
+
+    /**
+     * The hashes of the usernames, created once and reused while the usernames do not change.
+     *
+     * <p>The hashes are found with a single pass over the content, looking up the sequences of hex
+     * characters with the lengths of the hashes. Each length keeps the rolling keys of its hashes,
+     * so that the sequences are looked up without creating strings, only the evidences are.
+     */
+    private static class HashDictionary {
+
+        private static final long KEY_BASE = 0x100000001B3L;
+
+        private final List<String> usernames;
+        private final HashesOfLength[] hashesOfLengths;
+        private final int minLength;
+
+        HashDictionary(List<String> usernames) {
+            this.usernames = List.copyOf(usernames);
+            Map<Integer, Map<String, List<int[]>>> hashes = new TreeMap<>();
+            for (int i = 0; i < usernames.size(); i++) {
+                for (int j = 0; j < HASH_TYPES.size(); j++) {
+                    String hash =
+                            HASH_TYPES.get(j).digest(usernames.get(i)).toLowerCase(Locale.ROOT);
+                    hashes.computeIfAbsent(hash.length(), k -> new HashMap<>())
+                            .computeIfAbsent(hash, k -> new ArrayList<>())
+                            .add(new int[] {i, j});
+                }
+            }
+            hashesOfLengths =
+                    hashes.entrySet().stream()
+                            .map(e -> new HashesOfLength(e.getKey(), e.getValue()))
+                            .toArray(HashesOfLength[]::new);
+            minLength = hashesOfLengths.length == 0 ? 0 : hashesOfLengths[0].length;
+        }
+
+        List<String> getUsernames() {
+            return usernames;
+        }
+
+        /**
+         * Finds the hashes in the given content.
+         *
+         * @param content the content to search.
+         * @return the first occurrence of each hash, indexed by username and hash type, {@code
+         *     null} if not found.
+         */
+        String[][] find(String content) {
+            String[][] evidences = new String[usernames.size()][HASH_TYPES.size()];
+            if (hashesOfLengths.length == 0) {
+                return evidences;
+            }
+            int runStart = -1;
+            for (int i = 0; i <= content.length(); i++) {
+                if (i < content.length() && hexValue(content.charAt(i)) != -1) {
+                    if (runStart == -1) {
+                        runStart = i;
+                    }
+                    continue;
+                }
+                if (runStart != -1) {
+                    findInRun(content, runStart, i, evidences);
+                    runStart = -1;
+                }
+            }
+            return evidences;
+        }
+
+        private void findInRun(String content, int start, int end, String[][] evidences) {
+            if (end - start < minLength) {
+                return;
+            }
+            for (HashesOfLength hashesOfLength : hashesOfLengths) {
+                int length = hashesOfLength.length;
+                if (end - start < length) {
+                    break;
+                }
+                long key = 0;
+                for (int i = start; i < end; i++) {
+                    if (i - start >= length) {
+                        key -= hexValue(content.charAt(i - length)) * hashesOfLength.highestPower;
+                    }
+                    key = key * KEY_BASE + hexValue(content.charAt(i));
+                    if (i - start + 1 >= length) {
+                        hashesOfLength.addEvidences(content, i + 1 - length, key, evidences);
+                    }
+                }
+            }
+        }
+
+        private static int hexValue(char c) {
+            if (c >= '0' && c <= '9') {
+                return c - '0';
+            }
+            if (c >= 'a' && c <= 'f') {
+                return c - 'a' + 10;
+            }
+            if (c >= 'A' && c <= 'F') {
+                return c - 'A' + 10;
+            }
+            return -1;
+        }
+
+        private static long key(String hash) {
+            long key = 0;
+            for (int i = 0; i < hash.length(); i++) {
+                key = key * KEY_BASE + hexValue(hash.charAt(i));
+            }
+            return key;
+        }
+
+        /** The hashes with the same length, sorted by their keys. */
+        private static class HashesOfLength {
+
+            private final int length;
+            private final long highestPower;
+            private final long[] keys;
+            private final String[] hashes;
+            private final List<List<int[]>> entries;
+
+            HashesOfLength(int length, Map<String, List<int[]>> hashesEntries) {
+                this.length = length;
+                long power = 1;
+                for (int i = 1; i < length; i++) {
+                    power *= KEY_BASE;
+                }
+                this.highestPower = power;
+
+                List<String> sortedHashes = new ArrayList<>(hashesEntries.keySet());
+                sortedHashes.sort(Comparator.comparingLong(HashDictionary::key));
+                keys = sortedHashes.stream().mapToLong(HashDictionary::key).toArray();
+                hashes = sortedHashes.toArray(new String[0]);
+                entries = sortedHashes.stream().map(hashesEntries::get).toList();
+            }
+
+            void addEvidences(String content, int offset, long key, String[][] evidences) {
+                int idx = Arrays.binarySearch(keys, key);
+                if (idx < 0) {
+                    return;
+                }
+                while (idx > 0 && keys[idx - 1] == key) {
+                    idx--;
+                }
+                for (; idx < keys.length && keys[idx] == key; idx++) {
+                    if (!content.regionMatches(true, offset, hashes[idx], 0, length)) {
+                        continue;
+                    }
+                    for (int[] entry : entries.get(idx)) {
+                        if (evidences[entry[0]][entry[1]] == null) {
+                            evidences[entry[0]][entry[1]] =
+                                    content.substring(offset, offset + length);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     public String match(String contents, Pattern pattern) {
         Matcher matcher = pattern.matcher(contents);
         if (matcher.find()) {
@@ -0,0 +1,168 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.pscanrules;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Unit test for {@link MultiPatternPrefilter}. */
+class MultiPatternPrefilterUnitTest {
+
+    @Test
+    void shouldReturnNoCandidatesIfNoneMatches() {
+        // Given
+        MultiPatternPrefilter prefilter =
+                new MultiPatternPrefilter(
+                        List.of(Pattern.compile("\\bTODO\\b"), Pattern.compile("\\$LM\\$")));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("Nothing to see here.");
+        // Then
+        assertThat(candidates, is(empty()));
+    }
+
+    @Test
+    void shouldReturnOnlyPatternsThatMightMatch() {
+        // Given
+        Pattern todo = Pattern.compile("\\bTODO\\b");
+        Pattern lm = Pattern.compile("\\$LM\\$");
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(todo, lm));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("Hash: $LM$");
+        // Then
+        assertThat(candidates, contains(lm));
+    }
+
+    @Test
+    void shouldReturnPatternsThatMightMatchInOrder() {
+        // Given
+        Pattern todo = Pattern.compile("\\bTODO\\b");
+        Pattern fixme = Pattern.compile("\\bFIXME\\b");
+        Pattern lm = Pattern.compile("\\$LM\\$");
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(todo, fixme, lm));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("$LM$ TODO");
+        // Then
+        assertThat(candidates, contains(todo, lm));
+    }
+
+    @Test
+    void shouldReturnPatternsMatchingAtSamePosition() {
+        // Given
+        Pattern shortHash = Pattern.compile("[0-9a-f]{4}");
+        Pattern longHash = Pattern.compile("[0-9a-f]{8}");
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(shortHash, longHash));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("Hash: 0123abcd");
+        // Then
+        assertThat(candidates, contains(shortHash, longHash));
+    }
+
+    @Test
+    void shouldReturnPatternsMatchingWithinOtherMatches() {
+        // Given
+        Pattern hash = Pattern.compile("[0-9a-f]{8}");
+        Pattern beef = Pattern.compile("beef");
+        Pattern todo = Pattern.compile("TODO");
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(hash, todo, beef));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("Hash: 0123beef");
+        // Then
+        assertThat(candidates, contains(hash, beef));
+    }
+
+    @Test
+    void shouldCreateLiteralPatternThatCanBeConverted() {
+        // Given
+        String literal = "error [1] (a.b)*";
+        // When
+        Pattern pattern = MultiPatternPrefilter.literal(literal);
+        // Then
+        assertThat(pattern.matcher("An " + literal).find(), is(equalTo(true)));
+        assertThat(MultiPatternPrefilter.convert(pattern), is(notNullValue()));
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(pattern));
+        assertThat(prefilter.getCandidates("An error [1] (aXb)"), is(empty()));
+    }
+
+    @Test
+    void shouldAlwaysReturnPatternsThatCanNotBeConverted() {
+        // Given
+        Pattern todo = Pattern.compile("\\bTODO\\b");
+        Pattern backReference = Pattern.compile("(a)\\1");
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(todo, backReference));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("Nothing to see here.");
+        // Then
+        assertThat(candidates, contains(backReference));
+    }
+
+    @Test
+    void shouldMatchCaseInsensitivePatterns() {
+        // Given
+        Pattern fixme = Pattern.compile("\\bfixme\\b", Pattern.CASE_INSENSITIVE);
+        MultiPatternPrefilter prefilter = new MultiPatternPrefilter(List.of(fixme));
+        // When
+        List<Pattern> candidates = prefilter.getCandidates("// FIXME later");
+        // Then
+        assertThat(candidates, contains(fixme));
+    }
+
+    @Test
+    void shouldConvertPatternWithoutLookaroundsAndWordBoundaries() {
+        // Given
+        Pattern pattern =
+                Pattern.compile("(?<!jsessionid=)\\b[0-9a-f]{32}\\b", Pattern.CASE_INSENSITIVE);
+        // When
+        String converted = MultiPatternPrefilter.convert(pattern);
+        // Then
+        assertThat(converted, is(equalTo("(?i:[0-9a-f]{32})")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"^start", "end$", "(a)\\1", "\\s+", "[a-z&&[^e]]", "\\Qa\\E", "a*+"})
+    void shouldNotConvertUnsupportedPatterns(String regex) {
+        // Given
+        Pattern pattern = Pattern.compile(regex);
+        // When
+        String converted = MultiPatternPrefilter.convert(pattern);
+        // Then
+        assertThat(converted, is(nullValue()));
+    }
+
+    @Test
+    void shouldNotConvertPatternsWithUnsupportedFlags() {
+        // Given
+        Pattern pattern = Pattern.compile("a.b", Pattern.DOTALL);
+        // When
+        String converted = MultiPatternPrefilter.convert(pattern);
+        // Then
+        assertThat(converted, is(nullValue()));
+    }
+}
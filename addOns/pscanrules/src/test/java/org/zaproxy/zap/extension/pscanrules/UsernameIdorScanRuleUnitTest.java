@@ -230,6 +230,32 @@ class UsernameIdorScanRuleUnitTest extends PassiveScannerTest<UsernameIdorScanRu
         assertEquals(alertsRaised.get(0).getEvidence(), FOOBAR_MD2);
     }
 
+    @Test
+    void shouldRaiseAlertForHashOfUserAddedAfterPreviousScan() {
+        // Given
+        msg.getResponseHeader().setHeader("X-Test-Thing", FOOBAR_MD2);
+        msg.setResponseBody("Some text <h1>Some Title Element</h1>");
+        scanHttpResponseReceive(msg);
+        when(passiveScanData.getUsers())
+                .thenReturn(Arrays.asList(new User(1, "guest"), new User(1, "foobar")));
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertEquals(alertsRaised.size(), 1);
+        assertEquals(alertsRaised.get(0).getEvidence(), FOOBAR_MD2);
+    }
+
+    @Test
+    void shouldRaiseAlertIfRelevantHashIsPartOfLongerHexString() {
+        // Given
+        msg.setResponseBody("Some text <i>00" + GUEST_MD5 + "ff</i>");
+        // When
+        scanHttpResponseReceive(msg);
+        // Then
+        assertEquals(alertsRaised.size(), 1);
+        assertEquals(alertsRaised.get(0).getEvidence(), GUEST_MD5);
+    }
+
     @Test
     void shouldNotRaiseAlertForImageResponse() {
         // Given
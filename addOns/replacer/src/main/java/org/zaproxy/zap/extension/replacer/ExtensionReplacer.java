@@ -24,8 +24,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -41,6 +43,8 @@ import org.parosproxy.paros.network.HttpMessage;
 import org.parosproxy.paros.network.HttpRequestHeader;
 import org.parosproxy.paros.network.HttpResponseHeader;
 import org.parosproxy.paros.network.HttpSender;
+import org.zaproxy.zap.extension.replacer.ReplacerPipeline.CompiledRule;
+import org.zaproxy.zap.extension.replacer.ReplacerPipeline.RuleStats;
 import org.zaproxy.zap.network.HttpSenderListener;
 import org.zaproxy.zap.view.ZapMenuItem;
 
@@ -67,6 +71,8 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
     private OptionsReplacerPanel optionsReplacerPanel;
     private ReplacerParam params;
     private ZapMenuItem replacerMenuItem;
+    private volatile ReplacerPipeline pipeline;
+    private final Map<String, RuleStats> ruleStats = new ConcurrentHashMap<>();
     private static final Logger LOGGER = LogManager.getLogger(ExtensionReplacer.class);
 
     public ExtensionReplacer() {
@@ -143,15 +149,7 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         return replacerMenuItem;
     }
 
-    private static boolean contains(String original, String match, Pattern p) {
-        if (p != null) {
-            return p.matcher(original).find();
-        }
-
-        return original.contains(match);
-    }
-
-    private static String replace(
+    static String replace(
             String original, String match, Pattern p, String replacement, boolean tokenProcessing) {
         LOGGER.debug("Static Replacement function.");
 
@@ -225,84 +223,114 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
         return replacementTokens;
     }
 
+    /**
+     * Gets the pipeline of the current rules, compiling the rules again if they changed.
+     *
+     * @return the pipeline, never {@code null}.
+     */
+    ReplacerPipeline getPipeline() {
+        List<ReplacerParamRule> rules = getParams().getRules();
+        ReplacerPipeline current = pipeline;
+        if (current == null || !current.isUpToDate(rules)) {
+            current = new ReplacerPipeline(rules, this::getRuleStats);
+            pipeline = current;
+        }
+        return current;
+    }
+
+    /**
+     * Gets the stats of the rule with the given description, creating them if needed.
+     *
+     * @param description the description of the rule.
+     * @return the stats of the rule, never {@code null}.
+     */
+    RuleStats getRuleStats(String description) {
+        return ruleStats.computeIfAbsent(
+                Objects.requireNonNullElse(description, ""), k -> new RuleStats());
+    }
+
+    /** Resets the stats of all the rules. */
+    void resetRuleStats() {
+        ruleStats.values().forEach(RuleStats::reset);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void onHttpRequestSend(HttpMessage msg, int initiator, HttpSender httpSender) {
+        List<CompiledRule> rules = getPipeline().getRequestRules(initiator);
+        if (rules.isEmpty()) {
+            return;
+        }
+
+        String url = msg.getRequestHeader().getURI().toString();
+        String method = msg.getRequestHeader().getMethod();
+        String body = null;
         boolean hostHeaderChanged = false;
-        for (ReplacerParamRule rule : this.getParams().getRules()) {
-            if (rule.isEnabled()
-                    && rule.appliesToInitiator(initiator)
-                    && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
-                switch (rule.getMatchType()) {
-                    case REQ_HEADER:
-                        LOGGER.debug(
-                                "Add in request header: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        hostHeaderChanged |=
-                                HttpRequestHeader.HOST.equalsIgnoreCase(rule.getMatchString());
-                        if (rule.getReplacement().length() == 0) {
-                            // Remove the header
-                            msg.getRequestHeader().setHeader(rule.getMatchString(), null);
-                        } else {
-                            msg.getRequestHeader()
-                                    .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
-                        }
-                        break;
-                    case REQ_HEADER_STR:
-                        LOGGER.debug(
-                                "Replace in request header: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String header = msg.getRequestHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
-                            header =
-                                    replace(
-                                            header,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
+        for (CompiledRule compiledRule : rules) {
+            if (!compiledRule.appliesTo(url, method)) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            boolean changed = false;
+            ReplacerParamRule rule = compiledRule.getRule();
+            switch (rule.getMatchType()) {
+                case REQ_HEADER:
+                    LOGGER.debug(
+                            "Add in request header: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    hostHeaderChanged |=
+                            HttpRequestHeader.HOST.equalsIgnoreCase(rule.getMatchString());
+                    if (rule.getReplacement().length() == 0) {
+                        // Remove the header
+                        msg.getRequestHeader().setHeader(rule.getMatchString(), null);
+                    } else {
+                        msg.getRequestHeader()
+                                .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
+                    }
+                    changed = true;
+                    break;
+                case REQ_HEADER_STR:
+                    LOGGER.debug(
+                            "Replace in request header: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String header = msg.getRequestHeader().toString();
+                    if (compiledRule.contains(header)) {
+                        List<HttpHeaderField> oldHostHeaders = getHostHeaders(msg);
+                        if (!compiledRule.replaceInFields(msg.getRequestHeader())) {
                             try {
-                                List<HttpHeaderField> oldHostHeaders = getHostHeaders(msg);
-                                msg.setRequestHeader(new HttpRequestHeader(header));
-                                hostHeaderChanged |= !oldHostHeaders.equals(getHostHeaders(msg));
+                                msg.setRequestHeader(
+                                        new HttpRequestHeader(compiledRule.replace(header)));
                             } catch (HttpMalformedHeaderException e) {
                                 LOGGER.error(e.getMessage(), e);
+                                break;
                             }
                         }
-                        break;
-                    case REQ_BODY_STR:
-                        LOGGER.debug(
-                                "Add in request body: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String body = msg.getRequestBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
-                            body =
-                                    replace(
-                                            body,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            msg.getRequestBody().setBody(body);
-                            msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
-                        }
-                        break;
-                    case RESP_HEADER:
-                    case RESP_HEADER_STR:
-                    case RESP_BODY_STR:
-                        // Ignore response rules here
-                        LOGGER.debug("Ignore response rule {}", rule.getDescription());
-                        break;
-                }
+                        hostHeaderChanged |= !oldHostHeaders.equals(getHostHeaders(msg));
+                        changed = true;
+                    }
+                    break;
+                case REQ_BODY_STR:
+                    LOGGER.debug(
+                            "Add in request body: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    if (body == null) {
+                        body = msg.getRequestBody().toString();
+                    }
+                    if (compiledRule.contains(body)) {
+                        msg.getRequestBody().setBody(compiledRule.replace(body));
+                        msg.getRequestHeader().setContentLength(msg.getRequestBody().length());
+                        body = null;
+                        changed = true;
+                    }
+                    break;
+                default:
+                    // Response rules are not in the request rules
             }
+            compiledRule.record(changed, System.nanoTime() - start);
         }
 
         if (hostHeaderChanged) {
@@ -326,77 +354,75 @@ public class ExtensionReplacer extends ExtensionAdaptor implements HttpSenderLis
 
     @Override
     public void onHttpResponseReceive(HttpMessage msg, int initiator, HttpSender httpSender) {
-        for (ReplacerParamRule rule : this.getParams().getRules()) {
-            if (rule.isEnabled()
-                    && rule.appliesToInitiator(initiator)
-                    && rule.matchesUrl(msg.getRequestHeader().getURI().toString())
-                    && rule.matchesMethod(msg.getRequestHeader().getMethod())) {
-                Pattern p = null;
-                if (rule.isMatchRegex()) {
-                    p = Pattern.compile(rule.getMatchString());
-                }
-                switch (rule.getMatchType()) {
-                    case REQ_HEADER:
-                    case REQ_HEADER_STR:
-                    case REQ_BODY_STR:
-                        // Ignore request rules here
-                        LOGGER.debug("Ignore request rule {}", rule.getDescription());
-                        break;
-                    case RESP_HEADER:
-                        LOGGER.debug(
-                                "Add in response header: {} : {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        if (rule.getReplacement().length() == 0) {
-                            // Remove the header
-                            msg.getResponseHeader().setHeader(rule.getMatchString(), null);
-                        } else {
-                            msg.getResponseHeader()
-                                    .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
-                        }
-                        break;
-                    case RESP_HEADER_STR:
-                        LOGGER.debug(
-                                "Replace in response header: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String header = msg.getResponseHeader().toString();
-                        if (contains(header, rule.getMatchString(), p)) {
-                            header =
-                                    replace(
-                                            header,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
+        List<CompiledRule> rules = getPipeline().getResponseRules(initiator);
+        if (rules.isEmpty()) {
+            return;
+        }
+
+        String url = msg.getRequestHeader().getURI().toString();
+        String method = msg.getRequestHeader().getMethod();
+        String body = null;
+        for (CompiledRule compiledRule : rules) {
+            if (!compiledRule.appliesTo(url, method)) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            boolean changed = false;
+            ReplacerParamRule rule = compiledRule.getRule();
+            switch (rule.getMatchType()) {
+                case RESP_HEADER:
+                    LOGGER.debug(
+                            "Add in response header: {} : {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    if (rule.getReplacement().length() == 0) {
+                        // Remove the header
+                        msg.getResponseHeader().setHeader(rule.getMatchString(), null);
+                    } else {
+                        msg.getResponseHeader()
+                                .setHeader(rule.getMatchString(), rule.getEscapedReplacement());
+                    }
+                    changed = true;
+                    break;
+                case RESP_HEADER_STR:
+                    LOGGER.debug(
+                            "Replace in response header: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    String header = msg.getResponseHeader().toString();
+                    if (compiledRule.contains(header)) {
+                        if (!compiledRule.replaceInFields(msg.getResponseHeader())) {
                             try {
-                                msg.setResponseHeader(new HttpResponseHeader(header));
+                                msg.setResponseHeader(
+                                        new HttpResponseHeader(compiledRule.replace(header)));
                             } catch (HttpMalformedHeaderException e) {
                                 LOGGER.error(e.getMessage(), e);
+                                break;
                             }
                         }
-                        break;
-                    case RESP_BODY_STR:
-                        LOGGER.debug(
-                                "Replace in response body: {} with {}",
-                                rule.getMatchString(),
-                                rule.getReplacement());
-                        String body = msg.getResponseBody().toString();
-                        if (contains(body, rule.getMatchString(), p)) {
-                            body =
-                                    replace(
-                                            body,
-                                            rule.getMatchString(),
-                                            p,
-                                            rule.getEscapedReplacement(),
-                                            rule.isTokenProcessingEnabled());
-                            msg.getResponseBody().setBody(body);
-                            msg.getResponseHeader()
-                                    .setContentLength(msg.getResponseBody().length());
-                        }
-                        break;
-                }
+                        changed = true;
+                    }
+                    break;
+                case RESP_BODY_STR:
+                    LOGGER.debug(
+                            "Replace in response body: {} with {}",
+                            rule.getMatchString(),
+                            rule.getReplacement());
+                    if (body == null) {
+                        body = msg.getResponseBody().toString();
+                    }
+                    if (compiledRule.contains(body)) {
+                        msg.getResponseBody().setBody(compiledRule.replace(body));
+                        msg.getResponseHeader().setContentLength(msg.getResponseBody().length());
+                        body = null;
+                        changed = true;
+                    }
+                    break;
+                default:
+                    // Request rules are not in the response rules
             }
+            compiledRule.record(changed, System.nanoTime() - start);
         }
     }
 }
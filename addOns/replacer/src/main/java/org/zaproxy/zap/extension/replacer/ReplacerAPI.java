@@ -37,14 +37,17 @@ import org.zaproxy.zap.extension.api.ApiResponseList;
 import org.zaproxy.zap.extension.api.ApiResponseSet;
 import org.zaproxy.zap.extension.api.ApiView;
 import org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType;
+import org.zaproxy.zap.extension.replacer.ReplacerPipeline.RuleStats;
 
 public class ReplacerAPI extends ApiImplementor {
 
     private static final String PREFIX = "replacer";
     private static final String VIEW_RULES = "rules";
+    private static final String VIEW_RULE_STATS = "ruleStats";
     private static final String ACTION_ADD_RULE = "addRule";
     private static final String ACTION_REMOVE_RULE = "removeRule";
     private static final String ACTION_SET_ENABLED = "setEnabled";
+    private static final String ACTION_RESET_RULE_STATS = "resetRuleStats";
 
     private static final String DESC = "description";
 
@@ -57,6 +60,8 @@ public class ReplacerAPI extends ApiImplementor {
     private static final String PARAM_BOOL = "bool";
     private static final String URL = "url";
     private static final String METHOD = "method";
+    private static final String HITS = "hits";
+    private static final String TIME_NANOS = "timeNanos";
 
     private ExtensionReplacer extension = null;
 
@@ -69,6 +74,7 @@ public class ReplacerAPI extends ApiImplementor {
         extension = ext;
 
         this.addApiView(new ApiView(VIEW_RULES));
+        this.addApiView(new ApiView(VIEW_RULE_STATS));
 
         this.addApiAction(
                 new ApiAction(
@@ -78,6 +84,7 @@ public class ReplacerAPI extends ApiImplementor {
 
         this.addApiAction(new ApiAction(ACTION_REMOVE_RULE, new String[] {DESC}));
         this.addApiAction(new ApiAction(ACTION_SET_ENABLED, new String[] {DESC, PARAM_BOOL}));
+        this.addApiAction(new ApiAction(ACTION_RESET_RULE_STATS));
     }
 
     @Override
@@ -94,6 +101,18 @@ public class ReplacerAPI extends ApiImplementor {
             }
             return rules;
         }
+        if (VIEW_RULE_STATS.equals(name)) {
+            ApiResponseList rules = new ApiResponseList(name);
+            for (ReplacerParamRule rule : extension.getParams().getRules()) {
+                RuleStats stats = extension.getRuleStats(rule.getDescription());
+                Map<String, String> map = new HashMap<>();
+                map.put(DESC, rule.getDescription());
+                map.put(HITS, Long.toString(stats.getHits()));
+                map.put(TIME_NANOS, Long.toString(stats.getTimeNanos()));
+                rules.addItem(new ApiResponseSet<>("rule", map));
+            }
+            return rules;
+        }
         throw new ApiException(ApiException.Type.BAD_VIEW);
     }
 
@@ -197,6 +216,8 @@ public class ReplacerAPI extends ApiImplementor {
             } catch (ConfigurationException e) {
                 throw new ApiException(ApiException.Type.INTERNAL_ERROR, e);
             }
+        } else if (ACTION_RESET_RULE_STATS.equals(name)) {
+            extension.resetRuleStats();
         } else {
             throw new ApiException(ApiException.Type.BAD_ACTION);
         }
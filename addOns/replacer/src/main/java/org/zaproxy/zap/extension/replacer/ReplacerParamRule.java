@@ -45,6 +45,7 @@ public class ReplacerParamRule extends Enableable {
     private List<Integer> initiators;
     private boolean tokenProcessingEnabled;
     private String method;
+    private volatile int modCount;
 
     public ReplacerParamRule() {
         this("", MatchType.RESP_BODY_STR, "");
@@ -153,6 +154,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setDescription(String description) {
         this.description = description;
+        modCount++;
     }
 
     public String getUrl() {
@@ -160,6 +162,7 @@ public class ReplacerParamRule extends Enableable {
     }
 
     public void setUrl(String url) {
+        modCount++;
         if (url == null || url.isEmpty()) {
             this.url = "";
             urlPattern = null;
@@ -183,6 +186,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMethod(String method) {
         this.method = method == null ? "" : method;
+        modCount++;
     }
 
     public boolean matchesMethod(String requestMethod) {
@@ -198,6 +202,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMatchString(String matchString) {
         this.matchString = matchString;
+        modCount++;
     }
 
     public MatchType getMatchType() {
@@ -206,6 +211,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMatchType(MatchType matchType) {
         this.matchType = matchType;
+        modCount++;
     }
 
     public boolean isMatchRegex() {
@@ -214,6 +220,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setMatchRegex(boolean matchRegex) {
         this.matchRegex = matchRegex;
+        modCount++;
     }
 
     public String getReplacement() {
@@ -222,6 +229,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setReplacement(String replacement) {
         this.replacement = replacement;
+        modCount++;
     }
 
     String getEscapedReplacement() {
@@ -234,6 +242,7 @@ public class ReplacerParamRule extends Enableable {
 
     public void setInitiators(List<Integer> initiators) {
         this.initiators = initiators;
+        modCount++;
     }
 
     public boolean appliesToInitiator(int initiator) {
@@ -248,6 +257,22 @@ public class ReplacerParamRule extends Enableable {
         return tokenProcessingEnabled;
     }
 
+    @Override
+    public void setEnabled(boolean enabled) {
+        super.setEnabled(enabled);
+        modCount++;
+    }
+
+    /**
+     * Gets the number of times the rule was changed, to know if the compiled rules are stale.
+     *
+     * @return the number of changes.
+     * @see ReplacerPipeline
+     */
+    int getModCount() {
+        return modCount;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
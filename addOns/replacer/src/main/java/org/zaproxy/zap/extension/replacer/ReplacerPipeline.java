@@ -0,0 +1,294 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.replacer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.parosproxy.paros.network.HttpHeader;
+import org.parosproxy.paros.network.HttpHeaderField;
+
+/**
+ * The enabled replacer rules, compiled once for all the messages.
+ *
+ * <p>The patterns of the regex rules are compiled when the pipeline is created, and the rules are
+ * split into request and response rules and then by initiator. The pipeline is immutable, a new
+ * one should be created when the rules change, as indicated by {@link #isUpToDate(List)}.
+ */
+class ReplacerPipeline {
+
+    private static final Logger LOGGER = LogManager.getLogger(ReplacerPipeline.class);
+
+    private final ReplacerParamRule[] sourceRules;
+    private final int[] sourceModCounts;
+
+    private final List<CompiledRule> requestRules;
+    private final List<CompiledRule> responseRules;
+
+    private final Map<Integer, List<CompiledRule>> requestRulesByInitiator;
+    private final Map<Integer, List<CompiledRule>> responseRulesByInitiator;
+
+    /**
+     * Constructs a {@code ReplacerPipeline} with the given rules.
+     *
+     * @param rules the rules, the disabled ones are ignored.
+     * @param statsProvider the provider of the stats, from the description of the rules.
+     */
+    ReplacerPipeline(List<ReplacerParamRule> rules, Function<String, RuleStats> statsProvider) {
+        sourceRules = rules.toArray(new ReplacerParamRule[0]);
+        sourceModCounts = new int[sourceRules.length];
+
+        List<CompiledRule> reqRules = new ArrayList<>();
+        List<CompiledRule> respRules = new ArrayList<>();
+        for (int i = 0; i < sourceRules.length; i++) {
+            ReplacerParamRule rule = sourceRules[i];
+            sourceModCounts[i] = rule.getModCount();
+            if (!rule.isEnabled() || rule.getMatchType() == null) {
+                continue;
+            }
+
+            Pattern pattern = null;
+            if (rule.isMatchRegex()) {
+                try {
+                    pattern = Pattern.compile(rule.getMatchString());
+                } catch (PatternSyntaxException e) {
+                    LOGGER.warn(
+                            "Ignoring replacer rule {} with invalid regex: {}",
+                            rule.getDescription(),
+                            e.getMessage());
+                    continue;
+                }
+            }
+
+            CompiledRule compiledRule =
+                    new CompiledRule(rule, pattern, statsProvider.apply(rule.getDescription()));
+            switch (rule.getMatchType()) {
+                case REQ_HEADER, REQ_HEADER_STR, REQ_BODY_STR -> reqRules.add(compiledRule);
+                case RESP_HEADER, RESP_HEADER_STR, RESP_BODY_STR -> respRules.add(compiledRule);
+            }
+        }
+
+        requestRules = Collections.unmodifiableList(reqRules);
+        responseRules = Collections.unmodifiableList(respRules);
+        requestRulesByInitiator = new ConcurrentHashMap<>();
+        responseRulesByInitiator = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Tells whether or not the pipeline was created from the given rules, in their current state.
+     *
+     * @param rules the rules to check.
+     * @return {@code true} if the pipeline is up to date, {@code false} otherwise.
+     */
+    boolean isUpToDate(List<ReplacerParamRule> rules) {
+        if (rules.size() != sourceRules.length) {
+            return false;
+        }
+        for (int i = 0; i < sourceRules.length; i++) {
+            ReplacerParamRule rule = rules.get(i);
+            if (rule != sourceRules[i] || rule.getModCount() != sourceModCounts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the request rules that apply to the given initiator.
+     *
+     * @param initiator the initiator of the message.
+     * @return the request rules, never {@code null}.
+     */
+    List<CompiledRule> getRequestRules(int initiator) {
+        return getRules(requestRules, requestRulesByInitiator, initiator);
+    }
+
+    /**
+     * Gets the response rules that apply to the given initiator.
+     *
+     * @param initiator the initiator of the message.
+     * @return the response rules, never {@code null}.
+     */
+    List<CompiledRule> getResponseRules(int initiator) {
+        return getRules(responseRules, responseRulesByInitiator, initiator);
+    }
+
+    private static List<CompiledRule> getRules(
+            List<CompiledRule> rules, Map<Integer, List<CompiledRule>> cache, int initiator) {
+        if (rules.isEmpty()) {
+            return rules;
+        }
+        return cache.computeIfAbsent(
+                initiator,
+                k ->
+                        rules.stream()
+                                .filter(e -> e.getRule().appliesToInitiator(initiator))
+                                .toList());
+    }
+
+    /** A rule with its match pattern compiled. */
+    static class CompiledRule {
+
+        private final ReplacerParamRule rule;
+        private final Pattern pattern;
+        private final RuleStats stats;
+        private final boolean fieldReplacement;
+
+        private CompiledRule(ReplacerParamRule rule, Pattern pattern, RuleStats stats) {
+            this.rule = rule;
+            this.pattern = pattern;
+            this.stats = stats;
+
+            String matchString = rule.getMatchString();
+            String replacement = rule.getEscapedReplacement();
+            fieldReplacement =
+                    pattern == null
+                            && !rule.isTokenProcessingEnabled()
+                            && matchString != null
+                            && !matchString.isEmpty()
+                            && replacement != null
+                            && !containsAny(matchString, ":\r\n")
+                            && !containsAny(replacement, "\r\n");
+        }
+
+        private static boolean containsAny(String value, String chars) {
+            for (int i = 0; i < chars.length(); i++) {
+                if (value.indexOf(chars.charAt(i)) != -1) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        ReplacerParamRule getRule() {
+            return rule;
+        }
+
+        /**
+         * Tells whether or not the rule applies to a message with the given URL and method.
+         *
+         * @param url the URL of the message.
+         * @param method the method of the message.
+         * @return {@code true} if the rule applies, {@code false} otherwise.
+         */
+        boolean appliesTo(String url, String method) {
+            return rule.matchesUrl(url) && rule.matchesMethod(method);
+        }
+
+        boolean contains(String original) {
+            if (pattern != null) {
+                return pattern.matcher(original).find();
+            }
+            return original.contains(rule.getMatchString());
+        }
+
+        String replace(String original) {
+            return ExtensionReplacer.replace(
+                    original,
+                    rule.getMatchString(),
+                    pattern,
+                    rule.getEscapedReplacement(),
+                    rule.isTokenProcessingEnabled());
+        }
+
+        /**
+         * Replaces the match string directly in the values of the header fields, without parsing
+         * the whole header again.
+         *
+         * <p>Only done if the rule is a literal match that can only match inside a field value,
+         * and only in fields that occur once.
+         *
+         * @param header the header to change.
+         * @return {@code true} if the replacement was done, {@code false} if the whole header
+         *     needs to be replaced instead.
+         */
+        boolean replaceInFields(HttpHeader header) {
+            if (!fieldReplacement) {
+                return false;
+            }
+
+            String matchString = rule.getMatchString();
+            if (header.getPrimeHeader().contains(matchString)) {
+                return false;
+            }
+
+            List<HttpHeaderField> fields = header.getHeaders();
+            Map<String, String> newValues = new LinkedHashMap<>();
+            for (HttpHeaderField field : fields) {
+                if (field.getName().contains(matchString)) {
+                    return false;
+                }
+                if (field.getValue().contains(matchString)) {
+                    newValues.put(
+                            field.getName(),
+                            field.getValue().replace(matchString, rule.getEscapedReplacement()));
+                }
+            }
+            if (newValues.isEmpty()) {
+                return false;
+            }
+
+            for (String name : newValues.keySet()) {
+                if (fields.stream().filter(e -> name.equalsIgnoreCase(e.getName())).count() > 1) {
+                    return false;
+                }
+            }
+
+            newValues.forEach((name, value) -> header.setHeader(name, value.trim()));
+            return true;
+        }
+
+        void record(boolean hit, long timeNanos) {
+            if (hit) {
+                stats.hits.increment();
+            }
+            stats.time.add(timeNanos);
+        }
+    }
+
+    /** The number of times a rule changed the messages and the time spent applying it. */
+    static class RuleStats {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder time = new LongAdder();
+
+        long getHits() {
+            return hits.sum();
+        }
+
+        long getTimeNanos() {
+            return time.sum();
+        }
+
+        void reset() {
+            hits.reset();
+            time.reset();
+        }
+    }
+}
@@ -41,6 +41,7 @@ import static org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType.RES
 import static org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType.RESP_HEADER;
 import static org.zaproxy.zap.extension.replacer.ReplacerParamRule.MatchType.RESP_HEADER_STR;
 
+import java.util.List;
 import java.util.Map;
 import java.util.regex.PatternSyntaxException;
 import org.junit.jupiter.api.BeforeEach;
@@ -726,6 +727,7 @@ class ExtensionReplacerTest {
         msg.setRequestHeader("POST / HTTP/1.1");
         ReplacerParamRule rule = mock();
         given(rule.isEnabled()).willReturn(true);
+        given(rule.getMatchType()).willReturn(REQ_HEADER);
         given(rule.appliesToInitiator(anyInt())).willReturn(true);
         given(rule.matchesUrl(anyString())).willReturn(true);
         extensionReplacer.getParams().getRules().add(rule);
@@ -743,6 +745,7 @@ class ExtensionReplacerTest {
         msg.setRequestHeader("PUT / HTTP/1.1");
         ReplacerParamRule rule = mock();
         given(rule.isEnabled()).willReturn(true);
+        given(rule.getMatchType()).willReturn(RESP_HEADER);
         given(rule.appliesToInitiator(anyInt())).willReturn(true);
         given(rule.matchesUrl(anyString())).willReturn(true);
         extensionReplacer.getParams().getRules().add(rule);
@@ -754,6 +757,116 @@ class ExtensionReplacerTest {
         verify(rule).matchesMethod("PUT");
     }
 
+    @Test
+    void shouldApplyRuleChangesAfterMessagesSent() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("GET / HTTP/1.1\r\nX-Custom: a");
+        ReplacerParamRule rule =
+                new ReplacerParamRule("", REQ_HEADER, "X-Custom", false, "b", null, true);
+        extensionReplacer.getParams().getRules().add(rule);
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+        HttpMessage otherMsg = new HttpMessage();
+        otherMsg.setRequestHeader("GET / HTTP/1.1\r\nX-Custom: a");
+        // When
+        rule.setEnabled(false);
+        extensionReplacer.onHttpRequestSend(otherMsg, 0, null);
+        // Then
+        assertThat(msg.getRequestHeader().getHeader("X-Custom"), is(equalTo("b")));
+        assertThat(otherMsg.getRequestHeader().getHeader("X-Custom"), is(equalTo("a")));
+    }
+
+    @Test
+    void shouldReplaceInHeaderFieldValueKeepingOrderOfFields()
+            throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("GET / HTTP/1.1\r\nA: 1\r\nAuthorization: Bearer old\r\nB: 2");
+        replacerRule(REQ_HEADER_STR, "old", "new");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(
+                msg.getRequestHeader().toString(),
+                is(equalTo("GET / HTTP/1.1\r\nA: 1\r\nAuthorization: Bearer new\r\nB: 2\r\n\r\n")));
+    }
+
+    @Test
+    void shouldReplaceInWholeHeaderIfFieldOccursMoreThanOnce() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("GET / HTTP/1.1\r\nX-Custom: old\r\nX-Custom: other");
+        replacerRule(REQ_HEADER_STR, "old", "new");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(
+                msg.getRequestHeader().getHeaderValues("X-Custom"),
+                is(equalTo(List.of("new", "other"))));
+    }
+
+    @Test
+    void shouldIgnoreRuleWithInvalidRegex() throws HttpMalformedHeaderException {
+        // Given
+        msg.setRequestHeader("GET / HTTP/1.1\r\nX-Custom: a");
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(new ReplacerParamRule("", REQ_HEADER_STR, "*", true, "b", null, true));
+        replacerRule(REQ_HEADER, "X-Other", "c");
+
+        // When
+        extensionReplacer.onHttpRequestSend(msg, 0, null);
+
+        // Then
+        assertThat(msg.getRequestHeader().getHeader("X-Custom"), is(equalTo("a")));
+        assertThat(msg.getRequestHeader().getHeader("X-Other"), is(equalTo("c")));
+    }
+
+    @Test
+    void shouldCountHitsOfRules() throws HttpMalformedHeaderException {
+        // Given
+        msg.setResponseHeader("HTTP/1.1 200 OK");
+        msg.setResponseBody("abc");
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(new ReplacerParamRule("hit", RESP_BODY_STR, "b", false, "x", null, true));
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(new ReplacerParamRule("miss", RESP_BODY_STR, "z", false, "x", null, true));
+
+        // When
+        extensionReplacer.onHttpResponseReceive(msg, 0, null);
+        extensionReplacer.onHttpResponseReceive(msg, 0, null);
+
+        // Then
+        assertThat(msg.getResponseBody().toString(), is(equalTo("axc")));
+        assertThat(extensionReplacer.getRuleStats("hit").getHits(), is(equalTo(1L)));
+        assertThat(extensionReplacer.getRuleStats("miss").getHits(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldResetStatsOfRules() throws HttpMalformedHeaderException {
+        // Given
+        msg.setResponseHeader("HTTP/1.1 200 OK");
+        msg.setResponseBody("abc");
+        extensionReplacer
+                .getParams()
+                .getRules()
+                .add(new ReplacerParamRule("hit", RESP_BODY_STR, "b", false, "x", null, true));
+        extensionReplacer.onHttpResponseReceive(msg, 0, null);
+
+        // When
+        extensionReplacer.resetRuleStats();
+
+        // Then
+        assertThat(extensionReplacer.getRuleStats("hit").getHits(), is(equalTo(0L)));
+        assertThat(extensionReplacer.getRuleStats("hit").getTimeNanos(), is(equalTo(0L)));
+    }
+
     private static ExtensionReplacer givenATokenProcessingReplacementRuleFor(
             ReplacerParamRule.MatchType matchType, String match, String replacement)
             throws HttpMalformedHeaderException {
@@ -41,6 +41,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -53,10 +54,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.Constant;
 import org.parosproxy.paros.control.Control;
+import org.parosproxy.paros.control.Control.Mode;
 import org.parosproxy.paros.core.scanner.Alert;
 import org.parosproxy.paros.extension.ExtensionAdaptor;
 import org.parosproxy.paros.extension.ExtensionHook;
+import org.parosproxy.paros.extension.SessionChangedListener;
 import org.parosproxy.paros.model.Model;
+import org.parosproxy.paros.model.Session;
 import org.parosproxy.paros.model.SiteMap;
 import org.parosproxy.paros.model.SiteNode;
 import org.parosproxy.paros.network.HttpMessage;
@@ -65,6 +69,10 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.templateresolver.FileTemplateResolver;
 import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.zaproxy.addon.reports.ReportModelCache.ReportModel;
+import org.zaproxy.addon.reports.StreamingReportWriter.ReportHeader;
+import org.zaproxy.zap.ZAP;
+import org.zaproxy.zap.extension.alert.AlertEventPublisher;
 import org.zaproxy.zap.extension.alert.AlertNode;
 import org.zaproxy.zap.extension.alert.ExtensionAlert;
 import org.zaproxy.zap.extension.stats.ExtensionStats;
@@ -102,6 +110,10 @@ public class ExtensionReports extends ExtensionAdaptor {
 
     private List<ReportDataHandler> reportDataHandlers = new ArrayList<>();
 
+    private final Map<Template, CachedTemplateEngine> templateEngines = new ConcurrentHashMap<>();
+
+    private final ReportModelCache reportModelCache = new ReportModelCache();
+
     public ExtensionReports() {
         super(NAME);
         setI18nPrefix(PREFIX);
@@ -113,6 +125,12 @@ public class ExtensionReports extends ExtensionAdaptor {
 
         extensionHook.addOptionsParamSet(getReportParam());
         extensionHook.addApiImplementor(new ReportApi(this));
+        extensionHook.addSessionListener(new SessionChangedListenerImpl());
+
+        ZAP.getEventBus()
+                .registerConsumer(
+                        reportModelCache, AlertEventPublisher.getPublisher().getPublisherName());
+        reportModelCache.setEnabled(true);
 
         if (hasView()) {
             extensionHook.getHookMenu().addReportMenuItem(getReportMenu());
@@ -128,11 +146,16 @@ public class ExtensionReports extends ExtensionAdaptor {
     }
 
     private void unloadTemplates() {
+        templateEngines.clear();
         this.getTemplateMap().values().forEach(Template::unload);
     }
 
     @Override
     public void unload() {
+        ZAP.getEventBus()
+                .unregisterConsumer(
+                        reportModelCache, AlertEventPublisher.getPublisher().getPublisherName());
+        reportModelCache.setEnabled(false);
         this.unloadTemplates();
     }
 
@@ -266,7 +289,20 @@ public class ExtensionReports extends ExtensionAdaptor {
         return (AlertNode) treeModel.getRoot();
     }
 
+    /**
+     * Gets the alerts tree with just the alerts included in the report.
+     *
+     * <p>The tree is shared by the reports with the same filters (sites, contexts, risks, and
+     * confidences) until the alerts change, as such it should not be modified.
+     *
+     * @param reportData the report data, with the filters.
+     * @return the filtered alerts tree.
+     */
     public AlertNode getFilteredAlertTree(ReportData reportData) {
+        return reportModelCache.getModel(reportData, this::createFilteredAlertTree).getRoot();
+    }
+
+    private AlertNode createFilteredAlertTree(ReportData reportData) {
 
         AlertNode root = null;
 
@@ -371,22 +407,25 @@ public class ExtensionReports extends ExtensionAdaptor {
             ReportData reportData, Template template, String reportFilename, boolean display)
             throws IOException {
         try {
-            TemplateEngine templateEngine = new TemplateEngine();
-            FileTemplateResolver templateResolver = new FileTemplateResolver();
-            templateResolver.setTemplateMode(template.getMode());
-            templateEngine.setTemplateResolver(templateResolver);
-
-            templateEngine.setMessageResolver(new ReportMessageResolver(template));
+            TemplateEngine templateEngine = getTemplateEngine(template);
 
             Context context = new Context();
             context.setVariable("alertTree", reportData.getAlertTreeRootNode());
             context.setVariable("reportTitle", reportData.getTitle());
             context.setVariable("description", reportData.getDescription());
             context.setVariable("helper", new ReportHelper());
-            context.setVariable(
-                    "alertCounts", getAlertCountsByRisk(reportData.getAlertTreeRootNode()));
-            context.setVariable(
-                    "alertCountsByRule", getAlertCountsByRule(reportData.getAlertTreeRootNode()));
+            AlertNode root = reportData.getAlertTreeRootNode();
+            ReportModel model = reportModelCache.getModel(root);
+            if (model != null) {
+                context.setVariable(
+                        "alertCounts", model.getAlertCountsByRisk(this::getAlertCountsByRisk));
+                context.setVariable(
+                        "alertCountsByRule",
+                        model.getAlertCountsByRule(this::getAlertCountsByRule));
+            } else {
+                context.setVariable("alertCounts", getAlertCountsByRisk(root));
+                context.setVariable("alertCountsByRule", getAlertCountsByRule(root));
+            }
             context.setVariable("reportData", reportData);
 
             ExtensionStats extStats =
@@ -398,15 +437,11 @@ public class ExtensionReports extends ExtensionAdaptor {
                 }
             }
 
-            Instant currentDateTime = Instant.now();
-            synchronized (SIMPLE_DATE_FORMAT) {
-                context.setVariable(
-                        "generatedString",
-                        SIMPLE_DATE_FORMAT.format(currentDateTime.toEpochMilli()));
-            }
-            context.setVariable("created", currentDateTime.toString());
-            context.setVariable("zapVersion", Constant.PROGRAM_VERSION);
-            context.setVariable("programName", Constant.PROGRAM_NAME_SHORT);
+            ReportHeader header = createReportHeader();
+            context.setVariable("generatedString", header.generated());
+            context.setVariable("created", header.created());
+            context.setVariable("zapVersion", header.version());
+            context.setVariable("programName", header.programName());
 
             reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
 
@@ -488,17 +523,172 @@ public class ExtensionReports extends ExtensionAdaptor {
             Stats.incCounter("stats.reports.error." + template.getConfigName());
             throw e;
         } finally {
-            reportData.getReportObjects().values().stream()
-                    .filter(Closeable.class::isInstance)
-                    .map(Closeable.class::cast)
-                    .forEach(
-                            e -> {
-                                try {
-                                    e.close();
-                                } catch (Exception ex) {
-                                    LOGGER.error("Failed to close the report data:", ex);
-                                }
-                            });
+            closeReportObjects(reportData);
+        }
+    }
+
+    /**
+     * Generates a report, writing it directly from the alerts tree if the template supports it
+     * and the number of alert instances included in the report is greater than the given
+     * maximum.
+     *
+     * <p>Only the traditional JSON and XML reports can be written without loading all the alerts
+     * into the template, other templates are always generated normally. The alerts tree of the
+     * report data is created, if needed, only when the report is generated normally.
+     *
+     * @param reportData the report data.
+     * @param template the template.
+     * @param reportFilename the full path of the file the report will be written to.
+     * @param display true if the report should be displayed using the default application.
+     * @param maxAlertsInMemory the maximum number of alert instances to generate the report
+     *     normally, 0 or lower for no maximum.
+     * @return the file the report was written to.
+     * @throws IOException if an error occurred while writing the report.
+     * @since 0.47.0
+     */
+    public File generateReport(
+            ReportData reportData,
+            Template template,
+            String reportFilename,
+            boolean display,
+            int maxAlertsInMemory)
+            throws IOException {
+        if (maxAlertsInMemory > 0 && StreamingReportWriter.isSupported(template)) {
+            reportDataHandlers.forEach(rdh -> rdh.handle(reportData));
+            AlertNode root = null;
+            try {
+                root = getRootAlertNode();
+            } catch (Exception e) {
+                LOGGER.error("Failed to access alerts tree", e);
+            }
+            if (root != null
+                    && StreamingReportWriter.isSupported(reportData)
+                    && countAlertInstances(reportData, root) > maxAlertsInMemory) {
+                return streamReport(reportData, template, root, reportFilename, display);
+            }
+        }
+
+        if (reportData.getAlertTreeRootNode() == null) {
+            reportData.setAlertTreeRootNode(getFilteredAlertTree(reportData));
+        }
+        return generateReport(reportData, template, reportFilename, display);
+    }
+
+    private static int countAlertInstances(ReportData reportData, AlertNode root) {
+        int count = 0;
+        for (int i = 0; i < root.getChildCount(); i++) {
+            AlertNode alertNode = root.getChildAt(i);
+            for (int j = 0; j < alertNode.getChildCount(); j++) {
+                if (isIncluded(reportData, alertNode.getChildAt(j))) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private File streamReport(
+            ReportData reportData,
+            Template template,
+            AlertNode root,
+            String reportFilename,
+            boolean display)
+            throws IOException {
+        LOGGER.debug(
+                "Streaming report {} with template {}", reportFilename, template.getConfigName());
+        File file = new File(reportFilename);
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            new StreamingReportWriter(reportData, root, createReportHeader())
+                    .write(template, writer);
+            Stats.incCounter("stats.reports.generated." + template.getConfigName());
+            Stats.incCounter("stats.reports.streamed." + template.getConfigName());
+        } catch (FileNotFoundException e) {
+            Stats.incCounter("stats.reports.nofile." + template.getConfigName());
+            throw e;
+        } catch (IOException e) {
+            Stats.incCounter("stats.reports.error." + template.getConfigName());
+            throw e;
+        } finally {
+            closeReportObjects(reportData);
+        }
+
+        LOGGER.debug("Generated report {}", file.getAbsolutePath());
+        if (display) {
+            Desktop.getDesktop().open(file);
+        }
+        return file;
+    }
+
+    private static ReportHeader createReportHeader() {
+        Instant currentDateTime = Instant.now();
+        String generated;
+        synchronized (SIMPLE_DATE_FORMAT) {
+            generated = SIMPLE_DATE_FORMAT.format(currentDateTime.toEpochMilli());
+        }
+        return new ReportHeader(
+                Constant.PROGRAM_NAME_SHORT,
+                Constant.PROGRAM_VERSION,
+                generated,
+                currentDateTime.toString());
+    }
+
+    private static void closeReportObjects(ReportData reportData) {
+        reportData.getReportObjects().values().stream()
+                .filter(Closeable.class::isInstance)
+                .map(Closeable.class::cast)
+                .forEach(
+                        e -> {
+                            try {
+                                e.close();
+                            } catch (Exception ex) {
+                                LOGGER.error("Failed to close the report data:", ex);
+                            }
+                        });
+    }
+
+    /**
+     * Gets the template engine for the given template, reusing the one previously created unless
+     * the report template file was changed since.
+     */
+    private TemplateEngine getTemplateEngine(Template template) {
+        long lastModified = template.getReportTemplateFile().lastModified();
+        CachedTemplateEngine cached = templateEngines.get(template);
+        if (cached == null || cached.lastModified() != lastModified) {
+            TemplateEngine templateEngine = new TemplateEngine();
+            FileTemplateResolver templateResolver = new FileTemplateResolver();
+            templateResolver.setTemplateMode(template.getMode());
+            templateEngine.setTemplateResolver(templateResolver);
+
+            templateEngine.setMessageResolver(new ReportMessageResolver(template));
+
+            cached = new CachedTemplateEngine(lastModified, templateEngine);
+            templateEngines.put(template, cached);
+        }
+        return cached.templateEngine();
+    }
+
+    private record CachedTemplateEngine(long lastModified, TemplateEngine templateEngine) {}
+
+    private class SessionChangedListenerImpl implements SessionChangedListener {
+
+        @Override
+        public void sessionChanged(Session session) {
+            reportModelCache.clear();
+        }
+
+        @Override
+        public void sessionAboutToChange(Session session) {
+            reportModelCache.clear();
+        }
+
+        @Override
+        public void sessionScopeChanged(Session session) {
+            // Nothing to do.
+        }
+
+        @Override
+        public void sessionModeChanged(Mode mode) {
+            // Nothing to do.
         }
     }
 
@@ -0,0 +1,197 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.eventBus.Event;
+import org.zaproxy.zap.eventBus.EventConsumer;
+import org.zaproxy.zap.extension.alert.AlertNode;
+import org.zaproxy.zap.model.Context;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A cache of the report models, the filtered alerts trees and their counts, shared by the
+ * reports generated with the same filters, for example, by all the report jobs of a plan.
+ *
+ * <p>The models are discarded when any alert is added, changed, or removed, which is known through
+ * the alert events, as such the cache is used only while consuming those events.
+ */
+class ReportModelCache implements EventConsumer {
+
+    private static final int MAX_MODELS = 10;
+
+    private final Map<Key, ReportModel> models;
+    private final Map<AlertNode, ReportModel> modelsByRoot;
+
+    private boolean enabled;
+    private long generation;
+
+    ReportModelCache() {
+        models = new LinkedHashMap<>(16, 0.75f, true);
+        modelsByRoot = new IdentityHashMap<>();
+    }
+
+    /**
+     * Sets whether or not the cache is used, it should be used only while consuming the alert
+     * events.
+     *
+     * @param enabled {@code true} if the cache should be used, {@code false} otherwise.
+     */
+    synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        clear();
+    }
+
+    synchronized void clear() {
+        generation++;
+        models.clear();
+        modelsByRoot.clear();
+    }
+
+    @Override
+    public void eventReceived(Event event) {
+        clear();
+    }
+
+    /**
+     * Gets the model for the given report data, creating it with the given function if not
+     * already cached (or if the cache is not enabled).
+     *
+     * @param reportData the report data, with the filters of the report.
+     * @param treeBuilder the function that creates the filtered alerts tree.
+     * @return the model.
+     */
+    ReportModel getModel(ReportData reportData, Function<ReportData, AlertNode> treeBuilder) {
+        Key key;
+        long startGeneration;
+        synchronized (this) {
+            if (!enabled) {
+                return new ReportModel(treeBuilder.apply(reportData));
+            }
+            key = Key.create(reportData);
+            ReportModel model = models.get(key);
+            if (model != null) {
+                Stats.incCounter("stats.reports.model.reused");
+                return model;
+            }
+            startGeneration = generation;
+        }
+
+        ReportModel model = new ReportModel(treeBuilder.apply(reportData));
+        Stats.incCounter("stats.reports.model.created");
+        synchronized (this) {
+            // Do not cache if the alerts changed while creating the model.
+            if (enabled && startGeneration == generation && model.getRoot() != null) {
+                models.put(key, model);
+                modelsByRoot.put(model.getRoot(), model);
+                evictExcess();
+            }
+        }
+        return model;
+    }
+
+    /**
+     * Gets the cached model that has the given filtered alerts tree.
+     *
+     * @param root the root of the filtered alerts tree.
+     * @return the model, or {@code null} if not cached.
+     */
+    synchronized ReportModel getModel(AlertNode root) {
+        return modelsByRoot.get(root);
+    }
+
+    private void evictExcess() {
+        Iterator<ReportModel> it = models.values().iterator();
+        while (models.size() > MAX_MODELS && it.hasNext()) {
+            modelsByRoot.remove(it.next().getRoot());
+            it.remove();
+        }
+    }
+
+    /** The filtered alerts tree of a report and the counts computed from it. */
+    static class ReportModel {
+
+        private final AlertNode root;
+        private Map<Integer, Integer> alertCountsByRisk;
+        private Map<Integer, Integer> alertCountsByRule;
+
+        ReportModel(AlertNode root) {
+            this.root = root;
+        }
+
+        AlertNode getRoot() {
+            return root;
+        }
+
+        synchronized Map<Integer, Integer> getAlertCountsByRisk(
+                Function<AlertNode, Map<Integer, Integer>> counter) {
+            if (alertCountsByRisk == null) {
+                alertCountsByRisk = counter.apply(root);
+            }
+            return alertCountsByRisk;
+        }
+
+        synchronized Map<Integer, Integer> getAlertCountsByRule(
+                Function<AlertNode, Map<Integer, Integer>> counter) {
+            if (alertCountsByRule == null) {
+                alertCountsByRule = counter.apply(root);
+            }
+            return alertCountsByRule;
+        }
+    }
+
+    /** The values of the report data that affect the filtered alerts tree. */
+    private record Key(
+            List<String> sites, List<List<Object>> contexts, String risks, String confidences) {
+
+        static Key create(ReportData reportData) {
+            List<String> sites =
+                    reportData.getSites() != null ? List.copyOf(reportData.getSites()) : List.of();
+
+            List<List<Object>> contexts = new ArrayList<>();
+            if (reportData.getContexts() != null) {
+                for (Context context : reportData.getContexts()) {
+                    contexts.add(
+                            List.of(
+                                    context.getId(),
+                                    List.copyOf(context.getIncludeInContextRegexs()),
+                                    List.copyOf(context.getExcludeFromContextRegexs())));
+                }
+            }
+
+            StringBuilder risks = new StringBuilder();
+            for (int risk = -1; risk < Alert.MSG_RISK.length; risk++) {
+                risks.append(reportData.isIncludeRisk(risk) ? '1' : '0');
+            }
+            StringBuilder confidences = new StringBuilder();
+            for (int conf = 0; conf < Alert.MSG_CONFIDENCE.length; conf++) {
+                confidences.append(reportData.isIncludeConfidence(conf) ? '1' : '0');
+            }
+            return new Key(sites, contexts, risks.toString(), confidences.toString());
+        }
+    }
+}
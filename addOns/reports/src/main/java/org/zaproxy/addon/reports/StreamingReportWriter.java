@@ -0,0 +1,319 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/**
+ * Writes the traditional machine readable reports directly from the alerts tree, without a
+ * template.
+ *
+ * <p>The alerts are read from the (unfiltered) alerts tree one alert at a time, only the instances
+ * of the alert being written are kept in memory. The output is equivalent to the one produced by
+ * the corresponding templates, the sections that depend on data provided by other add-ons are not
+ * supported, in which case the template should be used instead.
+ */
+final class StreamingReportWriter {
+
+    static final String TRADITIONAL_JSON = "traditional-json";
+    static final String TRADITIONAL_XML = "traditional-xml";
+
+    private static final Set<String> UNSUPPORTED_REPORT_OBJECTS =
+            Set.of("insightsList", "stoppingInsight", "scriptDiagnostics", "seqAScanData");
+
+    private final ReportData reportData;
+    private final AlertNode rootNode;
+    private final ReportHeader header;
+
+    StreamingReportWriter(ReportData reportData, AlertNode rootNode, ReportHeader header) {
+        this.reportData = reportData;
+        this.rootNode = rootNode;
+        this.header = header;
+    }
+
+    /**
+     * Tells whether or not the given template can be streamed.
+     *
+     * @param template the template.
+     * @return {@code true} if the template can be streamed, {@code false} otherwise.
+     */
+    static boolean isSupported(Template template) {
+        String name = template.getConfigName();
+        return TRADITIONAL_JSON.equals(name) || TRADITIONAL_XML.equals(name);
+    }
+
+    /**
+     * Tells whether or not the given report data can be streamed, that is, it does not contain
+     * data that is rendered only by the templates.
+     *
+     * @param reportData the report data.
+     * @return {@code true} if the report data can be streamed, {@code false} otherwise.
+     */
+    static boolean isSupported(ReportData reportData) {
+        return reportData.getReportObjects().keySet().stream()
+                .noneMatch(UNSUPPORTED_REPORT_OBJECTS::contains);
+    }
+
+    void write(Template template, Writer writer) throws IOException {
+        if (TRADITIONAL_JSON.equals(template.getConfigName())) {
+            writeJson(writer);
+        } else if (TRADITIONAL_XML.equals(template.getConfigName())) {
+            try {
+                writeXml(writer);
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                    "Template not supported: " + template.getConfigName());
+        }
+    }
+
+    private void writeJson(Writer writer) throws IOException {
+        try (JsonGenerator gen =
+                new JsonFactory()
+                        .createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .useDefaultPrettyPrinter()) {
+            gen.writeStartObject();
+            gen.writeStringField("@programName", header.programName());
+            gen.writeStringField("@version", header.version());
+            gen.writeStringField("@generated", header.generated());
+            gen.writeStringField("created", header.created());
+            gen.writeArrayFieldStart("site");
+            for (String site : getSites()) {
+                gen.writeStartObject();
+                gen.writeStringField("@name", text(site));
+                gen.writeStringField("@host", text(ReportHelper.getHostForSite(site)));
+                gen.writeStringField("@port", String.valueOf(ReportHelper.getPortForSite(site)));
+                gen.writeStringField("@ssl", String.valueOf(ReportHelper.isSslSite(site)));
+                gen.writeArrayFieldStart("alerts");
+                for (int i = 0; i < rootNode.getChildCount(); i++) {
+                    AlertNode alertNode = getFilteredAlertNode(rootNode.getChildAt(i));
+                    Alert alert = getFirstInstanceForSite(alertNode, site);
+                    if (alert != null) {
+                        writeJsonAlert(gen, alertNode, alert, site);
+                    }
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeJsonAlert(
+            JsonGenerator gen, AlertNode alertNode, Alert alert, String site) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("pluginid", String.valueOf(alert.getPluginId()));
+        gen.writeStringField("alertRef", Objects.toString(alert.getAlertRef(), ""));
+        gen.writeStringField("alert", text(alert.getName()));
+        gen.writeStringField("name", text(alert.getName()));
+        gen.writeStringField("riskcode", String.valueOf(alert.getRisk()));
+        gen.writeStringField("confidence", String.valueOf(alert.getConfidence()));
+        gen.writeStringField("riskdesc", text(getRiskDesc(alert)));
+        gen.writeStringField("desc", paragraph(alert.getDescription()));
+        gen.writeArrayFieldStart("instances");
+        int count = 0;
+        for (int i = 0; i < alertNode.getChildCount(); i++) {
+            Alert instance = alertNode.getChildAt(i).getUserObject();
+            if (!instance.getUri().startsWith(site)) {
+                continue;
+            }
+            count++;
+            gen.writeStartObject();
+            gen.writeStringField("id", String.valueOf(instance.getAlertId()));
+            gen.writeStringField("uri", text(instance.getUri()));
+            gen.writeStringField("nodeName", ReportHelper.getNodeName(instance));
+            gen.writeStringField("method", text(instance.getMethod()));
+            gen.writeStringField("param", text(instance.getParam()));
+            gen.writeStringField("attack", text(instance.getAttack()));
+            gen.writeStringField("evidence", text(instance.getEvidence()));
+            gen.writeStringField("otherinfo", text(instance.getOtherInfo()));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeStringField("count", String.valueOf(count));
+        gen.writeBooleanField("systemic", ReportHelper.isSystemic(alertNode));
+        gen.writeStringField("solution", paragraph(alert.getSolution()));
+        gen.writeStringField("otherinfo", paragraph(alert.getOtherInfo()));
+        gen.writeStringField("reference", paragraph(alert.getReference()));
+        gen.writeStringField("cweid", String.valueOf(alert.getCweId()));
+        gen.writeStringField("wascid", String.valueOf(alert.getWascId()));
+        gen.writeStringField("sourceid", String.valueOf(alert.getSourceHistoryId()));
+        gen.writeEndObject();
+    }
+
+    private void writeXml(Writer writer) throws XMLStreamException {
+        XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+        try {
+            xml.writeStartDocument("1.0");
+            xml.writeCharacters("\n");
+            xml.writeStartElement("OWASPZAPReport");
+            xml.writeAttribute("programName", header.programName());
+            xml.writeAttribute("version", header.version());
+            xml.writeAttribute("generated", header.generated());
+            xml.writeAttribute("created", header.created());
+            for (String site : getSites()) {
+                xml.writeStartElement("site");
+                xml.writeAttribute("name", site);
+                xml.writeAttribute("host", ReportHelper.getHostForSite(site));
+                xml.writeAttribute("port", String.valueOf(ReportHelper.getPortForSite(site)));
+                xml.writeAttribute("ssl", String.valueOf(ReportHelper.isSslSite(site)));
+                xml.writeStartElement("alerts");
+                for (int i = 0; i < rootNode.getChildCount(); i++) {
+                    AlertNode alertNode = getFilteredAlertNode(rootNode.getChildAt(i));
+                    Alert alert = getFirstInstanceForSite(alertNode, site);
+                    if (alert != null) {
+                        writeXmlAlert(xml, alertNode, alert, site);
+                    }
+                }
+                xml.writeEndElement();
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.flush();
+        } finally {
+            xml.close();
+        }
+    }
+
+    private static void writeXmlAlert(
+            XMLStreamWriter xml, AlertNode alertNode, Alert alert, String site)
+            throws XMLStreamException {
+        xml.writeStartElement("alertitem");
+        writeElement(xml, "pluginid", String.valueOf(alert.getPluginId()));
+        writeElement(xml, "alertRef", alert.getAlertRef());
+        writeElement(xml, "alert", alert.getName());
+        writeElement(xml, "name", alert.getName());
+        writeElement(xml, "riskcode", String.valueOf(alert.getRisk()));
+        writeElement(xml, "confidence", String.valueOf(alert.getConfidence()));
+        writeElement(xml, "riskdesc", getRiskDesc(alert));
+        writeElement(
+                xml, "confidencedesc", ReportHelper.getConfidenceString(alert.getConfidence()));
+        writeElement(xml, "desc", ReportHelper.legacyEscapeParagraph(alert.getDescription()));
+        xml.writeStartElement("instances");
+        int count = 0;
+        for (int i = 0; i < alertNode.getChildCount(); i++) {
+            Alert instance = alertNode.getChildAt(i).getUserObject();
+            if (!instance.getUri().startsWith(site)) {
+                continue;
+            }
+            count++;
+            xml.writeStartElement("instance");
+            writeElement(xml, "uri", instance.getUri());
+            writeElement(xml, "nodeName", ReportHelper.getNodeName(instance));
+            writeElement(xml, "method", instance.getMethod());
+            writeElement(xml, "param", instance.getParam());
+            writeElement(xml, "attack", instance.getAttack());
+            writeElement(xml, "evidence", instance.getEvidence());
+            writeElement(xml, "otherinfo", instance.getOtherInfo());
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+        writeElement(xml, "count", String.valueOf(count));
+        writeElement(xml, "systemic", String.valueOf(ReportHelper.isSystemic(alertNode)));
+        writeElement(xml, "solution", ReportHelper.legacyEscapeParagraph(alert.getSolution()));
+        writeElement(xml, "otherinfo", ReportHelper.legacyEscapeParagraph(alert.getOtherInfo()));
+        writeElement(xml, "reference", ReportHelper.legacyEscapeParagraph(alert.getReference()));
+        writeElement(xml, "cweid", String.valueOf(alert.getCweId()));
+        writeElement(xml, "wascid", String.valueOf(alert.getWascId()));
+        writeElement(xml, "sourceid", String.valueOf(alert.getSourceHistoryId()));
+        xml.writeEndElement();
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String value)
+            throws XMLStreamException {
+        xml.writeStartElement(name);
+        if (value != null) {
+            xml.writeCharacters(value);
+        }
+        xml.writeEndElement();
+    }
+
+    private List<String> getSites() {
+        List<String> sites = reportData.getSites();
+        return sites != null ? sites : List.of();
+    }
+
+    /**
+     * Gets a copy of the given alert node with just the instances included in the report, the
+     * same as done for the whole tree by {@link ExtensionReports#getFilteredAlertTree(ReportData)}.
+     */
+    private AlertNode getFilteredAlertNode(AlertNode alertNode) {
+        AlertNode filtered = cloneAlertNode(alertNode);
+        for (int i = 0; i < alertNode.getChildCount(); i++) {
+            AlertNode instance = alertNode.getChildAt(i);
+            if (ExtensionReports.isIncluded(reportData, instance)) {
+                filtered.add(cloneAlertNode(instance));
+            }
+        }
+        return filtered;
+    }
+
+    private static AlertNode cloneAlertNode(AlertNode alertNode) {
+        AlertNode clone = (AlertNode) alertNode.clone();
+        if (alertNode.getUserObject() != null) {
+            clone.setUserObject(alertNode.getUserObject());
+        }
+        return clone;
+    }
+
+    private static Alert getFirstInstanceForSite(AlertNode alertNode, String site) {
+        for (int i = 0; i < alertNode.getChildCount(); i++) {
+            Alert instance = alertNode.getChildAt(i).getUserObject();
+            if (instance.getUri().startsWith(site)) {
+                return instance;
+            }
+        }
+        return null;
+    }
+
+    private static String getRiskDesc(Alert alert) {
+        return ReportHelper.getRiskString(alert.getRisk())
+                + " ("
+                + ReportHelper.getConfidenceString(alert.getConfidence())
+                + ")";
+    }
+
+    private static String text(String value) {
+        return value == null ? "" : ReportHelper.legacyEscapeText(value);
+    }
+
+    private static String paragraph(String value) {
+        return ReportHelper.legacyEscapeParagraph(value);
+    }
+
+    /** The values common to all reports, also provided to the templates. */
+    record ReportHeader(String programName, String version, String generated, String created) {}
+}
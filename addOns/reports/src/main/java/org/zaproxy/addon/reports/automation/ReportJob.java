@@ -56,6 +56,7 @@ public class ReportJob extends AutomationJob {
     private static final String PARAM_REPORT_TITLE = "reportTitle";
     private static final String PARAM_REPORT_DESC = "reportDescription";
     private static final String PARAM_DISPLAY_REPORT = "displayReport";
+    private static final String PARAM_MAX_ALERTS_IN_MEMORY = "maxAlertsInMemory";
 
     private ExtensionReports extReport;
 
@@ -258,16 +259,25 @@ public class ReportJob extends AutomationJob {
             }
         }
 
-        reportData.setAlertTreeRootNode(getExtReport().getFilteredAlertTree(reportData));
-
         try {
-            file =
-                    getExtReport()
-                            .generateReport(
-                                    reportData,
-                                    template,
-                                    file.getAbsolutePath(),
-                                    JobUtils.unBox(this.getParameters().getDisplayReport()));
+            boolean display = JobUtils.unBox(this.getParameters().getDisplayReport());
+            int maxAlertsInMemory = JobUtils.unBox(this.getParameters().getMaxAlertsInMemory());
+            if (maxAlertsInMemory > 0) {
+                file =
+                        getExtReport()
+                                .generateReport(
+                                        reportData,
+                                        template,
+                                        file.getAbsolutePath(),
+                                        display,
+                                        maxAlertsInMemory);
+            } else {
+                reportData.setAlertTreeRootNode(getExtReport().getFilteredAlertTree(reportData));
+                file =
+                        getExtReport()
+                                .generateReport(
+                                        reportData, template, file.getAbsolutePath(), display);
+            }
             progress.info(
                     Constant.messages.getString(
                             "reports.automation.info.reportgen",
@@ -398,6 +408,9 @@ public class ReportJob extends AutomationJob {
         map.put(
                 PARAM_DISPLAY_REPORT,
                 Boolean.toString(JobUtils.unBox(this.getParameters().getDisplayReport())));
+        map.put(
+                PARAM_MAX_ALERTS_IN_MEMORY,
+                Integer.toString(JobUtils.unBox(this.getParameters().getMaxAlertsInMemory())));
         return map;
     }
 
@@ -477,5 +490,6 @@ public class ReportJob extends AutomationJob {
         private String reportTitle = "";
         private String reportDescription = "";
         private Boolean displayReport = false;
+        private Integer maxAlertsInMemory = 0;
     }
 }
@@ -61,6 +61,8 @@ public class ReportJobDialog extends StandardFieldsDialog {
     private static final String FIELD_REPORT_NAME = "reports.dialog.field.reportname";
     private static final String FIELD_DESCRIPTION = "reports.dialog.field.description";
     private static final String FIELD_DISPLAY_REPORT = "reports.dialog.field.display";
+    private static final String FIELD_MAX_ALERTS_IN_MEMORY =
+            "reports.automation.dialog.field.maxalertsinmemory";
     private static final String FIELD_CONFIDENCE_HEADER = "reports.dialog.field.confidence";
     private static final String FIELD_CONFIDENCE_0 = "reports.dialog.field.confidence.0";
     private static final String FIELD_CONFIDENCE_1 = "reports.dialog.field.confidence.1";
@@ -146,6 +148,12 @@ public class ReportJobDialog extends StandardFieldsDialog {
         }
 
         this.addComboField(TAB_TEMPLATE, FIELD_THEME, themes, theme);
+        this.addNumberField(
+                TAB_TEMPLATE,
+                FIELD_MAX_ALERTS_IN_MEMORY,
+                0,
+                Integer.MAX_VALUE,
+                JobUtils.unBox(params.getMaxAlertsInMemory()));
 
         ReflectionUtils.addCustomComponent(
                 this, TAB_TEMPLATE, FIELD_SECTIONS, getSectionsScrollPane(), 1.0D);
@@ -281,6 +289,9 @@ public class ReportJobDialog extends StandardFieldsDialog {
         job.getData().getParameters().setReportDir(this.getStringValue(FIELD_REPORT_DIR));
         job.getData().getParameters().setReportDescription(this.getStringValue(FIELD_DESCRIPTION));
         job.getData().getParameters().setDisplayReport(this.getBoolValue(FIELD_DISPLAY_REPORT));
+        job.getData()
+                .getParameters()
+                .setMaxAlertsInMemory(this.getIntValue(FIELD_MAX_ALERTS_IN_MEMORY));
         job.getData()
                 .getParameters()
                 .setTheme(template.getThemeForName(this.getStringValue(FIELD_THEME)));
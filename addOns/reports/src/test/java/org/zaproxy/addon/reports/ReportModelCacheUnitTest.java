@@ -0,0 +1,141 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.parosproxy.paros.core.scanner.Alert;
+import org.zaproxy.addon.reports.ReportModelCache.ReportModel;
+import org.zaproxy.zap.eventBus.Event;
+import org.zaproxy.zap.extension.alert.AlertNode;
+
+/** Unit test for {@link ReportModelCache}. */
+class ReportModelCacheUnitTest {
+
+    private ReportModelCache cache;
+    private AtomicInteger treesCreated;
+    private Function<ReportData, AlertNode> treeBuilder;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ReportModelCache();
+        treesCreated = new AtomicInteger();
+        treeBuilder =
+                reportData -> {
+                    treesCreated.incrementAndGet();
+                    return new AlertNode(0, "Root");
+                };
+    }
+
+    @Test
+    void shouldNotCacheIfNotEnabled() {
+        // Given
+        ReportData reportData = createReportData("https://example.com");
+        // When
+        ReportModel model1 = cache.getModel(reportData, treeBuilder);
+        ReportModel model2 = cache.getModel(reportData, treeBuilder);
+        // Then
+        assertThat(model1, is(not(sameInstance(model2))));
+        assertThat(treesCreated.get(), is(equalTo(2)));
+        assertThat(cache.getModel(model1.getRoot()), is(nullValue()));
+    }
+
+    @Test
+    void shouldReuseModelForSameFilters() {
+        // Given
+        cache.setEnabled(true);
+        // When
+        ReportModel model1 = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        ReportModel model2 = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        // Then
+        assertThat(model1, is(sameInstance(model2)));
+        assertThat(treesCreated.get(), is(equalTo(1)));
+        assertThat(cache.getModel(model1.getRoot()), is(sameInstance(model1)));
+    }
+
+    @Test
+    void shouldNotReuseModelForDifferentFilters() {
+        // Given
+        cache.setEnabled(true);
+        ReportData otherSite = createReportData("https://example.org");
+        ReportData otherRisks = createReportData("https://example.com");
+        otherRisks.setIncludeRisk(Alert.RISK_INFO, false);
+        // When
+        ReportModel model1 = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        ReportModel model2 = cache.getModel(otherSite, treeBuilder);
+        ReportModel model3 = cache.getModel(otherRisks, treeBuilder);
+        // Then
+        assertThat(model1, is(not(sameInstance(model2))));
+        assertThat(model1, is(not(sameInstance(model3))));
+        assertThat(treesCreated.get(), is(equalTo(3)));
+    }
+
+    @Test
+    void shouldDiscardModelsWhenAlertsChange() {
+        // Given
+        cache.setEnabled(true);
+        ReportModel model1 = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        // When
+        cache.eventReceived(mock(Event.class));
+        ReportModel model2 = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        // Then
+        assertThat(model1, is(not(sameInstance(model2))));
+        assertThat(cache.getModel(model1.getRoot()), is(nullValue()));
+    }
+
+    @Test
+    void shouldComputeCountsOnce() {
+        // Given
+        cache.setEnabled(true);
+        ReportModel model = cache.getModel(createReportData("https://example.com"), treeBuilder);
+        AtomicInteger counted = new AtomicInteger();
+        Function<AlertNode, Map<Integer, Integer>> counter =
+                root -> {
+                    counted.incrementAndGet();
+                    return Map.of(Alert.RISK_HIGH, 1);
+                };
+        // When
+        Map<Integer, Integer> counts1 = model.getAlertCountsByRisk(counter);
+        Map<Integer, Integer> counts2 = model.getAlertCountsByRisk(counter);
+        // Then
+        assertThat(counts1, is(sameInstance(counts2)));
+        assertThat(counted.get(), is(equalTo(1)));
+    }
+
+    private static ReportData createReportData(String site) {
+        ReportData reportData = new ReportData("test");
+        reportData.setSites(List.of(site));
+        reportData.setIncludeAllRisks(true);
+        reportData.setIncludeAllConfidences(true);
+        return reportData;
+    }
+}
@@ -90,7 +90,7 @@ public class ReportTestUtils {
         return alert;
     }
 
-    private static AlertNode getAlertNode(String name, String desc, int risk, int confidence)
+    static AlertNode getAlertNode(String name, String desc, int risk, int confidence)
             throws URIException, HttpMalformedHeaderException {
         AlertNode node = new AlertNode(risk, name);
         Alert alert1 = createAlertNode(name, desc, risk, confidence, "");
@@ -135,7 +135,7 @@ public class ReportTestUtils {
     }
 
     @SuppressWarnings("removal")
-    private static ReportData getTestReportDataWithAlerts()
+    static ReportData getTestReportDataWithAlerts()
             throws URIException, HttpMalformedHeaderException {
         ReportData reportData = new ReportData("test");
         reportData.setTitle("Test Title");
@@ -0,0 +1,152 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.reports;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import net.sf.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.quality.Strictness;
+import org.parosproxy.paros.Constant;
+import org.parosproxy.paros.control.Control;
+import org.parosproxy.paros.extension.ExtensionLoader;
+import org.parosproxy.paros.model.Model;
+import org.parosproxy.paros.network.HttpRequestHeader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.zaproxy.addon.reports.StreamingReportWriter.ReportHeader;
+import org.zaproxy.zap.testutils.TestUtils;
+import org.zaproxy.zap.utils.ZapXmlConfiguration;
+
+/** Unit test for {@link StreamingReportWriter}. */
+class StreamingReportWriterUnitTest extends TestUtils {
+
+    private static final ReportHeader HEADER =
+            new ReportHeader("ZAP", "Dev Build", "Thu, 1 Jan 2026 00:00:00", "2026-01-01T00:00Z");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMessages(new ExtensionReports());
+
+        Model model = mock(Model.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        Model.setSingletonForTesting(model);
+        ExtensionLoader extensionLoader =
+                mock(ExtensionLoader.class, withSettings().strictness(Strictness.LENIENT));
+        Control.initSingletonForTesting(Model.getSingleton(), extensionLoader);
+        Model.getSingleton().getOptionsParam().load(new ZapXmlConfiguration());
+
+        Constant.PROGRAM_VERSION = "Dev Build";
+        HttpRequestHeader.setDefaultUserAgent(
+                "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:92.0) Gecko/20100101 Firefox/92.0");
+    }
+
+    @Test
+    void shouldSupportTraditionalJsonAndXmlTemplatesOnly() throws Exception {
+        assertThat(
+                StreamingReportWriter.isSupported(
+                        ReportTestUtils.getTemplateFromYamlFile("traditional-json")),
+                is(equalTo(true)));
+        assertThat(
+                StreamingReportWriter.isSupported(
+                        ReportTestUtils.getTemplateFromYamlFile("traditional-xml")),
+                is(equalTo(true)));
+        assertThat(
+                StreamingReportWriter.isSupported(
+                        ReportTestUtils.getTemplateFromYamlFile("traditional-html")),
+                is(equalTo(false)));
+    }
+
+    @Test
+    void shouldNotSupportReportDataRenderedOnlyByTemplates() {
+        // Given
+        ReportData reportData = new ReportData("test");
+        reportData.addReportObjects("insightsList", new Object());
+        // When
+        boolean supported = StreamingReportWriter.isSupported(reportData);
+        // Then
+        assertThat(supported, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldStreamJsonEquivalentToTemplate() throws Exception {
+        // Given
+        Template template = ReportTestUtils.getTemplateFromYamlFile("traditional-json");
+        File f = File.createTempFile("streaming-traditional-json", template.getExtension());
+        File r = ReportTestUtils.generateReportWithAlerts(template, f);
+        JSONObject expected =
+                JSONObject.fromObject(Files.readString(r.toPath(), StandardCharsets.UTF_8));
+        ReportData reportData = ReportTestUtils.getTestReportDataWithAlerts();
+        StringWriter writer = new StringWriter();
+        // When
+        new StreamingReportWriter(reportData, reportData.getAlertTreeRootNode(), HEADER)
+                .write(template, writer);
+        // Then
+        JSONObject streamed = JSONObject.fromObject(writer.toString());
+        assertThat(streamed.getString("@version"), is(equalTo("Dev Build")));
+        assertThat(
+                streamed.getJSONArray("site").toString(),
+                is(equalTo(expected.getJSONArray("site").toString())));
+    }
+
+    @Test
+    void shouldStreamValidXml() throws Exception {
+        // Given
+        Template template = ReportTestUtils.getTemplateFromYamlFile("traditional-xml");
+        ReportData reportData = ReportTestUtils.getTestReportDataWithAlerts();
+        StringWriter writer = new StringWriter();
+        // When
+        new StreamingReportWriter(reportData, reportData.getAlertTreeRootNode(), HEADER)
+                .write(template, writer);
+        // Then
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        Document doc =
+                dbf.newDocumentBuilder()
+                        .parse(
+                                new ByteArrayInputStream(
+                                        writer.toString().getBytes(StandardCharsets.UTF_8)));
+        Element root = doc.getDocumentElement();
+        assertThat(root.getNodeName(), is(equalTo("OWASPZAPReport")));
+        assertThat(root.getAttribute("version"), is(equalTo("Dev Build")));
+        Element site = (Element) root.getElementsByTagName("site").item(0);
+        assertThat(site.getAttribute("name"), is(equalTo("http://example.com")));
+        assertThat(site.getAttribute("port"), is(equalTo("80")));
+        assertThat(site.getElementsByTagName("alertitem").getLength(), is(equalTo(1)));
+        assertThat(site.getElementsByTagName("instance").getLength(), is(equalTo(2)));
+        assertThat(
+                site.getElementsByTagName("count").item(0).getTextContent(), is(equalTo("2")));
+        assertThat(
+                site.getElementsByTagName("riskdesc").item(0).getTextContent(),
+                is(equalTo("High (Medium)")));
+    }
+}
@@ -31,6 +31,7 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -146,7 +147,7 @@ class ReportJobUnitTest extends TestUtils {
         Map<String, String> params = job.getCustomConfigParameters();
 
         // Then
-        assertThat(params.size(), is(equalTo(7)));
+        assertThat(params.size(), is(equalTo(8)));
         assertThat(
                 params,
                 allOf(
@@ -156,7 +157,8 @@ class ReportJobUnitTest extends TestUtils {
                         hasKey("reportTitle"),
                         hasKey("reportDescription"),
                         hasKey("theme"),
-                        hasKey("displayReport")));
+                        hasKey("displayReport"),
+                        hasKey("maxAlertsInMemory")));
     }
 
     @Test
@@ -207,6 +209,42 @@ class ReportJobUnitTest extends TestUtils {
         assertThat(job.getParameters().getDisplayReport(), is(equalTo(displayReport)));
     }
 
+    @Test
+    void shouldPassMaxAlertsInMemoryWhenRunning() throws IOException {
+        // Given
+        String templateName = "template";
+        ReportJob job =
+                createReportJob(
+                        "parameters:\n"
+                                + "  template: "
+                                + templateName
+                                + "\n"
+                                + "  reportFile: report-file\n"
+                                + "  maxAlertsInMemory: 1000");
+        AutomationPlan plan = new AutomationPlan();
+        AutomationProgress progress = plan.getProgress();
+        AutomationEnvironment env = plan.getEnv();
+        ContextWrapper contextWrapper = mock(ContextWrapper.class);
+        given(contextWrapper.getUrls()).willReturn(Collections.singletonList(""));
+        env.setContexts(Arrays.asList(contextWrapper));
+        Template template = mock(Template.class);
+        given(template.getExtension()).willReturn("ext");
+        given(extensionReports.getTemplateByConfigName(templateName)).willReturn(template);
+        given(extensionReports.generateReport(any(), any(), anyString(), anyBoolean(), eq(1000)))
+                .willReturn(mock(File.class));
+        job.verifyParameters(progress);
+        job.setPlan(plan);
+
+        // When
+        job.runJob(env, progress);
+
+        // Then
+        assertThat(job.getParameters().getMaxAlertsInMemory(), is(equalTo(1000)));
+        verify(extensionReports).generateReport(any(), any(), anyString(), anyBoolean(), eq(1000));
+        assertThat(progress.hasWarnings(), is(equalTo(false)));
+        assertThat(progress.hasErrors(), is(equalTo(false)));
+    }
+
     @Test
     void shouldReplaceVarInReportFileWhenRunning() throws IOException {
         // Given
@@ -0,0 +1,103 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A {@code WebDriver} managed by a {@link WebDriverPool}.
+ *
+ * <p>Tracks when the {@code WebDriver} was last accessed, to allow the pool to replace browsers
+ * that hang.
+ *
+ * @since 15.55.0
+ * @see WebDriverPool#acquire()
+ */
+public class PooledWebDriver {
+
+    private volatile WebDriver driver;
+    private volatile long lastAccessed;
+    private int uses;
+    private String key;
+
+    PooledWebDriver(WebDriver driver) {
+        setDriver(driver);
+    }
+
+    /**
+     * Gets the {@code WebDriver}, updating the last accessed time.
+     *
+     * @return the {@code WebDriver}, never {@code null}.
+     */
+    public WebDriver getDriver() {
+        lastAccessed = System.currentTimeMillis();
+        return driver;
+    }
+
+    void setDriver(WebDriver driver) {
+        lastAccessed = System.currentTimeMillis();
+        this.driver = driver;
+    }
+
+    WebDriver getDriverNoAccess() {
+        return driver;
+    }
+
+    void markAccessed() {
+        lastAccessed = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the time, in milliseconds, when the {@code WebDriver} was last accessed.
+     *
+     * @return the time the {@code WebDriver} was last accessed.
+     */
+    public long getLastAccessed() {
+        return lastAccessed;
+    }
+
+    /**
+     * Gets the number of times this {@code WebDriver} was acquired from the pool.
+     *
+     * @return the number of uses.
+     */
+    public int getUses() {
+        return uses;
+    }
+
+    void incUses() {
+        uses++;
+    }
+
+    /**
+     * Gets the key this {@code WebDriver} was last acquired with, for example, the host being
+     * scanned.
+     *
+     * @return the key, or {@code null} if acquired without key.
+     * @see WebDriverPool#acquire(String)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    void setKey(String key) {
+        this.key = key;
+    }
+}
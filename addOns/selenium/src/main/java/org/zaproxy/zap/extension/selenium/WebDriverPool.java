@@ -0,0 +1,751 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A bounded pool of warm {@code WebDriver}s, to be shared by the components that need to start
+ * several browsers (for example, browser based scan rules).
+ *
+ * <p>The browsers are reset when released to the pool, a new tab is opened (and the others closed),
+ * the storage and cookies are cleared and {@code about:blank} is loaded, which is much cheaper
+ * than starting a new browser. The reset only clears the cookies of the page last loaded, the
+ * browsers might still have the cookies and storage of other sites. To not share that state
+ * between different targets the browsers can be acquired with a key (for example, the host being
+ * scanned), they are then only reused for the same key, the browsers used with other keys are
+ * replaced with new ones.
+ *
+ * <p>The pool keeps statistics of the time spent waiting for a browser and how many acquisitions
+ * were served by an already started browser, also recorded in the {@link Stats} with the given
+ * prefix.
+ *
+ * @since 15.55.0
+ */
+public class WebDriverPool implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger(WebDriverPool.class);
+
+    private static final String RESET_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); } catch (e) {}"
+                    + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final String statsPrefix;
+    private final Supplier<WebDriver> webDriverSupplier;
+
+    private final ReentrantLock lock;
+    private final Condition available;
+    private final Deque<PooledWebDriver> idle;
+    private final Set<PooledWebDriver> inUse;
+
+    private final AtomicLong acquisitions;
+    private final AtomicLong reuses;
+    private final AtomicLong waitTime;
+    private final AtomicInteger created;
+
+    private final ExecutorService warmUpExecutor;
+    private ScheduledExecutorService reaper;
+    private long hangTimeout;
+    private long idleTimeout;
+
+    private int maxSize;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Constructs a {@code WebDriverPool} with the given statistics prefix, supplier of {@code
+     * WebDriver}s, and maximum size.
+     *
+     * @param statsPrefix the prefix of the statistics, for example, {@code domxss.pool}.
+     * @param webDriverSupplier the supplier of new {@code WebDriver}s.
+     * @param maxSize the maximum number of browsers.
+     * @throws NullPointerException if the {@code statsPrefix} or {@code webDriverSupplier} is
+     *     {@code null}.
+     * @throws IllegalArgumentException if the {@code maxSize} is not positive.
+     */
+    public WebDriverPool(String statsPrefix, Supplier<WebDriver> webDriverSupplier, int maxSize) {
+        this.statsPrefix = Objects.requireNonNull(statsPrefix);
+        this.webDriverSupplier = Objects.requireNonNull(webDriverSupplier);
+        validateMaxSize(maxSize);
+        this.maxSize = maxSize;
+
+        lock = new ReentrantLock();
+        available = lock.newCondition();
+        idle = new ArrayDeque<>();
+        inUse = new HashSet<>();
+
+        acquisitions = new AtomicLong();
+        reuses = new AtomicLong();
+        waitTime = new AtomicLong();
+        created = new AtomicInteger();
+
+        warmUpExecutor =
+                Executors.newCachedThreadPool(
+                        r -> {
+                            Thread t = new Thread(r, "ZAP-WebDriverPool-" + statsPrefix);
+                            t.setDaemon(true);
+                            return t;
+                        });
+    }
+
+    private static void validateMaxSize(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Parameter maxSize must be greater than zero.");
+        }
+    }
+
+    /**
+     * Sets the maximum number of browsers of the pool.
+     *
+     * <p>If the pool shrinks the excess idle browsers are quit immediately, the ones in use when
+     * released.
+     *
+     * @param maxSize the maximum number of browsers.
+     * @throws IllegalArgumentException if the {@code maxSize} is not positive.
+     */
+    public void setMaxSize(int maxSize) {
+        validateMaxSize(maxSize);
+        List<PooledWebDriver> excess = new ArrayList<>();
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            while (size > maxSize && !idle.isEmpty()) {
+                excess.add(idle.pollLast());
+                size--;
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        excess.forEach(WebDriverPool::quit);
+    }
+
+    /**
+     * Gets the maximum number of browsers of the pool.
+     *
+     * @return the maximum number of browsers.
+     */
+    public int getMaxSize() {
+        lock.lock();
+        try {
+            return maxSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts browsers in the background, so that they are ready when first acquired.
+     *
+     * <p>Does not start more browsers than the maximum size of the pool.
+     *
+     * @param count the number of browsers that should be ready.
+     */
+    public void prewarm(int count) {
+        int toStart;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            toStart = Math.min(count, maxSize) - size;
+            if (toStart <= 0) {
+                return;
+            }
+            size += toStart;
+        } finally {
+            lock.unlock();
+        }
+
+        startInBackground(toStart);
+    }
+
+    /**
+     * Starts the given number of browsers in the background, their slots must be already reserved.
+     *
+     * @param toStart the number of browsers to start.
+     */
+    private void startInBackground(int toStart) {
+        LOGGER.debug("Starting {} browsers for {}", toStart, statsPrefix);
+        for (int i = 0; i < toStart; i++) {
+            warmUpExecutor.execute(
+                    () -> {
+                        PooledWebDriver driver;
+                        try {
+                            driver = createDriver();
+                        } catch (Exception e) {
+                            LOGGER.warn("Failed to start browser: {}", e.getMessage());
+                            releaseSlot();
+                            return;
+                        }
+                        lock.lock();
+                        try {
+                            if (!closed) {
+                                idle.addLast(driver);
+                                available.signal();
+                                return;
+                            }
+                            size--;
+                        } finally {
+                            lock.unlock();
+                        }
+                        quit(driver);
+                    });
+        }
+    }
+
+    /**
+     * Replaces the browsers that were not accessed for longer than the given timeout while in use.
+     *
+     * <p>The browser is quit and a new one started in its place, the component using it should
+     * handle the resulting errors (e.g. retry the access).
+     *
+     * @param timeout the maximum time a browser in use can stay without being accessed, {@code
+     *     null} or not positive to not replace the browsers.
+     */
+    public void setHangTimeout(Duration timeout) {
+        lock.lock();
+        try {
+            hangTimeout = toMillis(timeout);
+            scheduleMaintenance();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Quits the browsers that were not used for longer than the given timeout, to not keep them
+     * running once no longer needed.
+     *
+     * @param timeout the maximum time a browser can stay idle, {@code null} or not positive to keep
+     *     the idle browsers.
+     */
+    public void setIdleTimeout(Duration timeout) {
+        lock.lock();
+        try {
+            idleTimeout = toMillis(timeout);
+            scheduleMaintenance();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static long toMillis(Duration timeout) {
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            return 0;
+        }
+        return timeout.toMillis();
+    }
+
+    /** Schedules the replacement of hung browsers and quit of idle ones, holding the lock. */
+    private void scheduleMaintenance() {
+        if (reaper != null) {
+            reaper.shutdownNow();
+            reaper = null;
+        }
+        if (closed || (hangTimeout == 0 && idleTimeout == 0)) {
+            return;
+        }
+
+        long hang = hangTimeout;
+        long idleMax = idleTimeout;
+        long shortest = hang == 0 ? idleMax : idleMax == 0 ? hang : Math.min(hang, idleMax);
+        long delay = Math.max(1, shortest / 2);
+        reaper =
+                Executors.newSingleThreadScheduledExecutor(
+                        r -> {
+                            Thread t = new Thread(r, "ZAP-WebDriverPoolReaper-" + statsPrefix);
+                            t.setDaemon(true);
+                            return t;
+                        });
+        reaper.scheduleWithFixedDelay(
+                () -> {
+                    if (hang != 0) {
+                        replaceHungDrivers(hang);
+                    }
+                    if (idleMax != 0) {
+                        quitExpired(idleMax);
+                    }
+                },
+                delay,
+                delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void quitExpired(long timeout) {
+        List<PooledWebDriver> expired = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            for (Iterator<PooledWebDriver> it = idle.iterator(); it.hasNext(); ) {
+                PooledWebDriver driver = it.next();
+                if (now - driver.getLastAccessed() > timeout) {
+                    it.remove();
+                    size--;
+                    expired.add(driver);
+                }
+            }
+            if (!expired.isEmpty()) {
+                available.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!expired.isEmpty()) {
+            LOGGER.debug("Quitting {} idle browsers for {}", expired.size(), statsPrefix);
+        }
+        expired.forEach(WebDriverPool::quit);
+    }
+
+    private void replaceHungDrivers(long timeout) {
+        List<PooledWebDriver> hung = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            for (PooledWebDriver driver : inUse) {
+                if (now - driver.getLastAccessed() > timeout) {
+                    hung.add(driver);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        for (PooledWebDriver driver : hung) {
+            LOGGER.debug("Driver hung {}", driver.getDriverNoAccess().hashCode());
+            quit(driver);
+            try {
+                driver.setDriver(webDriverSupplier.get());
+                Stats.incCounter(statsPrefix + ".replaced");
+            } catch (Exception e) {
+                LOGGER.warn("Failed to replace hung browser: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Acquires a browser, waiting if the pool is exhausted.
+     *
+     * <p>Same as calling {@link #acquire(String)} with a {@code null} key.
+     *
+     * @return the browser, never {@code null}.
+     * @throws InterruptedException if interrupted while waiting for a browser.
+     * @throws IllegalStateException if the pool is closed.
+     * @throws WebDriverException if an error occurred while starting a new browser.
+     */
+    public PooledWebDriver acquire() throws InterruptedException {
+        return acquire(null);
+    }
+
+    /**
+     * Acquires a browser for the given key, waiting if the pool is exhausted.
+     *
+     * <p>A browser already started that was not used yet or that was used with the same key is
+     * preferred, otherwise a new one is started if the pool has not reached its maximum size. If
+     * the pool is full the idle browsers used with other keys are replaced with a new browser. The
+     * browser should be returned with {@link #release(PooledWebDriver)} or, if no longer usable,
+     * {@link #discard(PooledWebDriver)}.
+     *
+     * @param key the key, for example, the host being scanned, might be {@code null}.
+     * @return the browser, never {@code null}.
+     * @throws InterruptedException if interrupted while waiting for a browser.
+     * @throws IllegalStateException if the pool is closed.
+     * @throws WebDriverException if an error occurred while starting a new browser.
+     */
+    public PooledWebDriver acquire(String key) throws InterruptedException {
+        long start = System.nanoTime();
+        PooledWebDriver driver = null;
+        PooledWebDriver replaced = null;
+        boolean create = false;
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("The pool is closed.");
+                }
+                driver = pollIdle(key);
+                if (driver != null) {
+                    break;
+                }
+                if (size < maxSize) {
+                    size++;
+                    create = true;
+                    break;
+                }
+                replaced = idle.pollLast();
+                if (replaced != null) {
+                    create = true;
+                    break;
+                }
+                available.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (replaced != null) {
+            LOGGER.debug("Replacing browser used with other key for {}", statsPrefix);
+            Stats.incCounter(statsPrefix + ".recycled");
+            quit(replaced);
+        }
+
+        if (create) {
+            try {
+                driver = createDriver();
+            } catch (RuntimeException e) {
+                releaseSlot();
+                throw e;
+            }
+        } else {
+            reuses.incrementAndGet();
+            Stats.incCounter(statsPrefix + ".reused");
+        }
+
+        long waited = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        waitTime.addAndGet(waited);
+        acquisitions.incrementAndGet();
+        Stats.incCounter(statsPrefix + ".acquired");
+        Stats.incCounter(statsPrefix + ".wait.ms", waited);
+
+        driver.incUses();
+        driver.setKey(key);
+        driver.getDriver();
+        lock.lock();
+        try {
+            inUse.add(driver);
+        } finally {
+            lock.unlock();
+        }
+        return driver;
+    }
+
+    /**
+     * Gets an idle browser that can be used with the given key, holding the lock.
+     *
+     * @param key the key, might be {@code null}.
+     * @return the browser, or {@code null} if none.
+     */
+    private PooledWebDriver pollIdle(String key) {
+        for (Iterator<PooledWebDriver> it = idle.iterator(); it.hasNext(); ) {
+            PooledWebDriver driver = it.next();
+            if (driver.getUses() == 0 || Objects.equals(key, driver.getKey())) {
+                it.remove();
+                return driver;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Releases the given browser back to the pool, after resetting its state.
+     *
+     * <p>If the browser can't be reset it's discarded.
+     *
+     * @param driver the browser to release.
+     */
+    public void release(PooledWebDriver driver) {
+        lock.lock();
+        try {
+            if (!inUse.contains(driver)) {
+                LOGGER.debug("Driver not in use.");
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        boolean reusable = reset(driver.getDriverNoAccess());
+        driver.markAccessed();
+
+        lock.lock();
+        try {
+            inUse.remove(driver);
+            if (reusable && !closed && size <= maxSize) {
+                idle.addFirst(driver);
+            } else {
+                reusable = false;
+                size--;
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        if (!reusable) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Discards the given browser, quitting it and freeing its slot in the pool.
+     *
+     * @param driver the browser to discard.
+     */
+    public void discard(PooledWebDriver driver) {
+        boolean removed;
+        lock.lock();
+        try {
+            removed = inUse.remove(driver);
+            if (removed) {
+                size--;
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (removed) {
+            Stats.incCounter(statsPrefix + ".discarded");
+            quit(driver);
+        }
+    }
+
+    /**
+     * Quits the browsers that are not in use.
+     *
+     * <p>The browsers in use are kept, they might be used by other scans.
+     */
+    public void quitIdle() {
+        List<PooledWebDriver> drivers;
+        lock.lock();
+        try {
+            drivers = new ArrayList<>(idle);
+            size -= idle.size();
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        drivers.forEach(WebDriverPool::quit);
+    }
+
+    /**
+     * Replaces the idle browsers that were already used with new ones, started in the background.
+     *
+     * <p>Allows to have the pool ready for other keys (for example, a different host) without
+     * carrying the state of the previous uses.
+     */
+    public void recycleIdle() {
+        List<PooledWebDriver> drivers = new ArrayList<>();
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            for (Iterator<PooledWebDriver> it = idle.iterator(); it.hasNext(); ) {
+                PooledWebDriver driver = it.next();
+                if (driver.getUses() != 0) {
+                    it.remove();
+                    drivers.add(driver);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (drivers.isEmpty()) {
+            return;
+        }
+
+        Stats.incCounter(statsPrefix + ".recycled", drivers.size());
+        drivers.forEach(WebDriverPool::quit);
+        startInBackground(drivers.size());
+    }
+
+    /**
+     * Closes the pool, quitting all the idle browsers and the ones in use when released.
+     *
+     * <p>Threads waiting for a browser are woken up and receive an {@code IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            if (reaper != null) {
+                reaper.shutdownNow();
+                reaper = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        warmUpExecutor.shutdown();
+        quitIdle();
+    }
+
+    /**
+     * Gets the number of browsers started, idle or in use.
+     *
+     * @return the number of browsers.
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of browsers currently in use.
+     *
+     * @return the number of browsers in use.
+     */
+    public int getInUseCount() {
+        lock.lock();
+        try {
+            return inUse.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of browsers started by the pool.
+     *
+     * @return the number of browsers started.
+     */
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Gets the number of browsers acquired from the pool.
+     *
+     * @return the number of acquisitions.
+     */
+    public long getAcquisitionCount() {
+        return acquisitions.get();
+    }
+
+    /**
+     * Gets the total time, in milliseconds, spent waiting for browsers, including the time to start
+     * them.
+     *
+     * @return the total wait time.
+     */
+    public long getTotalWaitTime() {
+        return waitTime.get();
+    }
+
+    /**
+     * Gets the ratio of acquisitions served by an already started browser.
+     *
+     * @return the reuse rate, between {@code 0} and {@code 1}.
+     */
+    public double getReuseRate() {
+        long count = acquisitions.get();
+        if (count == 0) {
+            return 0;
+        }
+        return (double) reuses.get() / count;
+    }
+
+    private PooledWebDriver createDriver() {
+        PooledWebDriver driver = new PooledWebDriver(webDriverSupplier.get());
+        created.incrementAndGet();
+        Stats.incCounter(statsPrefix + ".created");
+        return driver;
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            size--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Resets the state of the given {@code WebDriver}, to be used by other tasks.
+     *
+     * <p>Dismisses any alert, clears the storage and cookies of the current page, opens a new tab
+     * closing all the others, and loads {@code about:blank}.
+     *
+     * @param wd the {@code WebDriver} to reset.
+     * @return {@code true} if the {@code WebDriver} was reset, {@code false} otherwise.
+     */
+    static boolean reset(WebDriver wd) {
+        try {
+            wd.switchTo().alert().accept();
+        } catch (Exception e) {
+            // Ignore, no alert.
+        }
+
+        try {
+            if (wd instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) wd).executeScript(RESET_STORAGE_SCRIPT);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Failed to clear the storage: {}", e.getMessage());
+        }
+
+        try {
+            wd.manage().deleteAllCookies();
+
+            wd.switchTo().newWindow(WindowType.TAB);
+            String handle = wd.getWindowHandle();
+            for (String other : wd.getWindowHandles()) {
+                if (!handle.equals(other)) {
+                    wd.switchTo().window(other).close();
+                }
+            }
+            wd.switchTo().window(handle);
+            wd.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            LOGGER.debug("Failed to reset the browser: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void quit(PooledWebDriver driver) {
+        try {
+            driver.getDriverNoAccess().quit();
+        } catch (Exception e) {
+            LOGGER.debug("Failed to quit the browser: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.selenium;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+
+/** Unit test for {@link WebDriverPool}. */
+class WebDriverPoolUnitTest {
+
+    private List<WebDriver> drivers;
+    private Supplier<WebDriver> supplier;
+    private WebDriverPool pool;
+
+    @BeforeEach
+    void setUp() {
+        drivers = new ArrayList<>();
+        supplier =
+                () -> {
+                    WebDriver wd =
+                            mock(
+                                    WebDriver.class,
+                                    withSettings().defaultAnswer(Answers.RETURNS_DEEP_STUBS));
+                    given(wd.getWindowHandle()).willReturn("tab");
+                    given(wd.getWindowHandles()).willReturn(Set.of("tab"));
+                    drivers.add(wd);
+                    return wd;
+                };
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new WebDriverPool("test", supplier, 0));
+    }
+
+    @Test
+    void shouldStartBrowserWhenAcquiringFromEmptyPool() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 2);
+        // When
+        PooledWebDriver driver = pool.acquire();
+        // Then
+        assertThat(driver.getDriver(), is(sameInstance(drivers.get(0))));
+        assertThat(pool.getCreatedCount(), is(equalTo(1)));
+        assertThat(pool.getInUseCount(), is(equalTo(1)));
+        assertThat(pool.getReuseRate(), is(equalTo(0.0)));
+    }
+
+    @Test
+    void shouldReuseReleasedBrowser() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 2);
+        PooledWebDriver driver = pool.acquire();
+        pool.release(driver);
+        // When
+        PooledWebDriver reused = pool.acquire();
+        // Then
+        assertThat(reused, is(sameInstance(driver)));
+        assertThat(reused.getUses(), is(equalTo(2)));
+        assertThat(pool.getCreatedCount(), is(equalTo(1)));
+        assertThat(pool.getAcquisitionCount(), is(equalTo(2L)));
+        assertThat(pool.getReuseRate(), is(equalTo(0.5)));
+    }
+
+    @Test
+    void shouldResetBrowserWhenReleased() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        PooledWebDriver driver = pool.acquire();
+        // When
+        pool.release(driver);
+        // Then
+        WebDriver wd = drivers.get(0);
+        verify(wd.manage()).deleteAllCookies();
+        verify(wd.switchTo()).newWindow(WindowType.TAB);
+        verify(wd).get("about:blank");
+        verify(wd, never()).quit();
+        assertThat(pool.getSize(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldQuitBrowserThatFailsToReset() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        PooledWebDriver driver = pool.acquire();
+        WebDriver wd = drivers.get(0);
+        given(wd.switchTo().newWindow(any())).willThrow(WebDriverException.class);
+        // When
+        pool.release(driver);
+        // Then
+        verify(wd).quit();
+        assertThat(pool.getSize(), is(equalTo(0)));
+        assertThat(pool.acquire(), is(not(sameInstance(driver))));
+    }
+
+    @Test
+    void shouldQuitDiscardedBrowser() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        PooledWebDriver driver = pool.acquire();
+        // When
+        pool.discard(driver);
+        // Then
+        verify(drivers.get(0)).quit();
+        assertThat(pool.getSize(), is(equalTo(0)));
+        assertThat(pool.getInUseCount(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldQuitIdleBrowsersWhenShrinking() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 2);
+        PooledWebDriver driver1 = pool.acquire();
+        PooledWebDriver driver2 = pool.acquire();
+        pool.release(driver1);
+        pool.release(driver2);
+        // When
+        pool.setMaxSize(1);
+        // Then
+        assertThat(pool.getSize(), is(equalTo(1)));
+        verify(drivers.get(0), times(1)).quit();
+        verify(drivers.get(1), never()).quit();
+    }
+
+    @Test
+    void shouldQuitIdleBrowsersWhenClosed() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        pool.release(pool.acquire());
+        // When
+        pool.close();
+        // Then
+        verify(drivers.get(0)).quit();
+        assertThrows(IllegalStateException.class, () -> pool.acquire());
+    }
+
+    @Test
+    void shouldReuseBrowserOnlyForSameKey() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 2);
+        PooledWebDriver driver = pool.acquire("host1");
+        pool.release(driver);
+        // When
+        PooledWebDriver other = pool.acquire("host2");
+        PooledWebDriver same = pool.acquire("host1");
+        // Then
+        assertThat(other, is(not(sameInstance(driver))));
+        assertThat(other.getKey(), is(equalTo("host2")));
+        assertThat(same, is(sameInstance(driver)));
+        assertThat(pool.getCreatedCount(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldReplaceIdleBrowserOfOtherKeyWhenFull() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        PooledWebDriver driver = pool.acquire("host1");
+        pool.release(driver);
+        // When
+        PooledWebDriver other = pool.acquire("host2");
+        // Then
+        assertThat(other, is(not(sameInstance(driver))));
+        verify(drivers.get(0)).quit();
+        assertThat(pool.getSize(), is(equalTo(1)));
+        assertThat(pool.getCreatedCount(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldUseNotYetUsedBrowserForAnyKey() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        pool.prewarm(1);
+        // When
+        PooledWebDriver driver = pool.acquire("host1");
+        // Then
+        assertThat(pool.getCreatedCount(), is(equalTo(1)));
+        assertThat(driver.getKey(), is(equalTo("host1")));
+    }
+
+    @Test
+    void shouldRecycleUsedIdleBrowsers() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        pool.release(pool.acquire("host1"));
+        // When
+        pool.recycleIdle();
+        // Then
+        verify(drivers.get(0)).quit();
+        PooledWebDriver driver = pool.acquire("host2");
+        assertThat(driver.getDriver(), is(sameInstance(drivers.get(1))));
+        assertThat(pool.getSize(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldQuitBrowsersIdleForLongerThanTimeout() throws Exception {
+        // Given
+        pool = new WebDriverPool("test", supplier, 1);
+        pool.release(pool.acquire());
+        // When
+        pool.setIdleTimeout(Duration.ofMillis(10));
+        // Then
+        verify(drivers.get(0), timeout(5000)).quit();
+        assertThat(pool.getSize(), is(equalTo(0)));
+    }
+}
@@ -47,6 +47,7 @@ public class ParseContext {
     private final int depth;
     private String baseUrl;
     private Source source;
+    private SourceElements sourceElements;
 
     /**
      * Constructs a {@code ParseContext} with the given values.
@@ -220,4 +221,18 @@ public class ParseContext {
         }
         return source;
     }
+
+    /**
+     * Gets the elements of the {@link #getSource() source}, indexed in a single pass and shared by
+     * all the parsers.
+     *
+     * @return the elements of the source.
+     * @since 0.21.0
+     */
+    public SourceElements getSourceElements() {
+        if (sourceElements == null) {
+            sourceElements = new SourceElements(getSource());
+        }
+        return sourceElements;
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.htmlparser.jericho.Element;
+import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.StartTag;
+import net.htmlparser.jericho.StartTagType;
+
+/**
+ * The elements of a {@code Source}, indexed by name in a single pass.
+ *
+ * <p>Allows the parsers to get the elements they are interested in without scanning the whole
+ * source for each element name. The elements are returned in the same order as with {@link
+ * Source#getAllElements(String)}.
+ *
+ * @since 0.21.0
+ */
+public final class SourceElements {
+
+    private final Map<String, List<StartTag>> startTagsByName;
+    private final Map<StartTagType, List<StartTag>> startTagsByType;
+    private final Map<String, List<Element>> elementsByName;
+
+    /**
+     * Constructs a {@code SourceElements} with the given source.
+     *
+     * @param source the source whose elements will be indexed.
+     */
+    public SourceElements(Source source) {
+        startTagsByName = new HashMap<>();
+        startTagsByType = new HashMap<>();
+        elementsByName = new HashMap<>();
+
+        for (StartTag startTag : source.getAllStartTags()) {
+            startTagsByName
+                    .computeIfAbsent(startTag.getName(), k -> new ArrayList<>())
+                    .add(startTag);
+            startTagsByType
+                    .computeIfAbsent(startTag.getStartTagType(), k -> new ArrayList<>())
+                    .add(startTag);
+        }
+    }
+
+    /**
+     * Gets the elements with the given name.
+     *
+     * @param name the name of the elements, case insensitive.
+     * @return an unmodifiable list with the elements, never {@code null}.
+     * @see Source#getAllElements(String)
+     */
+    public List<Element> getElements(String name) {
+        return elementsByName.computeIfAbsent(
+                name.toLowerCase(Locale.ROOT), this::createElements);
+    }
+
+    private List<Element> createElements(String name) {
+        List<StartTag> startTags = startTagsByName.get(name);
+        if (startTags == null) {
+            return Collections.emptyList();
+        }
+        List<Element> elements = new ArrayList<>(startTags.size());
+        for (StartTag startTag : startTags) {
+            elements.add(startTag.getElement());
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Gets the first element with the given name.
+     *
+     * @param name the name of the element, case insensitive.
+     * @return the element, or {@code null} if none.
+     * @see Source#getFirstElement(String)
+     */
+    public Element getFirstElement(String name) {
+        List<Element> elements = getElements(name);
+        return elements.isEmpty() ? null : elements.get(0);
+    }
+
+    /**
+     * Gets the start tags of the given type, for example, the comments.
+     *
+     * @param type the type of the start tags.
+     * @return an unmodifiable list with the start tags, never {@code null}.
+     * @see Source#getAllStartTags(StartTagType)
+     */
+    public List<StartTag> getStartTags(StartTagType type) {
+        return Collections.unmodifiableList(
+                startTagsByType.getOrDefault(type, Collections.emptyList()));
+    }
+}
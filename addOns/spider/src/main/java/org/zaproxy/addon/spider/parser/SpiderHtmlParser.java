@@ -87,13 +87,13 @@ public class SpiderHtmlParser extends SpiderParser {
     @Override
     public boolean parseResource(ParseContext ctx) {
 
-        Source source = ctx.getSource();
+        SourceElements sourceElements = ctx.getSourceElements();
 
         // Get the context (base URL)
         String baseURL = ctx.getBaseUrl();
 
         // Try to see if there's any BASE tag that could change the base URL
-        List<Element> elements = source.getAllElements(HTMLElementName.BASE);
+        List<Element> elements = sourceElements.getElements(HTMLElementName.BASE);
         Element base = elements.isEmpty() ? null : elements.get(0);
 
         if (base != null) {
@@ -110,15 +110,17 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Parse the source
-        parseSource(ctx, ctx.getSource(), baseURL);
+        parseSource(ctx, sourceElements, baseURL);
 
         // Parse the comments
         if (ctx.getSpiderParam().isParseComments()) {
-            List<StartTag> comments = source.getAllStartTags(StartTagType.COMMENT);
+            List<StartTag> comments = sourceElements.getStartTags(StartTagType.COMMENT);
             for (StartTag comment : comments) {
-                Source s = new Source(comment.getTagContent());
-                if (!parseSource(ctx, s, baseURL)) {
-                    Matcher matcher = PLAIN_COMMENTS_URL_PATTERN.matcher(s.toString());
+                String content = comment.getTagContent().toString();
+                // Without tags there are no elements to parse, no need to create a source.
+                if (content.indexOf('<') == -1
+                        || !parseSource(ctx, new SourceElements(new Source(content)), baseURL)) {
+                    Matcher matcher = PLAIN_COMMENTS_URL_PATTERN.matcher(content);
                     while (matcher.find()) {
                         processUrl(ctx, matcher.group(), baseURL);
                     }
@@ -127,7 +129,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Parse the DOCTYPEs (should only be one, but you never know;)
-        List<StartTag> doctypes = source.getAllStartTags(StartTagType.DOCTYPE_DECLARATION);
+        List<StartTag> doctypes = sourceElements.getStartTags(StartTagType.DOCTYPE_DECLARATION);
         for (StartTag doctype : doctypes) {
             for (String str : doctype.getTagContent().toString().split(" ")) {
                 if (str.startsWith("\"") && str.endsWith("\"")) {
@@ -155,25 +157,25 @@ public class SpiderHtmlParser extends SpiderParser {
     }
 
     /**
-     * Parses the HTML Jericho source for the elements that contain references to other resources.
+     * Parses the elements of the HTML Jericho source that contain references to other resources.
      *
      * @param ctx the parse context.
-     * @param source the source.
+     * @param sourceElements the elements of the source.
      * @param baseURL the base URL
      * @return {@code true} if at least one URL was found, {@code false} otherwise.
      */
-    private boolean parseSource(ParseContext ctx, Source source, String baseURL) {
+    private boolean parseSource(ParseContext ctx, SourceElements sourceElements, String baseURL) {
         getLogger().debug("Parsing an HTML message...");
         boolean resourcesfound = false;
         // Process A elements
-        List<Element> elements = source.getAllElements(HTMLElementName.A);
+        List<Element> elements = sourceElements.getElements(HTMLElementName.A);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "ping");
         }
 
         // Process Applet elements
-        elements = source.getAllElements(HTMLElementName.APPLET);
+        elements = sourceElements.getElements(HTMLElementName.APPLET);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "archive");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "codebase");
@@ -181,93 +183,93 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process AREA elements
-        elements = source.getAllElements(HTMLElementName.AREA);
+        elements = sourceElements.getElements(HTMLElementName.AREA);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "ping");
         }
 
         // Process AUDIO elements
-        elements = source.getAllElements(HTMLElementName.AUDIO);
+        elements = sourceElements.getElements(HTMLElementName.AUDIO);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Blockquote elements
-        elements = source.getAllElements(HTMLElementName.BLOCKQUOTE);
+        elements = sourceElements.getElements(HTMLElementName.BLOCKQUOTE);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "cite");
         }
 
         // Process Embed Elements
-        elements = source.getAllElements(HTMLElementName.EMBED);
+        elements = sourceElements.getElements(HTMLElementName.EMBED);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Frame Elements
-        elements = source.getAllElements(HTMLElementName.FRAME);
+        elements = sourceElements.getElements(HTMLElementName.FRAME);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process IFrame Elements
-        elements = source.getAllElements(HTMLElementName.IFRAME);
+        elements = sourceElements.getElements(HTMLElementName.IFRAME);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Input elements
-        elements = source.getAllElements(HTMLElementName.INPUT);
+        elements = sourceElements.getElements(HTMLElementName.INPUT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process ISINDEX elements
-        elements = source.getAllElements(HTMLElementName.ISINDEX);
+        elements = sourceElements.getElements(HTMLElementName.ISINDEX);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "action");
         }
 
         // Process Link elements
-        elements = source.getAllElements(HTMLElementName.LINK);
+        elements = sourceElements.getElements(HTMLElementName.LINK);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "href");
         }
 
         // Process Object elements
-        elements = source.getAllElements(HTMLElementName.OBJECT);
+        elements = sourceElements.getElements(HTMLElementName.OBJECT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "data");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "codebase");
         }
 
         // Process Param elements
-        elements = source.getAllElements(HTMLElementName.PARAM);
+        elements = sourceElements.getElements(HTMLElementName.PARAM);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "value");
         }
 
         // Process Script elements with src
-        elements = source.getAllElements(HTMLElementName.SCRIPT);
+        elements = sourceElements.getElements(HTMLElementName.SCRIPT);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
         }
 
         // Process Table elements
-        elements = source.getAllElements(HTMLElementName.TABLE);
+        elements = sourceElements.getElements(HTMLElementName.TABLE);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "background");
         }
 
         // Process TD elements
-        elements = source.getAllElements(HTMLElementName.TD);
+        elements = sourceElements.getElements(HTMLElementName.TD);
         for (Element src : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, src, "background");
         }
 
         // Process Video elements
-        elements = source.getAllElements(HTMLElementName.VIDEO);
+        elements = sourceElements.getElements(HTMLElementName.VIDEO);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
             List<Element> videoSourceElements = el.getAllElements(HTMLElementName.SOURCE);
@@ -278,7 +280,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process Img elements
-        elements = source.getAllElements(HTMLElementName.IMG);
+        elements = sourceElements.getElements(HTMLElementName.IMG);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "src");
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "longdesc");
@@ -289,7 +291,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process IMPORT elements
-        elements = source.getAllElements(IMPORT_TAG);
+        elements = sourceElements.getElements(IMPORT_TAG);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "implementation");
         }
@@ -311,7 +313,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         for (String tag : elementsWithText) {
-            elements = source.getAllElements(tag);
+            elements = sourceElements.getElements(tag);
             for (Element el : elements) {
                 Matcher matcher =
                         INLINE_CONTENT_URL_PATTERN.matcher(
@@ -344,7 +346,7 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process META elements
-        elements = source.getAllElements(HTMLElementName.META);
+        elements = sourceElements.getElements(HTMLElementName.META);
         for (Element el : elements) {
             // If we have http-equiv attribute, then urls can be found.
             String equiv = el.getAttributeValue("http-equiv");
@@ -375,13 +377,13 @@ public class SpiderHtmlParser extends SpiderParser {
         }
 
         // Process HTML manifest elements
-        elements = source.getAllElements(HTMLElementName.HTML);
+        elements = sourceElements.getElements(HTMLElementName.HTML);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "manifest");
         }
 
         // Process BODY background elements
-        elements = source.getAllElements(HTMLElementName.BODY);
+        elements = sourceElements.getElements(HTMLElementName.BODY);
         for (Element el : elements) {
             resourcesfound |= processAttributeElement(ctx, baseURL, el, "background");
         }
@@ -109,7 +109,7 @@ public class SvgHrefParser extends SpiderParser {
                 return false;
             }
         } else if (containsSvg(ctx)) {
-            List<Element> svgElements = ctx.getSource().getAllElements(SVG_TAG);
+            List<Element> svgElements = ctx.getSourceElements().getElements(SVG_TAG);
             return processSvgElements(ctx, svgElements);
         }
         return false;
@@ -122,7 +122,7 @@ public class SvgHrefParser extends SpiderParser {
 
         String baseUrl = ctx.getBaseUrl();
         // Try to see if there's any BASE tag that could change the base URL
-        Element base = ctx.getSource().getFirstElement(HTMLElementName.BASE);
+        Element base = ctx.getSourceElements().getFirstElement(HTMLElementName.BASE);
         if (base != null) {
             getLogger().debug("Base tag was found in HTML: {}", base.getDebugInfo());
             String href = base.getAttributeValue("href");
@@ -201,7 +201,7 @@ public class SvgHrefParser extends SpiderParser {
 
     private static boolean containsSvg(ParseContext ctx) {
         return ctx.getHttpMessage().getResponseHeader().isHtml()
-                && ctx.getSource().getFirstElement(SVG_TAG) != null;
+                && ctx.getSourceElements().getFirstElement(SVG_TAG) != null;
     }
 
     private static boolean isSvg(HttpMessage msg) {
@@ -173,4 +173,18 @@ class ParseContextUnitTest {
         // Then
         verify(httpMessage).getResponseBody();
     }
+
+    @Test
+    void shouldCreateSourceElementsOnceFromSource() {
+        // Given
+        ctx = new ParseContext(spiderParam, valueProvider, httpMessage, path, depth);
+        // When
+        SourceElements sourceElements = ctx.getSourceElements();
+        // Then
+        assertThat(ctx.getSourceElements(), is(sameInstance(sourceElements)));
+        assertThat(
+                sourceElements.getFirstElement("html").getSource(),
+                is(sameInstance(ctx.getSource())));
+        verify(httpMessage).getResponseBody();
+    }
 }
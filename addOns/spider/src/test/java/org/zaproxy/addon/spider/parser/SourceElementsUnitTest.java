@@ -0,0 +1,126 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.addon.spider.parser;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import net.htmlparser.jericho.Element;
+import net.htmlparser.jericho.HTMLElementName;
+import net.htmlparser.jericho.Source;
+import net.htmlparser.jericho.StartTag;
+import net.htmlparser.jericho.StartTagType;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link SourceElements}. */
+class SourceElementsUnitTest {
+
+    private static final String HTML =
+            "<!DOCTYPE html><html><!-- <a href='/comment'> --><body>"
+                    + "<a href='/1'>1</a><div><A href='/2'>2</A></div><img src='/img'>"
+                    + "<!-- plain --></body></html>";
+
+    @Test
+    void shouldGetElementsInSameOrderAsSource() {
+        // Given
+        Source source = new Source(HTML);
+        SourceElements sourceElements = new SourceElements(source);
+        // When
+        List<Element> elements = sourceElements.getElements(HTMLElementName.A);
+        // Then
+        assertThat(elements, is(equalTo(source.getAllElements(HTMLElementName.A))));
+    }
+
+    @Test
+    void shouldGetElementsWithNameCaseInsensitive() {
+        // Given
+        SourceElements sourceElements = new SourceElements(new Source(HTML));
+        // When
+        List<Element> elements = sourceElements.getElements("IMG");
+        // Then
+        assertThat(elements.size(), is(equalTo(1)));
+        assertThat(elements.get(0).getAttributeValue("src"), is(equalTo("/img")));
+    }
+
+    @Test
+    void shouldGetSameElementsOnEachCall() {
+        // Given
+        SourceElements sourceElements = new SourceElements(new Source(HTML));
+        // When
+        List<Element> elements = sourceElements.getElements(HTMLElementName.A);
+        // Then
+        assertThat(sourceElements.getElements(HTMLElementName.A), is(sameInstance(elements)));
+    }
+
+    @Test
+    void shouldGetNoElementsIfNoneWithName() {
+        // Given
+        SourceElements sourceElements = new SourceElements(new Source(HTML));
+        // When
+        List<Element> elements = sourceElements.getElements(HTMLElementName.FORM);
+        // Then
+        assertThat(elements, is(empty()));
+        assertThat(sourceElements.getFirstElement(HTMLElementName.FORM), is(nullValue()));
+    }
+
+    @Test
+    void shouldGetFirstElement() {
+        // Given
+        SourceElements sourceElements = new SourceElements(new Source(HTML));
+        // When
+        Element element = sourceElements.getFirstElement(HTMLElementName.A);
+        // Then
+        assertThat(element.getAttributeValue("href"), is(equalTo("/1")));
+    }
+
+    @Test
+    void shouldGetStartTagsOfType() {
+        // Given
+        Source source = new Source(HTML);
+        SourceElements sourceElements = new SourceElements(source);
+        // When
+        List<StartTag> comments = sourceElements.getStartTags(StartTagType.COMMENT);
+        List<StartTag> doctypes = sourceElements.getStartTags(StartTagType.DOCTYPE_DECLARATION);
+        // Then
+        assertThat(comments, is(equalTo(source.getAllStartTags(StartTagType.COMMENT))));
+        assertThat(comments.size(), is(equalTo(2)));
+        assertThat(doctypes.size(), is(equalTo(1)));
+    }
+
+    @Test
+    void shouldNotGetElementsInsideComments() {
+        // Given
+        SourceElements sourceElements = new SourceElements(new Source(HTML));
+        // When
+        List<Element> elements = sourceElements.getElements(HTMLElementName.A);
+        // Then
+        assertThat(hrefs(elements), contains("/1", "/2"));
+    }
+
+    private static List<String> hrefs(List<Element> elements) {
+        return elements.stream().map(e -> e.getAttributeValue("href")).toList();
+    }
+}
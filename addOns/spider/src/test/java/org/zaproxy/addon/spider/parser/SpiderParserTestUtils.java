@@ -82,6 +82,8 @@ abstract class SpiderParserTestUtils<T extends SpiderParser> extends TestUtils {
                 .willAnswer(
                         new CachedAnswer<>(
                                 msg, msg -> new Source(msg.getResponseBody().toString())));
+        given(ctx.getSourceElements())
+                .willAnswer(new CachedAnswer<>(msg, msg -> new SourceElements(ctx.getSource())));
 
         parser = createParser();
         listener = createTestSpiderParserListener();
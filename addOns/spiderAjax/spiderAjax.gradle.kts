@@ -43,7 +43,7 @@ zapAddOn {
                     version.set(">= 1.43.0 & < 2.0.0")
                 }
                 register("network") {
-                    version.set(">=0.11.0")
+                    version.set(">=0.30.0")
                 }
                 register("selenium") {
                     version.set("15.*")
@@ -0,0 +1,256 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.spiderAjax;
+
+import com.crawljax.browser.EmbeddedBrowser;
+import com.crawljax.core.CrawljaxException;
+import com.crawljax.core.state.Eventable;
+import com.crawljax.core.state.Identification;
+import com.crawljax.forms.FormInput;
+import java.io.File;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebElement;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * An {@link EmbeddedBrowser} that, after firing an event or loading a URL, waits only until the
+ * browser is idle, that is, no requests in progress and no changes to the DOM.
+ *
+ * <p>The wrapped browser is expected to not wait, the event and reload wait times are used as the
+ * maximum times to wait.
+ */
+class AdaptiveWaitBrowser implements EmbeddedBrowser {
+
+    private static final Logger LOGGER = LogManager.getLogger(AdaptiveWaitBrowser.class);
+
+    static final long POLL_INTERVAL_MS = 25;
+
+    static final long QUIESCE_THRESHOLD_MS = 100;
+
+    /**
+     * The script that returns the time, in milliseconds, since the last change to the DOM, or 0 if
+     * the page is still loading. Starts observing the changes on the first call for the page.
+     */
+    static final String DOM_QUIET_TIME_SCRIPT =
+            """
+            var w = window;
+            if (document.readyState !== 'complete' || !document.documentElement) {
+                return 0;
+            }
+            if (!w.zapAjaxSpiderLastMutation) {
+                w.zapAjaxSpiderLastMutation = Date.now();
+                new MutationObserver(function () {
+                    w.zapAjaxSpiderLastMutation = Date.now();
+                }).observe(document.documentElement, {
+                    attributes: true, characterData: true, childList: true, subtree: true
+                });
+            }
+            return Date.now() - w.zapAjaxSpiderLastMutation;
+            """;
+
+    private final EmbeddedBrowser browser;
+    private final AtomicInteger inflightRequests;
+    private final long eventWait;
+    private final long reloadWait;
+
+    /**
+     * Constructs an {@code AdaptiveWaitBrowser} with the given browser and wait times.
+     *
+     * @param browser the browser to wrap, that does not wait after events and reloads.
+     * @param inflightRequests the number of requests of the browser in progress.
+     * @param eventWait the maximum time to wait after an event, in milliseconds.
+     * @param reloadWait the maximum time to wait after loading a URL, in milliseconds.
+     */
+    AdaptiveWaitBrowser(
+            EmbeddedBrowser browser,
+            AtomicInteger inflightRequests,
+            long eventWait,
+            long reloadWait) {
+        this.browser = browser;
+        this.inflightRequests = inflightRequests;
+        this.eventWait = eventWait;
+        this.reloadWait = reloadWait;
+    }
+
+    @Override
+    public void goToUrl(URI url) {
+        browser.goToUrl(url);
+        try {
+            waitUntilIdle(reloadWait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Interrupted while waiting after loading the URL.");
+        }
+    }
+
+    @Override
+    public boolean fireEventAndWait(Eventable event) throws InterruptedException {
+        boolean fired = browser.fireEventAndWait(event);
+        if (fired) {
+            waitUntilIdle(eventWait);
+        }
+        return fired;
+    }
+
+    /**
+     * Waits until no requests are in progress and the DOM did not change for {@value
+     * #QUIESCE_THRESHOLD_MS} milliseconds, or until the given maximum time elapsed.
+     *
+     * @param maxWait the maximum time to wait, in milliseconds.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    void waitUntilIdle(long maxWait) throws InterruptedException {
+        if (maxWait <= 0) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        long networkIdleStart = -1;
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                long elapsed = now - start;
+                if (elapsed >= maxWait) {
+                    LOGGER.debug("Maximum wait of {}ms reached.", maxWait);
+                    Stats.incCounter("stats.spiderAjax.wait.maximum");
+                    // Do not let a response that was never received delay the following waits.
+                    inflightRequests.set(0);
+                    return;
+                }
+
+                if (inflightRequests.get() == 0) {
+                    if (networkIdleStart < 0) {
+                        networkIdleStart = now;
+                    }
+                    if (now - networkIdleStart >= QUIESCE_THRESHOLD_MS
+                            && getDomQuietTime() >= QUIESCE_THRESHOLD_MS) {
+                        return;
+                    }
+                } else {
+                    networkIdleStart = -1;
+                }
+
+                Thread.sleep(Math.min(POLL_INTERVAL_MS, maxWait - elapsed));
+            }
+        } finally {
+            Stats.incCounter("stats.spiderAjax.wait.time", System.currentTimeMillis() - start);
+        }
+    }
+
+    private long getDomQuietTime() {
+        try {
+            if (browser.executeJavaScript(DOM_QUIET_TIME_SCRIPT) instanceof Number time) {
+                return time.longValue();
+            }
+        } catch (Exception e) {
+            LOGGER.debug("Failed to check the changes to the DOM: {}", e.getMessage());
+        }
+        // Rely on the requests alone.
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String getStrippedDom() {
+        return browser.getStrippedDom();
+    }
+
+    @Override
+    public String getUnStrippedDom() {
+        return browser.getUnStrippedDom();
+    }
+
+    @Override
+    public String getDom() {
+        return browser.getDom();
+    }
+
+    @Override
+    public String getStrippedDomWithoutIframeContent() {
+        return browser.getStrippedDomWithoutIframeContent();
+    }
+
+    @Override
+    public void close() {
+        browser.close();
+    }
+
+    @Override
+    public void closeOtherWindows() {
+        browser.closeOtherWindows();
+    }
+
+    @Override
+    public void goBack() {
+        browser.goBack();
+    }
+
+    @Override
+    public boolean input(Identification identification, String text) throws CrawljaxException {
+        return browser.input(identification, text);
+    }
+
+    @Override
+    public Object executeJavaScript(String script) throws CrawljaxException {
+        return browser.executeJavaScript(script);
+    }
+
+    @Override
+    public boolean isVisible(Identification identification) {
+        return browser.isVisible(identification);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return browser.getCurrentUrl();
+    }
+
+    @Override
+    public FormInput getInputWithRandomValue(FormInput inputForm) {
+        return browser.getInputWithRandomValue(inputForm);
+    }
+
+    @Override
+    public String getFrameDom(String iframeIdentification) {
+        return browser.getFrameDom(iframeIdentification);
+    }
+
+    @Override
+    public boolean elementExists(Identification identification) {
+        return browser.elementExists(identification);
+    }
+
+    @Override
+    public WebElement getWebElement(Identification identification) {
+        return browser.getWebElement(identification);
+    }
+
+    @Override
+    public void saveScreenShot(File file) throws CrawljaxException {
+        browser.saveScreenShot(file);
+    }
+
+    @Override
+    public byte[] getScreenShot() throws CrawljaxException {
+        return browser.getScreenShot();
+    }
+}
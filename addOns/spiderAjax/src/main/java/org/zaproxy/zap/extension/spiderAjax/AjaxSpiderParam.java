@@ -192,6 +192,8 @@ public class AjaxSpiderParam extends VersionedAbstractParam {
 
     public static final boolean DEFAULT_LOGOUT_AVOIDANCE = false;
 
+    public static final boolean DEFAULT_ADAPTIVE_WAIT = true;
+
     private static final String ALL_ALLOWED_RESOURCES_KEY =
             AJAX_SPIDER_BASE_KEY + ".allowedResources.allowedResource";
 
@@ -211,6 +213,8 @@ public class AjaxSpiderParam extends VersionedAbstractParam {
 
     private static final String LOGOUT_AVOIDANCE_KEY = AJAX_SPIDER_BASE_KEY + ".logoutAvoidance";
 
+    private static final String ADAPTIVE_WAIT_KEY = AJAX_SPIDER_BASE_KEY + ".adaptiveWait";
+
     private int numberOfBrowsers;
     private int maxCrawlDepth;
     private int maxCrawlStates;
@@ -235,6 +239,7 @@ public class AjaxSpiderParam extends VersionedAbstractParam {
 
     private ScopeCheck scopeCheck = ScopeCheck.getDefault();
     private boolean logoutAvoidance;
+    private boolean adaptiveWait;
 
     @Override
     public AjaxSpiderParam clone() {
@@ -334,6 +339,7 @@ public class AjaxSpiderParam extends VersionedAbstractParam {
 
         scopeCheck = getEnum(SCOPE_CHECK_KEY, ScopeCheck.getDefault());
         logoutAvoidance = getBoolean(LOGOUT_AVOIDANCE_KEY, DEFAULT_LOGOUT_AVOIDANCE);
+        adaptiveWait = getBoolean(ADAPTIVE_WAIT_KEY, DEFAULT_ADAPTIVE_WAIT);
     }
 
     private String readBrowserId(String defaultBrowser) {
@@ -639,4 +645,30 @@ public class AjaxSpiderParam extends VersionedAbstractParam {
     public boolean isLogoutAvoidance() {
         return logoutAvoidance;
     }
+
+    /**
+     * Sets whether or not the spider should wait only until the browser is idle after the events
+     * and reloads, that is, no requests in progress and no changes to the DOM, using the event and
+     * reload wait times as the maximum.
+     *
+     * @param adaptiveWait {@code true} to wait adaptively, {@code false} to always wait the
+     *     configured times.
+     * @since 23.33.0
+     */
+    public void setAdaptiveWait(boolean adaptiveWait) {
+        this.adaptiveWait = adaptiveWait;
+        getConfig().setProperty(ADAPTIVE_WAIT_KEY, Boolean.valueOf(adaptiveWait));
+    }
+
+    /**
+     * Tells whether or not the spider should wait only until the browser is idle after the events
+     * and reloads.
+     *
+     * @return {@code true} to wait adaptively, {@code false} to always wait the configured times.
+     * @since 23.33.0
+     * @see #setAdaptiveWait(boolean)
+     */
+    public boolean isAdaptiveWait() {
+        return adaptiveWait;
+    }
 }
@@ -61,6 +61,7 @@ public class OptionsAjaxSpider extends AbstractParamPanel {
     private JCheckBox clickElemsOnce = null;
     private JCheckBox randomInputs = null;
     private JCheckBox enableExtensions;
+    private JCheckBox adaptiveWait;
 
     private JLabel browsers = null;
     private JLabel depth = null;
@@ -193,6 +194,7 @@ public class OptionsAjaxSpider extends AbstractParamPanel {
         durationNumberSpinner.setValue(Integer.valueOf(ajaxSpiderParam.getMaxDuration()));
         eventWaitNumberSpinner.setValue(Integer.valueOf(ajaxSpiderParam.getEventWait()));
         reloadWaitNumberSpinner.setValue(Integer.valueOf(ajaxSpiderParam.getReloadWait()));
+        adaptiveWait.setSelected(ajaxSpiderParam.isAdaptiveWait());
 
         getClickDefaultElems().setSelected(ajaxSpiderParam.isClickDefaultElems());
         getClickElemsOnce().setSelected(ajaxSpiderParam.isClickElemsOnce());
@@ -229,6 +231,7 @@ public class OptionsAjaxSpider extends AbstractParamPanel {
         ajaxSpiderParam.setMaxDuration(durationNumberSpinner.getValue().intValue());
         ajaxSpiderParam.setEventWait(eventWaitNumberSpinner.getValue().intValue());
         ajaxSpiderParam.setReloadWait(reloadWaitNumberSpinner.getValue().intValue());
+        ajaxSpiderParam.setAdaptiveWait(adaptiveWait.isSelected());
         ajaxSpiderParam.setElems(getAjaxSpiderClickModel().getElements());
         ajaxSpiderParam.setConfirmRemoveElem(!elemsOptionsPanel.isRemoveWithoutConfirmation());
 
@@ -344,6 +347,15 @@ public class OptionsAjaxSpider extends AbstractParamPanel {
             gbc.anchor = GridBagConstraints.LINE_END;
             innerPanel.add(getReloadWaitNumberSpinner(), gbc);
 
+            // Adaptive Wait Option
+            gbc.gridx = 0;
+            gbc.gridy++;
+            gbc.anchor = GridBagConstraints.LINE_START;
+            adaptiveWait =
+                    new JCheckBox(
+                            resourceBundle.getString("spiderajax.options.label.adaptivewait"));
+            innerPanel.add(adaptiveWait, gbc);
+
             // Enable extensions
             gbc.gridx = 0;
             gbc.gridy++;
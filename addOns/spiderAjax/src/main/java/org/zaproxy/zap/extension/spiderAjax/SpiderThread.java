@@ -21,12 +21,14 @@ package org.zaproxy.zap.extension.spiderAjax;
 
 import com.crawljax.browser.EmbeddedBrowser;
 import com.crawljax.browser.WebDriverBackedEmbeddedBrowser;
+import com.crawljax.core.CrawlerContext;
 import com.crawljax.core.CrawljaxRunner;
 import com.crawljax.core.configuration.BrowserConfiguration;
 import com.crawljax.core.configuration.CrawljaxConfiguration;
 import com.crawljax.core.configuration.CrawljaxConfiguration.CrawljaxConfigurationBuilder;
-import com.crawljax.core.plugin.OnBrowserCreatedPlugin;
+import com.crawljax.core.plugin.OnNewStatePlugin;
 import com.crawljax.core.plugin.Plugins;
+import com.crawljax.core.state.StateVertex;
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.inject.ProvisionException;
 import java.awt.EventQueue;
@@ -36,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import javax.inject.Inject;
@@ -61,6 +64,7 @@ import org.zaproxy.addon.network.server.HttpMessageHandler;
 import org.zaproxy.addon.network.server.HttpMessageHandlerContext;
 import org.zaproxy.addon.network.server.HttpServerConfig;
 import org.zaproxy.addon.network.server.Server;
+import org.zaproxy.addon.network.server.StaticResourceCache;
 import org.zaproxy.zap.extension.selenium.ExtensionSelenium;
 import org.zaproxy.zap.extension.spiderAjax.AjaxSpiderParam.ScopeCheck;
 import org.zaproxy.zap.extension.spiderAjax.SpiderListener.ResourceState;
@@ -94,6 +98,7 @@ public class SpiderThread implements Runnable {
     private final Session session;
     private static final Logger LOGGER = LogManager.getLogger(SpiderThread.class);
     private long startTime;
+    private final AtomicInteger crawlStates = new AtomicInteger();
 
     private HttpResponseHeader outOfScopeResponseHeader;
     private HttpResponseBody outOfScopeResponseBody;
@@ -106,6 +111,18 @@ public class SpiderThread implements Runnable {
     private ExtensionNetwork extensionNetwork;
     private List<WebDriverProcess> webDriverProcesses;
 
+    /** The maximum size of the static resources cached in memory, during the crawl. */
+    private static final long STATIC_RESOURCE_CACHE_MEMORY_SIZE = 32L * 1024 * 1024;
+
+    /** The maximum size of the static resources cached on disk, during the crawl. */
+    private static final long STATIC_RESOURCE_CACHE_DISK_SIZE = 256L * 1024 * 1024;
+
+    /**
+     * The cache of static resources shared by the proxies of the browsers, for the duration of the
+     * crawl.
+     */
+    private final StaticResourceCache staticResourceCache;
+
     /**
      * Constructs a {@code SpiderThread} for the given target.
      *
@@ -149,6 +166,11 @@ public class SpiderThread implements Runnable {
 
         this.extensionNetwork = extensionNetwork;
         webDriverProcesses = Collections.synchronizedList(new ArrayList<>());
+        staticResourceCache =
+                new StaticResourceCache(
+                        STATIC_RESOURCE_CACHE_MEMORY_SIZE,
+                        STATIC_RESOURCE_CACHE_DISK_SIZE,
+                        this::isNotCacheable);
 
         createOutOfScopeResponse(
                 extension.getMessages().getString("spiderajax.outofscope.response"));
@@ -224,9 +246,11 @@ public class SpiderThread implements Runnable {
                         new AjaxSpiderBrowserBuilder(
                                 extensionNetwork,
                                 webDriverProcesses,
+                                staticResourceCache,
                                 SpiderProxyListener::new,
                                 target.getOptions().getBrowserId(),
-                                target.getOptions().isEnableExtensions())));
+                                target.getOptions().isEnableExtensions(),
+                                target.getOptions().isAdaptiveWait())));
 
         if (target.getOptions().isClickDefaultElems()) {
             configurationBuilder.crawlRules().clickDefaultElements();
@@ -283,7 +307,7 @@ public class SpiderThread implements Runnable {
                 target.getOptions().getMaxDuration(), TimeUnit.MINUTES);
         configurationBuilder.crawlRules().clickOnce(target.getOptions().isClickElemsOnce());
 
-        configurationBuilder.addPlugin(DummyPlugin.DUMMY_PLUGIN);
+        configurationBuilder.addPlugin(new CrawlStatesPlugin());
 
         return configurationBuilder.build();
     }
@@ -292,6 +316,15 @@ public class SpiderThread implements Runnable {
         return checkState(uri) == ResourceState.PROCESSED;
     }
 
+    /**
+     * Tells whether or not the given message should not be served from (or stored in) the cache of
+     * static resources, that is, if the message would be blocked for being out of scope.
+     */
+    private boolean isNotCacheable(HttpMessage msg) {
+        return target.getOptions().getScopeCheck() == ScopeCheck.STRICT
+                && !inScope(msg.getRequestHeader().getURI().getEscapedURI());
+    }
+
     private ResourceState checkState(String url) {
         ResourceState state = ResourceState.PROCESSED;
         URI uri = createUri(url);
@@ -381,10 +414,21 @@ public class SpiderThread implements Runnable {
             LOGGER.error(e, e);
         } finally {
             this.running = false;
-            Stats.incCounter("stats.spiderAjax.time", System.currentTimeMillis() - this.startTime);
+            long time = System.currentTimeMillis() - this.startTime;
+            Stats.incCounter("stats.spiderAjax.time", time);
+            LOGGER.info(
+                    "Crawled {} states in {}ms ({} states per minute).",
+                    crawlStates.get(),
+                    time,
+                    time > 0 ? crawlStates.get() * TimeUnit.MINUTES.toMillis(1) / time : 0);
             LOGGER.info("Stopping proxy...");
             stopProxy();
             LOGGER.info("Proxy stopped.");
+            LOGGER.debug(
+                    "Served {} static resources from the cache, missed {}.",
+                    staticResourceCache.getHits(),
+                    staticResourceCache.getMisses());
+            staticResourceCache.clear();
             notifyListenersSpiderStoped();
             SpiderEventPublisher.publishScanEvent(ScanEventPublisher.SCAN_STOPPED_EVENT, 0);
             if (authHandler != null) {
@@ -434,6 +478,7 @@ public class SpiderThread implements Runnable {
 
     private class SpiderProxyListener implements HttpMessageHandler {
 
+        private final AtomicInteger inflightRequests = new AtomicInteger();
         private boolean allowAll = true;
 
         @Override
@@ -446,6 +491,9 @@ public class SpiderThread implements Runnable {
                     checkState(httpMessage.getRequestHeader().getURI().getEscapedURI());
 
             if (!ctx.isFromClient()) {
+                if (state == ResourceState.PROCESSED) {
+                    inflightRequests.updateAndGet(count -> count > 0 ? count - 1 : 0);
+                }
                 Stats.incCounter("stats.spiderAjax.urls.added");
                 notifyMessage(
                         httpMessage,
@@ -465,6 +513,7 @@ public class SpiderThread implements Runnable {
                 return;
             }
 
+            inflightRequests.incrementAndGet();
             if (authHandler == null) {
                 // Only set the user if there is not an authHandler - if there is that will take
                 // responsibility for handling auth. If we do set the user then its likely to loop.
@@ -504,6 +553,16 @@ public class SpiderThread implements Runnable {
         public void setAllowAll(boolean allow) {
             this.allowAll = allow;
         }
+
+        /**
+         * Gets the number of in scope requests sent by the browser whose response was not yet
+         * received.
+         *
+         * @return the number of requests in progress.
+         */
+        AtomicInteger getInflightRequests() {
+            return inflightRequests;
+        }
     }
 
     private void notifyMessage(
@@ -531,6 +590,7 @@ public class SpiderThread implements Runnable {
     // possible to correctly extend it because of DI issues.
     // Changes:
     // - Changed to use Selenium add-on to leverage the creation of WebDrivers.
+    // - Wrap the browser to wait only until idle, if enabled.
     private static class AjaxSpiderBrowserBuilder implements Provider<EmbeddedBrowser> {
 
         @Inject private CrawljaxConfiguration configuration;
@@ -538,25 +598,31 @@ public class SpiderThread implements Runnable {
 
         private final ExtensionNetwork extensionNetwork;
         private final List<WebDriverProcess> webDriverProcesses;
+        private final StaticResourceCache staticResourceCache;
         private final Supplier<SpiderProxyListener> listenerFactory;
         private final String providedBrowserId;
         private final boolean enableExtensions;
+        private final boolean adaptiveWait;
 
         public AjaxSpiderBrowserBuilder(
                 ExtensionNetwork extensionNetwork,
                 List<WebDriverProcess> webDriverProcesses,
+                StaticResourceCache staticResourceCache,
                 Supplier<SpiderProxyListener> listenerFactory,
                 String providedBrowserId,
-                boolean enableExtensions) {
+                boolean enableExtensions,
+                boolean adaptiveWait) {
             super();
             this.extensionNetwork = extensionNetwork;
             this.webDriverProcesses = webDriverProcesses;
+            this.staticResourceCache = staticResourceCache;
             this.listenerFactory = listenerFactory;
             this.providedBrowserId =
                     StringUtils.isEmpty(providedBrowserId)
                             ? AjaxSpiderParam.DEFAULT_BROWSER_ID
                             : providedBrowserId;
             this.enableExtensions = enableExtensions;
+            this.adaptiveWait = adaptiveWait;
         }
 
         /**
@@ -578,37 +644,52 @@ public class SpiderThread implements Runnable {
             try {
                 webDriverProcess =
                         new WebDriverProcess(
-                                extensionNetwork, listener, providedBrowserId, enableExtensions);
+                                extensionNetwork,
+                                listener,
+                                staticResourceCache,
+                                providedBrowserId,
+                                enableExtensions);
             } catch (IOException e) {
                 throw new IllegalStateException(e);
             }
             webDriverProcesses.add(webDriverProcess);
 
-            EmbeddedBrowser embeddedBrowser =
-                    WebDriverBackedEmbeddedBrowser.withDriver(
-                            webDriverProcess.getWebDriver(),
-                            filterAttributes,
-                            crawlWaitEvent,
-                            crawlWaitReload);
+            EmbeddedBrowser embeddedBrowser;
+            if (adaptiveWait) {
+                embeddedBrowser =
+                        new AdaptiveWaitBrowser(
+                                WebDriverBackedEmbeddedBrowser.withDriver(
+                                        webDriverProcess.getWebDriver(), filterAttributes, 0, 0),
+                                listener.getInflightRequests(),
+                                crawlWaitEvent,
+                                crawlWaitReload);
+            } else {
+                embeddedBrowser =
+                        WebDriverBackedEmbeddedBrowser.withDriver(
+                                webDriverProcess.getWebDriver(),
+                                filterAttributes,
+                                crawlWaitEvent,
+                                crawlWaitReload);
+            }
             plugins.runOnBrowserCreatedPlugins(embeddedBrowser);
             return embeddedBrowser;
         }
     }
 
     /**
-     * A {@link com.crawljax.core.plugin.Plugin} that does nothing, used only to suppress log
-     * warning when the {@link CrawljaxRunner} is started.
+     * A {@link com.crawljax.core.plugin.Plugin} that counts the crawl states found, to measure the
+     * crawl throughput. Also suppresses the log warning when the {@link CrawljaxRunner} is started
+     * without plugins.
      *
      * @see SpiderThread#createCrawljaxConfiguration()
      * @see SpiderThread#run()
      */
-    private static class DummyPlugin implements OnBrowserCreatedPlugin {
-
-        public static final DummyPlugin DUMMY_PLUGIN = new DummyPlugin();
+    private class CrawlStatesPlugin implements OnNewStatePlugin {
 
         @Override
-        public void onBrowserCreated(EmbeddedBrowser arg0) {
-            // Nothing to do.
+        public void onNewState(CrawlerContext context, StateVertex newState) {
+            crawlStates.incrementAndGet();
+            Stats.incCounter("stats.spiderAjax.states");
         }
     }
 
@@ -626,6 +707,7 @@ public class SpiderThread implements Runnable {
         private WebDriverProcess(
                 ExtensionNetwork extensionNetwork,
                 SpiderProxyListener listener,
+                StaticResourceCache staticResourceCache,
                 String browser,
                 boolean enableExtensions)
                 throws IOException {
@@ -635,6 +717,7 @@ public class SpiderThread implements Runnable {
                                     .setHttpMessageHandler(listener)
                                     .setHttpSender(new HttpSender(INITIATOR))
                                     .setServeZapApi(true)
+                                    .setStaticResourceCache(staticResourceCache)
                                     .build());
             port = proxy.start(Server.ANY_PORT);
             LOGGER.debug("Started proxy for browser, listening at port [{}].", port);
@@ -576,6 +576,7 @@ public class AjaxSpiderJob extends AutomationJob {
         private Integer maxCrawlStates = AjaxSpiderParam.DEFAULT_CRAWL_STATES;
         private Integer eventWait = AjaxSpiderParam.DEFAULT_EVENT_WAIT_TIME;
         private Integer reloadWait = AjaxSpiderParam.DEFAULT_RELOAD_WAIT_TIME;
+        private Boolean adaptiveWait = AjaxSpiderParam.DEFAULT_ADAPTIVE_WAIT;
         private Boolean clickDefaultElems = AjaxSpiderParam.DEFAULT_CLICK_DEFAULT_ELEMS;
         private Boolean clickElemsOnce = AjaxSpiderParam.DEFAULT_CLICK_ELEMS_ONCE;
         private Boolean randomInputs = AjaxSpiderParam.DEFAULT_RANDOM_INPUTS;
@@ -0,0 +1,127 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.spiderAjax;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.crawljax.browser.EmbeddedBrowser;
+import com.crawljax.core.state.Eventable;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Unit test for {@link AdaptiveWaitBrowser}. */
+class AdaptiveWaitBrowserUnitTest {
+
+    private static final long MAX_WAIT = 5000;
+
+    private EmbeddedBrowser browser;
+    private AtomicInteger inflightRequests;
+    private AdaptiveWaitBrowser adaptiveWaitBrowser;
+
+    @BeforeEach
+    void setUp() {
+        browser = mock(EmbeddedBrowser.class);
+        inflightRequests = new AtomicInteger();
+        adaptiveWaitBrowser = new AdaptiveWaitBrowser(browser, inflightRequests, MAX_WAIT, 300);
+    }
+
+    @Test
+    void shouldWaitOnlyUntilIdleAfterEvent() throws Exception {
+        // Given
+        Eventable event = mock(Eventable.class);
+        given(browser.fireEventAndWait(event)).willReturn(true);
+        given(browser.executeJavaScript(AdaptiveWaitBrowser.DOM_QUIET_TIME_SCRIPT))
+                .willReturn(1000L);
+        long start = System.currentTimeMillis();
+        // When
+        boolean fired = adaptiveWaitBrowser.fireEventAndWait(event);
+        // Then
+        long elapsed = System.currentTimeMillis() - start;
+        assertThat(fired, is(equalTo(true)));
+        assertThat(elapsed, is(greaterThanOrEqualTo(AdaptiveWaitBrowser.QUIESCE_THRESHOLD_MS)));
+        assertThat(elapsed, is(lessThan(MAX_WAIT)));
+    }
+
+    @Test
+    void shouldNotWaitIfEventNotFired() throws Exception {
+        // Given
+        Eventable event = mock(Eventable.class);
+        given(browser.fireEventAndWait(event)).willReturn(false);
+        // When
+        boolean fired = adaptiveWaitBrowser.fireEventAndWait(event);
+        // Then
+        assertThat(fired, is(equalTo(false)));
+        verify(browser, never()).executeJavaScript(any());
+    }
+
+    @Test
+    void shouldWaitUpToMaximumWhileRequestsInProgress() throws Exception {
+        // Given
+        URI url = new URI("https://example.com/");
+        inflightRequests.set(1);
+        long start = System.currentTimeMillis();
+        // When
+        adaptiveWaitBrowser.goToUrl(url);
+        // Then
+        long elapsed = System.currentTimeMillis() - start;
+        verify(browser).goToUrl(url);
+        assertThat(elapsed, is(greaterThanOrEqualTo(300L)));
+        assertThat(elapsed, is(lessThan(MAX_WAIT)));
+        assertThat(inflightRequests.get(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldWaitWhileDomChanging() throws Exception {
+        // Given
+        given(browser.executeJavaScript(AdaptiveWaitBrowser.DOM_QUIET_TIME_SCRIPT))
+                .willReturn(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 1000L);
+        long minWait =
+                AdaptiveWaitBrowser.QUIESCE_THRESHOLD_MS + 8 * AdaptiveWaitBrowser.POLL_INTERVAL_MS;
+        long start = System.currentTimeMillis();
+        // When
+        adaptiveWaitBrowser.waitUntilIdle(MAX_WAIT);
+        // Then
+        long elapsed = System.currentTimeMillis() - start;
+        assertThat(elapsed, is(greaterThanOrEqualTo(minWait)));
+        assertThat(elapsed, is(lessThan(MAX_WAIT)));
+    }
+
+    @Test
+    void shouldRelyOnRequestsIfDomNotAvailable() throws Exception {
+        // Given
+        given(browser.executeJavaScript(any())).willThrow(new RuntimeException());
+        long start = System.currentTimeMillis();
+        // When
+        adaptiveWaitBrowser.waitUntilIdle(MAX_WAIT);
+        // Then
+        assertThat(System.currentTimeMillis() - start, is(lessThan(MAX_WAIT)));
+    }
+}
@@ -262,6 +262,35 @@ class AjaxSpiderParamUnitTest {
                 is(equalTo(logoutAvoidance)));
     }
 
+    @Test
+    void shouldWaitAdaptivelyByDefault() {
+        // Given / When
+        param.load(configuration);
+        // Then
+        assertThat(param.isAdaptiveWait(), is(equalTo(true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldLoadAdaptiveWaitFromConfig(boolean adaptiveWait) {
+        // Given
+        configuration.setProperty("ajaxSpider.adaptiveWait", adaptiveWait);
+        // When
+        param.load(configuration);
+        // Then
+        assertThat(param.isAdaptiveWait(), is(equalTo(adaptiveWait)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldSetAndPersistAdaptiveWait(boolean adaptiveWait) throws Exception {
+        // Given / When
+        param.setAdaptiveWait(adaptiveWait);
+        // Then
+        assertThat(param.isAdaptiveWait(), is(equalTo(adaptiveWait)));
+        assertThat(configuration.getBoolean("ajaxSpider.adaptiveWait"), is(equalTo(adaptiveWait)));
+    }
+
     @ParameterizedTest
     @EnumSource(Browser.class)
     void shouldLoadKnownBrowserIds(Browser configBrowser) {
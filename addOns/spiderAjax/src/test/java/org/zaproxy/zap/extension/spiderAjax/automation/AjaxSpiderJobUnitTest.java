@@ -171,6 +171,7 @@ class AjaxSpiderJobUnitTest {
                   maxCrawlStates: 14
                   randomInputs: false
                   reloadWait: 3000
+                  adaptiveWait: false
                   scopeCheck: Flexbile
                   logoutAvoidance: true
                 """;
@@ -200,6 +201,7 @@ class AjaxSpiderJobUnitTest {
         assertThat(job.getParameters().getMaxCrawlStates(), is(equalTo(14)));
         assertThat(job.getParameters().getRandomInputs(), is(equalTo(Boolean.FALSE)));
         assertThat(job.getParameters().getReloadWait(), is(equalTo(3000)));
+        assertThat(job.getParameters().getAdaptiveWait(), is(equalTo(Boolean.FALSE)));
         assertThat(job.getParameters().getScopeCheck(), is(equalTo("Flexbile")));
         assertThat(job.getParameters().getLogoutAvoidance(), is(equalTo(Boolean.TRUE)));
         assertThat(progress.hasWarnings(), is(equalTo(false)));
@@ -216,7 +218,7 @@ class AjaxSpiderJobUnitTest {
                 job.getConfigParameters(new AjaxSpiderParamWrapper(), job.getParamMethodName());
 
         // Then
-        assertThat(params.size(), is(equalTo(12)));
+        assertThat(params.size(), is(equalTo(13)));
         assertThat(params.containsKey("maxDuration"), is(equalTo(true)));
         assertThat(params.containsKey("browserId"), is(equalTo(true)));
         assertThat(params.containsKey("clickDefaultElems"), is(equalTo(true)));
@@ -230,6 +232,7 @@ class AjaxSpiderJobUnitTest {
         assertThat(params.containsKey("reloadWait"), is(equalTo(true)));
         assertThat(params.containsKey("enableExtensions"), is(equalTo(true)));
         assertThat(params.containsKey("logoutAvoidance"), is(equalTo(true)));
+        assertThat(params.containsKey("adaptiveWait"), is(equalTo(true)));
     }
 
     private static class AjaxSpiderParamWrapper {
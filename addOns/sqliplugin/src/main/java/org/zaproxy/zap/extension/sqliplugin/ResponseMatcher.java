@@ -19,8 +19,7 @@
  */
 package org.zaproxy.zap.extension.sqliplugin;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * Class for string diff management used to compare the original content to the one related to a
@@ -45,15 +44,24 @@ public class ResponseMatcher {
     // Maximum value for comparison ratio
     public static final double MAX_RATIO = 1.0;
 
+    // Number of characters tracked with the small (ASCII) tables
+    private static final int ASCII_SIZE = 128;
+    // Number of characters tracked with the large (BMP) tables
+    private static final int BMP_SIZE = Character.MAX_VALUE + 1;
+
     private String strA;
     private String strB;
-    // Inner helper class for strB string counting
-    private Map<Integer, Integer> fullBCount;
+    // Index of the last occurrence of each character in strB, -1 if not present,
+    // computed once per original response
+    private int[] lastIndexB;
+    private boolean originalProfiled;
+    // Characters of strA already matched, marked with the current comparison number
+    private int[] matchedA;
+    private int comparison;
     private double matchRatio;
     private boolean negativeLogic;
 
     public ResponseMatcher() {
-        fullBCount = new HashMap<>();
         matchRatio = -1;
         negativeLogic = false;
     }
@@ -70,7 +78,7 @@ public class ResponseMatcher {
      */
     public void setOriginalResponse(String b) {
         this.strB = b;
-        this.fullBCount.clear();
+        this.originalProfiled = false;
         matchRatio = -1;
     }
 
@@ -81,6 +89,17 @@ public class ResponseMatcher {
         this.negativeLogic = (replacementMode == SQLiPayloadManager.WHERE_NEGATIVE);
     }
 
+    /**
+     * Return an upper bound on getQuickRatio() very quickly, based only on the lengths of the
+     * contents.
+     *
+     * @return the upper bound of the ratio.
+     */
+    public double getRealQuickRatio() {
+        int totalLength = strA.length() + strB.length();
+        return (totalLength > 0) ? 2.0 * Math.min(strA.length(), strB.length()) / totalLength : 1.0;
+    }
+
     /**
      * Return an upper bound on ratio() relatively quickly. This isn't defined beyond that it is an
      * upper bound and is faster to compute.
@@ -88,55 +107,66 @@ public class ResponseMatcher {
      * @return
      */
     public double getQuickRatio() {
-        int chr;
-        int count;
-        int matches = 0;
         int start = 0;
-        while (start < Math.min(strA.length(), strB.length())) {
-            if (strA.charAt(start) == strB.charAt(start)) {
-                start += 1;
+        int minLength = Math.min(strA.length(), strB.length());
+        while (start < minLength && strA.charAt(start) == strB.charAt(start)) {
+            start++;
+        }
 
-            } else break;
+        if (!originalProfiled) {
+            createOriginalProfile();
         }
+        nextComparison();
 
-        // viewing strA and strB as multisets, set matches to the cardinality
+        // viewing the rest of strA and strB as sets, set matches to the cardinality
         // of their intersection; this counts the number of matches
         // without regard to order, so is clearly an upper bound
-        if (fullBCount.isEmpty()) {
-
-            for (int i = start; i < strB.length(); i++) {
-                chr = strB.charAt(i);
-                count = fullBCount.containsKey(chr) ? fullBCount.get(chr) : 1;
-                fullBCount.put(chr, count);
+        int matches = 0;
+        for (int i = start; i < strA.length(); i++) {
+            char chr = strA.charAt(i);
+            if (chr < lastIndexB.length
+                    && lastIndexB[chr] >= start
+                    && matchedA[chr] != comparison) {
+                matchedA[chr] = comparison;
+                matches++;
             }
         }
 
-        // avail[x] is the number of times x appears in 'strB' less the
-        // number of times we've seen it in 'strA' so far ... kinda
-        Map<Integer, Integer> avail = new HashMap<>();
-
-        for (int i = start; i < strA.length(); i++) {
-            chr = strA.charAt(i);
-            if (avail.containsKey(chr)) {
-                count = avail.get(chr);
+        int totalLength = strA.length() + strB.length();
 
-            } else if (fullBCount.containsKey(chr)) {
-                count = fullBCount.get(chr);
+        return (totalLength > 0) ? 2.0 * (start + matches) / totalLength : 1.0;
+    }
 
-            } else {
-                count = 0;
+    private void createOriginalProfile() {
+        int size = ASCII_SIZE;
+        for (int i = 0; i < strB.length(); i++) {
+            if (strB.charAt(i) >= ASCII_SIZE) {
+                size = BMP_SIZE;
+                break;
             }
+        }
 
-            avail.put(chr, count - 1);
-
-            if (count > 0) {
-                matches += 1;
-            }
+        if (lastIndexB == null || lastIndexB.length != size) {
+            lastIndexB = new int[size];
+        }
+        Arrays.fill(lastIndexB, -1);
+        for (int i = 0; i < strB.length(); i++) {
+            lastIndexB[strB.charAt(i)] = i;
         }
 
-        int totalLength = strA.length() + strB.length();
+        if (matchedA == null || matchedA.length != size) {
+            matchedA = new int[size];
+            comparison = 0;
+        }
+        originalProfiled = true;
+    }
 
-        return (totalLength > 0) ? 2.0 * (start + matches) / totalLength : 1.0;
+    private void nextComparison() {
+        comparison++;
+        if (comparison == Integer.MAX_VALUE) {
+            Arrays.fill(matchedA, 0);
+            comparison = 1;
+        }
     }
 
     /**
@@ -144,6 +174,15 @@ public class ResponseMatcher {
      * @return
      */
     public boolean isComparable() {
+        // The real quick ratio is an upper bound of the quick ratio, if it's not enough to be
+        // comparable neither is the quick ratio
+        if (matchRatio >= 0) {
+            double upperBound = getRealQuickRatio();
+            if (upperBound <= UPPER_RATIO_BOUND && (upperBound - matchRatio) <= DIFF_TOLERANCE) {
+                return negativeLogic;
+            }
+        }
+
         double ratio = getQuickRatio();
 
         // If comparison has never been done
@@ -0,0 +1,140 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.sqliplugin;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/** Unit test for {@link ResponseMatcher}. */
+class ResponseMatcherUnitTest {
+
+    private static final double DELTA = 0.0001;
+
+    private ResponseMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new ResponseMatcher();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "abc, abc, 1.0",
+        "abcx, abcy, 0.75",
+        "aaab, aaba, 1.0",
+        "xaaaa, yaaaa, 0.2",
+        "zé, yé, 0.5",
+        "'', '', 1.0"
+    })
+    void shouldComputeQuickRatio(String injected, String original, double expectedRatio) {
+        // Given
+        matcher.setOriginalResponse(original);
+        matcher.setInjectedResponse(injected);
+        // When
+        double ratio = matcher.getQuickRatio();
+        // Then
+        assertThat(ratio, is(closeTo(expectedRatio, DELTA)));
+    }
+
+    @Test
+    void shouldComputeQuickRatioOfSeveralInjectedResponsesWithSameOriginal() {
+        // Given
+        matcher.setOriginalResponse("abcdef");
+        matcher.setInjectedResponse("abxyz");
+        double firstRatio = matcher.getQuickRatio();
+        matcher.setInjectedResponse("fedcba");
+        // When
+        double secondRatio = matcher.getQuickRatio();
+        // Then
+        assertThat(firstRatio, is(closeTo(4.0 / 11, DELTA)));
+        assertThat(secondRatio, is(closeTo(1.0, DELTA)));
+    }
+
+    @Test
+    void shouldUseNewOriginalResponse() {
+        // Given
+        matcher.setOriginalResponse("abc");
+        matcher.setInjectedResponse("xyz");
+        matcher.getQuickRatio();
+        matcher.setOriginalResponse("zyxé");
+        // When
+        double ratio = matcher.getQuickRatio();
+        // Then
+        assertThat(ratio, is(closeTo(6.0 / 7, DELTA)));
+    }
+
+    @Test
+    void shouldHaveRealQuickRatioAsUpperBoundOfQuickRatio() {
+        // Given
+        matcher.setOriginalResponse("abcd");
+        matcher.setInjectedResponse("ab");
+        // When
+        double realQuickRatio = matcher.getRealQuickRatio();
+        // Then
+        assertThat(realQuickRatio, is(closeTo(4.0 / 6, DELTA)));
+        assertThat(matcher.getQuickRatio(), is(lessThanOrEqualTo(realQuickRatio)));
+    }
+
+    @Test
+    void shouldBeComparableIfSimilarToOriginal() {
+        // Given
+        matcher.setOriginalResponse("<html>Some content</html>");
+        matcher.setInjectedResponse("<html>Some other content</html>");
+        matcher.isComparable();
+        matcher.setInjectedResponse("<html>Some content</html>");
+        // When
+        boolean comparable = matcher.isComparable();
+        // Then
+        assertThat(comparable, is(equalTo(true)));
+    }
+
+    @Test
+    void shouldNotBeComparableIfMuchShorterThanOriginal() {
+        // Given
+        matcher.setOriginalResponse("<html>Some content</html>");
+        matcher.setInjectedResponse("<html>Some content</html>");
+        matcher.isComparable();
+        matcher.setInjectedResponse("<html>");
+        // When
+        boolean comparable = matcher.isComparable();
+        // Then
+        assertThat(comparable, is(equalTo(false)));
+    }
+
+    @Test
+    void shouldApplyNegativeLogic() {
+        // Given
+        matcher.setOriginalResponse("<html>Some content</html>");
+        matcher.setLogic(SQLiPayloadManager.WHERE_NEGATIVE);
+        matcher.setInjectedResponse("<html>Some content</html>");
+        // When
+        boolean comparable = matcher.isComparable();
+        // Then
+        assertThat(comparable, is(equalTo(false)));
+    }
+}
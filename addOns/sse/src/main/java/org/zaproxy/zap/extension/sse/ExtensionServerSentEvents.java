@@ -125,6 +125,7 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
             EventStreamPanel tab = getEventStreamTab();
             tab.setDisplayPanel(getView().getRequestPanel(), getView().getResponsePanel());
             addObserver(tab);
+            storage.setPersistedEventsListener(tab::eventsStored);
             extensionHook.addSessionListener(tab.getSessionListener());
             extensionHook.getHookView().addStatusPanel(tab);
 
@@ -143,6 +144,10 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
     public void unload() {
         super.unload();
         stopProxies();
+        if (storage != null) {
+            storage.setPersistedEventsListener(null);
+            storage.stop();
+        }
         clearUpWorkPanel();
     }
 
@@ -174,6 +179,7 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
 
             if (storage == null) {
                 storage = new EventStreamStorage(table);
+                storage.start();
                 addObserver(storage);
             } else {
                 storage.setTable(table);
@@ -258,6 +264,9 @@ public class ExtensionServerSentEvents extends ExtensionAdaptor
 
     @Override
     public void sessionAboutToChange(Session session) {
+        if (storage != null) {
+            storage.flush();
+        }
         if (View.isInitialised()) {
             // Prevent the table from being used
             storage.setTable(null);
@@ -19,6 +19,8 @@
  */
 package org.zaproxy.zap.extension.sse.db;
 
+import java.util.List;
+import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.db.DatabaseException;
@@ -29,6 +31,9 @@ import org.zaproxy.zap.extension.sse.ServerSentEvent;
 /**
  * Listens to all Server-Sent Events and utilizes {@link TableEventStream} to store events in
  * database.
+ *
+ * <p>The events are stored in batches, in the background, by an {@link EventStreamWriter}, once
+ * started. The streams are stored immediately.
  */
 public class EventStreamStorage implements EventStreamObserver {
 
@@ -37,10 +42,68 @@ public class EventStreamStorage implements EventStreamObserver {
     /** Determines when events are stored in database. */
     public static final int EVENT_STREAM_OBSERVING_ORDER = 100;
 
-    private TableEventStream table;
+    private volatile TableEventStream table;
+
+    private final EventStreamWriter writer;
+
+    private volatile Consumer<List<ServerSentEvent>> persistedEventsListener;
 
     public EventStreamStorage(TableEventStream table) {
         this.table = table;
+        this.writer = new EventStreamWriter(this::persistEvents);
+    }
+
+    /** Starts storing the events in the background. */
+    public void start() {
+        writer.start();
+    }
+
+    /** Stops storing the events in the background, storing the ones pending. */
+    public void stop() {
+        writer.stop();
+    }
+
+    /** Stores the events pending, including the ones being stored in the background. */
+    public void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Gets the number of events waiting to be stored.
+     *
+     * @return the number of events.
+     */
+    public int getBacklog() {
+        return writer.getBacklog();
+    }
+
+    /**
+     * Sets the listener notified of the events after being stored, for example, to show them once
+     * they can be read from the database.
+     *
+     * @param listener the listener, might be {@code null}.
+     */
+    public void setPersistedEventsListener(Consumer<List<ServerSentEvent>> listener) {
+        this.persistedEventsListener = listener;
+    }
+
+    private void persistEvents(List<ServerSentEvent> events) {
+        TableEventStream currentTable = table;
+        if (currentTable == null) {
+            LOGGER.warn("Could not store {} Server-Sent Events, no table.", events.size());
+            return;
+        }
+        try {
+            currentTable.insertEvents(events);
+        } catch (DatabaseException e) {
+            LOGGER.error(e.getMessage(), e);
+            return;
+        }
+
+        Consumer<List<ServerSentEvent>> listener = persistedEventsListener;
+        if (listener != null) {
+            listener.accept(events);
+        }
     }
 
     @Override
@@ -51,11 +114,7 @@ public class EventStreamStorage implements EventStreamObserver {
     @Override
     public boolean onServerSentEvent(ServerSentEvent event) {
         boolean continueForwarding = true;
-        try {
-            table.insertEvent(event);
-        } catch (DatabaseException e) {
-            LOGGER.error(e.getMessage(), e);
-        }
+        writer.add(event);
         return continueForwarding;
     }
 
@@ -77,6 +136,7 @@ public class EventStreamStorage implements EventStreamObserver {
         } else if (state.equals(State.EXCLUDED)) {
             // when proxy is excluded from ZAP, then messages are forwarded
             // but not stored - all existing communication is deleted
+            writer.flush();
             try {
                 table.purgeStream(stream.getId());
             } catch (DatabaseException e) {
@@ -90,6 +150,8 @@ public class EventStreamStorage implements EventStreamObserver {
     }
 
     public void setTable(TableEventStream table) {
+        // Store the pending events in the previous table, waiting for the batch being stored.
+        writer.flush();
         this.table = table;
     }
 }
@@ -0,0 +1,264 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.sse.db;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.zaproxy.zap.extension.sse.ServerSentEvent;
+import org.zaproxy.zap.utils.Stats;
+
+/**
+ * A write-behind queue for the Server-Sent Events.
+ *
+ * <p>The events are queued and persisted in batches by a background thread. A batch is written once
+ * it reaches the batch size or when the flush interval elapses, whichever happens first. If the
+ * queue is full the callers block until there's space, to not lose events.
+ */
+public class EventStreamWriter {
+
+    public static final int DEFAULT_BATCH_SIZE = 200;
+    public static final int DEFAULT_FLUSH_INTERVAL_MS = 500;
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 50_000;
+
+    private static final Logger LOGGER = LogManager.getLogger(EventStreamWriter.class);
+
+    private static final String STATS_PREFIX = "stats.sse.writer.";
+
+    /** The marker queued to make the background thread persist the events queued before it. */
+    private static final ServerSentEvent FLUSH_MARKER = new ServerSentEvent();
+
+    private final BlockingQueue<ServerSentEvent> queue;
+    private final Queue<CountDownLatch> flushRequests;
+    private final Consumer<List<ServerSentEvent>> persister;
+    private final Object writeLock = new Object();
+
+    private volatile int batchSize;
+    private volatile int flushInterval;
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public EventStreamWriter(Consumer<List<ServerSentEvent>> persister) {
+        this(DEFAULT_MAX_QUEUE_SIZE, persister);
+    }
+
+    EventStreamWriter(int maxQueueSize, Consumer<List<ServerSentEvent>> persister) {
+        this.queue = new LinkedBlockingQueue<>(maxQueueSize);
+        this.flushRequests = new ConcurrentLinkedQueue<>();
+        this.persister = persister;
+        this.batchSize = DEFAULT_BATCH_SIZE;
+        this.flushInterval = DEFAULT_FLUSH_INTERVAL_MS;
+    }
+
+    /**
+     * Sets the maximum number of events persisted in a single batch.
+     *
+     * @param batchSize the batch size, values lower than 1 are converted to 1.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum time, in milliseconds, that events stay in the queue before being persisted.
+     *
+     * @param flushInterval the flush interval, values lower than 1 are converted to 1.
+     */
+    public void setFlushInterval(int flushInterval) {
+        this.flushInterval = Math.max(1, flushInterval);
+    }
+
+    public int getFlushInterval() {
+        return flushInterval;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::run, "ZAP-SSE-Writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /** Stops the background thread, persisting all the queued events. */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+        drain();
+    }
+
+    /**
+     * Queues the given event to be persisted.
+     *
+     * <p>If the writer is not running the event is persisted immediately.
+     *
+     * @param event the event to persist.
+     */
+    public void add(ServerSentEvent event) {
+        Stats.incCounter(STATS_PREFIX + "queued");
+        if (!running) {
+            write(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            return;
+        }
+        Stats.incCounter(STATS_PREFIX + "queue.full");
+        try {
+            queue.put(event);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write(List.of(event));
+        }
+    }
+
+    /**
+     * Gets the number of events waiting to be persisted.
+     *
+     * @return the number of queued events.
+     */
+    public int getBacklog() {
+        return queue.size();
+    }
+
+    /**
+     * Persists all the events queued before the call, including the batch being gathered or
+     * persisted by the background thread, waiting for them to be persisted.
+     */
+    public void flush() {
+        Thread thread = writerThread;
+        if (!running || thread == null || thread == Thread.currentThread()) {
+            drain();
+            return;
+        }
+
+        CountDownLatch flushed = new CountDownLatch(1);
+        flushRequests.add(flushed);
+        try {
+            queue.put(FLUSH_MARKER);
+            while (!flushed.await(flushInterval, TimeUnit.MILLISECONDS)) {
+                if (!running) {
+                    drain();
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drain();
+        }
+    }
+
+    /** Persists all the queued events, in the calling thread. */
+    private void drain() {
+        List<ServerSentEvent> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            batch.removeIf(e -> e == FLUSH_MARKER);
+            write(batch);
+            batch = new ArrayList<>();
+        }
+
+        CountDownLatch flushed;
+        while ((flushed = flushRequests.poll()) != null) {
+            flushed.countDown();
+        }
+    }
+
+    private void run() {
+        List<ServerSentEvent> batch = new ArrayList<>();
+        while (running) {
+            boolean flushRequested = false;
+            try {
+                ServerSentEvent first = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                flushRequested = addToBatch(batch, first);
+                long deadline = System.currentTimeMillis() + flushInterval;
+                while (!flushRequested && batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ServerSentEvent next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    flushRequested = addToBatch(batch, next);
+                }
+            } catch (InterruptedException e) {
+                // Stopping, the remaining events are persisted by the caller.
+            }
+            write(batch);
+            batch = new ArrayList<>();
+            if (flushRequested) {
+                CountDownLatch flushed = flushRequests.poll();
+                if (flushed != null) {
+                    flushed.countDown();
+                }
+            }
+        }
+    }
+
+    private static boolean addToBatch(List<ServerSentEvent> batch, ServerSentEvent event) {
+        if (event == FLUSH_MARKER) {
+            return true;
+        }
+        batch.add(event);
+        return false;
+    }
+
+    private void write(List<ServerSentEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            try {
+                persister.accept(batch);
+                Stats.incCounter(STATS_PREFIX + "batches");
+                Stats.incCounter(STATS_PREFIX + "persisted", batch.size());
+            } catch (Exception e) {
+                LOGGER.warn("Failed to persist Server-Sent Events:", e);
+            }
+        }
+    }
+}
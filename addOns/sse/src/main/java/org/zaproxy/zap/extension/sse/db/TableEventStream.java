@@ -31,8 +31,10 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.commons.collections.map.LRUMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -47,6 +49,7 @@ public class TableEventStream extends ParosAbstractTable {
     private static final Logger LOGGER = LogManager.getLogger(TableEventStream.class);
 
     private Set<Integer> streamIds;
+    private final Map<Integer, Integer> eventCounts = new ConcurrentHashMap<>();
     private LRUMap streamCache;
 
     private PreparedStatement psInsertEvent;
@@ -107,6 +110,34 @@ public class TableEventStream extends ParosAbstractTable {
                 streamIds = null;
             }
 
+            if (!DbUtils.hasIndex(conn, "EVENT_STREAM_EVENT", "EVENT_STREAM_EVENT_STREAM_ID")) {
+                DbUtils.execute(
+                        conn,
+                        "CREATE INDEX event_stream_event_stream_id "
+                                + "ON event_stream_event (stream_id)");
+            }
+
+            eventCounts.clear();
+            PreparedStatement psSelectEventCounts =
+                    conn.prepareStatement(
+                            "SELECT e.stream_id, COUNT(e.event_id) "
+                                    + "FROM event_stream_event AS e "
+                                    + "GROUP BY e.stream_id");
+            try {
+                psSelectEventCounts.execute();
+
+                ResultSet rs = psSelectEventCounts.getResultSet();
+                while (rs.next()) {
+                    eventCounts.put(rs.getInt(1), rs.getInt(2));
+                }
+            } finally {
+                try {
+                    psSelectEventCounts.close();
+                } catch (SQLException e) {
+                    LOGGER.debug(e.getMessage(), e);
+                }
+            }
+
             streamCache = new LRUMap(20);
 
             // STREAMS
@@ -183,38 +214,52 @@ public class TableEventStream extends ParosAbstractTable {
     }
 
     /**
-     * Prepares a {@link PreparedStatement} instance on the fly.
+     * Gets the number of events of the stream of the given criteria, or of all streams if none.
+     *
+     * <p>The number is obtained from the counts kept while inserting the events, the database is
+     * not queried.
      *
      * @param criteria
      * @return number of events that fulfill given template
      * @throws DatabaseException
      */
-    public synchronized int getEventCount(ServerSentEvent criteria) throws DatabaseException {
+    public int getEventCount(ServerSentEvent criteria) throws DatabaseException {
         return getEventCount(criteria, null);
     }
 
     /**
-     * Prepares a {@link PreparedStatement} instance on the fly.
+     * Gets the number of events of the stream of the given criteria, or of all streams if none,
+     * limited to the given streams.
+     *
+     * <p>The number is obtained from the counts kept while inserting the events, the database is
+     * not queried.
      *
      * @param criteria
      * @param inScopeStreamIds
      * @return number of events that fulfill given template
      * @throws DatabaseException
      */
-    public synchronized int getEventCount(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
+    public int getEventCount(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
             throws DatabaseException {
-        try {
-            String query = "SELECT COUNT(e.stream_id) FROM event_stream_event AS e " + "<where> ";
+        Integer streamId = criteria.getStreamId();
+        if (streamId != null) {
+            if (inScopeStreamIds != null && !inScopeStreamIds.contains(streamId)) {
+                return 0;
+            }
+            return eventCounts.getOrDefault(streamId, 0);
+        }
 
-            PreparedStatement stmt = buildEventCriteriaStatement(query, criteria, inScopeStreamIds);
-            try {
-                return executeAndGetSingleIntValue(stmt);
-            } finally {
-                stmt.close();
+        int count = 0;
+        if (inScopeStreamIds != null) {
+            for (Integer id : new HashSet<>(inScopeStreamIds)) {
+                count += eventCounts.getOrDefault(id, 0);
+            }
+        } else {
+            for (Integer streamCount : eventCounts.values()) {
+                count += streamCount;
             }
-        } catch (SQLException e) {
-            throw new DatabaseException(e);
         }
+        return count;
     }
 
     private int executeAndGetSingleIntValue(PreparedStatement stmt) throws SQLException {
@@ -230,7 +275,7 @@ public class TableEventStream extends ParosAbstractTable {
         }
     }
 
-    public synchronized int getIndexOf(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
+    public int getIndexOf(ServerSentEvent criteria, List<Integer> inScopeStreamIds)
             throws DatabaseException {
         try {
             String query =
@@ -280,7 +325,7 @@ public class TableEventStream extends ParosAbstractTable {
      * @return Events that fulfill given template.
      * @throws DatabaseException
      */
-    public synchronized List<ServerSentEvent> getEvents(
+    public List<ServerSentEvent> getEvents(
             ServerSentEvent criteria,
             List<Integer> inScopeStreamIds,
             int offset,
@@ -404,12 +449,12 @@ public class TableEventStream extends ParosAbstractTable {
 
         Integer streamId = criteria.getStreamId();
         if (streamId != null) {
-            where.add("s.stream_id = ?");
+            where.add("e.stream_id = ?");
             params.add(streamId);
         }
 
         if (inScopeStreamIds != null) {
-            StringBuilder whereExpr = new StringBuilder("s.stream_id IN (");
+            StringBuilder whereExpr = new StringBuilder("e.stream_id IN (");
             int inScopeStreamCount = inScopeStreamIds.size();
 
             if (inScopeStreamCount > 0) {
@@ -534,23 +579,39 @@ public class TableEventStream extends ParosAbstractTable {
     }
 
     public void insertEvent(ServerSentEvent event) throws DatabaseException {
+        insertEvents(List.of(event));
+    }
+
+    /**
+     * Inserts the given events, in a single batch.
+     *
+     * @param events the events to insert.
+     * @throws DatabaseException if an error occurred while inserting the events.
+     */
+    public void insertEvents(List<ServerSentEvent> events) throws DatabaseException {
         // synchronize on whole object to avoid race conditions with insertOrUpdateStreams()
         synchronized (this) {
             try {
                 if (getConnection().isClosed()) {
                     // temporarily buffer events and write them the next time
-                    eventBuffer.offer(event);
+                    eventBuffer.addAll(events);
                     return;
                 }
 
-                do {
-                    while (!streamIds.contains(event.getStreamId())) {
+                List<ServerSentEvent> batch = new ArrayList<>(eventBuffer.size() + events.size());
+                batch.addAll(eventBuffer);
+                eventBuffer.clear();
+                batch.addAll(events);
+
+                List<ServerSentEvent> inserted = new ArrayList<>(batch.size());
+                for (ServerSentEvent event : batch) {
+                    while (!streamIds.contains(event.getStreamId()) && streamBuffer.size() > 0) {
                         // maybe stream is buffered
-                        if (streamBuffer.size() > 0) {
-                            insertOrUpdateStream(streamBuffer.poll());
-                            continue;
-                        }
-                        throw new DatabaseException("stream not inserted: " + event.getStreamId());
+                        insertOrUpdateStream(streamBuffer.poll());
+                    }
+                    if (!streamIds.contains(event.getStreamId())) {
+                        LOGGER.warn("Event not inserted, stream not inserted: {}", event);
+                        continue;
                     }
 
                     LOGGER.debug("insert event: {}", event);
@@ -569,10 +630,17 @@ public class TableEventStream extends ParosAbstractTable {
                         psInsertEvent.setInt(7, time);
                     }
                     psInsertEvent.setClob(8, new JDBCClob(event.getRawEvent()));
-                    psInsertEvent.execute();
+                    psInsertEvent.addBatch();
+                    inserted.add(event);
+                }
+                if (inserted.isEmpty()) {
+                    return;
+                }
+                psInsertEvent.executeBatch();
 
-                    event = eventBuffer.poll();
-                } while (event != null);
+                for (ServerSentEvent event : inserted) {
+                    eventCounts.merge(event.getStreamId(), 1, Integer::sum);
+                }
             } catch (SQLException e) {
                 throw new DatabaseException(e);
             }
@@ -674,6 +742,7 @@ public class TableEventStream extends ParosAbstractTable {
                     psDeleteStream.execute();
 
                     streamIds.remove(streamId);
+                    eventCounts.remove(streamId);
                 }
             } catch (SQLException e) {
                 throw new DatabaseException(e);
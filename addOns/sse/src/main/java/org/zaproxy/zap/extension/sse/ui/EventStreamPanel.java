@@ -26,6 +26,7 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.swing.ImageIcon;
 import javax.swing.JButton;
@@ -423,10 +424,21 @@ public class EventStreamPanel extends AbstractPanel implements EventStreamObserv
 
     @Override
     public boolean onServerSentEvent(ServerSentEvent event) {
-        eventsModel.fireMessageArrived(event);
+        // Shown once stored, see eventsStored(List).
         return true;
     }
 
+    /**
+     * Notifies the panel that the given events were stored, and can be read from the database.
+     *
+     * @param events the events stored.
+     */
+    public void eventsStored(List<ServerSentEvent> events) {
+        for (ServerSentEvent event : events) {
+            eventsModel.fireMessageArrived(event);
+        }
+    }
+
     @Override
     public int getServerSentEventObservingOrder() {
         return EVENT_STREAM_OBSERVING_ORDER;
@@ -0,0 +1,166 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.sse.db;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.sse.ServerSentEvent;
+
+/** Unit test for {@link EventStreamWriter}. */
+class EventStreamWriterUnitTest {
+
+    private List<List<ServerSentEvent>> batches;
+    private EventStreamWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        batches = Collections.synchronizedList(new ArrayList<>());
+        writer = new EventStreamWriter(10, batch -> batches.add(new ArrayList<>(batch)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        writer.stop();
+    }
+
+    @Test
+    void shouldPersistImmediatelyIfNotRunning() {
+        // Given
+        ServerSentEvent event = new ServerSentEvent();
+        // When
+        writer.add(event);
+        // Then
+        assertThat(batches, contains(List.of(event)));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldPersistQueuedEventsInBatchesWhenFlushed() throws Exception {
+        // Given
+        writer.setBatchSize(2);
+        writer.setFlushInterval(60_000);
+        ServerSentEvent event1 = new ServerSentEvent();
+        ServerSentEvent event2 = new ServerSentEvent();
+        ServerSentEvent event3 = new ServerSentEvent();
+        // When
+        writer.start();
+        writer.add(event1);
+        writer.add(event2);
+        writer.add(event3);
+        writer.stop();
+        // Then
+        List<ServerSentEvent> persisted = new ArrayList<>();
+        batches.forEach(persisted::addAll);
+        assertThat(persisted, contains(event1, event2, event3));
+        batches.forEach(batch -> assertThat(batch.size() <= 2, is(equalTo(true))));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldPersistInBackgroundAfterFlushInterval() throws Exception {
+        // Given
+        writer.setFlushInterval(10);
+        writer.start();
+        ServerSentEvent event = new ServerSentEvent();
+        // When
+        writer.add(event);
+        // Then
+        for (int i = 0; i < 500 && batches.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(batches, contains(List.of(event)));
+    }
+
+    @Test
+    void shouldPersistBatchInFlightWhenFlushed() throws Exception {
+        // Given
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        writer =
+                new EventStreamWriter(
+                        10,
+                        batch -> {
+                            persisting.countDown();
+                            await(release);
+                            batches.add(new ArrayList<>(batch));
+                        });
+        writer.setFlushInterval(10);
+        writer.start();
+        ServerSentEvent event = new ServerSentEvent();
+        writer.add(event);
+        persisting.await(5, TimeUnit.SECONDS);
+        // When
+        Thread flusher = new Thread(writer::flush);
+        flusher.start();
+        flusher.join(100);
+        // Then
+        assertThat(flusher.isAlive(), is(equalTo(true)));
+        release.countDown();
+        flusher.join(5_000);
+        assertThat(flusher.isAlive(), is(equalTo(false)));
+        assertThat(batches, contains(List.of(event)));
+    }
+
+    @Test
+    void shouldPersistEventsBeingGatheredWhenFlushed() {
+        // Given
+        writer.setFlushInterval(60_000);
+        writer.setBatchSize(100);
+        writer.start();
+        ServerSentEvent event1 = new ServerSentEvent();
+        ServerSentEvent event2 = new ServerSentEvent();
+        writer.add(event1);
+        writer.add(event2);
+        // When
+        writer.flush();
+        // Then
+        assertThat(batches, contains(List.of(event1, event2)));
+        assertThat(writer.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldNotAllowBatchSizeOrFlushIntervalLowerThanOne() {
+        // Given / When
+        writer.setBatchSize(0);
+        writer.setFlushInterval(-5);
+        // Then
+        assertThat(writer.getBatchSize(), is(equalTo(1)));
+        assertThat(writer.getFlushInterval(), is(equalTo(1)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -19,12 +19,15 @@
  */
 package org.zaproxy.zap.extension.websocket.pscan;
 
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.parosproxy.paros.core.scanner.Alert;
-import org.parosproxy.paros.db.DatabaseException;
 import org.zaproxy.zap.extension.websocket.WebSocketMessage;
 import org.zaproxy.zap.extension.websocket.WebSocketMessageDTO;
 import org.zaproxy.zap.extension.websocket.WebSocketObserver;
@@ -35,7 +38,13 @@ import org.zaproxy.zap.extension.websocket.db.TableWebSocket;
 import org.zaproxy.zap.extension.websocket.db.WebSocketStorage;
 import org.zaproxy.zap.utils.Stats;
 
-/** Implements a background thread for passive scanning */
+/**
+ * Implements the background threads for passive scanning.
+ *
+ * <p>The messages are scanned by a number of workers, each with its own bounded queue. The messages
+ * of a channel are always scanned by the same worker, to keep their order. When a queue is full
+ * the {@link QueueFullPolicy} is applied.
+ */
 public class WebSocketPassiveScanThread extends Thread
         implements WebSocketObserver, WebSocketAlertThread {
 
@@ -49,13 +58,29 @@ public class WebSocketPassiveScanThread extends Thread
     /** Interval for message reading */
     public static final int SLEEP_TIME = 5000;
 
-    /** Thread safe Linked Queue */
-    private LinkedBlockingQueue<MessageWrapper> messagesBuffer;
+    /** The default number of workers. */
+    public static final int DEFAULT_WORKER_COUNT =
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    /** The default maximum number of messages waiting to be scanned, per worker. */
+    public static final int DEFAULT_QUEUE_SIZE = 5000;
+
+    /** The policy applied when the queue of a worker is full. */
+    public enum QueueFullPolicy {
+        /** Waits for space in the queue, delaying the message until then. */
+        BLOCK,
+        /** Drops the message, it is not scanned. */
+        DROP
+    }
+
+    private final List<Worker> workers;
+
+    private volatile QueueFullPolicy queueFullPolicy;
 
     /** {@code True} to enable the passive scan Thread */
     private volatile boolean isActive;
 
-    /** Reference to Database. Used in order to pick messages for scanning */
+    /** Reference to Database, no longer used to read the messages being scanned. */
     private TableWebSocket tableWebSocket;
 
     /**
@@ -71,12 +96,23 @@ public class WebSocketPassiveScanThread extends Thread
      * @param passiveScannerManager the manager
      */
     public WebSocketPassiveScanThread(WebSocketPassiveScannerManager passiveScannerManager) {
+        this(passiveScannerManager, DEFAULT_WORKER_COUNT, DEFAULT_QUEUE_SIZE);
+    }
+
+    WebSocketPassiveScanThread(
+            WebSocketPassiveScannerManager passiveScannerManager, int workerCount, int queueSize) {
         super("ZAP-WS-PassiveScanner");
         super.setDaemon(true);
 
         this.passiveScannerManager = passiveScannerManager;
         this.isActive = false;
-        messagesBuffer = new LinkedBlockingQueue<>();
+        this.queueFullPolicy = QueueFullPolicy.BLOCK;
+
+        int count = Math.max(1, workerCount);
+        workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workers.add(new Worker(Math.max(1, queueSize)));
+        }
     }
 
     /**
@@ -94,6 +130,36 @@ public class WebSocketPassiveScanThread extends Thread
         return isActive;
     }
 
+    /**
+     * Sets the policy applied when the queue of messages to scan is full.
+     *
+     * @param queueFullPolicy the policy.
+     * @throws IllegalArgumentException if the given policy is {@code null}.
+     */
+    public void setQueueFullPolicy(QueueFullPolicy queueFullPolicy) {
+        if (queueFullPolicy == null) {
+            throw new IllegalArgumentException("Parameter queueFullPolicy must not be null.");
+        }
+        this.queueFullPolicy = queueFullPolicy;
+    }
+
+    public QueueFullPolicy getQueueFullPolicy() {
+        return queueFullPolicy;
+    }
+
+    /**
+     * Gets the number of messages waiting to be scanned.
+     *
+     * @return the number of messages.
+     */
+    public int getBacklog() {
+        int backlog = 0;
+        for (Worker worker : workers) {
+            backlog += worker.queue.size();
+        }
+        return backlog;
+    }
+
     @Override
     public int getObservingOrder() {
         return WEBSOCKET_OBSERVING_ORDER;
@@ -102,11 +168,36 @@ public class WebSocketPassiveScanThread extends Thread
     @Override
     public boolean onMessageFrame(int channelId, WebSocketMessage message) {
         if (message.isFinished() && !shouldIgnoreServerModeMessages(message)) {
-            messagesBuffer.add(new MessageWrapper(message.getMessageId(), channelId));
+            // Copy, the DTO of the message is updated each time it's obtained.
+            WebSocketMessageDTO dto = new WebSocketMessageDTO();
+            message.getDTO().copyInto(dto);
+            enqueue(channelId, dto);
         }
         return true;
     }
 
+    void enqueue(int channelId, WebSocketMessageDTO message) {
+        BlockingQueue<WebSocketMessageDTO> queue =
+                workers.get(Math.floorMod(channelId, workers.size())).queue;
+        if (queue.offer(message)) {
+            return;
+        }
+
+        Stats.incCounter(WEBSOCKET_PSCAN_STATS_PREFIX + "queue.full");
+        if (queueFullPolicy == QueueFullPolicy.DROP || !isActive) {
+            Stats.incCounter(WEBSOCKET_PSCAN_STATS_PREFIX + "dropped");
+            return;
+        }
+        try {
+            while (isActive && !queue.offer(message, SLEEP_TIME, TimeUnit.MILLISECONDS)) {
+                // Keep waiting while scanning.
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Stats.incCounter(WEBSOCKET_PSCAN_STATS_PREFIX + "dropped");
+        }
+    }
+
     @Override
     public void onStateChange(WebSocketProxy.State state, WebSocketProxy proxy) {
         // Ignore
@@ -114,44 +205,33 @@ public class WebSocketPassiveScanThread extends Thread
 
     @Override
     public void run() {
-        MessageWrapper messageWrap;
+        workers.get(0).run();
+    }
+
+    private void scan(WebSocketScanHelperImpl helper, WebSocketMessageDTO currentMessage) {
         WebSocketPassiveScannerDecorator currentPassiveScanner;
-        WebSocketMessageDTO currentMessage;
-        Iterator<WebSocketPassiveScannerDecorator> iterator;
-        WebSocketScanHelperImpl helper = new WebSocketScanHelperImpl(this);
-        while (isActive) {
-            if (messagesBuffer.isEmpty() || tableWebSocket == null) {
+        Iterator<WebSocketPassiveScannerDecorator> iterator = passiveScannerManager.getIterator();
+        while (iterator.hasNext()) {
+            if ((currentPassiveScanner = iterator.next()).isEnabled()) {
+                long startTime = System.currentTimeMillis();
                 try {
-                    Thread.sleep(SLEEP_TIME);
-                } catch (InterruptedException e) {
-                    LOGGER.info("Sleeping was interrupted", e);
-                }
-                if (!isActive) {
-                    break;
-                }
-            } else {
-                messageWrap = messagesBuffer.poll();
-                try {
-                    currentMessage =
-                            tableWebSocket.getMessage(messageWrap.messageId, messageWrap.channelId);
-                    iterator = passiveScannerManager.getIterator();
-                    while (iterator.hasNext()) {
-                        if ((currentPassiveScanner = iterator.next()).isEnabled()) {
-                            long startTime = System.currentTimeMillis();
-                            currentPassiveScanner.scanMessage(
-                                    helper.getWebSocketScanHelper(
-                                            currentPassiveScanner.getId(), currentMessage),
-                                    currentMessage);
-                            Stats.incCounter(
-                                    WEBSOCKET_PSCAN_STATS_PREFIX + currentPassiveScanner.getName(),
-                                    System.currentTimeMillis() - startTime);
-                        }
-                    }
-                } catch (DatabaseException e) {
-                    LOGGER.warn("Could not get messages from database", e);
+                    currentPassiveScanner.scanMessage(
+                            helper.getWebSocketScanHelper(
+                                    currentPassiveScanner.getId(), currentMessage),
+                            currentMessage);
+                } catch (Exception e) {
+                    LOGGER.warn(
+                            "Scanner {} failed to scan the message {}:",
+                            currentPassiveScanner.getName(),
+                            currentMessage,
+                            e);
                 }
+                Stats.incCounter(
+                        WEBSOCKET_PSCAN_STATS_PREFIX + currentPassiveScanner.getName(),
+                        System.currentTimeMillis() - startTime);
             }
         }
+        Stats.incCounter(WEBSOCKET_PSCAN_STATS_PREFIX + "messages");
     }
 
     @Override
@@ -175,21 +255,52 @@ public class WebSocketPassiveScanThread extends Thread
     /** Shutdown the passive scan thread */
     public void shutdown() {
         isActive = false;
+        for (Worker worker : workers) {
+            worker.queue.clear();
+            if (worker.thread != null) {
+                worker.thread.interrupt();
+            }
+        }
     }
 
     @Override
     public synchronized void start() {
         isActive = true;
+        workers.get(0).thread = this;
+        for (int i = 1; i < workers.size(); i++) {
+            Thread thread = new Thread(workers.get(i), getName() + "-" + i);
+            thread.setDaemon(true);
+            workers.get(i).thread = thread;
+            thread.start();
+        }
         super.start();
     }
 
-    private class MessageWrapper {
-        public int messageId;
-        public int channelId;
+    private class Worker implements Runnable {
+
+        private final BlockingQueue<WebSocketMessageDTO> queue;
+        private volatile Thread thread;
+
+        Worker(int queueSize) {
+            queue = new ArrayBlockingQueue<>(queueSize);
+        }
 
-        MessageWrapper(int messageId, int channelId) {
-            this.messageId = messageId;
-            this.channelId = channelId;
+        @Override
+        public void run() {
+            WebSocketScanHelperImpl helper =
+                    new WebSocketScanHelperImpl(WebSocketPassiveScanThread.this);
+            while (isActive) {
+                WebSocketMessageDTO message;
+                try {
+                    message = queue.poll(SLEEP_TIME, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // Stopping or interrupted, check if still active.
+                    continue;
+                }
+                if (message != null && isActive) {
+                    scan(helper, message);
+                }
+            }
         }
     }
 }
@@ -26,7 +26,7 @@ class WebSocketPassiveScannerDecorator implements WebSocketPassiveScanner, Enabl
 
     private final WebSocketPassiveScanner webSocketPassiveScanner;
 
-    private boolean isEnabled = false;
+    private volatile boolean isEnabled = false;
 
     public WebSocketPassiveScannerDecorator(WebSocketPassiveScanner webSocketPassiveScanner) {
         this.webSocketPassiveScanner = webSocketPassiveScanner;
@@ -37,8 +37,13 @@ class WebSocketPassiveScannerDecorator implements WebSocketPassiveScanner, Enabl
         return webSocketPassiveScanner.getName();
     }
 
+    /**
+     * Scans the given message, the scanners are not required to be thread-safe so the calls are
+     * serialised, the messages are scanned by more than one thread.
+     */
     @Override
-    public void scanMessage(WebSocketScanHelper helper, WebSocketMessageDTO webSocketMessage) {
+    public synchronized void scanMessage(
+            WebSocketScanHelper helper, WebSocketMessageDTO webSocketMessage) {
         webSocketPassiveScanner.scanMessage(helper, webSocketMessage);
     }
 
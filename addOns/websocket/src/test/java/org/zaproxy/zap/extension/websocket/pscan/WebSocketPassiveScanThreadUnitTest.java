@@ -0,0 +1,139 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2026 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.zap.extension.websocket.pscan;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.zap.extension.websocket.WebSocketMessage;
+import org.zaproxy.zap.extension.websocket.WebSocketMessageDTO;
+import org.zaproxy.zap.extension.websocket.WebSocketProxy;
+import org.zaproxy.zap.extension.websocket.alerts.AlertManager;
+import org.zaproxy.zap.extension.websocket.pscan.WebSocketPassiveScanThread.QueueFullPolicy;
+
+/** Unit test for {@link WebSocketPassiveScanThread}. */
+class WebSocketPassiveScanThreadUnitTest {
+
+    private WebSocketPassiveScannerManager manager;
+    private List<WebSocketMessageDTO> scanned;
+    private WebSocketPassiveScanThread thread;
+
+    @BeforeEach
+    void setUp() {
+        manager = new WebSocketPassiveScannerManager(mock(AlertManager.class));
+        scanned = Collections.synchronizedList(new ArrayList<>());
+        manager.add(
+                new WebSocketPassiveScanner() {
+
+                    @Override
+                    public void scanMessage(
+                            WebSocketScanHelper helper, WebSocketMessageDTO webSocketMessage) {
+                        scanned.add(webSocketMessage);
+                    }
+
+                    @Override
+                    public String getName() {
+                        return "Scanner";
+                    }
+
+                    @Override
+                    public int getId() {
+                        return 1;
+                    }
+                });
+        manager.setAllEnable(true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (thread != null) {
+            thread.shutdown();
+        }
+    }
+
+    @Test
+    void shouldScanMessagesOfChannelInOrder() throws Exception {
+        // Given
+        thread = new WebSocketPassiveScanThread(manager, 2, 100);
+        List<WebSocketMessageDTO> messages = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            messages.add(new WebSocketMessageDTO());
+        }
+        // When
+        thread.start();
+        messages.forEach(message -> thread.enqueue(1, message));
+        // Then
+        for (int i = 0; i < 500 && scanned.size() < messages.size(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(scanned, contains(messages.toArray()));
+        assertThat(thread.getBacklog(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldDropMessagesWhenQueueFullWithDropPolicy() {
+        // Given
+        thread = new WebSocketPassiveScanThread(manager, 1, 2);
+        thread.setQueueFullPolicy(QueueFullPolicy.DROP);
+        // When
+        thread.enqueue(1, new WebSocketMessageDTO());
+        thread.enqueue(1, new WebSocketMessageDTO());
+        thread.enqueue(1, new WebSocketMessageDTO());
+        // Then
+        assertThat(thread.getBacklog(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldQueueCopyOfMessageDto() throws Exception {
+        // Given
+        thread = new WebSocketPassiveScanThread(manager, 1, 10);
+        WebSocketMessageDTO dto = new WebSocketMessageDTO();
+        dto.setId(5);
+        dto.setPayload("payload");
+        WebSocketMessage message = mock(WebSocketMessage.class);
+        given(message.isFinished()).willReturn(true);
+        given(message.getProxyMode()).willReturn(WebSocketProxy.Mode.CLIENT);
+        given(message.getDTO()).willReturn(dto);
+        // When
+        thread.start();
+        thread.onMessageFrame(1, message);
+        // Then
+        for (int i = 0; i < 500 && scanned.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(scanned, hasSize(1));
+        assertThat(scanned.get(0), is(not(sameInstance(dto))));
+        assertThat(scanned.get(0).getId(), is(equalTo(5)));
+        assertThat(scanned.get(0).getPayload(), is(equalTo("payload")));
+    }
+}